@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.ponysdk.core.server.websocket.EncodingCounters;
+
+/**
+ * Raw cost of the {@link AutoFlushedBuffer} put methods, including the automatic flushes triggered every
+ * {@code maxChunkSize} bytes
+ */
+@State(Scope.Thread)
+public class AutoFlushedBufferBenchmark {
+
+    private static final byte[] BYTES = "pony-label-text-style-name-0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private InMemoryFlushedBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        buffer = new InMemoryFlushedBuffer(1 << 20, 1 << 12);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        buffer.close();
+    }
+
+    @Benchmark
+    public void putByte(final EncodingCounters counters) throws IOException {
+        buffer.put((byte) 1);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void putShort(final EncodingCounters counters) throws IOException {
+        buffer.putShort((short) 1);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void putInt(final EncodingCounters counters) throws IOException {
+        buffer.putInt(1);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void putLong(final EncodingCounters counters) throws IOException {
+        buffer.putLong(1L);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void putDouble(final EncodingCounters counters) throws IOException {
+        buffer.putDouble(1.5d);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void putBytes(final EncodingCounters counters) throws IOException {
+        buffer.put(BYTES);
+        done(counters, 1);
+    }
+
+    /**
+     * Model key + UINT31 object ID + end marker, then an explicit flush as done at the end of a transaction
+     */
+    @Benchmark
+    public void putAndFlush(final EncodingCounters counters) throws IOException {
+        buffer.put((byte) 1);
+        buffer.putShort((short) 42);
+        buffer.put((byte) 0);
+        buffer.flush();
+        done(counters, 2);
+    }
+
+    private void done(final EncodingCounters counters, final int instructions) {
+        counters.bytes += buffer.takeFlushedBytes();
+        counters.instructions += instructions;
+    }
+
+}
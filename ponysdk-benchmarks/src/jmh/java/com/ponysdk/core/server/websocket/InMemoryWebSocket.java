@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import com.ponysdk.core.model.ServerToClientModel;
+
+/**
+ * A {@link WebSocket} that encodes in an {@link InMemoryWebSocketPusher} instead of a Jetty session
+ */
+public class InMemoryWebSocket extends WebSocket {
+
+    private final InMemoryWebSocketPusher pusher;
+
+    private long instructions;
+
+    public InMemoryWebSocket(final InMemoryWebSocketPusher pusher) {
+        this.pusher = pusher;
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final Object value) {
+        try {
+            pusher.encode(model, value);
+            instructions++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final boolean value) {
+        try {
+            pusher.encode(model, value);
+            instructions++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final int value) {
+        try {
+            pusher.encode(model, value);
+            instructions++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final long value) {
+        try {
+            pusher.encode(model, value);
+            instructions++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final double value) {
+        try {
+            pusher.encode(model, value);
+            instructions++;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            pusher.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InMemoryWebSocketPusher getPusher() {
+        return pusher;
+    }
+
+    /**
+     * @return the number of encoded instructions since the last call
+     */
+    public long takeInstructions() {
+        final long count = instructions;
+        instructions = 0;
+        return count;
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link WebSocketPusher} without any Jetty session : flushed data are dropped and only counted
+ */
+public class InMemoryWebSocketPusher extends WebSocketPusher {
+
+    private long flushedBytes;
+
+    public InMemoryWebSocketPusher(final int bufferSize, final int maxChunkSize) {
+        super(null, bufferSize, maxChunkSize, TimeUnit.SECONDS.toMillis(60));
+    }
+
+    @Override
+    protected void doFlush(final ByteBuffer bufferToFlush) {
+        flushedBytes += bufferToFlush.remaining();
+        bufferToFlush.position(bufferToFlush.limit());
+        onFlushCompletion();
+    }
+
+    @Override
+    protected void closeFlusher() {
+        // Nothing to do
+    }
+
+    /**
+     * @return the number of bytes flushed since the last call
+     */
+    public long takeFlushedBytes() {
+        final long bytes = flushedBytes;
+        flushedBytes = 0;
+        return bytes;
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.core.model.WidgetType;
+
+/**
+ * Cost of {@link WebSocketPusher#encode(ServerToClientModel, Object)} for each family of value type, and for the
+ * instruction blocks written by {@link com.ponysdk.core.ui.basic.PObject}
+ */
+@State(Scope.Thread)
+public class WebSocketPusherBenchmark {
+
+    private static final String ASCII_TEXT = "Last price";
+    private static final String UTF8_TEXT = "Dernière cotation €";
+    private static final String STYLE_NAME = "pony-grid-cell-selected";
+    private static final Object[] ARRAY = new Object[] { 12, "left", true, 3.5d, 1024L };
+
+    private InMemoryWebSocketPusher pusher;
+
+    private int objectID;
+
+    @Setup
+    public void setUp() {
+        pusher = new InMemoryWebSocketPusher(1 << 20, 1 << 12);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pusher.close();
+    }
+
+    @Benchmark
+    public void encodeNull(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.END, null);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeBoolean(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.WIDGET_VISIBLE, true);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeUint31(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.TYPE_UPDATE, nextObjectID());
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeInteger(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.TABINDEX, 3);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeLong(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.DATE, 1_577_836_800_000L);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeDouble(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.WIDTH, 3.14d);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeAsciiString(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.TEXT, ASCII_TEXT);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeUtf8String(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.TEXT, UTF8_TEXT);
+        done(counters, 1);
+    }
+
+    @Benchmark
+    public void encodeArray(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.ITEM_ADD, ARRAY);
+        done(counters, 1);
+    }
+
+    /**
+     * Same instructions as {@code PObject.applyInit()} for a label
+     */
+    @Benchmark
+    public void encodeCreateBlock(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.TYPE_CREATE, nextObjectID());
+        pusher.encode(ServerToClientModel.WIDGET_TYPE, WidgetType.LABEL.getValue());
+        pusher.encode(ServerToClientModel.TEXT, ASCII_TEXT);
+        pusher.encode(ServerToClientModel.END, null);
+        pusher.encode(ServerToClientModel.TYPE_ADD, objectID);
+        pusher.encode(ServerToClientModel.PARENT_OBJECT_ID, 1);
+        pusher.encode(ServerToClientModel.END, null);
+        pusher.flush();
+        done(counters, 7);
+    }
+
+    /**
+     * Same instructions as {@code PObject.saveUpdate()} after the initialization of the object
+     */
+    @Benchmark
+    public void encodeUpdateBlock(final EncodingCounters counters) throws IOException {
+        pusher.encode(ServerToClientModel.TYPE_UPDATE, nextObjectID());
+        pusher.encode(ServerToClientModel.TEXT, ASCII_TEXT);
+        pusher.encode(ServerToClientModel.END, null);
+        pusher.encode(ServerToClientModel.TYPE_UPDATE, objectID);
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, STYLE_NAME);
+        pusher.encode(ServerToClientModel.END, null);
+        pusher.encode(ServerToClientModel.TYPE_UPDATE, objectID);
+        pusher.encode(ServerToClientModel.WIDGET_VISIBLE, true);
+        pusher.encode(ServerToClientModel.END, null);
+        pusher.flush();
+        done(counters, 9);
+    }
+
+    private int nextObjectID() {
+        objectID = objectID == Short.MAX_VALUE * 4 ? 1 : objectID + 1;
+        return objectID;
+    }
+
+    private void done(final EncodingCounters counters, final int instructions) {
+        counters.bytes += pusher.takeFlushedBytes();
+        counters.instructions += instructions;
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.basic;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.ponysdk.core.server.application.UIContext;
+import com.ponysdk.core.server.websocket.EncodingCounters;
+import com.ponysdk.core.server.websocket.InMemoryUIContexts;
+import com.ponysdk.core.server.websocket.InMemoryWebSocket;
+import com.ponysdk.core.server.websocket.InMemoryWebSocketPusher;
+
+/**
+ * End to end cost of a {@link UIContext#execute(Runnable)} transaction doing typical {@link PObject#applyInit()}
+ * and {@link PObject#saveUpdate} sequences, from the widget API down to the flushed bytes
+ */
+@State(Scope.Thread)
+public class PObjectBenchmark {
+
+    private static final String[] TEXTS = { "101.25", "101.50", "101.75", "102.00" };
+
+    private InMemoryWebSocket socket;
+    private UIContext uiContext;
+
+    private PFlowPanel panel;
+    private PLabel label;
+    private int tick;
+
+    private final Runnable createAndRemove = () -> {
+        final PLabel newLabel = Element.newPLabel(TEXTS[tick++ & 3]);
+        newLabel.addStyleName("price");
+        newLabel.setTitle("Last price");
+        panel.add(newLabel);
+        panel.remove(newLabel);
+    };
+
+    private final Runnable update = () -> {
+        final int i = tick++;
+        label.setText(TEXTS[i & 3]);
+        label.setVisible((i & 1) == 0);
+        label.setStyleProperty("color", (i & 1) == 0 ? "green" : "red");
+    };
+
+    private final Runnable repeatedUpdate = () -> {
+        for (int i = 0; i < 10; i++) {
+            label.setText(TEXTS[tick++ & 3]);
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        socket = new InMemoryWebSocket(new InMemoryWebSocketPusher(1 << 20, 1 << 12));
+        uiContext = InMemoryUIContexts.newUIContext(socket);
+        uiContext.execute(() -> {
+            panel = Element.newPFlowPanel();
+            label = Element.newPLabel();
+            panel.add(label);
+            PWindow.getMain().add(panel);
+        });
+        socket.getPusher().takeFlushedBytes();
+        socket.takeInstructions();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        socket.getPusher().close();
+    }
+
+    @Benchmark
+    public void applyInit(final EncodingCounters counters) {
+        uiContext.execute(createAndRemove);
+        done(counters);
+    }
+
+    @Benchmark
+    public void saveUpdate(final EncodingCounters counters) {
+        uiContext.execute(update);
+        done(counters);
+    }
+
+    /**
+     * Same property set several times in a transaction, only the last value is written
+     */
+    @Benchmark
+    public void saveUpdateRepeated(final EncodingCounters counters) {
+        uiContext.execute(repeatedUpdate);
+        done(counters);
+    }
+
+    private void done(final EncodingCounters counters) {
+        counters.bytes += socket.getPusher().takeFlushedBytes();
+        counters.instructions += socket.takeInstructions();
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.eventbus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Fan-out of a business event to 1, 10 and 1000 handlers, through the global handlers of the root {@link EventBus},
+ * the handlers of a widget {@link TinyEventSource}, and the class based
+ * {@link com.ponysdk.core.ui.eventbus2.EventBus}
+ */
+@State(Scope.Thread)
+public class EventBusBenchmark {
+
+    private static final Event.Type TYPE = new Event.Type();
+
+    @Param({ "1", "10", "1000" })
+    public int handlers;
+
+    private EventBus eventBus;
+    private EventSource eventSource;
+    private com.ponysdk.core.ui.eventbus2.EventBus eventBus2;
+
+    private BenchmarkEvent event;
+    private BenchmarkEvent2 event2;
+
+    @Setup
+    public void setUp(final Blackhole blackhole) {
+        eventBus = new EventBus();
+        eventSource = new TinyEventSource();
+        eventBus2 = new com.ponysdk.core.ui.eventbus2.EventBus();
+        for (int i = 0; i < handlers; i++) {
+            eventBus.addHandler(TYPE, new BenchmarkHandler(blackhole));
+            eventSource.addHandler(TYPE, new BenchmarkHandler(blackhole));
+            eventBus2.subscribe(BenchmarkEvent2.class, blackhole::consume);
+        }
+        event = new BenchmarkEvent(this);
+        event2 = new BenchmarkEvent2();
+    }
+
+    @Benchmark
+    public void fireEvent() {
+        eventBus.fireEvent(event);
+    }
+
+    @Benchmark
+    public void fireEventFromSource() {
+        eventBus.fireEventFromSource(event, eventSource);
+    }
+
+    @Benchmark
+    public void post() {
+        eventBus2.post(event2);
+    }
+
+    private static final class BenchmarkHandler implements EventHandler {
+
+        private final Blackhole blackhole;
+
+        private BenchmarkHandler(final Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        private void onEvent(final BenchmarkEvent event) {
+            blackhole.consume(event);
+        }
+
+    }
+
+    private static final class BenchmarkEvent extends Event<BenchmarkHandler> {
+
+        private BenchmarkEvent(final Object source) {
+            super(source);
+        }
+
+        @Override
+        public Type getAssociatedType() {
+            return TYPE;
+        }
+
+        @Override
+        protected void dispatch(final BenchmarkHandler handler) {
+            handler.onEvent(this);
+        }
+
+    }
+
+    private static final class BenchmarkEvent2 {
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Contention on the weak interning caches behind {@link SetPool}, as seen by the UI threads of many UIContexts
+ * sharing the static pools of PWidget. Most of the lookups are hits, the {@code churn} benchmark also interns short
+ * lived values so that stale entries have to be expunged.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class WeakCacheBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    @Param({ "synchronized", "concurrent" })
+    public String cache;
+
+    private Function<String, String> getOrCompute;
+    private String[] keys;
+    private String[] values;
+
+    @Setup
+    public void setUp() {
+        if ("synchronized".equals(cache)) {
+            final SynchronizedWeakCache<String> synchronizedCache = new SynchronizedWeakCache<>();
+            getOrCompute = key -> synchronizedCache.getOrCompute(key, String::new);
+        } else {
+            final ConcurrentWeakCache<String> concurrentCache = new ConcurrentWeakCache<>();
+            getOrCompute = key -> concurrentCache.getOrCompute(key, String::new);
+        }
+
+        keys = new String[KEY_COUNT];
+        values = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "pony-style-" + i;
+            // Strongly reference the interned values so that the hits are not collected
+            values[i] = getOrCompute.apply(new String(keys[i]));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private int index;
+        private long counter;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            index = (int) (Thread.currentThread().getId() * 31);
+        }
+
+        private int next() {
+            index = index * 1103515245 + 12345;
+            return (index >>> 8) & KEY_COUNT - 1;
+        }
+
+    }
+
+    @Benchmark
+    public String hit(final ThreadState state) {
+        return getOrCompute.apply(keys[state.next()]);
+    }
+
+    /**
+     * One lookup out of sixteen interns a value that is immediately unreachable
+     */
+    @Benchmark
+    public String churn(final ThreadState state) {
+        final int i = state.next();
+        if ((i & 15) == 0) return getOrCompute.apply(Thread.currentThread().getId() + "-" + state.counter++);
+        return getOrCompute.apply(keys[i]);
+    }
+
+}
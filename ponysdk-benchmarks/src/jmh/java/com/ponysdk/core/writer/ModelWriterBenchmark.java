@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.writer;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.core.model.WidgetType;
+import com.ponysdk.core.server.application.UIContext;
+import com.ponysdk.core.server.websocket.EncodingCounters;
+import com.ponysdk.core.server.websocket.InMemoryUIContexts;
+import com.ponysdk.core.server.websocket.InMemoryWebSocket;
+import com.ponysdk.core.server.websocket.InMemoryWebSocketPusher;
+import com.ponysdk.core.ui.basic.PWindow;
+
+/**
+ * Cost of the {@link ModelWriter} layer on top of the {@link com.ponysdk.core.server.websocket.WebSocketPusher}
+ */
+@State(Scope.Thread)
+public class ModelWriterBenchmark {
+
+    private static final String TEXT = "Last price";
+
+    private InMemoryWebSocket socket;
+    private UIContext uiContext;
+    private ModelWriter writer;
+    private PWindow window;
+
+    private int objectID;
+
+    @Setup
+    public void setUp() {
+        socket = new InMemoryWebSocket(new InMemoryWebSocketPusher(1 << 20, 1 << 12));
+        uiContext = InMemoryUIContexts.newUIContext(socket);
+        UIContext.setCurrent(uiContext);
+        window = PWindow.getMain();
+        writer = uiContext.getWriter();
+        socket.flush();
+        socket.getPusher().takeFlushedBytes();
+        socket.takeInstructions();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        UIContext.remove();
+        socket.getPusher().close();
+    }
+
+    @Benchmark
+    public void writeCreate(final EncodingCounters counters) {
+        writer.beginObject(window);
+        writer.write(ServerToClientModel.TYPE_CREATE, nextObjectID());
+        writer.write(ServerToClientModel.WIDGET_TYPE, WidgetType.LABEL.getValue());
+        writer.write(ServerToClientModel.TEXT, TEXT);
+        writer.endObject();
+        done(counters);
+    }
+
+    @Benchmark
+    public void writeUpdate(final EncodingCounters counters) {
+        writer.beginObject(window);
+        writer.write(ServerToClientModel.TYPE_UPDATE, nextObjectID());
+        writer.write(ServerToClientModel.WIDGET_VISIBLE, true);
+        writer.endObject();
+        done(counters);
+    }
+
+    private int nextObjectID() {
+        objectID = objectID == Short.MAX_VALUE * 4 ? 1 : objectID + 1;
+        return objectID;
+    }
+
+    private void done(final EncodingCounters counters) {
+        socket.flush();
+        counters.bytes += socket.getPusher().takeFlushedBytes();
+        counters.instructions += socket.takeInstructions();
+    }
+
+}
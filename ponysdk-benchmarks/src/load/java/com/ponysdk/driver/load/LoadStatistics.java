@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ponysdk.core.server.metrics.LatencyHistogram;
+import com.ponysdk.driver.PonyBandwithListener;
+
+/**
+ * The measures of all the simulated terminals. The latencies are recorded in microseconds, for the whole test and
+ * for the current report period.
+ */
+final class LoadStatistics implements PonyBandwithListener {
+
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toMicros(10);
+
+    private final LatencyHistogram connectionLatency = new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY);
+    private final LatencyHistogram actionLatency = new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY);
+    private final AtomicReference<LatencyHistogram> periodActionLatency = new AtomicReference<>(
+        new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY));
+
+    private final LongAdder receivedBytes = new LongAdder();
+    private final LongAdder receivedCompressedBytes = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder sentCompressedBytes = new LongAdder();
+    private final LongAdder receivedMessages = new LongAdder();
+
+    private final LongAdder openedTerminals = new LongAdder();
+    private final LongAdder closedTerminals = new LongAdder();
+    private final LongAdder connectionFailures = new LongAdder();
+    private final LongAdder actions = new LongAdder();
+    private final LongAdder actionFailures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void recordConnection(final long nanos) {
+        openedTerminals.increment();
+        connectionLatency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    void recordAction(final long nanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        actionLatency.record(micros);
+        periodActionLatency.get().record(micros);
+    }
+
+    /**
+     * @return the latencies of the actions since the previous call
+     */
+    LatencyHistogram nextPeriod() {
+        return periodActionLatency.getAndSet(new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY));
+    }
+
+    void onMessageReceived() {
+        receivedMessages.increment();
+    }
+
+    void onActionSent() {
+        actions.increment();
+    }
+
+    void onActionFailure() {
+        actionFailures.increment();
+    }
+
+    void onTimeout() {
+        timeouts.increment();
+    }
+
+    void onConnectionFailure() {
+        connectionFailures.increment();
+    }
+
+    void onUnexpectedClose() {
+        closedTerminals.increment();
+    }
+
+    void onError() {
+        errors.increment();
+    }
+
+    @Override
+    public void onReceive(final int bytes) {
+        receivedBytes.add(bytes);
+    }
+
+    @Override
+    public void onSend(final int bytes) {
+        sentBytes.add(bytes);
+    }
+
+    @Override
+    public void onReceiveCompressed(final int bytes) {
+        receivedCompressedBytes.add(bytes);
+    }
+
+    @Override
+    public void onSendCompressed(final int bytes) {
+        sentCompressedBytes.add(bytes);
+    }
+
+    LatencyHistogram getConnectionLatency() {
+        return connectionLatency;
+    }
+
+    LatencyHistogram getActionLatency() {
+        return actionLatency;
+    }
+
+    long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+    long getReceivedCompressedBytes() {
+        return receivedCompressedBytes.sum();
+    }
+
+    long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    long getSentCompressedBytes() {
+        return sentCompressedBytes.sum();
+    }
+
+    long getReceivedMessages() {
+        return receivedMessages.sum();
+    }
+
+    long getOpenedTerminals() {
+        return openedTerminals.sum();
+    }
+
+    long getClosedTerminals() {
+        return closedTerminals.sum();
+    }
+
+    long getConnectionFailures() {
+        return connectionFailures.sum();
+    }
+
+    long getActions() {
+        return actions.sum();
+    }
+
+    long getActionFailures() {
+        return actionFailures.sum();
+    }
+
+    long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.tyrus.client.ClientManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ponysdk.core.server.metrics.LatencyHistogram;
+import com.ponysdk.core.server.metrics.LatencySnapshot;
+import com.ponysdk.driver.PonySDKWebDriver;
+
+/**
+ * Opens many simulated terminals against a PonySDK server, replays a {@link Scenario} on each of them and reports
+ * the end-to-end latencies, the bandwidth and the CPU load of the server.
+ * The terminals share the I/O threads of one client runtime and a small scheduler, so thousands of them can run in
+ * the same JVM. The test is configured with system properties :
+ * <ul>
+ * <li>ponysdk.load.url : the WebSocket URL of the application, e.g. ws://localhost:8081/sample/ws (mandatory)</li>
+ * <li>ponysdk.load.terminals : the number of terminals (100)</li>
+ * <li>ponysdk.load.rampUp : the time in seconds to open all the terminals (10)</li>
+ * <li>ponysdk.load.duration : the time in seconds to run the scenario once all the terminals are opened (60)</li>
+ * <li>ponysdk.load.scenario : the path of the scenario script, the terminals only stay connected if absent</li>
+ * <li>ponysdk.load.thinkTime : the time in milliseconds between a response and the next action (1000)</li>
+ * <li>ponysdk.load.timeout : the time in milliseconds to wait for a response (10000)</li>
+ * <li>ponysdk.load.lazyDecoding : only decode the frames used by the scenario, and reuse them (true)</li>
+ * <li>ponysdk.load.ioThreads : the number of threads reading the messages (number of processors)</li>
+ * <li>ponysdk.load.connectThreads : the number of terminals connecting at the same time (16)</li>
+ * <li>ponysdk.load.reportPeriod : the time in seconds between the intermediate reports (10)</li>
+ * <li>ponysdk.load.jmxUrl : the JMX URL of the server to monitor its CPU load, e.g.
+ * service:jmx:rmi:///jndi/rmi://localhost:9010/jmxrmi</li>
+ * </ul>
+ */
+public class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final String PROPERTY_PREFIX = "ponysdk.load.";
+
+    private final String url;
+    private final int terminalCount;
+    private final long rampUp;
+    private final long duration;
+    private final long thinkTime;
+    private final long timeout;
+    private final long reportPeriod;
+    private final int connectThreads;
+    private final Scenario scenario;
+    private final String jmxUrl;
+    private final boolean lazyDecoding;
+
+    private final LoadStatistics statistics = new LoadStatistics();
+    private final ClientManager clientManager;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean stopped;
+    private long startTime;
+    private long lastReportTime;
+    private long lastReceivedBytes;
+    private long lastSentBytes;
+    private ServerMonitor serverMonitor;
+
+    public LoadTest(final String url, final int terminalCount, final long rampUpSeconds, final long durationSeconds,
+            final Scenario scenario, final long thinkTime, final long timeout, final int ioThreads, final int connectThreads,
+            final long reportPeriodSeconds, final String jmxUrl, final boolean lazyDecoding) {
+        this.url = url;
+        this.terminalCount = terminalCount;
+        this.rampUp = TimeUnit.SECONDS.toMillis(rampUpSeconds);
+        this.duration = TimeUnit.SECONDS.toMillis(durationSeconds);
+        this.scenario = scenario;
+        this.thinkTime = thinkTime;
+        this.timeout = timeout;
+        this.connectThreads = connectThreads;
+        this.reportPeriod = TimeUnit.SECONDS.toMillis(reportPeriodSeconds);
+        this.jmxUrl = jmxUrl;
+        this.lazyDecoding = lazyDecoding;
+        this.clientManager = PonySDKWebDriver.createSharedClientManager(ioThreads);
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, new NamedThreadFactory("LoadTest-scheduler"));
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final String url = System.getProperty(PROPERTY_PREFIX + "url");
+        if (url == null) throw new IllegalArgumentException("Missing system property " + PROPERTY_PREFIX + "url");
+        final String script = System.getProperty(PROPERTY_PREFIX + "scenario");
+        final Scenario scenario = script != null ? Scenario.load(Paths.get(script)) : new Scenario();
+
+        new LoadTest(url, Integer.getInteger(PROPERTY_PREFIX + "terminals", 100), Long.getLong(PROPERTY_PREFIX + "rampUp", 10),
+            Long.getLong(PROPERTY_PREFIX + "duration", 60), scenario, Long.getLong(PROPERTY_PREFIX + "thinkTime", 1000),
+            Long.getLong(PROPERTY_PREFIX + "timeout", 10_000),
+            Integer.getInteger(PROPERTY_PREFIX + "ioThreads", Runtime.getRuntime().availableProcessors()),
+            Integer.getInteger(PROPERTY_PREFIX + "connectThreads", 16), Long.getLong(PROPERTY_PREFIX + "reportPeriod", 10),
+            System.getProperty(PROPERTY_PREFIX + "jmxUrl"),
+            Boolean.parseBoolean(System.getProperty(PROPERTY_PREFIX + "lazyDecoding", "true"))).run();
+    }
+
+    public void run() throws Exception {
+        log.info("Opening {} terminals on {} in {} s, then running {} steps for {} s", terminalCount, url,
+            TimeUnit.MILLISECONDS.toSeconds(rampUp), scenario.getSteps().size(), TimeUnit.MILLISECONDS.toSeconds(duration));
+        if (jmxUrl != null) serverMonitor = new ServerMonitor(jmxUrl);
+
+        final ExecutorService connectExecutor = Executors.newFixedThreadPool(connectThreads, new NamedThreadFactory("LoadTest-connect"));
+        final List<SimulatedTerminal> terminals = new ArrayList<>(terminalCount);
+        startTime = lastReportTime = System.nanoTime();
+        for (int i = 0; i < terminalCount; i++) {
+            final SimulatedTerminal terminal = new SimulatedTerminal(i, this);
+            terminals.add(terminal);
+            scheduler.schedule(() -> connectExecutor.execute(terminal::open), rampUp * i / terminalCount, TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleAtFixedRate(this::report, reportPeriod, reportPeriod, TimeUnit.MILLISECONDS);
+
+        try {
+            Thread.sleep(rampUp + duration);
+        } finally {
+            stopped = true;
+            connectExecutor.shutdownNow();
+            scheduler.shutdownNow();
+            for (final SimulatedTerminal terminal : terminals) {
+                terminal.close();
+            }
+            clientManager.shutdown();
+            reportSummary();
+            if (serverMonitor != null) serverMonitor.close();
+        }
+    }
+
+    private void report() {
+        final long now = System.nanoTime();
+        final double elapsedSeconds = (now - lastReportTime) / 1e9;
+        final long receivedBytes = statistics.getReceivedBytes();
+        final long sentBytes = statistics.getSentBytes();
+        final LatencySnapshot latency = statistics.nextPeriod().getSnapshot();
+
+        log.info("[{} s] terminals {}/{}, {} actions/s, latency p50 {} p99 {} max {}, in {}/s, out {}/s{}",
+            TimeUnit.NANOSECONDS.toSeconds(now - startTime), statistics.getOpenedTerminals() - statistics.getClosedTerminals(),
+            terminalCount, String.format("%.1f", latency.getCount() / elapsedSeconds), formatLatency(latency.getP50()),
+            formatLatency(latency.getP99()), formatLatency(latency.getMax()),
+            formatBytes((long) ((receivedBytes - lastReceivedBytes) / elapsedSeconds)),
+            formatBytes((long) ((sentBytes - lastSentBytes) / elapsedSeconds)), formatServer());
+
+        lastReportTime = now;
+        lastReceivedBytes = receivedBytes;
+        lastSentBytes = sentBytes;
+    }
+
+    private String formatServer() {
+        if (serverMonitor == null) return "";
+        final double cpuLoad = serverMonitor.sampleCpuLoad();
+        final int sessionCount = serverMonitor.getSessionCount();
+        return ", server CPU " + formatPercent(cpuLoad) + (sessionCount >= 0 ? ", server UIContexts " + sessionCount : "");
+    }
+
+    private void reportSummary() {
+        final double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+        final StringBuilder summary = new StringBuilder("Summary\n");
+        summary.append(String.format("  terminals    : %d opened, %d closed by the server, %d connection failures%n",
+            statistics.getOpenedTerminals(), statistics.getClosedTerminals(), statistics.getConnectionFailures()));
+        summary.append("  connection   : ").append(formatHistogram(statistics.getConnectionLatency())).append('\n');
+        summary.append(String.format("  actions      : %d sent, %d failed, %d timeouts, %d errors%n", statistics.getActions(),
+            statistics.getActionFailures(), statistics.getTimeouts(), statistics.getErrors()));
+        summary.append("  latency      : ").append(formatHistogram(statistics.getActionLatency())).append('\n');
+        summary.append(String.format("  received     : %d messages, %s (%s/s), %s compressed%n", statistics.getReceivedMessages(),
+            formatBytes(statistics.getReceivedBytes()), formatBytes((long) (statistics.getReceivedBytes() / elapsedSeconds)),
+            formatBytes(statistics.getReceivedCompressedBytes())));
+        summary.append(String.format("  sent         : %s (%s/s), %s compressed%n", formatBytes(statistics.getSentBytes()),
+            formatBytes((long) (statistics.getSentBytes() / elapsedSeconds)), formatBytes(statistics.getSentCompressedBytes())));
+        if (serverMonitor != null) {
+            summary.append("  server CPU   : average ").append(formatPercent(serverMonitor.getAverageCpuLoad())).append(", max ")
+                .append(formatPercent(serverMonitor.getMaxCpuLoad())).append('\n');
+        }
+        log.info(summary.toString());
+    }
+
+    private static String formatHistogram(final LatencyHistogram histogram) {
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        return String.format("count %d, mean %s, p50 %s, p90 %s, p99 %s, p99.9 %s, max %s", snapshot.getCount(),
+            formatLatency((long) snapshot.getMean()), formatLatency(snapshot.getP50()), formatLatency(snapshot.getP90()),
+            formatLatency(snapshot.getP99()), formatLatency(snapshot.getP999()), formatLatency(snapshot.getMax()));
+    }
+
+    private static String formatLatency(final long micros) {
+        return String.format("%.2f ms", micros / 1000.0);
+    }
+
+    private static String formatBytes(final long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        else if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        else return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    private static String formatPercent(final double load) {
+        return load < 0 ? "N/A" : String.format("%.1f %%", load * 100);
+    }
+
+    String getUrl() {
+        return url;
+    }
+
+    Scenario getScenario() {
+        return scenario;
+    }
+
+    long getThinkTime() {
+        return thinkTime;
+    }
+
+    long getTimeout() {
+        return timeout;
+    }
+
+    boolean isLazyDecoding() {
+        return lazyDecoding;
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    LoadStatistics getStatistics() {
+        return statistics;
+    }
+
+    ClientManager getClientManager() {
+        return clientManager;
+    }
+
+    ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private NamedThreadFactory(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
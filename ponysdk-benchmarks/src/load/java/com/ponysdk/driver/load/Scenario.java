@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.driver.PonySDKWebDriver;
+import com.ponysdk.driver.PonyWebElement;
+
+/**
+ * The interactions replayed in loop by each simulated terminal. A scenario is built programmatically or parsed from
+ * a script with one step per line :
+ *
+ * <pre>
+ * # Comment
+ * pause 500
+ * click id=submit
+ * type name=login alice
+ * history page1
+ * </pre>
+ *
+ * The elements are selected with {@code id=}, {@code name=}, {@code class=}, {@code css=} or {@code tag=}.
+ */
+public final class Scenario {
+
+    /**
+     * An interaction sent to the server through the driver
+     */
+    @FunctionalInterface
+    public interface Action {
+
+        void execute(PonySDKWebDriver driver);
+    }
+
+    static final class Step {
+
+        private final String description;
+        private final Function<PonySDKWebDriver, PonyWebElement> target;
+        private final BiConsumer<PonySDKWebDriver, PonyWebElement> action;
+        private final long pauseMillis;
+
+        private Step(final String description, final Function<PonySDKWebDriver, PonyWebElement> target,
+                final BiConsumer<PonySDKWebDriver, PonyWebElement> action, final long pauseMillis) {
+            this.description = description;
+            this.target = target;
+            this.action = action;
+            this.pauseMillis = pauseMillis;
+        }
+
+        boolean isPause() {
+            return action == null;
+        }
+
+        long getPauseMillis() {
+            return pauseMillis;
+        }
+
+        /**
+         * @return the element whose update answers the step, null if the first message that isn't a heartbeat or a
+         *         ping answers it
+         */
+        PonyWebElement findTarget(final PonySDKWebDriver driver) {
+            return target != null ? target.apply(driver) : null;
+        }
+
+        void execute(final PonySDKWebDriver driver, final PonyWebElement targetElement) {
+            action.accept(driver, targetElement);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private final List<Step> steps = new ArrayList<>();
+    private boolean elementsUsed;
+
+    /**
+     * Adds a click, answered by the update of the clicked element : the server ends the processing of a click on a
+     * focus widget with an update of the widget
+     */
+    public Scenario click(final By by) {
+        elementsUsed = true;
+        steps.add(new Step("click " + by, driver -> findElement(driver, by), (driver, element) -> element.click(), 0));
+        return this;
+    }
+
+    /**
+     * Adds a change of the text of an element, answered by the first message that isn't a heartbeat or a ping, as
+     * the server doesn't update the element itself
+     */
+    public Scenario type(final By by, final String value) {
+        return elementAction("type " + by + " " + value, driver -> findElement(driver, by).sendKeys(value));
+    }
+
+    public Scenario history(final String token) {
+        steps.add(new Step("history " + token, null, (driver, element) -> driver.sendTypeHistory(token), 0));
+        return this;
+    }
+
+    /**
+     * Adds a custom action, that can use all the elements tracked by the driver, answered by the first message that
+     * isn't a heartbeat or a ping
+     */
+    public Scenario action(final String description, final Action action) {
+        return elementAction(description, action);
+    }
+
+    private Scenario elementAction(final String description, final Action action) {
+        elementsUsed = true;
+        steps.add(new Step(description, null, (driver, element) -> action.execute(driver), 0));
+        return this;
+    }
+
+    public Scenario pause(final long millis) {
+        steps.add(new Step("pause " + millis, null, null, millis));
+        return this;
+    }
+
+    List<Step> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * @return the models the driver has to decode in lazy mode to run the scenario and to tell the heartbeats from
+     *         the responses
+     */
+    Set<ServerToClientModel> getDecodedModels() {
+        final Set<ServerToClientModel> models = EnumSet.of(ServerToClientModel.HEARTBEAT);
+        if (elementsUsed) models.addAll(PonySDKWebDriver.ELEMENT_MODELS);
+        return models;
+    }
+
+    public static Scenario load(final Path script) throws IOException {
+        return parse(Files.readAllLines(script, StandardCharsets.UTF_8));
+    }
+
+    public static Scenario parse(final List<String> lines) {
+        final Scenario scenario = new Scenario();
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            final String[] tokens = line.split("\\s+", 3);
+            try {
+                switch (tokens[0]) {
+                    case "pause":
+                        scenario.pause(Long.parseLong(tokens[1]));
+                        break;
+                    case "click":
+                        scenario.click(parseSelector(tokens[1]));
+                        break;
+                    case "type":
+                        scenario.type(parseSelector(tokens[1]), tokens.length > 2 ? tokens[2] : "");
+                        break;
+                    case "history":
+                        scenario.history(tokens.length > 1 ? line.substring(line.indexOf(' ') + 1).trim() : "");
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown step " + tokens[0]);
+                }
+            } catch (final ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid step at line " + (i + 1) + " : " + line, e);
+            } catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid step at line " + (i + 1) + " : " + line + " (" + e.getMessage() + ")", e);
+            }
+        }
+        return scenario;
+    }
+
+    static By parseSelector(final String selector) {
+        final int separator = selector.indexOf('=');
+        if (separator <= 0) throw new IllegalArgumentException("Invalid selector " + selector);
+        final String value = selector.substring(separator + 1);
+        switch (selector.substring(0, separator)) {
+            case "id":
+                return By.id(value);
+            case "name":
+                return By.name(value);
+            case "class":
+                return By.className(value);
+            case "css":
+                return By.cssSelector(value);
+            case "tag":
+                return By.tagName(value);
+            default:
+                throw new IllegalArgumentException("Unknown selector " + selector);
+        }
+    }
+
+    private static PonyWebElement findElement(final PonySDKWebDriver driver, final By by) {
+        final PonyWebElement element = driver.findElement(by);
+        if (element == null) throw new NoSuchElementException("No element found for " + by);
+        return element;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import java.io.IOException;
+
+import javax.management.JMException;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ponysdk.core.server.metrics.JmxMetricsRegistry;
+
+/**
+ * Reads the CPU load of the server and, if it publishes them with a {@link JmxMetricsRegistry}, its number of
+ * UIContexts through a remote JMX connection
+ */
+final class ServerMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerMonitor.class);
+
+    private final JMXConnector connector;
+    private final MBeanServerConnection connection;
+    private final ObjectName operatingSystem;
+    private final ObjectName uiContexts;
+
+    private double cpuLoadSum;
+    private double maxCpuLoad;
+    private int cpuLoadSamples;
+
+    /**
+     * @param url e.g. service:jmx:rmi:///jndi/rmi://localhost:9010/jmxrmi
+     */
+    ServerMonitor(final String url) throws IOException, JMException {
+        connector = JMXConnectorFactory.connect(new JMXServiceURL(url));
+        connection = connector.getMBeanServerConnection();
+        operatingSystem = new ObjectName("java.lang:type=OperatingSystem");
+        uiContexts = new ObjectName(JmxMetricsRegistry.AGGREGATE_NAME);
+    }
+
+    /**
+     * @return the recent CPU usage of the server process between 0 and 1, or a negative value if not available
+     */
+    synchronized double sampleCpuLoad() {
+        try {
+            final double cpuLoad = ((Number) connection.getAttribute(operatingSystem, "ProcessCpuLoad")).doubleValue();
+            if (cpuLoad >= 0) {
+                cpuLoadSum += cpuLoad;
+                maxCpuLoad = Math.max(maxCpuLoad, cpuLoad);
+                cpuLoadSamples++;
+            }
+            return cpuLoad;
+        } catch (final IOException | JMException e) {
+            log.warn("Cannot read the CPU load of the server", e);
+            return -1;
+        }
+    }
+
+    synchronized double getAverageCpuLoad() {
+        return cpuLoadSamples == 0 ? -1 : cpuLoadSum / cpuLoadSamples;
+    }
+
+    synchronized double getMaxCpuLoad() {
+        return cpuLoadSamples == 0 ? -1 : maxCpuLoad;
+    }
+
+    /**
+     * @return the number of UIContexts of the server, or -1 if its metrics are not published
+     */
+    int getSessionCount() {
+        try {
+            if (!connection.isRegistered(uiContexts)) return -1;
+            return ((Number) connection.getAttribute(uiContexts, "SessionCount")).intValue();
+        } catch (final IOException | JMException e) {
+            log.warn("Cannot read the UIContexts of the server", e);
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        connector.close();
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.json.JsonObject;
+import javax.websocket.CloseReason;
+import javax.websocket.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.driver.PonyFrame;
+import com.ponysdk.driver.PonyMessageListener;
+import com.ponysdk.driver.PonySDKWebDriver;
+import com.ponysdk.driver.PonySessionListener;
+import com.ponysdk.driver.PonyWebElement;
+
+/**
+ * A terminal replaying its scenario without blocking any thread : each action is sent from the scheduler of the
+ * test, and the next one is scheduled when the server answers. The end-to-end latency of an action is the time
+ * until the server answers it : with an update of the clicked element for a click, with the first message that isn't
+ * a heartbeat or a ping otherwise.
+ */
+final class SimulatedTerminal implements PonyMessageListener, PonySessionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatedTerminal.class);
+
+    /**
+     * The object id of the pending responses answered by any message that isn't a heartbeat or a ping
+     */
+    static final int ANY_OBJECT = -1;
+
+    private final int id;
+    private final LoadTest test;
+    private final LoadStatistics statistics;
+    private final List<Scenario.Step> steps;
+    private final PonySDKWebDriver driver;
+    private final AtomicReference<PendingResponse> pendingResponse = new AtomicReference<>();
+
+    // Only used by the scheduled task of the current step
+    private int stepIndex;
+    private volatile boolean closed;
+
+    SimulatedTerminal(final int id, final LoadTest test) {
+        this.id = id;
+        this.test = test;
+        this.statistics = test.getStatistics();
+        this.steps = test.getScenario().getSteps();
+        this.driver = new PonySDKWebDriver(this, statistics, this, true, test.getClientManager(),
+            test.isLazyDecoding() ? test.getScenario().getDecodedModels() : null);
+    }
+
+    /**
+     * Connects to the server, blocks until the connection is opened
+     */
+    void open() {
+        if (closed) return;
+        final PendingResponse pending = new PendingResponse(true, ANY_OBJECT);
+        pendingResponse.set(pending);
+        try {
+            driver.get(test.getUrl());
+            scheduleTimeout(pending);
+        } catch (final RuntimeException e) {
+            pendingResponse.compareAndSet(pending, null);
+            closed = true;
+            statistics.onConnectionFailure();
+            log.warn("Terminal #{} cannot connect to {}", id, test.getUrl(), e);
+        }
+    }
+
+    void close() {
+        closed = true;
+        driver.close();
+    }
+
+    private void runNextStep() {
+        if (closed || test.isStopped() || steps.isEmpty()) return;
+        final Scenario.Step step = steps.get(stepIndex);
+        stepIndex = (stepIndex + 1) % steps.size();
+        if (step.isPause()) {
+            schedule(step.getPauseMillis());
+            return;
+        }
+
+        PendingResponse pending = null;
+        try {
+            // The response is expected before sending the action, that can be answered before execute() returns
+            final PonyWebElement target = step.findTarget(driver);
+            pending = new PendingResponse(false, target != null ? target.getObjectID() : ANY_OBJECT);
+            pendingResponse.set(pending);
+            step.execute(driver, target);
+            statistics.onActionSent();
+            scheduleTimeout(pending);
+        } catch (final RuntimeException e) {
+            if (pending != null) pendingResponse.compareAndSet(pending, null);
+            statistics.onActionFailure();
+            if (log.isDebugEnabled()) log.debug("Terminal #{} cannot {}", id, step, e);
+            schedule(test.getThinkTime());
+        }
+    }
+
+    private void schedule(final long delayMillis) {
+        if (closed || test.isStopped()) return;
+        try {
+            test.getScheduler().schedule(this::runNextStep, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            // The test is stopping
+        }
+    }
+
+    private void scheduleTimeout(final PendingResponse pending) {
+        try {
+            pending.timeout = test.getScheduler().schedule(() -> onTimeout(pending), test.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            // The test is stopping
+        }
+    }
+
+    private void onTimeout(final PendingResponse pending) {
+        if (!pendingResponse.compareAndSet(pending, null)) return;
+        statistics.onTimeout();
+        log.debug("Terminal #{} received no response after {} ms", id, test.getTimeout());
+        if (pending.connection) close();
+        else schedule(test.getThinkTime());
+    }
+
+    @Override
+    public void onReceiveMessage(final List<PonyFrame> message) {
+        statistics.onMessageReceived();
+        final PendingResponse pending = pendingResponse.get();
+        if (pending == null || !isResponse(message, pending.objectID) || !pendingResponse.compareAndSet(pending, null)) return;
+
+        final long latency = System.nanoTime() - pending.startTime;
+        final ScheduledFuture<?> timeout = pending.timeout;
+        if (timeout != null) timeout.cancel(false);
+        if (pending.connection) statistics.recordConnection(latency);
+        else statistics.recordAction(latency);
+        schedule(test.getThinkTime());
+    }
+
+    /**
+     * @param objectID the object touched by the action, {@link #ANY_OBJECT} if it doesn't touch a specific object
+     * @return true if the message answers the action : if it updates the object, or if it isn't a heartbeat or a
+     *         ping when the action doesn't touch a specific object. In lazy mode, a message whose frames have all been
+     *         skipped is an answer.
+     */
+    static boolean isResponse(final List<PonyFrame> message, final int objectID) {
+        if (objectID == ANY_OBJECT) {
+            for (final PonyFrame frame : message) {
+                final ServerToClientModel model = frame.getModel();
+                if (model != ServerToClientModel.HEARTBEAT && model != ServerToClientModel.ROUNDTRIP_LATENCY) return true;
+            }
+            return message.isEmpty();
+        } else {
+            for (final PonyFrame frame : message) {
+                if (frame.getModel() == ServerToClientModel.TYPE_UPDATE && frame.getValue() instanceof Number
+                        && ((Number) frame.getValue()).intValue() == objectID) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public void onSendMessage(final JsonObject message) {
+        // Nothing to do
+    }
+
+    @Override
+    public void onOpen(final Session session) {
+        // Nothing to do
+    }
+
+    @Override
+    public void onClose(final Session session, final CloseReason closeReason) {
+        if (closed) return;
+        closed = true;
+        statistics.onUnexpectedClose();
+        log.info("Terminal #{} closed by the server : {} {}", id, closeReason.getCloseCode(), closeReason.getReasonPhrase());
+    }
+
+    @Override
+    public void onError(final Session session, final Throwable thr) {
+        statistics.onError();
+    }
+
+    private static final class PendingResponse {
+
+        private final long startTime = System.nanoTime();
+        private final boolean connection;
+        private final int objectID;
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingResponse(final boolean connection, final int objectID) {
+            this.connection = connection;
+            this.objectID = objectID;
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.driver.PonySDKWebDriver;
+import com.ponysdk.driver.PonyWebElement;
+
+public class ScenarioTest {
+
+    @Test
+    public void testParse() {
+        final Scenario scenario = Scenario.parse(Arrays.asList("# Login", "type name=login alice", "", "click id=submit",
+            "pause 500", "history page 1"));
+
+        final List<Scenario.Step> steps = scenario.getSteps();
+        assertEquals(4, steps.size());
+        assertEquals("type By.name: login alice", steps.get(0).toString());
+        assertEquals("click By.id: submit", steps.get(1).toString());
+        assertTrue(steps.get(2).isPause());
+        assertEquals(500, steps.get(2).getPauseMillis());
+        assertEquals("history page 1", steps.get(3).toString());
+    }
+
+    @Test
+    public void testClickIsAnsweredByTheClickedElement() {
+        final PonyWebElement button = mock(PonyWebElement.class);
+        final PonySDKWebDriver driver = mock(PonySDKWebDriver.class);
+        when(driver.findElement(By.id("submit"))).thenReturn(button);
+
+        final Scenario.Step click = new Scenario().click(By.id("submit")).getSteps().get(0);
+        final PonyWebElement target = click.findTarget(driver);
+        assertSame(button, target);
+
+        click.execute(driver, target);
+        verify(button).click();
+    }
+
+    @Test
+    public void testOtherStepsAreAnsweredByAnyMessage() {
+        final PonyWebElement textBox = mock(PonyWebElement.class);
+        final PonySDKWebDriver driver = mock(PonySDKWebDriver.class);
+        when(driver.findElement(By.name("login"))).thenReturn(textBox);
+
+        final List<Scenario.Step> steps = new Scenario().type(By.name("login"), "alice").history("page1")
+            .action("custom", d -> d.sendCookies()).getSteps();
+        for (final Scenario.Step step : steps) {
+            assertNull(step.findTarget(driver));
+            step.execute(driver, null);
+        }
+        verify(textBox).sendKeys("alice");
+        verify(driver).sendTypeHistory("page1");
+        verify(driver).sendCookies();
+    }
+
+    @Test
+    public void testHeartbeatsAreDecoded() {
+        assertTrue(new Scenario().history("page1").getDecodedModels().contains(ServerToClientModel.HEARTBEAT));
+        assertTrue(new Scenario().click(By.id("submit")).getDecodedModels().containsAll(PonySDKWebDriver.ELEMENT_MODELS));
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver.load;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.driver.PonyFrame;
+
+public class SimulatedTerminalTest {
+
+    private static PonyFrame frame(final ServerToClientModel model, final Object value) {
+        final PonyFrame frame = mock(PonyFrame.class);
+        when(frame.getModel()).thenReturn(model);
+        when(frame.getValue()).thenReturn(value);
+        return frame;
+    }
+
+    @Test
+    public void testHeartbeatIsNotAResponse() {
+        final List<PonyFrame> heartbeat = Collections.singletonList(frame(ServerToClientModel.HEARTBEAT, null));
+        assertFalse(SimulatedTerminal.isResponse(heartbeat, SimulatedTerminal.ANY_OBJECT));
+        assertFalse(SimulatedTerminal.isResponse(heartbeat, 12));
+    }
+
+    @Test
+    public void testPingIsNotAResponse() {
+        final List<PonyFrame> ping = Collections.singletonList(frame(ServerToClientModel.ROUNDTRIP_LATENCY, null));
+        assertFalse(SimulatedTerminal.isResponse(ping, SimulatedTerminal.ANY_OBJECT));
+        assertFalse(SimulatedTerminal.isResponse(ping, 12));
+    }
+
+    @Test
+    public void testAnyMessageAnswersAnActionWithoutObject() {
+        final List<PonyFrame> update = Arrays.asList(frame(ServerToClientModel.TYPE_UPDATE, 7),
+            frame(ServerToClientModel.TEXT, "text"));
+        assertTrue(SimulatedTerminal.isResponse(update, SimulatedTerminal.ANY_OBJECT));
+        // In lazy mode, all the frames may have been skipped
+        assertTrue(SimulatedTerminal.isResponse(Collections.emptyList(), SimulatedTerminal.ANY_OBJECT));
+    }
+
+    @Test
+    public void testResponseUpdatesTheTouchedObject() {
+        final List<PonyFrame> otherUpdate = Arrays.asList(frame(ServerToClientModel.TYPE_UPDATE, 7),
+            frame(ServerToClientModel.TEXT, "text"));
+        assertFalse(SimulatedTerminal.isResponse(otherUpdate, 12));
+        assertFalse(SimulatedTerminal.isResponse(Collections.emptyList(), 12));
+
+        final List<PonyFrame> update = Arrays.asList(frame(ServerToClientModel.TYPE_UPDATE, 7),
+            frame(ServerToClientModel.TEXT, "text"), frame(ServerToClientModel.TYPE_UPDATE, 12),
+            frame(ServerToClientModel.END_OF_PROCESSING, null));
+        assertTrue(SimulatedTerminal.isResponse(update, 12));
+    }
+
+}
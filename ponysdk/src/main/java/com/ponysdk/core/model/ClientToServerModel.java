@@ -66,6 +66,9 @@ public enum ClientToServerModel {
 
     HEARTBEAT_REQUEST("u"),
 
+    RESUME_TOKEN("v"),
+    RESUME_OFFSET("w"),
+
     HANDLER_BOOLEAN_VALUE_CHANGE("A"),
     HANDLER_DATE_VALUE_CHANGE("B"),
     HANDLER_STRING_VALUE_CHANGE("C"),
@@ -89,6 +92,8 @@ public enum ClientToServerModel {
     HANDLER_DOCUMENT_VISIBILITY("U"),
     HANDLER_DESTROY("V");
 
+    private static final ClientToServerModel[] VALUES = ClientToServerModel.values();
+
     private String key;
 
     ClientToServerModel(final String key) {
@@ -99,4 +104,12 @@ public enum ClientToServerModel {
         return key;
     }
 
+    public final byte getValue() {
+        return (byte) ordinal();
+    }
+
+    public static ClientToServerModel fromRawValue(final int rawValue) {
+        return VALUES[rawValue];
+    }
+
 }
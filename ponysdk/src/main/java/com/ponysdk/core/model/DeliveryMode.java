@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.model;
+
+/**
+ * How the terminal delivers the events of a DOM handler to the server
+ */
+public enum DeliveryMode {
+
+    /**
+     * Every event is sent with the next batch of instructions
+     */
+    IMMEDIATE,
+    /**
+     * Only the last event of a batch is sent
+     */
+    LATEST,
+    /**
+     * At most one event is sent per interval, the last event of an interval is sent at its end
+     */
+    THROTTLE,
+    /**
+     * The last event is sent once no other event occurred during the interval
+     */
+    DEBOUNCE;
+
+    private static final DeliveryMode[] VALUES = DeliveryMode.values();
+
+    private DeliveryMode() {
+    }
+
+    public final byte getValue() {
+        return (byte) ordinal();
+    }
+
+    public static DeliveryMode fromRawValue(final int rawValue) {
+        return VALUES[rawValue];
+    }
+
+}
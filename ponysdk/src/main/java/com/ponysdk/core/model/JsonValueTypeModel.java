@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.model;
+
+/**
+ * Binary encoding of the JSON messages sent by the terminal. A value is its type byte followed by :
+ * <ul>
+ * <li>nothing for {@link #NULL}, {@link #BOOLEAN_FALSE} and {@link #BOOLEAN_TRUE}</li>
+ * <li>an int32 for {@link #INTEGER}</li>
+ * <li>a float64 for {@link #DOUBLE}</li>
+ * <li>the int32 length and the UTF-8 bytes for {@link #STRING}</li>
+ * <li>the int32 size and the values for {@link #ARRAY}</li>
+ * <li>the int32 size and the entries for {@link #OBJECT}</li>
+ * </ul>
+ * An entry is a key followed by a value. The key is the uint8 raw value of a {@link ClientToServerModel}, or
+ * {@link #STRING_KEY} followed by the int32 length and the UTF-8 bytes of any other key.
+ * Numbers are big-endian, as in the server to terminal frames.
+ */
+public enum JsonValueTypeModel {
+
+    NULL,
+    BOOLEAN_FALSE,
+    BOOLEAN_TRUE,
+    INTEGER,
+    DOUBLE,
+    STRING,
+    ARRAY,
+    OBJECT;
+
+    public static final int STRING_KEY = 255;
+
+    private static final JsonValueTypeModel[] VALUES = JsonValueTypeModel.values();
+
+    public final byte getValue() {
+        return (byte) ordinal();
+    }
+
+    public static JsonValueTypeModel fromRawValue(final int rawValue) {
+        return VALUES[rawValue];
+    }
+
+}
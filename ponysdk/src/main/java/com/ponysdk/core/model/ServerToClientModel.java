@@ -28,11 +28,14 @@ public enum ServerToClientModel {
     ROUNDTRIP_LATENCY(ValueTypeModel.NULL),
     HEARTBEAT(ValueTypeModel.NULL),
     HEARTBEAT_PERIOD(ValueTypeModel.INTEGER),
+    TERMINAL_FRAME_BUDGET(ValueTypeModel.INTEGER),
 
     CREATE_CONTEXT(ValueTypeModel.UINT31),
     DESTROY_CONTEXT(ValueTypeModel.NULL),
     END(ValueTypeModel.NULL),
     OPTION_FORMFIELD_TABULATION(ValueTypeModel.BOOLEAN),
+    RESUME_TOKEN(ValueTypeModel.STRING),
+    RESUME_TIMEOUT(ValueTypeModel.INTEGER),
 
     TYPE_CREATE(ValueTypeModel.UINT31),
     TYPE_UPDATE(ValueTypeModel.UINT31),
@@ -47,16 +50,16 @@ public enum ServerToClientModel {
     DATE(ValueTypeModel.LONG),
     VALUE(ValueTypeModel.STRING),
     PARENT_OBJECT_ID(ValueTypeModel.UINT31),
-    PUT_STYLE_KEY(ValueTypeModel.STRING),
+    PUT_STYLE_KEY(ValueTypeModel.STRING_DICTIONARY),
     STYLE_VALUE(ValueTypeModel.STRING),
-    REMOVE_STYLE_KEY(ValueTypeModel.STRING),
+    REMOVE_STYLE_KEY(ValueTypeModel.STRING_DICTIONARY),
     PUT_PROPERTY_KEY(ValueTypeModel.STRING),
     PROPERTY_VALUE(ValueTypeModel.STRING),
-    PUT_ATTRIBUTE_KEY(ValueTypeModel.STRING),
+    PUT_ATTRIBUTE_KEY(ValueTypeModel.STRING_DICTIONARY),
     ATTRIBUTE_VALUE(ValueTypeModel.STRING),
-    REMOVE_ATTRIBUTE_KEY(ValueTypeModel.STRING),
-    ADD_STYLE_NAME(ValueTypeModel.STRING),
-    REMOVE_STYLE_NAME(ValueTypeModel.STRING),
+    REMOVE_ATTRIBUTE_KEY(ValueTypeModel.STRING_DICTIONARY),
+    ADD_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    REMOVE_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
     HREF(ValueTypeModel.STRING),
     TEXT(ValueTypeModel.STRING),
     ATTRIBUTE_LINKED_TO_VALUE(ValueTypeModel.STRING),
@@ -109,23 +112,23 @@ public enum ServerToClientModel {
     TAG(ValueTypeModel.STRING),
     PICKER(ValueTypeModel.INTEGER),
     ROW(ValueTypeModel.INTEGER),
-    ROW_FORMATTER_ADD_STYLE_NAME(ValueTypeModel.STRING),
-    ROW_FORMATTER_REMOVE_STYLE_NAME(ValueTypeModel.STRING),
-    ROW_FORMATTER_SET_STYLE_NAME(ValueTypeModel.STRING),
+    ROW_FORMATTER_ADD_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    ROW_FORMATTER_REMOVE_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    ROW_FORMATTER_SET_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
     ROW_FORMATTER_SHOW_ROW(ValueTypeModel.INTEGER),
     ROW_FORMATTER_HIDE_ROW(ValueTypeModel.INTEGER),
     COLUMN(ValueTypeModel.INTEGER),
-    CELL_FORMATTER_ADD_STYLE_NAME(ValueTypeModel.STRING),
-    CELL_FORMATTER_REMOVE_STYLE_NAME(ValueTypeModel.STRING),
-    CELL_FORMATTER_SET_STYLE_NAME(ValueTypeModel.STRING),
+    CELL_FORMATTER_ADD_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    CELL_FORMATTER_REMOVE_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    CELL_FORMATTER_SET_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
     COLUMN_FORMATTER_COLUMN_WIDTH(ValueTypeModel.STRING),
-    COLUMN_FORMATTER_ADD_STYLE_NAME(ValueTypeModel.STRING),
-    COLUMN_FORMATTER_REMOVE_STYLE_NAME(ValueTypeModel.STRING),
-    COLUMN_FORMATTER_SET_STYLE_NAME(ValueTypeModel.STRING),
+    COLUMN_FORMATTER_ADD_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    COLUMN_FORMATTER_REMOVE_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
+    COLUMN_FORMATTER_SET_STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
     PLACEHOLDER(ValueTypeModel.STRING),
     DATE_ENABLED(ValueTypeModel.ARRAY),
     ENABLED(ValueTypeModel.BOOLEAN),
-    STYLE_NAME(ValueTypeModel.STRING),
+    STYLE_NAME(ValueTypeModel.STRING_DICTIONARY),
     ADD_DATE_STYLE(ValueTypeModel.ARRAY),
     REMOVE_DATE_STYLE(ValueTypeModel.ARRAY),
     YEAR_ARROWS_VISIBLE(ValueTypeModel.BOOLEAN),
@@ -137,15 +140,15 @@ public enum ServerToClientModel {
     WIDGET_HEIGHT(ValueTypeModel.STRING),
     WIDGET_TITLE(ValueTypeModel.STRING),
     ENSURE_DEBUG_ID(ValueTypeModel.STRING),
-    ITEM_INSERTED(ValueTypeModel.STRING),
-    ITEM_UPDATED(ValueTypeModel.STRING),
+    ITEM_INSERTED(ValueTypeModel.STRING_DICTIONARY),
+    ITEM_UPDATED(ValueTypeModel.STRING_DICTIONARY),
     ITEM_REMOVED(ValueTypeModel.INTEGER),
     SELECTED(ValueTypeModel.BOOLEAN),
     SELECTED_INDEX(ValueTypeModel.INTEGER),
     MULTISELECT(ValueTypeModel.BOOLEAN),
     VISIBLE_ITEM_COUNT(ValueTypeModel.INTEGER),
     ITEM_ADD(ValueTypeModel.ARRAY),
-    ITEM_GROUP(ValueTypeModel.STRING),
+    ITEM_GROUP(ValueTypeModel.STRING_DICTIONARY),
     POPUP_AUTO_HIDE(ValueTypeModel.BOOLEAN),
     MODAL(ValueTypeModel.BOOLEAN),
     POPUP_GLASS_ENABLED(ValueTypeModel.BOOLEAN),
@@ -199,11 +202,12 @@ public enum ServerToClientModel {
     SET_COL_SPAN(ValueTypeModel.INTEGER),
     SET_ROW_SPAN(ValueTypeModel.INTEGER),
     KEY_FILTER(ValueTypeModel.ARRAY),
+    DOM_HANDLER_DELIVERY(ValueTypeModel.ARRAY),
     POPUP_POSITION_AND_SHOW(ValueTypeModel.NULL),
     ROOT_ID(ValueTypeModel.STRING),
     WINDOW_ID(ValueTypeModel.UINT31),
     FRAME_ID(ValueTypeModel.UINT31),
-    EVAL(ValueTypeModel.STRING),
+    EVAL(ValueTypeModel.STRING_DICTIONARY),
     VISIBLE_LINES(ValueTypeModel.INTEGER),
     CHARACTER_WIDTH(ValueTypeModel.INTEGER),
     HORIZONTAL_SCROLL_POSITION(ValueTypeModel.INTEGER),
@@ -239,7 +243,7 @@ public enum ServerToClientModel {
     PADDON_ARGUMENTS(ValueTypeModel.ARRAY),
     DESTROY(ValueTypeModel.NULL),
 
-    FUNCTION_CREATION(ValueTypeModel.STRING),
+    FUNCTION_CREATION(ValueTypeModel.STRING_DICTIONARY),
     FUNCTION_ID(ValueTypeModel.UINT31),
     FUNCTION_ARGS(ValueTypeModel.ARRAY),
 
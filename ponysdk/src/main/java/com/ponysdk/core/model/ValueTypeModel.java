@@ -35,7 +35,14 @@ public enum ValueTypeModel {
     FLOAT(ValueTypeModel.FLOAT_SIZE),
     STRING(ValueTypeModel.STRING_SIZE),
     ARRAY(ValueTypeModel.ARRAY_SIZE),
-    UINT31(ValueTypeModel.UINT31_SIZE);
+    UINT31(ValueTypeModel.UINT31_SIZE),
+    /**
+     * A string that can be stored in the string dictionary of the connection : an UINT31 header, whose low bit is
+     * {@link #STRING_DICTIONARY_DEFINITION} and other bits are the id of the entry, followed by a {@link #STRING}
+     * only when the entry is defined. The id 0 is never stored, a definition of the id 0 is an inline string and a
+     * reference to the id 0 is a null string.
+     */
+    STRING_DICTIONARY(ValueTypeModel.STRING_DICTIONARY_SIZE);
 
     public static final int NULL_SIZE = 0;
     public static final int BOOLEAN_SIZE = 1;
@@ -48,6 +55,7 @@ public enum ValueTypeModel {
     public static final int STRING_SIZE = -1;
     public static final int ARRAY_SIZE = -1;
     public static final int UINT31_SIZE = -1;
+    public static final int STRING_DICTIONARY_SIZE = -1;
 
     public static final short STRING_UTF8_INT32 = 255;
     public static final short STRING_UTF8_UINT16 = 254;
@@ -56,6 +64,8 @@ public enum ValueTypeModel {
     public static final short STRING_ASCII_UINT16 = 251;
     public static final short STRING_ASCII_UINT32 = 252;
 
+    public static final int STRING_DICTIONARY_DEFINITION = 0x01;
+
     private static final ValueTypeModel[] VALUES = ValueTypeModel.values();
 
     private final int size;
@@ -57,9 +57,11 @@ public class Application {
 
     public void registerUIContext(final UIContext uiContext) {
         uiContexts.put(uiContext.getID(), uiContext);
+        SessionManager.get().registerUIContext(uiContext);
     }
 
     public void deregisterUIContext(final int uiContextID) {
+        SessionManager.get().deregisterUIContext(uiContextID);
         if (uiContexts.remove(uiContextID) != null && uiContexts.isEmpty()) {
             try {
                 session.invalidate();
@@ -77,6 +79,7 @@ public class Application {
             } catch (final Exception e) {
                 log.error("Can't destroy the UIContext #" + uiContext.getID() + " on Application #" + id, e);
             }
+            SessionManager.get().deregisterUIContext(uiContext.getID());
         });
         uiContexts.clear();
 
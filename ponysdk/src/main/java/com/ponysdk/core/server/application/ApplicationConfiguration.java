@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import com.ponysdk.core.server.metrics.MetricsRegistry;
 import com.ponysdk.core.ui.main.EntryPoint;
 
 public class ApplicationConfiguration {
@@ -46,6 +47,15 @@ public class ApplicationConfiguration {
     private long heartBeatPeriod = 5000;// ms
     private TimeUnit heartBeatPeriodTimeUnit = TimeUnit.MILLISECONDS;
     private boolean enableClientToServerHeartBeat = true;
+    private boolean enableVirtualThreads;
+    private int stringDictionaryCapacity = 1024;
+    private long sessionResumptionTimeout = 0;// ms
+    private int replayBufferSize = 1 << 20;
+    private int terminalFrameBudget = 8;// ms
+    private int maxPendingTasks = 10000;
+    private int dataMailboxCapacity = 10000;
+    private int dataBackpressureThreshold = 1 << 16;// bytes
+    private MetricsRegistry metricsRegistry;
 
     private int sessionTimeout = 15; // minutes
 
@@ -199,4 +209,161 @@ public class ApplicationConfiguration {
         this.enableClientToServerHeartBeat = enableClientToServerHeartBeat;
     }
 
+    /**
+     * @return true if the tasks of the UIContexts are run on virtual threads
+     */
+    public boolean isEnableVirtualThreads() {
+        return enableVirtualThreads;
+    }
+
+    /**
+     * Runs the tasks of the UIContexts (entry point start, terminal instructions, scheduled tasks, ...) on virtual
+     * threads, one at a time per UIContext. Ignored if the JVM does not support virtual threads.
+     *
+     * @param enableVirtualThreads the enableVirtualThreads to set
+     */
+    public void setEnableVirtualThreads(final boolean enableVirtualThreads) {
+        this.enableVirtualThreads = enableVirtualThreads;
+    }
+
+    /**
+     * @return the maximum number of repeated protocol strings stored for each connection
+     */
+    public int getStringDictionaryCapacity() {
+        return stringDictionaryCapacity;
+    }
+
+    /**
+     * Style names, attribute and style keys, list box items, evaluated scripts and functions are stored for each
+     * connection, so they are only sent once and then referenced by an id. The least recently used strings are
+     * evicted when the dictionary is full.
+     *
+     * @param stringDictionaryCapacity the maximum number of stored strings, 0 to disable the string dictionary
+     */
+    public void setStringDictionaryCapacity(final int stringDictionaryCapacity) {
+        this.stringDictionaryCapacity = stringDictionaryCapacity;
+    }
+
+    /**
+     * @return the time in milliseconds a UIContext is kept alive after its WebSocket dropped, 0 if disabled
+     */
+    public long getSessionResumptionTimeout() {
+        return sessionResumptionTimeout;
+    }
+
+    /**
+     * Keeps the UIContext alive when its WebSocket drops abnormally, so the terminal can reconnect and only receive
+     * the data it has missed instead of reloading the whole application.
+     *
+     * @param sessionResumptionTimeout the time in milliseconds to wait for the reconnection, 0 to disable it
+     */
+    public void setSessionResumptionTimeout(final long sessionResumptionTimeout) {
+        this.sessionResumptionTimeout = sessionResumptionTimeout;
+    }
+
+    /**
+     * @return the maximum number of sent bytes kept for each connection to be replayed after a reconnection
+     */
+    public int getReplayBufferSize() {
+        return replayBufferSize;
+    }
+
+    /**
+     * The bytes not yet acknowledged by the terminal are kept to be sent again after a reconnection. If the terminal
+     * missed more than this size, the session can't be resumed and the application is reloaded.
+     *
+     * @param replayBufferSize the replayBufferSize to set
+     */
+    public void setReplayBufferSize(final int replayBufferSize) {
+        this.replayBufferSize = replayBufferSize;
+    }
+
+    /**
+     * @return the time in milliseconds the terminal spends applying the received instructions per animation frame
+     */
+    public int getTerminalFrameBudget() {
+        return terminalFrameBudget;
+    }
+
+    /**
+     * The terminal applies the received instructions in slices, one per animation frame, so a large screen or a
+     * burst of updates doesn't freeze the browser. The updates of a property superseded by a later update still
+     * pending are skipped when the terminal falls behind.
+     *
+     * @param terminalFrameBudget the time in milliseconds per animation frame, 0 to apply the instructions at once
+     */
+    public void setTerminalFrameBudget(final int terminalFrameBudget) {
+        this.terminalFrameBudget = terminalFrameBudget;
+    }
+
+    /**
+     * @return the maximum number of tasks queued on a UIContext and not yet run
+     */
+    public int getMaxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * The tasks submitted to a UIContext are queued until its scheduling context runs them. When a session can't keep
+     * up, the new tasks are rejected instead of growing the queue without limit.
+     *
+     * @param maxPendingTasks the maximum number of queued tasks per UIContext, 0 for no limit
+     */
+    public void setMaxPendingTasks(final int maxPendingTasks) {
+        this.maxPendingTasks = maxPendingTasks;
+    }
+
+    /**
+     * @return the maximum number of data pushed to a UIContext and not yet delivered to its DataListeners
+     */
+    public int getDataMailboxCapacity() {
+        return dataMailboxCapacity;
+    }
+
+    /**
+     * The data pushed to a UIContext are delivered to its DataListeners in batches. Beyond this capacity, the oldest
+     * pending data are dropped, and the capacity is halved while the delivery is postponed.
+     *
+     * @param dataMailboxCapacity the maximum number of pending data per UIContext, 0 for no limit
+     */
+    public void setDataMailboxCapacity(final int dataMailboxCapacity) {
+        this.dataMailboxCapacity = dataMailboxCapacity;
+    }
+
+    /**
+     * @return the number of bytes flushed but not yet written on the connection above which data delivery is
+     *         postponed
+     */
+    public int getDataBackpressureThreshold() {
+        return dataBackpressureThreshold;
+    }
+
+    /**
+     * The delivery of the pushed data is postponed while the terminal doesn't read the bytes already flushed, so
+     * that a slow terminal receives the conflated data instead of every update.
+     *
+     * @param dataBackpressureThreshold the number of pending flushed bytes
+     */
+    public void setDataBackpressureThreshold(final int dataBackpressureThreshold) {
+        this.dataBackpressureThreshold = dataBackpressureThreshold;
+    }
+
+    /**
+     * @return the registry publishing the metrics of the UIContexts, null if they are not published
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * Publishes the latencies, counters and gauges of each UIContext, e.g. to JMX with a
+     * {@link com.ponysdk.core.server.metrics.JmxMetricsRegistry}.
+     * The metrics are recorded anyway and can also be read with {@link UIContext#getMetrics()}.
+     *
+     * @param metricsRegistry the registry, null to not publish the metrics
+     */
+    public void setMetricsRegistry(final MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
 }
@@ -35,7 +35,7 @@ public abstract class ApplicationManager {
     protected ApplicationConfiguration configuration;
 
     public void startApplication(final UIContext uiContext) throws Exception {
-        uiContext.execute(() -> {
+        uiContext.submit(() -> {
             try {
                 final EntryPoint entryPoint = initializeEntryPoint();
                 final String historyToken = uiContext.getHistoryToken();
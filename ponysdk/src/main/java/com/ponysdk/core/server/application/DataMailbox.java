@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.application;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The data pushed to a {@link UIContext} and not yet delivered to its {@link DataListener}s.
+ * <p>
+ * The data are delivered in batches, in their arrival order. When a key provider is set, a data replaces the pending
+ * one having the same key (last value per key), keeping its position. Data with a null key are never conflated.
+ * <p>
+ * The mailbox holds at most its capacity, the oldest data are dropped beyond. While the terminal is slow to read,
+ * delivery is postponed with an increasing delay and the capacity is halved at each postponement, so that only the
+ * most recent data are kept until the terminal catches up.
+ */
+final class DataMailbox {
+
+    static final long MIN_POSTPONE_DELAY_MILLIS = 10;
+    static final long MAX_POSTPONE_DELAY_MILLIS = 1000;
+
+    private final int capacity;
+    private Map<Object, Object> pending = new LinkedHashMap<>();
+    private Function<Object, ?> keyProvider;
+    private boolean scheduled;
+    private long postponeDelayMillis;
+    private int postponeCount;
+    private long conflatedCount;
+    private long droppedCount;
+
+    /**
+     * @param capacity the maximum number of pending data, 0 for no limit
+     */
+    DataMailbox(final int capacity) {
+        this.capacity = capacity > 0 ? capacity : Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return true if the caller must schedule the delivery
+     */
+    synchronized boolean offer(final Object data) {
+        put(data);
+        trim();
+        return schedule();
+    }
+
+    /**
+     * @return true if the caller must schedule the delivery
+     */
+    synchronized boolean offerAll(final List<Object> data) {
+        data.forEach(this::put);
+        trim();
+        return schedule();
+    }
+
+    private void put(final Object data) {
+        final Object key = keyProvider != null ? keyProvider.apply(data) : null;
+        if (pending.put(key != null ? key : new Object(), data) != null) conflatedCount++;
+    }
+
+    private void trim() {
+        final int limit = Math.max(1, capacity >> Math.min(postponeCount, Integer.SIZE - 1));
+        if (pending.size() <= limit) return;
+        final Iterator<Object> iterator = pending.values().iterator();
+        for (int i = pending.size() - limit; i > 0; i--) {
+            iterator.next();
+            iterator.remove();
+            droppedCount++;
+        }
+    }
+
+    private boolean schedule() {
+        if (scheduled) return false;
+        scheduled = true;
+        return true;
+    }
+
+    /**
+     * Forgets the delivery scheduled by the last offer, when the caller failed to schedule it : the next offer will
+     * try again
+     */
+    synchronized void unschedule() {
+        scheduled = false;
+    }
+
+    /**
+     * Takes all the pending data, the next offer will schedule a new delivery
+     */
+    synchronized Collection<Object> drain() {
+        final Collection<Object> data = pending.values();
+        pending = new LinkedHashMap<>();
+        scheduled = false;
+        postponeDelayMillis = 0;
+        postponeCount = 0;
+        return data;
+    }
+
+    /**
+     * Halves the capacity until the next drain
+     *
+     * @return the delay before the next delivery attempt, doubled at each consecutive call
+     */
+    synchronized long postpone() {
+        postponeDelayMillis = Math.min(Math.max(MIN_POSTPONE_DELAY_MILLIS, postponeDelayMillis << 1), MAX_POSTPONE_DELAY_MILLIS);
+        postponeCount++;
+        trim();
+        return postponeDelayMillis;
+    }
+
+    synchronized void setKeyProvider(final Function<Object, ?> keyProvider) {
+        this.keyProvider = keyProvider;
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    synchronized long getConflatedCount() {
+        return conflatedCount;
+    }
+
+    synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+}
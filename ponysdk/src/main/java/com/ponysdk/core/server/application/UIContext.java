@@ -27,9 +27,16 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.server.AlreadyDestroyedApplication;
+import com.ponysdk.core.server.concurrent.ScheduledTaskHandler;
+import com.ponysdk.core.server.concurrent.Scheduler;
+import com.ponysdk.core.server.concurrent.SchedulingContext;
+import com.ponysdk.core.server.concurrent.VirtualThreads;
 import com.ponysdk.core.server.context.PObjectCache;
+import com.ponysdk.core.server.metrics.MetricsRegistry;
+import com.ponysdk.core.server.metrics.SessionMetrics;
 import com.ponysdk.core.server.stm.Txn;
 import com.ponysdk.core.server.stm.TxnContext;
+import com.ponysdk.core.server.websocket.DeflateStats;
 import com.ponysdk.core.server.websocket.WebSocket;
 import com.ponysdk.core.ui.basic.PCookies;
 import com.ponysdk.core.ui.basic.PHistory;
@@ -50,10 +57,16 @@ import javax.json.JsonValue;
 import javax.json.JsonValue.ValueType;
 import javax.json.spi.JsonProvider;
 import javax.servlet.http.HttpSession;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -73,10 +86,25 @@ public class UIContext {
     private static final ThreadLocal<UIContext> currentContext = new ThreadLocal<>();
     private static final AtomicInteger uiContextCount = new AtomicInteger();
     private static final String DEFAULT_PROVIDER = "org.glassfish.json.JsonProviderImpl";
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private static final Scheduler scheduler = new Scheduler(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+
+        private final AtomicInteger i = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            return new SchedulerThread(r, UIContext.class.getName() + "-" + i.getAndIncrement());
+        }
+    });
 
     private final int ID;
 
     private final ReentrantLock lock = new ReentrantLock();
+    private final SchedulingContext schedulingContext;
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTaskCount = new AtomicInteger();
+    private final int maxPendingTasks;
     private final Map<String, Object> attributes = new HashMap<>();
 
     private final PObjectCache pObjectCache = new PObjectCache();
@@ -95,14 +123,19 @@ public class UIContext {
     @Deprecated(forRemoval = true, since = "v2.8.0")
     private final TxnContext context;
     private final Set<DataListener> listeners = Collections.newSetFromMap(new ConcurrentHashMap<DataListener, Boolean>());
+    private final DataMailbox mailbox;
+    private final int dataBackpressureThreshold;
 
     private TerminalDataReceiver terminalDataReceiver;
 
     private boolean alive = true;
+    private volatile boolean suspended;
+    private ScheduledTaskHandler suspensionExpiration;
 
     private final Latency roundtripLatency = new Latency(10);
     private final Latency networkLatency = new Latency(10);
     private final Latency terminalLatency = new Latency(10);
+    private final SessionMetrics metrics;
 
     private final ApplicationConfiguration configuration;
     private final WebSocket socket;
@@ -122,6 +155,12 @@ public class UIContext {
         this.request = request;
         this.context = context;
         this.modelWriter = context.getWriter();
+        this.schedulingContext = getScheduler(configuration).createContext("UIContext #" + ID);
+        final int maxPendingTasks = configuration != null ? configuration.getMaxPendingTasks() : 0;
+        this.maxPendingTasks = maxPendingTasks > 0 ? maxPendingTasks : Integer.MAX_VALUE;
+        this.mailbox = new DataMailbox(configuration != null ? configuration.getDataMailboxCapacity() : 0);
+        this.dataBackpressureThreshold = configuration != null ? configuration.getDataBackpressureThreshold() : 0;
+        this.metrics = new SessionMetrics(ID, pendingTaskCount::get, () -> socket != null ? socket.getPendingFlushSize() : 0);
 
         JsonProvider provider;
         try {
@@ -131,6 +170,16 @@ public class UIContext {
         }
 
         jsonProvider = provider;
+
+        final MetricsRegistry metricsRegistry = configuration != null ? configuration.getMetricsRegistry() : null;
+        if (metricsRegistry != null) {
+            metricsRegistry.register(metrics);
+            addContextDestroyListener(destroyedContext -> metricsRegistry.unregister(metrics));
+        }
+    }
+
+    private static Scheduler getScheduler(final ApplicationConfiguration configuration) {
+        return configuration != null && configuration.isEnableVirtualThreads() ? VirtualThreadScheduler.INSTANCE : scheduler;
     }
 
     /**
@@ -182,7 +231,7 @@ public class UIContext {
     }
 
     public void executeFireEvent(final Event<? extends EventHandler> event) {
-        execute(() -> fireEvent0(event));
+        submit(() -> fireEvent0(event));
     }
 
     private void fireEvent0(final Event<? extends EventHandler> event) {
@@ -284,73 +333,219 @@ public class UIContext {
     }
 
     /**
-     * Executes a {@link Runnable} that represents a task in a graphical context
-     * This method locks the UIContext
+     * Executes a {@link Runnable} that represents a task in a graphical context, and waits for its completion
+     * <p>
+     * The task is queued and run by the {@link Scheduler}, see {@link #executeAndWait(Runnable)}. Use
+     * {@link #submit(Runnable)} to queue a task without waiting for it.
      *
      * @param runnable the tasks
+     * @return {@code true} if the task has been run successfully, or only queued when called from a thread of the
+     *         {@link Scheduler} or from another UIContext
      */
     public boolean execute(final Runnable runnable) {
+        return executeAndWait(runnable);
+    }
+
+    /**
+     * Queues a {@link Runnable} that represents a task in a graphical context
+     * <p>
+     * The task is run later by the {@link Scheduler}, the caller never waits for the UIContext. The tasks queued in
+     * the meantime are run in the same transaction. A task submitted from the UIContext itself is run at once.
+     *
+     * @param runnable the tasks
+     * @return {@code true} if the task has been queued, {@code false} if the UIContext is destroyed or too many
+     *         tasks are already pending
+     * @see ApplicationConfiguration#setMaxPendingTasks(int)
+     */
+    public boolean submit(final Runnable runnable) {
         if (!isAlive()) return false;
         if (log.isDebugEnabled()) log.debug("Pushing to #{}", this);
         if (UIContext.get() != this) {
-            acquire();
-            try {
-                final Txn txn = Txn.get();
-                txn.begin(context);
-                try {
-                    runnable.run();
-                    txn.commit();
-                    return true;
-                } catch (final Throwable e) {
-                    log.error("Cannot process client instruction", e);
-                    txn.rollback();
-                    return false;
-                }
-            } finally {
-                release();
+            if (pendingTaskCount.get() >= maxPendingTasks) {
+                log.warn("Rejecting task, {} tasks are already pending on {}", maxPendingTasks, this);
+                return false;
             }
+            pendingTasks.offer(runnable);
+            if (pendingTaskCount.getAndIncrement() == 0) schedulingContext.execute(this::executePendingTasks);
         } else {
             runnable.run();
+        }
+        return true;
+    }
+
+    /**
+     * Executes a {@link Runnable} that represents a task in a graphical context, and waits for its completion
+     * <p>
+     * The task is queued as with {@link #submit(Runnable)}, only the caller waits for its transaction to be
+     * committed, never a thread of the {@link Scheduler}. A thread of the {@link Scheduler} or a thread running
+     * another UIContext doesn't wait, since this UIContext may need it to run the task : the task is only queued.
+     *
+     * @param runnable the tasks
+     * @return {@code true} if the task has been run successfully, or queued when the caller can't wait
+     */
+    public boolean executeAndWait(final Runnable runnable) {
+        final UIContext current = UIContext.get();
+        if (current == this) {
+            runnable.run();
+            return true;
+        }
+        if (current != null || Thread.currentThread() instanceof SchedulerThread) return submit(runnable);
+        final WaitingTask task = new WaitingTask(runnable);
+        if (!submit(task)) return false;
+        try {
+            while (!task.await()) {
+                if (!isAlive()) return false;
+            }
+            return task.isSuccessful();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
             return false;
         }
     }
 
+    /**
+     * Runs the queued tasks in a single transaction
+     * This method locks the UIContext
+     */
+    private void executePendingTasks() {
+        int executed = 0;
+        List<WaitingTask> waitingTasks = null;
+        boolean committed = false;
+        acquire();
+        try {
+            final Txn txn = Txn.get();
+            txn.begin(context);
+            try {
+                Runnable task;
+                while (executed < MAX_BATCH_SIZE && (task = pendingTasks.poll()) != null) {
+                    executed++;
+                    if (task instanceof WaitingTask) {
+                        if (waitingTasks == null) waitingTasks = new ArrayList<>();
+                        waitingTasks.add((WaitingTask) task);
+                    }
+                    if (!isAlive()) continue;
+                    try {
+                        task.run();
+                    } catch (final Throwable e) {
+                        log.error("Cannot process client instruction", e);
+                    }
+                }
+                pObjectCache.expungeStaleEntries();
+                commit(txn);
+                committed = true;
+            } catch (final Throwable e) {
+                log.error("Cannot commit client instructions", e);
+                txn.rollback();
+            }
+        } finally {
+            release();
+            if (waitingTasks != null) {
+                for (final WaitingTask task : waitingTasks) {
+                    task.complete(committed);
+                }
+            }
+            if (pendingTaskCount.addAndGet(-executed) > 0) schedulingContext.execute(this::executePendingTasks);
+        }
+    }
+
+    private void commit(final Txn txn) {
+        final long start = System.nanoTime();
+        txn.commit();
+        metrics.recordCommitTime(System.nanoTime() - start);
+    }
+
     /**
      * Stimulates all {@link DataListener} with a list of object
+     * <p>
+     * The data are queued in the mailbox of the UIContext and delivered in batches, see
+     * {@link #setDataConflationKeyProvider(Function)}
      *
      * @param data list of object
      */
     public boolean pushToClient(final List<Object> data) {
         if (isAlive() && data != null && !listeners.isEmpty()) {
-            return execute(() -> {
-                try {
-                    listeners.forEach(listener -> data.forEach(listener::onData));
-                } catch (final Throwable e) {
-                    log.error("Cannot send data", e);
-                }
-            });
+            return !mailbox.offerAll(data) || scheduleDataDelivery();
         } else {
             return false;
         }
     }
 
-
     /**
      * Stimulates all {@link DataListener} with an object
+     * <p>
+     * The data is queued in the mailbox of the UIContext and delivered in batches, see
+     * {@link #setDataConflationKeyProvider(Function)}
      *
      * @param data the object
      */
     public boolean pushToClient(final Object data) {
         if (isAlive() && data != null && !listeners.isEmpty()) {
-            return execute(() -> {
+            return !mailbox.offer(data) || scheduleDataDelivery();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Enables the conflation of the pushed data : a data not yet delivered to the {@link DataListener}s is replaced by
+     * a newer one having the same key. Data with a null key are never conflated.
+     *
+     * @param keyProvider the key of a data, or null to disable the conflation
+     */
+    public void setDataConflationKeyProvider(final Function<Object, ?> keyProvider) {
+        mailbox.setKeyProvider(keyProvider);
+    }
+
+    /**
+     * @return the number of data pushed but not yet delivered to the {@link DataListener}s
+     */
+    public int getPendingDataCount() {
+        return mailbox.size();
+    }
+
+    /**
+     * @return the number of data replaced by a newer one before their delivery
+     */
+    public long getConflatedDataCount() {
+        return mailbox.getConflatedCount();
+    }
+
+    /**
+     * @return the number of data dropped because the mailbox was full
+     * @see ApplicationConfiguration#setDataMailboxCapacity(int)
+     */
+    public long getDroppedDataCount() {
+        return mailbox.getDroppedCount();
+    }
+
+    private boolean scheduleDataDelivery() {
+        if (submit(this::deliverData)) return true;
+        mailbox.unschedule();
+        return false;
+    }
+
+    /**
+     * Delivers the pending data to the {@link DataListener}s, unless the terminal is not reading fast enough, in
+     * which case the delivery is postponed to let the mailbox conflate the data
+     *
+     * @see ApplicationConfiguration#setDataBackpressureThreshold(int)
+     */
+    private void deliverData() {
+        if (socket.getPendingFlushSize() > dataBackpressureThreshold) {
+            final long delay = mailbox.postpone();
+            if (log.isDebugEnabled()) log.debug("Postponing data delivery of {} for {} ms", this, delay);
+            schedulingContext.executeLater(delay, this::scheduleDataDelivery);
+            return;
+        }
+        // Each data is delivered to all the listeners before the next one, a failing listener doesn't lose the others
+        for (final Object datum : mailbox.drain()) {
+            for (final DataListener listener : listeners) {
                 try {
-                    listeners.forEach(listener -> listener.onData(data));
+                    listener.onData(datum);
                 } catch (final Throwable e) {
                     log.error("Cannot send data", e);
                 }
-            });
-        } else {
-            return false;
+            }
         }
     }
 
@@ -632,11 +827,72 @@ public class UIContext {
         }
     }
 
+    /**
+     * Keeps the UIContext alive while its terminal is disconnected. The UIContext is destroyed if the terminal does not
+     * resume the session before the {@link ApplicationConfiguration#getSessionResumptionTimeout()}
+     * <p>
+     * This method locks the UIContext
+     */
+    public void suspend() {
+        if (!isAlive()) return;
+        acquire();
+        try {
+            if (suspended) return;
+            suspended = true;
+            final long timeout = configuration.getSessionResumptionTimeout();
+            log.info("UIContext #{} suspended, waiting {} ms for the terminal to resume the session", ID, timeout);
+            suspensionExpiration = schedulingContext.executeLater(timeout, this::onSuspensionExpired);
+            socket.suspend();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Called when the terminal resumed the session on a new connection
+     * <p>
+     * This method locks the UIContext
+     */
+    public void onResumed() {
+        acquire();
+        try {
+            suspended = false;
+            if (suspensionExpiration != null) {
+                suspensionExpiration.cancel(false);
+                suspensionExpiration = null;
+            }
+            onMessageReceived();
+        } finally {
+            release();
+        }
+    }
+
+    private void onSuspensionExpired() {
+        if (!suspended) return;
+        log.info("UIContext #{} has not been resumed in time", ID);
+        destroy();
+    }
+
+    /**
+     * @return true if the terminal is disconnected and may resume the session
+     */
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    /**
+     * @return true if the UIContext is suspended instead of destroyed when its connection drops
+     */
+    public boolean isResumable() {
+        return socket.isResumable();
+    }
+
     /**
      * Destroys effectively the UIContext
      */
     private void doDestroy() {
         alive = false;
+        schedulingContext.destroy();
         destroyListeners.forEach(listener -> {
             try {
                 listener.onBeforeDestroy(this);
@@ -757,6 +1013,13 @@ public class UIContext {
         socket.setListener(listener);
     }
 
+    /**
+     * @return the per-message compression statistics of the WebSocket, or null if it is not compressed
+     */
+    public DeflateStats getCompressionStats() {
+        return socket.getCompressionStats();
+    }
+
     /**
      * Gets the {@link Application} of the UIContext
      *
@@ -803,10 +1066,12 @@ public class UIContext {
      */
     public void addRoundtripLatencyValue(final long value) {
         roundtripLatency.add(value);
+        metrics.recordRoundtripLatency(value);
     }
 
     /**
-     * Gets an average roundtrip latency from the last 10 measurements
+     * Gets an average roundtrip latency from the last 10 measurements, the percentiles since the start of the session
+     * or since the previous read are given by the histograms of {@link #getMetrics()}
      *
      * @return the lantency
      */
@@ -821,10 +1086,12 @@ public class UIContext {
      */
     public void addNetworkLatencyValue(final long value) {
         networkLatency.add(value);
+        metrics.recordNetworkLatency(value);
     }
 
     /**
-     * Gets an average network latency from the last 10 measurements
+     * Gets an average network latency from the last 10 measurements, the percentiles since the start of the session
+     * or since the previous read are given by the histograms of {@link #getMetrics()}
      *
      * @return the lantency
      */
@@ -839,10 +1106,12 @@ public class UIContext {
      */
     public void addTerminalLatencyValue(final long value) {
         terminalLatency.add(value);
+        metrics.recordTerminalLatency(value);
     }
 
     /**
-     * Gets an average terminal latency from the last 10 measurements
+     * Gets an average terminal latency from the last 10 measurements, the percentiles since the start of the session
+     * or since the previous read are given by the histograms of {@link #getMetrics()}
      *
      * @return the lantency
      */
@@ -870,4 +1139,82 @@ public class UIContext {
         }
     }
 
+    /**
+     * Gets the latencies, counters and gauges of the UIContext
+     *
+     * @return the metrics
+     */
+    public SessionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * A thread of the {@link Scheduler}s, which never waits for a UIContext
+     */
+    private static final class SchedulerThread extends Thread {
+
+        SchedulerThread(final Runnable runnable, final String name) {
+            super(runnable, name);
+            setDaemon(true);
+        }
+
+    }
+
+    /**
+     * A queued task whose caller waits for the commit of the transaction it has been run in
+     */
+    private static final class WaitingTask implements Runnable {
+
+        private final Runnable runnable;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private boolean ran;
+        private volatile boolean successful;
+
+        WaitingTask(final Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+            ran = true;
+        }
+
+        void complete(final boolean committed) {
+            successful = ran && committed;
+            done.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return done.await(1, TimeUnit.SECONDS);
+        }
+
+        boolean isSuccessful() {
+            return successful;
+        }
+
+    }
+
+    /**
+     * The {@link Scheduler} running the UIContexts on virtual threads, created on first use
+     */
+    private static final class VirtualThreadScheduler {
+
+        private static final Duration PINNING_THRESHOLD = Duration.ofMillis(20);
+
+        private static final Scheduler INSTANCE;
+
+        static {
+            if (VirtualThreads.isSupported()) {
+                INSTANCE = new Scheduler(1, runnable -> new SchedulerThread(runnable, VirtualThreadScheduler.class.getName()),
+                    VirtualThreads.newThreadPerTaskExecutor(UIContext.class.getName()));
+                VirtualThreads.startPinningMonitor(PINNING_THRESHOLD);
+            } else {
+                log.warn("Virtual threads are not supported by this JVM, UIContexts will run on platform threads");
+                INSTANCE = scheduler;
+            }
+        }
+
+    }
+
 }
@@ -29,6 +29,7 @@ import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 
 /**
@@ -67,13 +68,27 @@ public abstract class AutoFlushedBuffer implements Closeable {
 
     // the ringbuffer that holds data
     // invariant : the range [position, limit[ is always available for write, it cannot contains pending data
-    private final ByteBuffer writeBuffer;
+    // writeBuffer and bufferSize are producer thread owned, flushBuffer and flushBufferSize are owned by the flushing logic
+    // when there is a pending flush. They only differ while the flushing logic is still in the previous buffer after a grow (cf grow)
+    private ByteBuffer writeBuffer;
 
-    private final int bufferSize;
+    private int bufferSize;
     private final int maxChunkSize;
-    private final ByteBuffer flushBuffer; // read-only view of write buffer used by the flushing logic. Invariant: flushBuffer.remaining() <= maxChunkSize
+    private ByteBuffer flushBuffer; // read-only view of write buffer used by the flushing logic. Invariant: flushBuffer.remaining() <= maxChunkSize
+    private int flushBufferSize;
 
-    private final long freeSpaceThreshold;
+    // null if the buffer has a fixed size, otherwise the buffer grows from initialBufferSize to maxBufferSize when it is full
+    // and is shrunk back when it has not been full for a while
+    private final ByteBufferPool bufferPool;
+    private final int initialBufferSize;
+    private final int maxBufferSize;
+    private long lastPressureNanos; // producer thread owned, last time the buffer was full
+
+    // set by the producer thread when the buffer grows during a flush, reset by the thread that releases the previous buffer
+    private final AtomicReference<BufferSwitch> pendingSwitch = new AtomicReference<>();
+    private long consumerBase = 0L; // producer thread owned, index of the first byte of the current buffer
+
+    private final float urgentMessageReservedRatio;
     private final long timeoutNanos; //0 means immediate failure if buffer is full, use Long.MAX_VALUE to implement infinite wait.
 
     // producer / consumer synchronization point to initiate new flush and stop flushing
@@ -134,10 +149,51 @@ public abstract class AutoFlushedBuffer implements Closeable {
             throw new IllegalArgumentException("maxChunkSize must be between 8 and bufferSize / 4");
         }
         this.bufferSize = bufferSize;
+        this.flushBufferSize = bufferSize;
         this.maxChunkSize = maxChunkSize;
+        this.bufferPool = null;
+        this.initialBufferSize = bufferSize;
+        this.maxBufferSize = bufferSize;
         writeBuffer = useDirectBuffer ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
         flushBuffer = writeBuffer.asReadOnlyBuffer();
-        freeSpaceThreshold = (long) (urgentMessageReservedRatio * bufferSize);
+        this.urgentMessageReservedRatio = urgentMessageReservedRatio;
+        timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * Creates an elastic buffer : the underlying buffer is acquired from the pool with its minimum
+     * size, grows up to the maximum size of the pool when it is full and is given back to the pool
+     * when it has not been full for a while.
+     *
+     * @param bufferPool                 the pool providing the underlying buffers. Its minimum buffer size must be at
+     *                                   least 32
+     * @param maxChunkSize               the maximum size of pending data before triggering a flush automatically, must be
+     *                                   between 8 and a quarter of the minimum buffer size of the pool
+     * @param urgentMessageReservedRatio used by {@link AutoFlushedBuffer#shouldOnlyWriteUrgentMessages()
+     *                                   shouldOnlyWriteUrgentMessages}.
+     *                                   If the free space ratio in the buffer, considering its current size, is less than
+     *                                   this value, that method should returns {@code true}
+     * @param timeoutMillis              the timeout period in millisecond. If write to the buffer are blocked for longer
+     *                                   than this, it will be automatically closed
+     */
+    protected AutoFlushedBuffer(final ByteBufferPool bufferPool, final int maxChunkSize, final float urgentMessageReservedRatio,
+            final long timeoutMillis) {
+        final int minBufferSize = bufferPool.getMinBufferSize();
+        if (minBufferSize < 32) {
+            throw new IllegalArgumentException("bufferSize must be at least 32");
+        }
+        if (maxChunkSize < 8 || maxChunkSize > minBufferSize / 4) {
+            throw new IllegalArgumentException("maxChunkSize must be between 8 and bufferSize / 4");
+        }
+        this.bufferPool = bufferPool;
+        this.bufferSize = minBufferSize;
+        this.flushBufferSize = minBufferSize;
+        this.initialBufferSize = minBufferSize;
+        this.maxBufferSize = bufferPool.getMaxBufferSize();
+        this.maxChunkSize = maxChunkSize;
+        writeBuffer = bufferPool.acquire(minBufferSize);
+        flushBuffer = writeBuffer.asReadOnlyBuffer();
+        this.urgentMessageReservedRatio = urgentMessageReservedRatio;
         timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
     }
 
@@ -307,6 +363,90 @@ public abstract class AutoFlushedBuffer implements Closeable {
         return this;
     }
 
+    /**
+     * Writes the UTF-8 encoding of a {@code String} in the buffer, directly from its chars and without any
+     * intermediate byte array. The number of written bytes is {@link #utf8Length(String) utf8Length(s)}.
+     * Unpaired surrogates are replaced by {@code '?'}, like {@link String#getBytes(java.nio.charset.Charset)} does.
+     * This method may block up to the configured timeout period if the buffer is already full.
+     *
+     * @param s the string to write
+     * @return this buffer
+     * @throws InterruptedIOException if the current thread is interrupted
+     * @throws IOException            if a timeout occurs or this buffer is already closed or the underlying flushing
+     *                                mechanism reported an issue
+     */
+    public final AutoFlushedBuffer putUTF8(final String s) throws IOException {
+        final int length = s.length();
+        int i = 0;
+        while (i < length) {
+            // at least 4 bytes, so there is always room for the next code point
+            ensureCapacity(Math.max(4, length - i));
+            final int start = writeBuffer.position();
+            final int limit = writeBuffer.limit();
+            int position = start;
+            while (i < length) {
+                final char c = s.charAt(i);
+                if (c < 0x80) {
+                    if (position == limit) break;
+                    writeBuffer.put(position++, (byte) c);
+                } else if (c < 0x800) {
+                    if (position + 2 > limit) break;
+                    writeBuffer.put(position++, (byte) (0xC0 | c >> 6));
+                    writeBuffer.put(position++, (byte) (0x80 | c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                        if (position + 4 > limit) break;
+                        final int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                        writeBuffer.put(position++, (byte) (0xF0 | codePoint >> 18));
+                        writeBuffer.put(position++, (byte) (0x80 | codePoint >> 12 & 0x3F));
+                        writeBuffer.put(position++, (byte) (0x80 | codePoint >> 6 & 0x3F));
+                        writeBuffer.put(position++, (byte) (0x80 | codePoint & 0x3F));
+                    } else {
+                        if (position == limit) break;
+                        writeBuffer.put(position++, (byte) '?');
+                    }
+                } else {
+                    if (position + 3 > limit) break;
+                    writeBuffer.put(position++, (byte) (0xE0 | c >> 12));
+                    writeBuffer.put(position++, (byte) (0x80 | c >> 6 & 0x3F));
+                    writeBuffer.put(position++, (byte) (0x80 | c & 0x3F));
+                }
+                i++;
+            }
+            writeBuffer.position(position);
+            notifyWrite(position - start);
+        }
+        return this;
+    }
+
+    /**
+     * Computes the number of bytes written by {@link #putUTF8(String)}, without encoding the string.
+     * The string only contains ASCII chars if the result is equal to {@code s.length()}.
+     *
+     * @param s the string to measure
+     * @return the length of the UTF-8 encoding of the string
+     */
+    public static int utf8Length(final String s) {
+        final int length = s.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                utf8Length++;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    // 2 chars => 4 bytes
+                    utf8Length += 2;
+                    i++;
+                }
+            } else {
+                utf8Length += 2;
+            }
+        }
+        return utf8Length;
+    }
+
     /**
      * Indicate if the buffer usage has reach the configured threshold. The purpose is to avoid
      * filling the buffer with messages than can be throttled and deliver
@@ -315,26 +455,64 @@ public abstract class AutoFlushedBuffer implements Closeable {
      * This method can be called by any thread without any additional synchronization. As a
      * consequence it is only a rough indication,
      * especially when no manual flush is triggered and the buffer size is not a lot greater than
-     * the flush size.
+     * the flush size.<br>
+     * The threshold is relative to the current size of the buffer, a buffer that can still grow is
+     * considered as full as a fixed size one.
      */
     public final boolean shouldOnlyWriteUrgentMessages() {
         //if there is no pending flush, we assume that there is enough space to accept non-urgent message (i.e freeSpaceThreshold > maxChunkSize)
         //otherwise we use flushIndex as an approximation for producerIndex : that's the best approximation we can have without synchronization
         final long currentFlushIndex = flushIndex.get();
+        final int currentBufferSize = bufferSize;
+        final long freeSpaceThreshold = (long) (urgentMessageReservedRatio * currentBufferSize);
 
         //if there is an exception that is still not notified to the producer, we want it to try to write ASAP so we can notify it
-        return asyncException == null
-                && (currentFlushIndex == 0 || currentFlushIndex - consumerIndex + freeSpaceThreshold > bufferSize);
+        return asyncException == null && currentFlushIndex != 0
+                && pendingFlushSize(currentFlushIndex) + freeSpaceThreshold > currentBufferSize;
+    }
+
+    /**
+     * Gives the number of bytes flushed but not yet written, i.e. the occupancy of the buffer seen
+     * from the network. As {@link #shouldOnlyWriteUrgentMessages()}, this method can be called by
+     * any thread but is only a rough indication.
+     */
+    public final int getPendingFlushSize() {
+        final long currentFlushIndex = flushIndex.get();
+        return currentFlushIndex == 0 ? 0 : (int) pendingFlushSize(currentFlushIndex);
+    }
+
+    //the indexes jump from the previous buffer to the new one after a grow, the gap is not pending data
+    private long pendingFlushSize(final long currentFlushIndex) {
+        final long currentConsumerIndex = consumerIndex;
+        final BufferSwitch bufferSwitch = pendingSwitch.get();
+        long pendingSize = currentFlushIndex - currentConsumerIndex;
+        if (bufferSwitch != null && currentConsumerIndex < bufferSwitch.startIndex && currentFlushIndex >= bufferSwitch.startIndex) {
+            pendingSize -= bufferSwitch.startIndex - bufferSwitch.previousFlushIndex;
+        }
+        return Math.max(0, pendingSize);
+    }
+
+    /**
+     * Gives the current size of the underlying buffer. It only changes for a buffer created with a
+     * {@link ByteBufferPool}.
+     * As {@link #shouldOnlyWriteUrgentMessages()}, this method can be called by any thread but is only a
+     * rough indication.
+     */
+    public final int getBufferSize() {
+        return bufferSize;
     }
 
     /**
      * Trigger an asynchronous flush. This method does not block. If there is already a flush in
      * progress, the actual flush will occurs on current flush completion.
+     * A grown buffer that has not been full for a while is shrunk back to its initial size
+     * beforehand.
      *
      * @throws IOException if already closed or if the flushing logic already reported an issue
      */
     public void flush() throws IOException {
         checkLiveness();
+        if (bufferSize > initialBufferSize) tryShrink();
         tryStartFlush();
     }
 
@@ -350,6 +528,12 @@ public abstract class AutoFlushedBuffer implements Closeable {
         if (!closed) {
             closed = true;
             LockSupport.unpark(waiterThread);
+            // a flush may still be in progress, the buffers can't be reused
+            if (bufferPool != null) {
+                bufferPool.discard(writeBuffer);
+                final BufferSwitch bufferSwitch = pendingSwitch.getAndSet(null);
+                if (bufferSwitch != null) bufferPool.discard(bufferSwitch.previousBuffer);
+            }
             closeFlusher();
         }
     }
@@ -371,18 +555,22 @@ public abstract class AutoFlushedBuffer implements Closeable {
      * @see AutoFlushedBuffer#doFlush(ByteBuffer)
      */
     protected final void onFlushCompletion() {
+        //volatile read first : consumerIndex is the last field written by resize(), so the new buffer is visible
+        final long currentConsumerIndex = consumerIndex;
         if (flushBuffer.hasRemaining()) {
             //bug in the underlying flush system such as a bad handling of interruptions
             onFlushFailure(new IOException("flush completed without exception, but flushBuffer still have remaining data"));
             return;
         }
 
-        final int sizeMask = bufferSize - 1;
-        final long currentConsumerIndex = consumerIndex;
+        final int sizeMask = flushBufferSize - 1;
         long newConsumerIndex = (currentConsumerIndex & ~sizeMask) + flushBuffer.limit();
         final long nextBufferIteration = (currentConsumerIndex | sizeMask) + 1;
 
+        //flushIndex is read before pendingSwitch : if it is already in the new buffer, the switch is visible
         long currentFlushIndex = flushIndex.get();
+        BufferSwitch bufferSwitch = pendingSwitch.get();
+        if (bufferSwitch != null) currentFlushIndex = Math.min(currentFlushIndex, bufferSwitch.previousFlushIndex);
         if (currentFlushIndex >= nextBufferIteration && newConsumerIndex == paddingIndex) {
             //fill padding gap. observing flushIndex >= nextBufferIteration is mandatory to avoid a dirty read of paddingIndex
             //this is an optimisation to avoid calling doFlush with an empty buffer in most case, however this can sometime happen
@@ -391,15 +579,36 @@ public abstract class AutoFlushedBuffer implements Closeable {
             paddingIndex = 0;
         }
 
-        consumerIndex = newConsumerIndex;
-        LockSupport.unpark(waiterThread);
+        while (true) {
+            consumerIndex = newConsumerIndex;
+            LockSupport.unpark(waiterThread);
 
-        if (!flushIndex.compareAndSet(newConsumerIndex, 0) && !closed) {
-            //a new flush has already been requested => continue flush
+            if (flushIndex.compareAndSet(newConsumerIndex, 0)) {
+                //the producer thread may be waiting for the end of the flush to resize the buffer
+                LockSupport.unpark(waiterThread);
+                return;
+            }
 
+            //a new flush has already been requested => continue flush, in the new buffer once the previous one is flushed
             currentFlushIndex = flushIndex.get();
-            configureFlushBuffer(newConsumerIndex, currentFlushIndex);
+            bufferSwitch = pendingSwitch.get();
+            //read after pendingSwitch since close() resets it
+            if (closed) return;
+
+            if (bufferSwitch == null) {
+                configureFlushBuffer(newConsumerIndex, currentFlushIndex);
+            } else if (newConsumerIndex != bufferSwitch.previousFlushIndex) {
+                configureFlushBuffer(newConsumerIndex, bufferSwitch.previousFlushIndex);
+            } else if (pendingSwitch.compareAndSet(bufferSwitch, null)) {
+                switchBuffer(bufferSwitch);
+                newConsumerIndex = bufferSwitch.startIndex;
+                continue;
+            } else {
+                //closed in the meantime
+                return;
+            }
             doFlush(flushBuffer);
+            return;
         }
     }
 
@@ -442,6 +651,11 @@ public abstract class AutoFlushedBuffer implements Closeable {
     }
 
     private void doEnsureCapacity(final int minLength) throws IOException {
+        if (bufferSize < maxBufferSize && pendingSwitch.get() == null && isFull(minLength)) {
+            grow();
+            return;
+        }
+
         //auto-flush if we reach end of buffer
         if (writeBuffer.position() + minLength > writeBuffer.capacity()) {
             final int paddingSize = writeBuffer.capacity() - writeBuffer.position();
@@ -450,6 +664,8 @@ public abstract class AutoFlushedBuffer implements Closeable {
                 //however waiting for that without synchronization will be optimized by the JIT
                 //and become an infinite loop
                 //=> we wait for consumerIndex to be in the same buffer iteration than producer index instead.
+                //The flushing logic must also have left the previous buffer after a grow, that buffer has its own padding.
+                waitForBufferSwitch();
                 waitForConsumer(producerIndex & ~(bufferSize - 1));
                 paddingIndex = producerIndex;
                 producerIndex += paddingSize;
@@ -464,25 +680,129 @@ public abstract class AutoFlushedBuffer implements Closeable {
         updateWriteBufferLimit();
     }
 
+    //true if doEnsureCapacity() would have to wait for the consumer
+    private boolean isFull(final int minLength) {
+        final int paddingSize = writeBuffer.position() + minLength > writeBuffer.capacity() ? writeBuffer.capacity() - writeBuffer.position() : 0;
+        return (consumerIndexCache = readConsumerIndex()) < producerIndex + paddingSize - (bufferSize - minLength);
+    }
+
+    //doubles the buffer size instead of waiting for free space. If a flush is in progress, it is not extended anymore : the
+    //flushing logic finishes it in the previous buffer, then releases that buffer and goes on with the new one (cf onFlushCompletion)
+    private void grow() throws IOException {
+        lastPressureNanos = System.nanoTime();
+        final long currentFlushIndex = flushIndex.get();
+        if (currentFlushIndex == 0) {
+            resize(bufferSize << 1);
+        } else {
+            resizeDuringFlush(currentFlushIndex, bufferSize << 1);
+        }
+        tryStartFlush();
+    }
+
+    private void tryShrink() throws IOException {
+        if (flushIndex.get() == 0 && producerIndex - readConsumerIndex() <= initialBufferSize / 2
+                && System.nanoTime() - lastPressureNanos >= bufferPool.getShrinkDelayNanos()) {
+            resize(initialBufferSize);
+        }
+    }
+
+    //replaces the underlying buffer, the data that is not flushed yet is copied at the beginning of the new buffer.
+    //Must be called by the producer thread when there is no pending flush (flushIndex == 0), so it has a stable view of
+    //consumerIndex and paddingIndex and is allowed to write them.
+    private synchronized void resize(final int newBufferSize) throws IOException {
+        //synchronized with close() to not release a buffer already discarded
+        if (closed) throw new IOException("Already closed");
+
+        final ByteBuffer newBuffer = bufferPool.acquire(newBufferSize);
+        copyPendingData(consumerIndex, newBuffer);
+        paddingIndex = 0;
+        bufferPool.release(writeBuffer);
+
+        final long newConsumerIndex = (producerIndex | newBufferSize - 1) + 1;
+        writeBuffer = newBuffer;
+        flushBuffer = newBuffer.asReadOnlyBuffer();
+        bufferSize = newBufferSize;
+        flushBufferSize = newBufferSize;
+        producerIndex = newConsumerIndex + newBuffer.position();
+        consumerIndexCache = newConsumerIndex;
+        consumerBase = newConsumerIndex;
+        consumerIndex = newConsumerIndex;
+        updateWriteBufferLimit();
+    }
+
+    //replaces the underlying buffer while the flushing logic is still flushing up to currentFlushIndex. Only the data after
+    //that index is copied, the flushing logic switches to the new buffer when it reaches it.
+    private synchronized void resizeDuringFlush(final long currentFlushIndex, final int newBufferSize) throws IOException {
+        //synchronized with close() to not acquire a buffer that would never be given back
+        if (closed) throw new IOException("Already closed");
+
+        final ByteBuffer newBuffer = bufferPool.acquire(newBufferSize);
+        copyPendingData(currentFlushIndex, newBuffer);
+        //a padding after currentFlushIndex has been copied, the flushing logic won't go that far in the previous buffer.
+        //A padding before it is still needed and reset by the flushing logic when it crosses it.
+        if (paddingIndex >= currentFlushIndex) paddingIndex = 0;
+
+        final long newConsumerIndex = (producerIndex | newBufferSize - 1) + 1;
+        final BufferSwitch bufferSwitch = new BufferSwitch(writeBuffer, currentFlushIndex, newBuffer.asReadOnlyBuffer(), newBufferSize,
+            newConsumerIndex);
+        writeBuffer = newBuffer;
+        bufferSize = newBufferSize;
+        producerIndex = newConsumerIndex + newBuffer.position();
+        consumerIndexCache = newConsumerIndex;
+        consumerBase = newConsumerIndex;
+
+        //the switch is published before flushIndex moves to the new buffer, cf onFlushCompletion
+        pendingSwitch.set(bufferSwitch);
+        if (!flushIndex.compareAndSet(currentFlushIndex, nextFlushIndex(newConsumerIndex))) {
+            //the flush completed in the meantime (flushIndex == 0), the previous buffer is not used anymore
+            pendingSwitch.set(null);
+            switchBuffer(bufferSwitch);
+            consumerIndex = newConsumerIndex;
+        }
+        updateWriteBufferLimit();
+    }
+
+    //called once the previous buffer is completely flushed, by the flushing logic or by the producer thread if there is no
+    //pending flush anymore
+    private void switchBuffer(final BufferSwitch bufferSwitch) {
+        flushBuffer = bufferSwitch.flushBuffer;
+        flushBufferSize = bufferSwitch.bufferSize;
+        bufferPool.release(bufferSwitch.previousBuffer);
+    }
+
+    //copies the data between fromIndex and producerIndex at the beginning of the buffer.
+    //the pending data can be split at the end of the buffer, with or without a padding gap
+    private void copyPendingData(long fromIndex, final ByteBuffer destination) {
+        while (fromIndex < producerIndex) {
+            final long endOfBufferIndex = (fromIndex | bufferSize - 1) + 1;
+            final long currentPaddingIndex = paddingIndex;
+            final long toIndex = producerIndex < endOfBufferIndex ? producerIndex
+                    : currentPaddingIndex > fromIndex && currentPaddingIndex < endOfBufferIndex ? currentPaddingIndex : endOfBufferIndex;
+            copyPendingData(fromIndex, toIndex, destination);
+            fromIndex = endOfBufferIndex;
+        }
+    }
+
+    //copies the data between the 2 indexes, they must be in the same buffer iteration
+    private void copyPendingData(final long fromIndex, final long toIndex, final ByteBuffer destination) {
+        if (toIndex > fromIndex) {
+            final ByteBuffer source = writeBuffer.duplicate();
+            final int position = (int) fromIndex & bufferSize - 1;
+            source.clear().position(position);
+            source.limit(position + (int) (toIndex - fromIndex));
+            destination.put(source);
+        }
+    }
+
     private void waitForConsumer(final long minConsumerIndex) throws IOException {
         if (consumerIndexCache < minConsumerIndex) {
             final long initialNanos = System.nanoTime();
+            lastPressureNanos = initialNanos;
 
             waiterThread = Thread.currentThread();
             try {
-                while ((consumerIndexCache = consumerIndex) < minConsumerIndex) {
-                    checkLiveness();
-                    final long remainingNanos = initialNanos + timeoutNanos - System.nanoTime();
-                    if (remainingNanos <= 0) {
-                        close();
-                        throw new IOException("Timeout: flushing mechanism didn't succeed to catchup in the required "
-                                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms time budget");
-                    }
-                    LockSupport.parkNanos(remainingNanos);
-                    if (Thread.interrupted()) {
-                        close();
-                        throw new InterruptedIOException();
-                    }
+                while ((consumerIndexCache = readConsumerIndex()) < minConsumerIndex) {
+                    parkUntilFlushProgress(initialNanos);
                 }
             } finally {
                 waiterThread = null;
@@ -490,6 +810,36 @@ public abstract class AutoFlushedBuffer implements Closeable {
         }
     }
 
+    private void waitForBufferSwitch() throws IOException {
+        if (pendingSwitch.get() != null) {
+            final long initialNanos = System.nanoTime();
+
+            waiterThread = Thread.currentThread();
+            try {
+                while (pendingSwitch.get() != null) {
+                    parkUntilFlushProgress(initialNanos);
+                }
+            } finally {
+                waiterThread = null;
+            }
+        }
+    }
+
+    private void parkUntilFlushProgress(final long initialNanos) throws IOException {
+        checkLiveness();
+        final long remainingNanos = initialNanos + timeoutNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+            close();
+            throw new IOException("Timeout: flushing mechanism didn't succeed to catchup in the required "
+                    + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms time budget");
+        }
+        LockSupport.parkNanos(remainingNanos);
+        if (Thread.interrupted()) {
+            close();
+            throw new InterruptedIOException();
+        }
+    }
+
     //update the data structure after a write to the buffer. Triggers flush automatically if needed
     private void notifyWrite(final int length) throws IOException {
         producerIndex += length;
@@ -499,7 +849,7 @@ public abstract class AutoFlushedBuffer implements Closeable {
         //fast path, avoid volatile read of consumerIndex if possible
         if (pendingDataLength >= maxChunkSize) {
             //possible auto flush required => update consumerIndexCache and buffer limit
-            consumerIndexCache = consumerIndex;
+            consumerIndexCache = readConsumerIndex();
             pendingDataLength = (int) (producerIndex - consumerIndexCache);
             updateWriteBufferLimit();
         }
@@ -545,7 +895,7 @@ public abstract class AutoFlushedBuffer implements Closeable {
 
         //no pending flush -> configure flushBuffer and trigger a new one. consumerIndex and paddingIndex are guaranteed to be stable
         //since the successful CAS is the last instruction in onFlushCompletion().
-        if ((consumerIndexCache = consumerIndex) != producerIndex) {
+        if ((consumerIndexCache = readConsumerIndex()) != producerIndex) {
             //real flush
             configureFlushBuffer(consumerIndexCache, producerIndex);
             final long nextFlushIndex = nextFlushIndex(consumerIndexCache);
@@ -555,6 +905,13 @@ public abstract class AutoFlushedBuffer implements Closeable {
         updateWriteBufferLimit();
     }
 
+    //the consumer index seen by the producer thread : after a grow, the flushing logic may still be in the previous buffer
+    //but the new one only contains the data copied from startIndex
+    private long readConsumerIndex() {
+        final long currentConsumerIndex = consumerIndex;
+        return currentConsumerIndex < consumerBase ? consumerBase : currentConsumerIndex;
+    }
+
     private long nextFlushIndex(final long lastFlushIndex) {
         long nextFlushIndex = producerIndex;
         if (producerIndex > lastFlushIndex + maxChunkSize && (producerIndex & bufferSize - 1) != 0) {
@@ -566,7 +923,7 @@ public abstract class AutoFlushedBuffer implements Closeable {
     }
 
     private void configureFlushBuffer(final long currentConsumerIndex, final long flushUpToIndex) {
-        final int sizeMask = bufferSize - 1;
+        final int sizeMask = flushBufferSize - 1;
         long endOfBufferIndex = (currentConsumerIndex | sizeMask) + 1;
         //reading paddingIndex is not a dirty read since we read earlier than we should flush up to next buffer iteration
         if (flushUpToIndex >= endOfBufferIndex && paddingIndex != 0) {
@@ -579,4 +936,23 @@ public abstract class AutoFlushedBuffer implements Closeable {
         flushBuffer.position((int) currentConsumerIndex & sizeMask);
         flushBuffer.limit(1 + ((int) (endIndex - 1) & sizeMask));
     }
+
+    private static final class BufferSwitch {
+
+        private final ByteBuffer previousBuffer;
+        private final long previousFlushIndex; // the end of the data flushed from the previous buffer
+        private final ByteBuffer flushBuffer;
+        private final int bufferSize;
+        private final long startIndex; // the index of the first byte of the new buffer
+
+        private BufferSwitch(final ByteBuffer previousBuffer, final long previousFlushIndex, final ByteBuffer flushBuffer,
+                final int bufferSize, final long startIndex) {
+            this.previousBuffer = previousBuffer;
+            this.previousFlushIndex = previousFlushIndex;
+            this.flushBuffer = flushBuffer;
+            this.bufferSize = bufferSize;
+            this.startIndex = startIndex;
+        }
+    }
+
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of power of 2 sized {@link ByteBuffer}, shared by the {@link AutoFlushedBuffer} instances that
+ * grow and shrink their underlying buffer depending on their usage.<br>
+ * Released buffers are kept for reuse until the configured amount of retained bytes is reached, the
+ * next ones are left to the garbage collector.<br>
+ * This class is thread-safe, the occupancy of the pool can be observed by any thread.
+ */
+public class ByteBufferPool {
+
+    private final int minBufferSize;
+    private final int maxBufferSize;
+    private final boolean useDirectBuffer;
+    private final long maxRetainedBytes;
+    private final long shrinkDelayNanos;
+
+    // one queue per size class, from minBufferSize to maxBufferSize
+    private final Queue<ByteBuffer>[] freeBuffers;
+
+    private final AtomicLong leasedBytes = new AtomicLong();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final AtomicLong allocationCount = new AtomicLong();
+    private final AtomicLong reuseCount = new AtomicLong();
+
+    /**
+     * @param minBufferSize     the initial size of the buffers. Must be a power of 2
+     * @param maxBufferSize     the maximum size a buffer can grow to. Must be a power of 2 and greater than
+     *                          {@code minBufferSize}
+     * @param useDirectBuffer   should the buffers be allocated off heap
+     * @param maxRetainedBytes  the maximum number of bytes kept in the pool for reuse
+     * @param shrinkDelayMillis the time a grown buffer must spend without being full before being shrunk
+     */
+    public ByteBufferPool(final int minBufferSize, final int maxBufferSize, final boolean useDirectBuffer, final long maxRetainedBytes,
+            final long shrinkDelayMillis) {
+        if ((minBufferSize & minBufferSize - 1) != 0 || (maxBufferSize & maxBufferSize - 1) != 0) {
+            throw new IllegalArgumentException("minBufferSize and maxBufferSize must be a power of 2");
+        }
+        if (minBufferSize <= 0 || maxBufferSize < minBufferSize) {
+            throw new IllegalArgumentException("maxBufferSize must be greater than minBufferSize");
+        }
+        this.minBufferSize = minBufferSize;
+        this.maxBufferSize = maxBufferSize;
+        this.useDirectBuffer = useDirectBuffer;
+        this.maxRetainedBytes = maxRetainedBytes;
+        this.shrinkDelayNanos = TimeUnit.MILLISECONDS.toNanos(shrinkDelayMillis);
+        freeBuffers = newQueues(sizeClass(maxBufferSize) + 1);
+        for (int i = 0; i < freeBuffers.length; i++) {
+            freeBuffers[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Gets a cleared buffer from the pool, or allocates a new one if there is no free buffer of that
+     * size
+     *
+     * @param size the capacity of the buffer, a power of 2 between the min and the max buffer size
+     * @return the buffer
+     */
+    public ByteBuffer acquire(final int size) {
+        ByteBuffer buffer = freeBuffers[sizeClass(size)].poll();
+        if (buffer != null) {
+            retainedBytes.addAndGet(-size);
+            reuseCount.incrementAndGet();
+            buffer.clear();
+        } else {
+            buffer = useDirectBuffer ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+            allocationCount.incrementAndGet();
+        }
+        leasedBytes.addAndGet(size);
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the pool. The buffer must have been acquired from this pool and must not
+     * be used anymore
+     *
+     * @param buffer the buffer
+     */
+    public void release(final ByteBuffer buffer) {
+        final int size = buffer.capacity();
+        leasedBytes.addAndGet(-size);
+        if (retainedBytes.addAndGet(size) <= maxRetainedBytes) {
+            freeBuffers[sizeClass(size)].offer(buffer);
+        } else {
+            retainedBytes.addAndGet(-size);
+        }
+    }
+
+    /**
+     * Forgets a buffer acquired from this pool, without reusing it. Used when the buffer may still be
+     * in use, it is left to the garbage collector
+     *
+     * @param buffer the buffer
+     */
+    public void discard(final ByteBuffer buffer) {
+        leasedBytes.addAndGet(-buffer.capacity());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Queue<T>[] newQueues(final int length) {
+        return (Queue<T>[]) new Queue<?>[length];
+    }
+
+    private int sizeClass(final int size) {
+        if ((size & size - 1) != 0 || size < minBufferSize || size > maxBufferSize) {
+            throw new IllegalArgumentException("Buffer size must be a power of 2 between " + minBufferSize + " and " + maxBufferSize);
+        }
+        return Integer.numberOfTrailingZeros(size) - Integer.numberOfTrailingZeros(minBufferSize);
+    }
+
+    public int getMinBufferSize() {
+        return minBufferSize;
+    }
+
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    public long getShrinkDelayNanos() {
+        return shrinkDelayNanos;
+    }
+
+    /**
+     * @return the number of bytes currently used by the buffers acquired from the pool
+     */
+    public long getLeasedBytes() {
+        return leasedBytes.get();
+    }
+
+    /**
+     * @return the number of bytes currently kept in the pool for reuse
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    /**
+     * @return the number of buffers allocated because there was no free buffer of the requested size
+     */
+    public long getAllocationCount() {
+        return allocationCount.get();
+    }
+
+    /**
+     * @return the number of buffers reused from the pool
+     */
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferPool [leasedBytes=" + leasedBytes + ", retainedBytes=" + retainedBytes + ", allocationCount=" + allocationCount
+                + ", reuseCount=" + reuseCount + "]";
+    }
+
+}
@@ -32,6 +32,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -112,7 +113,7 @@ public class PScheduler {
     }
 
     private UIRunnable schedule0(final UIContext context, final Runnable runnable, final Duration duration) {
-        final UIRunnable uiRunnable = new UIRunnable(context, this, runnable, false);
+        final UIRunnable uiRunnable = new UIRunnable(context, this, runnable, false, -1);
         uiRunnable.setFuture(executor.schedule(uiRunnable, duration.toMillis(), TimeUnit.MILLISECONDS));
         registerTask(uiRunnable);
         return uiRunnable;
@@ -120,7 +121,7 @@ public class PScheduler {
 
     private UIRunnable scheduleAtFixedRate0(final UIContext context, final Runnable runnable, final Duration delay,
                                             final Duration period) {
-        final UIRunnable uiRunnable = new UIRunnable(context, this, runnable, true);
+        final UIRunnable uiRunnable = new UIRunnable(context, this, runnable, true, -1);
         uiRunnable.setFuture(executor.scheduleAtFixedRate(uiRunnable, delay.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS));
         registerTask(uiRunnable);
         return uiRunnable;
@@ -128,10 +129,9 @@ public class PScheduler {
 
     private UIRunnable scheduleWithFixedDelay0(final UIContext context, final Runnable runnable, final long delayMillis,
                                                final long periodMillis) {
-        final UIRunnable uiRunnable = new UIRunnable(context, this, runnable, true);
-        final ScheduledFuture<?> future = executor.scheduleWithFixedDelay(uiRunnable, delayMillis, periodMillis,
-            TimeUnit.MILLISECONDS);
-        uiRunnable.setFuture(future);
+        // Rescheduled at the end of each run, since the runs are queued in the UIContext
+        final UIRunnable uiRunnable = new UIRunnable(context, this, runnable, true, periodMillis);
+        uiRunnable.setFuture(executor.schedule(uiRunnable, delayMillis, TimeUnit.MILLISECONDS));
         registerTask(uiRunnable);
 
         return uiRunnable;
@@ -180,21 +180,32 @@ public class PScheduler {
         private final UIContext uiContext;
         private final boolean repeated;
         private final PScheduler scheduler;
-        private boolean cancelled;
-        private ScheduledFuture<?> future;
-
-        UIRunnable(final UIContext context, final PScheduler scheduler, final Runnable runnable, final boolean repeated) {
+        // The delay between the end of a run and the start of the next one, -1 if not scheduled with a fixed delay
+        private final long fixedDelayMillis;
+        // A run is queued in the UIContext, the next ones are not submitted until it is done
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> future;
+
+        UIRunnable(final UIContext context, final PScheduler scheduler, final Runnable runnable, final boolean repeated,
+                final long fixedDelayMillis) {
             this.uiContext = context;
             this.runnable = runnable;
             this.repeated = repeated;
             this.scheduler = scheduler;
+            this.fixedDelayMillis = fixedDelayMillis;
         }
 
         @Override
         public void run() {
             try {
                 if (cancelled) return;
-                if (!execute()) cancel();
+                if (!pending.compareAndSet(false, true)) return;
+                if (!execute()) {
+                    pending.set(false);
+                    if (uiContext.isAlive()) scheduleNextRun();
+                    else cancel();
+                }
             } catch (final Throwable throwable) {
                 log.error("Error occurred", throwable);
                 cancel();
@@ -204,7 +215,23 @@ public class PScheduler {
         }
 
         public boolean execute() {
-            return uiContext.execute(runnable);
+            return uiContext.submit(() -> {
+                try {
+                    // Cancelled while queued
+                    if (!cancelled) runnable.run();
+                } catch (final Throwable throwable) {
+                    cancel();
+                    throw throwable;
+                } finally {
+                    pending.set(false);
+                    scheduleNextRun();
+                }
+            });
+        }
+
+        private void scheduleNextRun() {
+            if (fixedDelayMillis < 0 || cancelled) return;
+            setFuture(scheduler.executor.schedule(this, fixedDelayMillis, TimeUnit.MILLISECONDS));
         }
 
         public void cancel() {
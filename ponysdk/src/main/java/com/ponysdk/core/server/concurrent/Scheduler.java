@@ -3,6 +3,7 @@ package com.ponysdk.core.server.concurrent;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -25,14 +26,28 @@ import java.util.concurrent.TimeUnit;
 public final class Scheduler {
 
 	private final ScheduledExecutorService executor;
+	// runs the contexts, the scheduled executor itself unless a dedicated one is given
+	private final ExecutorService contextExecutor;
 	private final ConcurrentLinkedQueue<SchedulingContextImpl> realtimeContexts = new ConcurrentLinkedQueue<>();
 
 	public Scheduler(final int poolSize) {
 		executor = Executors.newScheduledThreadPool(poolSize);
+		contextExecutor = executor;
 	}
 
 	public Scheduler(final int poolSize, final ThreadFactory factory) {
 		executor = Executors.newScheduledThreadPool(poolSize, factory);
+		contextExecutor = executor;
+	}
+
+	/**
+	 * Create a Scheduler running the contexts on {@code contextExecutor}, e.g. a
+	 * thread-per-task executor of virtual threads. The scheduled executor only
+	 * triggers the delayed and periodic tasks.
+	 */
+	public Scheduler(final int poolSize, final ThreadFactory factory, final ExecutorService contextExecutor) {
+		executor = Executors.newScheduledThreadPool(poolSize, factory);
+		this.contextExecutor = contextExecutor;
 	}
 
 	/**
@@ -52,6 +67,13 @@ public final class Scheduler {
 				((SchedulingContext) r).destroy();
 			}
 		}
+		if (contextExecutor != executor) {
+			for (final Runnable r : contextExecutor.shutdownNow()) {
+				if (r instanceof SchedulingContext) {
+					((SchedulingContext) r).destroy();
+				}
+			}
+		}
 
 		realtimeContexts.clear();
 	}
@@ -63,7 +85,9 @@ public final class Scheduler {
 	 * @return true if the Scheduler is terminated, false otherwise
 	 */
 	public boolean awaitTermination(final long timeoutMillis) throws InterruptedException {
-		return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS) && contextExecutor
+				.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
 	}
 
 	////////////////////////////////////////
@@ -93,7 +117,7 @@ public final class Scheduler {
 
 	void executeContext(final SchedulingContextImpl context, final boolean realtime) {
 		try {
-			executor.execute(context);
+			contextExecutor.execute(context);
 			if (realtime)
 				realtimeContexts.offer(context);
 		} catch (final RejectedExecutionException e) {
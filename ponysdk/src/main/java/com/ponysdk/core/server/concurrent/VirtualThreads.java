@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to the virtual threads of the running JVM (Java 21+), through reflection since the sources target an
+ * older release
+ */
+public final class VirtualThreads {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor",
+        ThreadFactory.class);
+
+    private static Object pinningMonitor;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return true if the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task
+     *
+     * @param name the prefix of the thread names
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String name) {
+        if (!isSupported()) throw new UnsupportedOperationException("Virtual threads require Java 21+");
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object builder = builderClass.getMethod("name", String.class, long.class).invoke(OF_VIRTUAL.invoke(null),
+                name + "-", 0L);
+            final ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+        } catch (final ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Cannot create virtual threads", e);
+        }
+    }
+
+    /**
+     * Logs a warning each time a virtual thread stays pinned to its carrier thread longer than {@code threshold},
+     * using a JFR event stream. Only the first call starts the monitor.
+     *
+     * @return true if the monitor is running
+     */
+    public static synchronized boolean startPinningMonitor(final Duration threshold) {
+        if (pinningMonitor != null) return true;
+        if (!isSupported()) return false;
+        try {
+            final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            final Object stream = streamClass.getConstructor().newInstance();
+            final Object settings = streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            final Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, threshold);
+            settingsClass.getMethod("withStackTrace").invoke(settings);
+            final Consumer<Object> onPinned = event -> log.warn("Virtual thread pinned to its carrier thread : {}", event);
+            streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, onPinned);
+            // start() blocks, run it on a daemon thread so that the monitor does not prevent the JVM from exiting
+            final Method start = streamClass.getMethod("start");
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.invoke(stream);
+                } catch (final ReflectiveOperationException e) {
+                    log.warn("Pinned virtual threads monitor stopped", e);
+                }
+            }, VirtualThreads.class.getName() + "-PinningMonitor");
+            thread.setDaemon(true);
+            thread.start();
+            pinningMonitor = stream;
+            log.info("Monitoring virtual threads pinned longer than {}", threshold);
+            return true;
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+            log.warn("Cannot monitor pinned virtual threads", e);
+            return false;
+        }
+    }
+
+    private static Method findMethod(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
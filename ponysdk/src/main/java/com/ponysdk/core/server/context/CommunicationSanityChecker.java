@@ -133,12 +133,19 @@ public class CommunicationSanityChecker {
                     if (now - suspectTime >= heartBeatPeriod) {
                         // No message have been received since we suspected the
                         // communication to be non functional
-                        log.info(
-                            "No message have been received on UIContext #{} since we suspected the communication to be non functional, context will be destroyed",
-                            uiContext.getID());
                         currentState = CommunicationState.KO;
                         stop();
-                        uiContext.disconnect();
+                        if (uiContext.isResumable()) {
+                            log.info(
+                                "No message have been received on UIContext #{} since we suspected the communication to be non functional, context will be suspended",
+                                uiContext.getID());
+                            uiContext.suspend();
+                        } else {
+                            log.info(
+                                "No message have been received on UIContext #{} since we suspected the communication to be non functional, context will be destroyed",
+                                uiContext.getID());
+                            uiContext.disconnect();
+                        }
                     }
                 } else {
                     currentState = CommunicationState.OK;
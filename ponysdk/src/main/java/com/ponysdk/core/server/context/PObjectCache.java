@@ -23,11 +23,10 @@
 
 package com.ponysdk.core.server.context;
 
-import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,32 +38,79 @@ import com.ponysdk.core.ui.basic.PWindow;
 import com.ponysdk.core.ui.basic.PWindowManager;
 import com.ponysdk.core.writer.ModelWriter;
 
+/**
+ * Weakly references the {@link PObject}s of a {@link UIContext}, indexed by object ID.
+ * <p>
+ * Object IDs are dense (see {@link UIContext#nextID()}), so the references are stored in fixed size pages addressed
+ * by {@code objectID >>> PAGE_SHIFT}. Pages are allocated on demand and released once all their objects have been
+ * collected. Lookups are lock-free and never touch the {@link ReferenceQueue} : stale entries are expunged in batch
+ * by {@link #expungeStaleEntries()}, called at the end of each transaction.
+ * <p>
+ * {@link #add(PObject)} and {@link #expungeStaleEntries()} are expected to be called while holding the
+ * {@link UIContext} lock.
+ */
 public class PObjectCache {
 
     private static final Logger log = LoggerFactory.getLogger(PObjectCache.class);
 
-    private final Map<Integer, PObjectWeakReference> referenceByObjectID = new ConcurrentHashMap<>();
+    private static final int PAGE_SHIFT = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int INITIAL_PAGE_COUNT = 4;
+
     private final ReferenceQueue<PObject> queue = new ReferenceQueue<>();
 
+    private volatile Page[] pages = new Page[INITIAL_PAGE_COUNT];
+    private int size;
+
     public PObject add(final PObject pObject) {
-        expungeStaleEntries();
         final PObjectWeakReference weakReference = new PObjectWeakReference(pObject, queue);
-        referenceByObjectID.put(weakReference.getObjectID(), weakReference);
+        final int objectID = weakReference.getObjectID();
+        if (objectID < 0) throw new IllegalArgumentException("Invalid object ID : " + objectID);
+
+        final int pageIndex = objectID >>> PAGE_SHIFT;
+        Page[] pages = this.pages;
+        if (pageIndex >= pages.length) {
+            pages = Arrays.copyOf(pages, Math.max(pages.length << 1, pageIndex + 1));
+            this.pages = pages;
+        }
+        Page page = pages[pageIndex];
+        if (page == null) {
+            page = new Page();
+            pages[pageIndex] = page;
+            this.pages = pages; // Publishes the new page
+        }
+        if (page.references.getAndSet(objectID & PAGE_MASK, weakReference) == null) {
+            page.count++;
+            size++;
+        }
         if (log.isDebugEnabled()) log.debug("Registering object: {}", pObject);
         return pObject;
     }
 
     public PObject get(final int objectID) {
-        expungeStaleEntries();
-        final Reference<PObject> value = referenceByObjectID.get(objectID);
+        if (objectID < 0) return null;
+        final Page[] pages = this.pages;
+        final int pageIndex = objectID >>> PAGE_SHIFT;
+        if (pageIndex >= pages.length) return null;
+        final Page page = pages[pageIndex];
+        if (page == null) return null;
+        final PObjectWeakReference value = page.references.get(objectID & PAGE_MASK);
         return value != null ? value.get() : null;
     }
 
-    private void expungeStaleEntries() {
+    /**
+     * Removes the entries of all the collected {@link PObject}s and notifies the terminal
+     *
+     * @return the number of removed entries
+     */
+    public int expungeStaleEntries() {
+        int expunged = 0;
         PObjectWeakReference reference;
         while ((reference = (PObjectWeakReference) queue.poll()) != null) {
             final int objectID = reference.getObjectID();
-            referenceByObjectID.remove(objectID);
+            if (!remove(objectID, reference)) continue;
+            expunged++;
 
             final int windowID = reference.getWindowID();
             final int frameID = reference.getFrameID();
@@ -79,6 +125,34 @@ public class PObjectCache {
                 writer.endObject();
             }
         }
+        return expunged;
+    }
+
+    private boolean remove(final int objectID, final PObjectWeakReference reference) {
+        final Page[] pages = this.pages;
+        final int pageIndex = objectID >>> PAGE_SHIFT;
+        final Page page = pages[pageIndex];
+        if (page == null || !page.references.compareAndSet(objectID & PAGE_MASK, reference, null)) return false;
+        size--;
+        if (--page.count == 0) {
+            pages[pageIndex] = null;
+            this.pages = pages; // Publishes the released page
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of registered objects, including the collected ones that are not yet expunged
+     */
+    public int size() {
+        return size;
+    }
+
+    private static final class Page {
+
+        private final AtomicReferenceArray<PObjectWeakReference> references = new AtomicReferenceArray<>(PAGE_SIZE);
+        private int count;
+
     }
 
     private static class PObjectWeakReference extends WeakReference<PObject> {
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import com.ponysdk.core.server.application.UIContext;
+import com.ponysdk.core.server.servlet.SessionManager;
+
+/**
+ * The metrics of all the UIContexts, merged only when they are read so the sessions don't share anything
+ * while recording
+ */
+public class AggregatedMetrics implements AggregatedMetricsMXBean {
+
+    private final Supplier<Collection<SessionMetrics>> sessions;
+
+    /**
+     * Aggregates the UIContexts of all the applications of the {@link SessionManager}
+     */
+    public AggregatedMetrics() {
+        this(() -> SessionManager.get().getApplications().stream().flatMap(application -> application.getUIContexts().stream())
+            .map(UIContext::getMetrics).collect(Collectors.toList()));
+    }
+
+    public AggregatedMetrics(final Supplier<Collection<SessionMetrics>> sessions) {
+        this.sessions = sessions;
+    }
+
+    @Override
+    public int getSessionCount() {
+        return sessions.get().size();
+    }
+
+    @Override
+    public LatencySnapshot getRoundtripLatency() {
+        return merge(SessionMetrics.HIGHEST_TRACKABLE_LATENCY, SessionMetrics::getRoundtripLatencyHistogram);
+    }
+
+    @Override
+    public LatencySnapshot getNetworkLatency() {
+        return merge(SessionMetrics.HIGHEST_TRACKABLE_LATENCY, SessionMetrics::getNetworkLatencyHistogram);
+    }
+
+    @Override
+    public LatencySnapshot getTerminalLatency() {
+        return merge(SessionMetrics.HIGHEST_TRACKABLE_LATENCY, SessionMetrics::getTerminalLatencyHistogram);
+    }
+
+    @Override
+    public LatencySnapshot getCommitTime() {
+        return merge(SessionMetrics.HIGHEST_TRACKABLE_DURATION, SessionMetrics::getCommitTimeHistogram);
+    }
+
+    @Override
+    public LatencySnapshot getFlushLatency() {
+        return merge(SessionMetrics.HIGHEST_TRACKABLE_DURATION, SessionMetrics::getFlushLatencyHistogram);
+    }
+
+    @Override
+    public long getQueuedTasks() {
+        return sum(SessionMetrics::getQueuedTasks);
+    }
+
+    @Override
+    public long getPendingFlushSize() {
+        return sum(SessionMetrics::getPendingFlushSize);
+    }
+
+    @Override
+    public long getReceivedMessageCount() {
+        return sum(SessionMetrics::getReceivedMessageCount);
+    }
+
+    @Override
+    public double getReceivedMessageRate() {
+        return sumRates(SessionMetrics::getReceivedMessageRate);
+    }
+
+    @Override
+    public long getSentMessageCount() {
+        return sum(SessionMetrics::getSentMessageCount);
+    }
+
+    @Override
+    public double getSentMessageRate() {
+        return sumRates(SessionMetrics::getSentMessageRate);
+    }
+
+    @Override
+    public long getReceivedInstructionCount() {
+        return sum(SessionMetrics::getReceivedInstructionCount);
+    }
+
+    @Override
+    public long getSentInstructionCount() {
+        return sum(SessionMetrics::getSentInstructionCount);
+    }
+
+    private LatencySnapshot merge(final long highestTrackableValue, final Function<SessionMetrics, LatencyHistogram> histogram) {
+        final LatencyHistogram merged = new LatencyHistogram(highestTrackableValue);
+        for (final SessionMetrics session : sessions.get()) {
+            merged.add(histogram.apply(session));
+        }
+        return merged.getSnapshot();
+    }
+
+    private long sum(final ToLongFunction<SessionMetrics> value) {
+        return sessions.get().stream().mapToLong(value).sum();
+    }
+
+    private double sumRates(final ToDoubleFunction<SessionMetrics> rate) {
+        return sessions.get().stream().mapToDouble(rate).sum();
+    }
+
+}
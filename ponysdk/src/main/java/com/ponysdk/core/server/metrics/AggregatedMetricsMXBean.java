@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+/**
+ * The metrics of all the UIContexts exposed through JMX. The latencies are in milliseconds and the durations in
+ * microseconds.
+ *
+ * @see SessionMetricsMXBean
+ */
+public interface AggregatedMetricsMXBean {
+
+    int getSessionCount();
+
+    LatencySnapshot getRoundtripLatency();
+
+    LatencySnapshot getNetworkLatency();
+
+    LatencySnapshot getTerminalLatency();
+
+    LatencySnapshot getCommitTime();
+
+    LatencySnapshot getFlushLatency();
+
+    long getQueuedTasks();
+
+    long getPendingFlushSize();
+
+    long getReceivedMessageCount();
+
+    double getReceivedMessageRate();
+
+    long getSentMessageCount();
+
+    double getSentMessageRate();
+
+    long getReceivedInstructionCount();
+
+    long getSentInstructionCount();
+
+}
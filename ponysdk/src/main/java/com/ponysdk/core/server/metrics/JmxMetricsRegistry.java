@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registers an MXBean for each UIContext, named {@code com.ponysdk:type=UIContext,id=<ID>}, and the aggregate of all
+ * the UIContexts, named {@code com.ponysdk:type=UIContexts}
+ */
+public class JmxMetricsRegistry implements MetricsRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(JmxMetricsRegistry.class);
+
+    public static final String DOMAIN = "com.ponysdk";
+    public static final String AGGREGATE_NAME = DOMAIN + ":type=UIContexts";
+
+    private final MBeanServer server;
+
+    public JmxMetricsRegistry() {
+        this(ManagementFactory.getPlatformMBeanServer(), new AggregatedMetrics());
+    }
+
+    public JmxMetricsRegistry(final MBeanServer server, final AggregatedMetrics aggregatedMetrics) {
+        this.server = server;
+        try {
+            server.registerMBean(aggregatedMetrics, new ObjectName(AGGREGATE_NAME));
+        } catch (final InstanceAlreadyExistsException e) {
+            log.debug("The aggregated metrics are already registered by another application");
+        } catch (final JMException e) {
+            log.error("Cannot register the aggregated metrics", e);
+        }
+    }
+
+    @Override
+    public void register(final SessionMetrics metrics) {
+        try {
+            server.registerMBean(metrics, getObjectName(metrics));
+        } catch (final JMException e) {
+            log.error("Cannot register the metrics of UIContext #{}", metrics.getUIContextID(), e);
+        }
+    }
+
+    @Override
+    public void unregister(final SessionMetrics metrics) {
+        try {
+            server.unregisterMBean(getObjectName(metrics));
+        } catch (final InstanceNotFoundException e) {
+            log.debug("The metrics of UIContext #{} are not registered", metrics.getUIContextID());
+        } catch (final JMException e) {
+            log.error("Cannot unregister the metrics of UIContext #{}", metrics.getUIContextID(), e);
+        }
+    }
+
+    public static ObjectName getObjectName(final SessionMetrics metrics) throws MalformedObjectNameException {
+        return new ObjectName(DOMAIN + ":type=UIContext,id=" + metrics.getUIContextID());
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies. Like HdrHistogram, the width of the buckets grows exponentially, so the values
+ * are recorded with a relative error lower than 1 / {@link #SUB_BUCKET_COUNT} whatever their magnitude, and the
+ * percentiles show the tail that an average hides.
+ * Negative values are counted as 0 and the values above the highest trackable value are counted as the highest
+ * trackable value, but the mean and the maximum use the real values.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    // The counts at the previous interval snapshot, guarded by this
+    private long[] intervalCounts;
+    private long intervalSum;
+    private long intervalTotalCount;
+
+    /**
+     * @param highestTrackableValue The highest value with its own bucket, the size of the histogram is proportional
+     *            to its logarithm
+     */
+    public LatencyHistogram(final long highestTrackableValue) {
+        if (highestTrackableValue < 2 * SUB_BUCKET_COUNT) {
+            throw new IllegalArgumentException("Highest trackable value too low : " + highestTrackableValue);
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.counts = new AtomicLongArray(indexOf(highestTrackableValue) + 1);
+    }
+
+    public void record(final long value) {
+        counts.incrementAndGet(indexOf(Math.min(Math.max(value, 0), highestTrackableValue)));
+        sum.addAndGet(value);
+        totalCount.incrementAndGet();
+        long currentMax;
+        while (value > (currentMax = max.get()) && !max.compareAndSet(currentMax, value)) {
+            // Retry
+        }
+    }
+
+    /**
+     * Adds the values recorded by another histogram, to aggregate the histograms of several sessions
+     */
+    public void add(final LatencyHistogram histogram) {
+        if (histogram.highestTrackableValue != highestTrackableValue) {
+            throw new IllegalArgumentException("Incompatible histograms : highest trackable values " + highestTrackableValue
+                    + " and " + histogram.highestTrackableValue);
+        }
+        for (int i = 0; i < counts.length(); i++) {
+            final long count = histogram.counts.get(i);
+            if (count != 0) counts.addAndGet(i, count);
+        }
+        sum.addAndGet(histogram.sum.get());
+        totalCount.addAndGet(histogram.totalCount.get());
+        final long histogramMax = histogram.max.get();
+        long currentMax;
+        while (histogramMax > (currentMax = max.get()) && !max.compareAndSet(currentMax, histogramMax)) {
+            // Retry
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    /**
+     * @return the mean, the maximum and the main percentiles of the recorded values
+     */
+    public LatencySnapshot getSnapshot() {
+        final long[] snapshot = new long[counts.length()];
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) return LatencySnapshot.EMPTY;
+
+        final long recordedCount = totalCount.get();
+        return newSnapshot(snapshot, count, recordedCount == 0 ? 0 : (double) sum.get() / recordedCount, max.get());
+    }
+
+    /**
+     * The histogram is never reset, so {@link #getSnapshot()} covers the whole life of the histogram. This snapshot
+     * only covers the values recorded since the previous call, to follow the latencies over time. The maximum of the
+     * interval is the highest value of its highest bucket.
+     *
+     * @return the mean, the maximum and the main percentiles of the values recorded since the previous call
+     */
+    public synchronized LatencySnapshot getIntervalSnapshot() {
+        if (intervalCounts == null) intervalCounts = new long[counts.length()];
+        final long[] snapshot = new long[counts.length()];
+        long count = 0;
+        int highestIndex = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            final long currentCount = counts.get(i);
+            snapshot[i] = currentCount - intervalCounts[i];
+            intervalCounts[i] = currentCount;
+            if (snapshot[i] != 0) {
+                count += snapshot[i];
+                highestIndex = i;
+            }
+        }
+        final long currentSum = sum.get();
+        final long currentTotalCount = totalCount.get();
+        final long recordedSum = currentSum - intervalSum;
+        final long recordedCount = currentTotalCount - intervalTotalCount;
+        intervalSum = currentSum;
+        intervalTotalCount = currentTotalCount;
+        if (count == 0) return LatencySnapshot.EMPTY;
+
+        return newSnapshot(snapshot, count, recordedCount == 0 ? 0 : (double) recordedSum / recordedCount,
+            Math.min(highestValueAt(highestIndex), max.get()));
+    }
+
+    private static LatencySnapshot newSnapshot(final long[] snapshot, final long count, final double mean, final long max) {
+        return new LatencySnapshot(count, mean, max, getValueAtPercentile(snapshot, count, 50, max),
+            getValueAtPercentile(snapshot, count, 90, max), getValueAtPercentile(snapshot, count, 99, max),
+            getValueAtPercentile(snapshot, count, 99.9, max));
+    }
+
+    private static long getValueAtPercentile(final long[] snapshot, final long count, final double percentile, final long max) {
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            cumulativeCount += snapshot[i];
+            if (cumulativeCount >= rank) return Math.min(highestValueAt(i), max);
+        }
+        return max;
+    }
+
+    static int indexOf(final long value) {
+        final int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long lowestValueAt(final int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) return index;
+        final int shift = (index >> SUB_BUCKET_BITS) - 1;
+        return (long) (index - (shift << SUB_BUCKET_BITS)) << shift;
+    }
+
+    static long highestValueAt(final int index) {
+        return lowestValueAt(index + 1) - 1;
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter that also gives its rate per second. The rate is computed when it is read, over the time elapsed since
+ * the previous computation, so counting only costs a {@link LongAdder} increment.
+ */
+final class RateCounter {
+
+    private static final long MIN_RATE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongAdder count = new LongAdder();
+
+    private long lastCount;
+    private long lastTime = System.nanoTime();
+    private double rate;
+
+    void increment() {
+        count.increment();
+    }
+
+    void add(final long value) {
+        count.add(value);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the number of events per second since the previous computation, at least one second ago
+     */
+    synchronized double getRate() {
+        final long now = System.nanoTime();
+        final long elapsed = now - lastTime;
+        if (elapsed >= MIN_RATE_INTERVAL) {
+            final long currentCount = count.sum();
+            rate = (double) (currentCount - lastCount) * TimeUnit.SECONDS.toNanos(1) / elapsed;
+            lastCount = currentCount;
+            lastTime = now;
+        }
+        return rate;
+    }
+
+}
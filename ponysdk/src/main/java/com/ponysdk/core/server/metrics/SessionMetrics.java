@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * The metrics of a UIContext : the histograms of its latencies, the counters of its messages and instructions, and
+ * the gauges of its queues. Recording is lock-free and can be done by any thread.
+ */
+public final class SessionMetrics implements SessionMetricsMXBean {
+
+    /**
+     * About 17 minutes
+     */
+    public static final long HIGHEST_TRACKABLE_LATENCY = 1L << 20;
+    /**
+     * About 18 minutes
+     */
+    public static final long HIGHEST_TRACKABLE_DURATION = 1L << 30;
+
+    private final int uiContextID;
+
+    private final LatencyHistogram roundtripLatency = new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY);
+    private final LatencyHistogram networkLatency = new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY);
+    private final LatencyHistogram terminalLatency = new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY);
+    private final LatencyHistogram commitTime = new LatencyHistogram(HIGHEST_TRACKABLE_DURATION);
+    private final LatencyHistogram flushLatency = new LatencyHistogram(HIGHEST_TRACKABLE_DURATION);
+
+    private final RateCounter receivedMessages = new RateCounter();
+    private final RateCounter sentMessages = new RateCounter();
+    private final RateCounter receivedInstructions = new RateCounter();
+    private final RateCounter sentInstructions = new RateCounter();
+
+    private final IntSupplier queuedTasks;
+    private final IntSupplier pendingFlushSize;
+
+    /**
+     * @param queuedTasks      the gauge of the tasks waiting to be executed in the UIContext
+     * @param pendingFlushSize the gauge of the bytes flushed but not yet written on the WebSocket
+     */
+    public SessionMetrics(final int uiContextID, final IntSupplier queuedTasks, final IntSupplier pendingFlushSize) {
+        this.uiContextID = uiContextID;
+        this.queuedTasks = queuedTasks;
+        this.pendingFlushSize = pendingFlushSize;
+    }
+
+    public void recordRoundtripLatency(final long millis) {
+        roundtripLatency.record(millis);
+    }
+
+    public void recordNetworkLatency(final long millis) {
+        networkLatency.record(millis);
+    }
+
+    public void recordTerminalLatency(final long millis) {
+        terminalLatency.record(millis);
+    }
+
+    public void recordCommitTime(final long nanos) {
+        commitTime.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void recordFlushLatency(final long nanos) {
+        flushLatency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public void onMessageReceived() {
+        receivedMessages.increment();
+    }
+
+    public void onMessageSent() {
+        sentMessages.increment();
+    }
+
+    public void onInstructionsReceived(final int count) {
+        receivedInstructions.add(count);
+    }
+
+    public void onInstructionSent() {
+        sentInstructions.increment();
+    }
+
+    public LatencyHistogram getRoundtripLatencyHistogram() {
+        return roundtripLatency;
+    }
+
+    public LatencyHistogram getNetworkLatencyHistogram() {
+        return networkLatency;
+    }
+
+    public LatencyHistogram getTerminalLatencyHistogram() {
+        return terminalLatency;
+    }
+
+    public LatencyHistogram getCommitTimeHistogram() {
+        return commitTime;
+    }
+
+    public LatencyHistogram getFlushLatencyHistogram() {
+        return flushLatency;
+    }
+
+    @Override
+    public int getUIContextID() {
+        return uiContextID;
+    }
+
+    @Override
+    public LatencySnapshot getRoundtripLatency() {
+        return roundtripLatency.getSnapshot();
+    }
+
+    @Override
+    public LatencySnapshot getNetworkLatency() {
+        return networkLatency.getSnapshot();
+    }
+
+    @Override
+    public LatencySnapshot getTerminalLatency() {
+        return terminalLatency.getSnapshot();
+    }
+
+    @Override
+    public LatencySnapshot getCommitTime() {
+        return commitTime.getSnapshot();
+    }
+
+    @Override
+    public LatencySnapshot getFlushLatency() {
+        return flushLatency.getSnapshot();
+    }
+
+    @Override
+    public int getQueuedTasks() {
+        return queuedTasks.getAsInt();
+    }
+
+    @Override
+    public int getPendingFlushSize() {
+        return pendingFlushSize.getAsInt();
+    }
+
+    @Override
+    public long getReceivedMessageCount() {
+        return receivedMessages.getCount();
+    }
+
+    @Override
+    public double getReceivedMessageRate() {
+        return receivedMessages.getRate();
+    }
+
+    @Override
+    public long getSentMessageCount() {
+        return sentMessages.getCount();
+    }
+
+    @Override
+    public double getSentMessageRate() {
+        return sentMessages.getRate();
+    }
+
+    @Override
+    public long getReceivedInstructionCount() {
+        return receivedInstructions.getCount();
+    }
+
+    @Override
+    public long getSentInstructionCount() {
+        return sentInstructions.getCount();
+    }
+
+    @Override
+    public String toString() {
+        return "SessionMetrics [uiContextID=" + uiContextID + "]";
+    }
+
+}
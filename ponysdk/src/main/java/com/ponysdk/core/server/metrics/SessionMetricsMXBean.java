@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+/**
+ * The metrics of a UIContext exposed through JMX. The latencies are in milliseconds and the durations in
+ * microseconds. The latency snapshots cover the whole life of the session, the snapshots of an interval are given
+ * by {@link LatencyHistogram#getIntervalSnapshot()} on the histograms of {@link SessionMetrics}.
+ */
+public interface SessionMetricsMXBean {
+
+    int getUIContextID();
+
+    LatencySnapshot getRoundtripLatency();
+
+    LatencySnapshot getNetworkLatency();
+
+    LatencySnapshot getTerminalLatency();
+
+    /**
+     * @return the time spent to commit the transactions, i.e. to write and flush their instructions
+     */
+    LatencySnapshot getCommitTime();
+
+    /**
+     * @return the time between a flush of the WebSocket buffer and the acknowledgment of its write
+     */
+    LatencySnapshot getFlushLatency();
+
+    int getQueuedTasks();
+
+    int getPendingFlushSize();
+
+    long getReceivedMessageCount();
+
+    double getReceivedMessageRate();
+
+    long getSentMessageCount();
+
+    double getSentMessageRate();
+
+    long getReceivedInstructionCount();
+
+    long getSentInstructionCount();
+
+}
@@ -65,7 +65,7 @@ public class AjaxServlet extends HttpServlet {
             final UIContext uiContext = SessionManager.get().getUIContext(uiContextID);
             if (uiContext != null) {
                 final Integer objectID = Integer.parseInt(req.getHeader(ClientToServerModel.OBJECT_ID.name()));
-                uiContext.execute(() -> {
+                uiContext.executeAndWait(() -> {
                     try {
                         final PObject pObject = uiContext.getObject(objectID);
                         pObject.handleAjaxRequest(req, resp);
@@ -30,16 +30,21 @@ import org.slf4j.LoggerFactory;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BootstrapServlet extends HttpServlet {
 
@@ -53,12 +58,24 @@ public class BootstrapServlet extends HttpServlet {
 
     private static final Logger log = LoggerFactory.getLogger(BootstrapServlet.class);
 
+    // The methods building index.html, a subclass overriding one of them may generate it per request
+    private static final Set<String> INDEX_HTML_BUILDERS = Set.of("buildIndexHTML", "addHeader", "addTitle", "addMeta",
+        "addStyle", "addScript", "addToBody", "addHistoryIFrame", "addLoading", "addNoScript");
+
     protected ApplicationConfiguration configuration;
 
     protected String rootPath = "";
 
     private ClassLoader childClassLoader;
 
+    // Bigger resources are read for each request
+    private int maxCachedResourceSize = 1 << 24;
+    private boolean resourceCacheEnabled = true;
+    private final Map<String, CachedResource> resources = new ConcurrentHashMap<>();
+    private volatile CachedResource indexHTML;
+    private final long startTime = System.currentTimeMillis();
+    private final boolean indexHTMLBuiltPerRequest = overridesIndexHTMLBuilders();
+
     public BootstrapServlet() {
     }
 
@@ -112,37 +129,109 @@ public class BootstrapServlet extends HttpServlet {
         // TODO Verify if needed
         request.getSession();
 
-        final InputStream inputStream = getInputStreamFromPath(path);
+        final CachedResource cachedResource = resources.get(path);
+        if (cachedResource != null) {
+            cachedResource.send(request, response);
+            return;
+        }
 
         final String mimeType = getServletContext().getMimeType(path);
-        response.setContentType(mimeType);
+        final InputStream inputStream = getInputStreamFromPath(path);
 
         if (inputStream != null) {
-            try (ReadableByteChannel inputChannel = Channels.newChannel(inputStream);
-                    WritableByteChannel outputChannel = Channels.newChannel(response.getOutputStream())) {
-                final ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 1024);
-                while (inputChannel.read(buffer) != -1) {
-                    buffer.flip();
-                    outputChannel.write(buffer);
-                    response.getOutputStream().flush();
-                    buffer.compact();
+            if (resourceCacheEnabled) {
+                final ByteArrayOutputStream content = new ByteArrayOutputStream();
+                if (readAtMost(inputStream, content, maxCachedResourceSize)) {
+                    inputStream.close();
+                    final CachedResource resource = new CachedResource(path, content.toByteArray(), mimeType, startTime);
+                    final CachedResource previousResource = resources.putIfAbsent(path, resource);
+                    (previousResource != null ? previousResource : resource).send(request, response);
+                } else {
+                    // Too big to be kept in memory, send the bytes already read and stream the rest
+                    stream(new SequenceInputStream(new ByteArrayInputStream(content.toByteArray()), inputStream), mimeType,
+                        response);
                 }
-                buffer.flip();
-                while (buffer.hasRemaining()) {
-                    outputChannel.write(buffer);
+            } else {
+                stream(inputStream, mimeType, response);
+            }
+        } else if (path.equals(INDEX_URL)) {
+            final CachedResource cachedIndexHTML = indexHTML;
+            if (cachedIndexHTML != null) {
+                cachedIndexHTML.send(request, response);
+                return;
+            }
+            final byte[] content = buildIndexHTML(request).getBytes(StandardCharsets.UTF_8);
+            if (resourceCacheEnabled && isIndexHTMLCacheable()) {
+                final CachedResource resource = new CachedResource(path, content, mimeType, System.currentTimeMillis());
+                indexHTML = resource;
+                resource.send(request, response);
+            } else {
+                response.setContentType(mimeType);
+                try (final WritableByteChannel outputChannel = Channels.newChannel(response.getOutputStream())) {
+                    outputChannel.write(ByteBuffer.wrap(content));
                 }
             }
         } else {
-            if (path.equals(INDEX_URL)) {
-                try (final WritableByteChannel outputChannel = Channels.newChannel(response.getOutputStream())) {
-                    final ByteBuffer buffer = ByteBuffer.wrap(buildIndexHTML(request).getBytes(Charset.forName("UTF8")));
-                    outputChannel.write(buffer);
+            response.setContentType(mimeType);
+            log.error("Failed to load resource: {}", request.getPathInfo());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    /**
+     * @return true if the whole stream has been read, false if it is bigger than the given size
+     */
+    private static boolean readAtMost(final InputStream inputStream, final ByteArrayOutputStream content, final int maxSize)
+            throws IOException {
+        final byte[] buffer = new byte[16 * 1024];
+        int read;
+        while ((read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, maxSize + 1L - content.size()))) != -1) {
+            content.write(buffer, 0, read);
+            if (content.size() > maxSize) return false;
+        }
+        return true;
+    }
+
+    private static void stream(final InputStream inputStream, final String mimeType, final HttpServletResponse response)
+            throws IOException {
+        response.setContentType(mimeType);
+        try (ReadableByteChannel inputChannel = Channels.newChannel(inputStream);
+                WritableByteChannel outputChannel = Channels.newChannel(response.getOutputStream())) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(16 * 1024);
+            while (inputChannel.read(buffer) != -1) {
+                buffer.flip();
+                outputChannel.write(buffer);
+                response.getOutputStream().flush();
+                buffer.compact();
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                outputChannel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * The generated index.html is cached unless a subclass overrides one of the methods building it from the
+     * request, override this method to cache it anyway
+     *
+     * @return true if the generated index.html does not depend on the request, so it is only built once
+     */
+    protected boolean isIndexHTMLCacheable() {
+        return !indexHTMLBuiltPerRequest;
+    }
+
+    private boolean overridesIndexHTMLBuilders() {
+        for (Class<?> type = getClass(); type != BootstrapServlet.class; type = type.getSuperclass()) {
+            for (final Method method : type.getDeclaredMethods()) {
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length == 1 && parameterTypes[0] == HttpServletRequest.class
+                        && INDEX_HTML_BUILDERS.contains(method.getName())) {
+                    return true;
                 }
-            } else {
-                log.error("Failed to load resource: {}", request.getPathInfo());
-                response.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
         }
+        return false;
     }
 
     public InputStream getInputStreamFromPath(final String path) {
@@ -283,6 +372,7 @@ public class BootstrapServlet extends HttpServlet {
 
     public void setConfiguration(final ApplicationConfiguration configuration) {
         this.configuration = configuration;
+        indexHTML = null;
     }
 
     /**
@@ -295,5 +385,38 @@ public class BootstrapServlet extends HttpServlet {
 
     public void setRootPath(final String rootPath) {
         this.rootPath = rootPath;
+        indexHTML = null;
+    }
+
+    /**
+     * The resources are loaded once in memory with their gzip variant, disable the cache if they can change while
+     * the server is running
+     *
+     * @param resourceCacheEnabled the resourceCacheEnabled to set
+     */
+    public void setResourceCacheEnabled(final boolean resourceCacheEnabled) {
+        this.resourceCacheEnabled = resourceCacheEnabled;
+        clearResourceCache();
+    }
+
+    /**
+     * @param maxCachedResourceSize the size in bytes above which a resource is not kept in memory
+     */
+    public void setMaxCachedResourceSize(final int maxCachedResourceSize) {
+        this.maxCachedResourceSize = maxCachedResourceSize;
+    }
+
+    public void clearResourceCache() {
+        resources.clear();
+        indexHTML = null;
+    }
+
+    /**
+     * @return the number of bytes kept in memory by the resource cache
+     */
+    public long getResourceCacheSize() {
+        final CachedResource cachedIndexHTML = indexHTML;
+        return resources.values().stream().mapToLong(CachedResource::getSize).sum()
+                + (cachedIndexHTML != null ? cachedIndexHTML.getSize() : 0);
     }
 }
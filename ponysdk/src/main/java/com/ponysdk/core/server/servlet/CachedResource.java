@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.HttpOutput;
+
+/**
+ * A resource loaded once in memory with its gzip variant, served with a strong ETag and a Last-Modified date, so the
+ * browsers only download it again when it changed.
+ * The content is kept in direct buffers, written without copy when the servlet container is Jetty.
+ */
+final class CachedResource {
+
+    private static final float MIN_GZIP_RATIO = 0.9f;
+    private static final String GZIP = "gzip";
+    // The GWT artifacts whose name contains .cache. never change, their name changes with their content
+    private static final String GWT_CACHE_SUFFIX = ".cache.";
+
+    private final String mimeType;
+    private final ByteBuffer identity;
+    private final ByteBuffer gzip;
+    private final String etag;
+    private final String gzipEtag;
+    private final long lastModified;
+    private final boolean immutable;
+
+    CachedResource(final String path, final byte[] content, final String mimeType, final long lastModified) {
+        this.mimeType = mimeType;
+        this.identity = toDirectBuffer(content);
+        final byte[] gzipContent = gzip(content);
+        this.gzip = gzipContent.length < content.length * MIN_GZIP_RATIO ? toDirectBuffer(gzipContent) : null;
+        final String digest = digest(content);
+        this.etag = '"' + digest + '"';
+        this.gzipEtag = '"' + digest + '-' + GZIP + '"';
+        // HTTP dates have a precision of one second
+        this.lastModified = lastModified / 1000 * 1000;
+        this.immutable = path.contains(GWT_CACHE_SUFFIX);
+    }
+
+    void send(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final boolean gzipped = gzip != null && acceptsGzip(request);
+        final String currentEtag = gzipped ? gzipEtag : etag;
+
+        response.setContentType(mimeType);
+        response.setHeader("ETag", currentEtag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", immutable ? "public, max-age=31536000, immutable" : "no-cache");
+        if (gzip != null) response.setHeader("Vary", "Accept-Encoding");
+
+        if (isNotModified(request, currentEtag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        final ByteBuffer content = (gzipped ? gzip : identity).duplicate();
+        if (gzipped) response.setHeader("Content-Encoding", GZIP);
+        response.setContentLength(content.remaining());
+
+        final ServletOutputStream outputStream = response.getOutputStream();
+        if (outputStream instanceof HttpOutput) {
+            ((HttpOutput) outputStream).sendContent(content);
+        } else {
+            Channels.newChannel(outputStream).write(content);
+        }
+    }
+
+    private boolean isNotModified(final HttpServletRequest request, final String currentEtag) {
+        final String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            if (ifNoneMatch.trim().equals("*")) return true;
+            for (final String tag : ifNoneMatch.split(",")) {
+                final String trimmedTag = tag.trim();
+                if (currentEtag.equals(trimmedTag.startsWith("W/") ? trimmedTag.substring(2) : trimmedTag)) return true;
+            }
+            return false;
+        }
+        final long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    private static boolean acceptsGzip(final HttpServletRequest request) {
+        final String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) return false;
+        for (final String encoding : acceptEncoding.split(",")) {
+            final String[] parameters = encoding.split(";");
+            if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                return parameters.length == 1 || !parameters[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    int getSize() {
+        return identity.capacity() + (gzip != null ? gzip.capacity() : 0);
+    }
+
+    boolean hasGzipVariant() {
+        return gzip != null;
+    }
+
+    String getETag() {
+        return etag;
+    }
+
+    private static ByteBuffer toDirectBuffer(final byte[] content) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+        buffer.put(content).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private static byte[] gzip(final byte[] content) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(content);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private static String digest(final byte[] content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
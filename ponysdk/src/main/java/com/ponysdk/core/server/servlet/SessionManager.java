@@ -27,11 +27,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.ponysdk.core.server.application.Application;
 import com.ponysdk.core.server.application.UIContext;
+import com.ponysdk.core.util.ConcurrentIntHashMap;
 
 public class SessionManager {
 
@@ -39,6 +39,9 @@ public class SessionManager {
 
     private final Map<String, Application> applications = new ConcurrentHashMap<>();
 
+    // UIContexts of all the applications, by ID
+    private final ConcurrentIntHashMap<UIContext> uiContexts = new ConcurrentIntHashMap<>();
+
     private final List<ApplicationListener> listeners = new ArrayList<>();
 
     public static SessionManager get() {
@@ -60,6 +63,7 @@ public class SessionManager {
 
     public void unregisterApplication(final Application application) {
         applications.remove(application.getId());
+        application.getUIContexts().forEach(uiContext -> uiContexts.remove(uiContext.getID()));
         listeners.forEach(listener -> listener.onApplicationDestroyed(application));
     }
 
@@ -67,12 +71,26 @@ public class SessionManager {
         listeners.add(listener);
     }
 
+    /**
+     * Called by {@link Application#registerUIContext(UIContext)}
+     */
+    public void registerUIContext(final UIContext uiContext) {
+        uiContexts.put(uiContext.getID(), uiContext);
+    }
+
+    /**
+     * Called by {@link Application#deregisterUIContext(int)}
+     */
+    public void deregisterUIContext(final int id) {
+        uiContexts.remove(id);
+    }
+
     public UIContext getUIContext(final int id) {
-        return applications.values().stream().map(app -> app.getUIContext(id)).filter(Objects::nonNull).findFirst().orElse(null);
+        return uiContexts.get(id);
     }
 
     public int countUIContexts() {
-        return applications.values().stream().mapToInt(Application::countUIContexts).sum();
+        return uiContexts.size();
     }
 
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.zip.Deflater;
+
+/**
+ * Decides which messages of a WebSocket session are compressed, and with which deflate level :
+ * <ul>
+ * <li>Messages smaller than the minimum size (heartbeats, round trips, single updates) are never compressed</li>
+ * <li>Every {@value #EVALUATION_PERIOD} compressed messages, the level is lowered if the compression is too
+ * expensive, or raised if it is cheap</li>
+ * <li>The compression is turned off for {@value #DISABLED_MESSAGES} messages if the ratio is poor</li>
+ * <li>Under CPU pressure, the level is the lowest and the compression is turned off unless it at least halves the
+ * size of the messages</li>
+ * </ul>
+ * The policy is used by the writer and the compression threads of the session, one at a time.
+ */
+public class AdaptiveDeflatePolicy {
+
+    public static final int DEFAULT_MIN_MESSAGE_SIZE = 256;
+
+    static final int EVALUATION_PERIOD = 32;
+    static final int DISABLED_MESSAGES = 256;
+
+    // Compressed size divided by the original size
+    private static final double POOR_RATIO = 0.9;
+    private static final double PRESSURE_MAX_RATIO = 0.5;
+
+    // Deflate time for 1 KB of input
+    private static final long EXPENSIVE_NANOS_PER_KB = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CHEAP_NANOS_PER_KB = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private static final double OVERLOADED_LOAD_PER_PROCESSOR = 0.9;
+    private static final long LOAD_SAMPLING_PERIOD = TimeUnit.SECONDS.toNanos(1);
+
+    private static final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    private static volatile long lastLoadSampling = System.nanoTime() - LOAD_SAMPLING_PERIOD;
+    private static volatile boolean overloaded;
+
+    private final int minMessageSize;
+    private final int minLevel;
+    private final int maxLevel;
+    private final BooleanSupplier cpuPressure;
+
+    private int level;
+    private int disabledMessages;
+    private boolean underPressure;
+    private double lastRatio;
+
+    private long compressedMessages;
+    private long skippedMessages;
+    private long inputBytes;
+    private long outputBytes;
+    private long skippedBytes;
+    private long cpuNanos;
+
+    private int periodMessages;
+    private long periodInputBytes;
+    private long periodOutputBytes;
+    private long periodNanos;
+
+    public AdaptiveDeflatePolicy() {
+        this(DEFAULT_MIN_MESSAGE_SIZE, Deflater.BEST_SPEED, 6, AdaptiveDeflatePolicy::isSystemOverloaded);
+    }
+
+    /**
+     * @param minMessageSize The size under which the messages are not compressed
+     * @param minLevel The lowest deflate level
+     * @param maxLevel The highest deflate level, also the initial level
+     * @param cpuPressure Tells if the CPU is under pressure, called for each message so it must be cheap
+     */
+    public AdaptiveDeflatePolicy(final int minMessageSize, final int minLevel, final int maxLevel, final BooleanSupplier cpuPressure) {
+        if (minLevel < Deflater.BEST_SPEED || maxLevel > Deflater.BEST_COMPRESSION || minLevel > maxLevel)
+            throw new IllegalArgumentException("Invalid deflate levels : " + minLevel + " to " + maxLevel);
+        this.minMessageSize = minMessageSize;
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        this.cpuPressure = cpuPressure;
+        this.level = maxLevel;
+    }
+
+    /**
+     * Called for each data message that may be sent without compression
+     *
+     * @return true if the message must be compressed
+     */
+    public synchronized boolean shouldCompress(final int messageSize) {
+        underPressure = cpuPressure.getAsBoolean();
+        final boolean compress;
+        if (messageSize < minMessageSize) {
+            compress = false;
+        } else if (underPressure) {
+            compress = lastRatio <= PRESSURE_MAX_RATIO;
+        } else if (disabledMessages > 0) {
+            disabledMessages--;
+            compress = false;
+        } else {
+            compress = true;
+        }
+
+        if (!compress) {
+            skippedMessages++;
+            skippedBytes += messageSize;
+        }
+        return compress;
+    }
+
+    /**
+     * @return the deflate level of the next compressed message
+     */
+    public synchronized int getLevel() {
+        return underPressure ? minLevel : level;
+    }
+
+    /**
+     * Called with the original size of each compressed frame
+     */
+    public synchronized void onCompressionInput(final int bytes) {
+        inputBytes += bytes;
+        periodInputBytes += bytes;
+    }
+
+    /**
+     * Called with each chunk of compressed data
+     *
+     * @param bytes The compressed size of the chunk
+     * @param nanos The time spent to compress the chunk
+     * @param endOfMessage true for the last chunk of a message
+     */
+    public synchronized void onCompressionOutput(final int bytes, final long nanos, final boolean endOfMessage) {
+        outputBytes += bytes;
+        cpuNanos += nanos;
+        periodOutputBytes += bytes;
+        periodNanos += nanos;
+        if (!endOfMessage) return;
+
+        compressedMessages++;
+        if (++periodMessages >= EVALUATION_PERIOD) evaluate();
+    }
+
+    private void evaluate() {
+        if (periodInputBytes > 0) {
+            lastRatio = (double) periodOutputBytes / periodInputBytes;
+            final long nanosPerKB = periodNanos * 1024 / periodInputBytes;
+            if (lastRatio > POOR_RATIO) {
+                disabledMessages = DISABLED_MESSAGES;
+                level = minLevel;
+            } else if (nanosPerKB > EXPENSIVE_NANOS_PER_KB) {
+                if (level > minLevel) level--;
+            } else if (nanosPerKB < CHEAP_NANOS_PER_KB) {
+                if (level < maxLevel) level++;
+            }
+        }
+        periodMessages = 0;
+        periodInputBytes = 0;
+        periodOutputBytes = 0;
+        periodNanos = 0;
+    }
+
+    public synchronized DeflateStats getStats() {
+        final boolean enabled = underPressure ? lastRatio <= PRESSURE_MAX_RATIO : disabledMessages == 0;
+        return new DeflateStats(enabled, getLevel(), compressedMessages, skippedMessages, inputBytes, outputBytes, skippedBytes,
+            cpuNanos);
+    }
+
+    /**
+     * The default CPU pressure : the system load average per processor is over 0.9, sampled every second. Never
+     * true if the system load average is not available.
+     */
+    public static boolean isSystemOverloaded() {
+        final long now = System.nanoTime();
+        if (now - lastLoadSampling >= LOAD_SAMPLING_PERIOD) {
+            lastLoadSampling = now;
+            final double load = operatingSystem.getSystemLoadAverage();
+            overloaded = load >= 0 && load / operatingSystem.getAvailableProcessors() >= OVERLOADED_LOAD_PER_PROCESSOR;
+        }
+        return overloaded;
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import com.ponysdk.core.model.ClientToServerModel;
+import com.ponysdk.core.model.JsonValueTypeModel;
+
+/**
+ * Decodes the binary messages sent by the terminal, cf {@link JsonValueTypeModel}.<br>
+ * The objects are read without any text parsing into lightweight {@link JsonObject} views, whose
+ * {@link ClientToServerModel} keys are stored by ordinal. Their string keys are the
+ * {@link ClientToServerModel#toStringValue()} constants, so they can be handled as the ones read from a text
+ * message.
+ */
+public class BinaryJsonDecoder {
+
+    private final JsonProvider provider;
+
+    public BinaryJsonDecoder(final JsonProvider provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the message is not a binary encoded JSON object
+     */
+    public JsonObject decode(final byte[] payload, final int offset, final int length) {
+        final ByteBuffer buffer = ByteBuffer.wrap(payload, offset, length);
+        if (JsonValueTypeModel.OBJECT != readType(buffer)) throw new IllegalArgumentException("Binary message is not an object");
+        final JsonObject jsonObject = readObject(buffer);
+        if (buffer.hasRemaining()) throw new IllegalArgumentException(buffer.remaining() + " remaining bytes after the message");
+        return jsonObject;
+    }
+
+    private JsonValue readValue(final ByteBuffer buffer) {
+        final JsonValueTypeModel type = readType(buffer);
+        switch (type) {
+            case NULL:
+                return JsonValue.NULL;
+            case BOOLEAN_FALSE:
+                return JsonValue.FALSE;
+            case BOOLEAN_TRUE:
+                return JsonValue.TRUE;
+            case INTEGER:
+                return provider.createValue(buffer.getInt());
+            case DOUBLE:
+                final double d = buffer.getDouble();
+                // the terminal only knows doubles, keep the integral ones as the text parser does
+                final long l = (long) d;
+                return l == d ? provider.createValue(l) : provider.createValue(d);
+            case STRING:
+                return provider.createValue(readString(buffer));
+            case ARRAY:
+                return readArray(buffer);
+            case OBJECT:
+                return readObject(buffer);
+            default:
+                throw new IllegalArgumentException("Unknown value type " + type);
+        }
+    }
+
+    private JsonObject readObject(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        // at least 2 bytes per entry, a corrupted size must not allocate more than the message
+        if (size < 0 || size > buffer.remaining() / 2) throw new IllegalArgumentException("Invalid object size " + size);
+        final BinaryJsonObject jsonObject = new BinaryJsonObject(size);
+        for (int i = 0; i < size; i++) {
+            final int rawKey = buffer.get() & 0xFF;
+            if (rawKey == JsonValueTypeModel.STRING_KEY) {
+                final String key = readString(buffer);
+                jsonObject.set(key, readValue(buffer));
+            } else {
+                final ClientToServerModel model = ClientToServerModel.fromRawValue(rawKey);
+                jsonObject.set(model, readValue(buffer));
+            }
+        }
+        return jsonObject;
+    }
+
+    private JsonValue readArray(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        final JsonArrayBuilder builder = provider.createArrayBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.add(readValue(buffer));
+        }
+        return builder.build();
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        final int position = buffer.position();
+        buffer.position(position + length);
+        return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+    }
+
+    private static JsonValueTypeModel readType(final ByteBuffer buffer) {
+        return JsonValueTypeModel.fromRawValue(buffer.get() & 0xFF);
+    }
+
+}
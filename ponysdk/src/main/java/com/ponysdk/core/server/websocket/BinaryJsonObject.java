@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import com.ponysdk.core.model.ClientToServerModel;
+
+/**
+ * The read-only {@link JsonObject} decoded by {@link BinaryJsonDecoder}.<br>
+ * A terminal instruction only has a few entries : they are kept in decoding order in small arrays, and the
+ * {@link ClientToServerModel} keys are looked up by ordinal, so no map is built for each message.
+ */
+final class BinaryJsonObject extends AbstractMap<String, JsonValue> implements JsonObject {
+
+    private static final Map<String, ClientToServerModel> MODELS = new HashMap<>();
+
+    static {
+        for (final ClientToServerModel model : ClientToServerModel.values()) {
+            MODELS.put(model.toStringValue(), model);
+        }
+    }
+
+    // -1 if the key is not a ClientToServerModel
+    private final int[] ordinals;
+    private final String[] keys;
+    private final JsonValue[] values;
+    private int size;
+
+    BinaryJsonObject(final int capacity) {
+        ordinals = new int[capacity];
+        keys = new String[capacity];
+        values = new JsonValue[capacity];
+    }
+
+    void set(final ClientToServerModel model, final JsonValue value) {
+        final int index = indexOf(model);
+        if (index >= 0) {
+            values[index] = value;
+        } else {
+            add(model.ordinal(), model.toStringValue(), value);
+        }
+    }
+
+    void set(final String key, final JsonValue value) {
+        final ClientToServerModel model = MODELS.get(key);
+        if (model != null) {
+            set(model, value);
+        } else {
+            final int index = indexOf(key);
+            if (index >= 0) values[index] = value;
+            else add(-1, key, value);
+        }
+    }
+
+    private void add(final int ordinal, final String key, final JsonValue value) {
+        ordinals[size] = ordinal;
+        keys[size] = key;
+        values[size] = value;
+        size++;
+    }
+
+    private int indexOf(final ClientToServerModel model) {
+        final int ordinal = model.ordinal();
+        for (int i = 0; i < size; i++) {
+            if (ordinals[i] == ordinal) return i;
+        }
+        return -1;
+    }
+
+    private int indexOf(final Object key) {
+        final ClientToServerModel model = MODELS.get(key);
+        if (model != null) return indexOf(model);
+        for (int i = 0; i < size; i++) {
+            if (ordinals[i] < 0 && keys[i].equals(key)) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public JsonValue get(final Object key) {
+        final int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Set<Entry<String, JsonValue>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<String, JsonValue>> iterator() {
+                return new Iterator<>() {
+
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < size;
+                    }
+
+                    @Override
+                    public Entry<String, JsonValue> next() {
+                        if (index >= size) throw new NoSuchElementException();
+                        final Entry<String, JsonValue> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public JsonArray getJsonArray(final String name) {
+        return (JsonArray) get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(final String name) {
+        return (JsonObject) get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final String name) {
+        return (JsonNumber) get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(final String name) {
+        return (JsonString) get(name);
+    }
+
+    @Override
+    public String getString(final String name) {
+        return getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(final String name, final String defaultValue) {
+        final JsonValue value = get(name);
+        return value instanceof JsonString ? ((JsonString) value).getString() : defaultValue;
+    }
+
+    @Override
+    public int getInt(final String name) {
+        return getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(final String name, final int defaultValue) {
+        final JsonValue value = get(name);
+        return value instanceof JsonNumber ? ((JsonNumber) value).intValue() : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        final JsonValue value = get(name);
+        if (value == null) throw new NullPointerException();
+        else if (value == JsonValue.TRUE) return true;
+        else if (value == JsonValue.FALSE) return false;
+        else throw new ClassCastException();
+    }
+
+    @Override
+    public boolean getBoolean(final String name, final boolean defaultValue) {
+        final JsonValue value = get(name);
+        if (value == JsonValue.TRUE) return true;
+        else if (value == JsonValue.FALSE) return false;
+        else return defaultValue;
+    }
+
+    @Override
+    public boolean isNull(final String name) {
+        return get(name).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(',');
+            appendQuoted(builder, keys[i]);
+            builder.append(':').append(values[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    private static void appendQuoted(final StringBuilder builder, final String s) {
+        builder.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '"' || c == '\\') builder.append('\\').append(c);
+            else if (c < 0x20) builder.append(String.format("\\u%04x", (int) c));
+            else builder.append(c);
+        }
+        builder.append('"');
+    }
+
+}
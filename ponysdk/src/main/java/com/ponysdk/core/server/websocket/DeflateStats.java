@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+/**
+ * Snapshot of the per-message compression of a WebSocket session
+ *
+ * @see AdaptiveDeflatePolicy
+ */
+public final class DeflateStats {
+
+    private final boolean enabled;
+    private final int level;
+    private final long compressedMessages;
+    private final long skippedMessages;
+    private final long inputBytes;
+    private final long outputBytes;
+    private final long skippedBytes;
+    private final long cpuNanos;
+
+    public DeflateStats(final boolean enabled, final int level, final long compressedMessages, final long skippedMessages,
+            final long inputBytes, final long outputBytes, final long skippedBytes, final long cpuNanos) {
+        this.enabled = enabled;
+        this.level = level;
+        this.compressedMessages = compressedMessages;
+        this.skippedMessages = skippedMessages;
+        this.inputBytes = inputBytes;
+        this.outputBytes = outputBytes;
+        this.skippedBytes = skippedBytes;
+        this.cpuNanos = cpuNanos;
+    }
+
+    /**
+     * @return false if the compression is currently turned off for the session, because of a poor ratio or of a
+     *         CPU pressure
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the current deflate level, from {@link java.util.zip.Deflater#BEST_SPEED}
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    public long getCompressedMessages() {
+        return compressedMessages;
+    }
+
+    public long getSkippedMessages() {
+        return skippedMessages;
+    }
+
+    /**
+     * @return the size of the compressed messages before their compression
+     */
+    public long getInputBytes() {
+        return inputBytes;
+    }
+
+    /**
+     * @return the size of the compressed messages after their compression
+     */
+    public long getOutputBytes() {
+        return outputBytes;
+    }
+
+    /**
+     * @return the size of the messages sent without compression
+     */
+    public long getSkippedBytes() {
+        return skippedBytes;
+    }
+
+    /**
+     * @return the time spent compressing the messages, in nanoseconds
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * @return the compressed size divided by the original size, 1 if nothing was compressed
+     */
+    public double getRatio() {
+        return inputBytes > 0 ? (double) outputBytes / inputBytes : 1;
+    }
+
+    public long getSavedBytes() {
+        return inputBytes - outputBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "DeflateStats [enabled=" + enabled + ", level=" + level + ", compressedMessages=" + compressedMessages
+                + ", skippedMessages=" + skippedMessages + ", ratio=" + getRatio() + ", savedBytes=" + getSavedBytes()
+                + ", cpuNanos=" + cpuNanos + "]";
+    }
+
+}
@@ -24,20 +24,46 @@
 package com.ponysdk.core.server.websocket;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
 
 import org.eclipse.jetty.websocket.api.BatchMode;
 import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.eclipse.jetty.websocket.api.extensions.Frame;
 import org.eclipse.jetty.websocket.common.Generator;
+import org.eclipse.jetty.websocket.common.OpCode;
 import org.eclipse.jetty.websocket.common.extensions.compress.PerMessageDeflateExtension;
 
+/**
+ * Per-message deflate extension that lets an {@link AdaptiveDeflatePolicy} send the messages without compression
+ * and tune the deflate level of the session.
+ * The Java deflater always uses a 32K window, so the window bits are not tuned.
+ */
 public class PonyPerMessageDeflateExtension extends PerMessageDeflateExtension {
 
+    private static volatile Supplier<AdaptiveDeflatePolicy> policyFactory = AdaptiveDeflatePolicy::new;
+
     public static final String NAME = new PonyPerMessageDeflateExtension().getName();
     private WebSocket.Listener webSocketListener;
 
+    private final AdaptiveDeflatePolicy policy;
+    // Messages given to the compression but not yet forwarded, a message can only skip the compression if it is 0
+    private final AtomicInteger pendingCompressedMessages = new AtomicInteger();
+    // Set when the compression of a chunk gets the deflater, so only the deflate calls are measured
+    private volatile long compressionStart;
+    private int deflaterLevel = Deflater.DEFAULT_COMPRESSION;
+
     public PonyPerMessageDeflateExtension() {
         super();
+        this.policy = policyFactory.get();
+    }
+
+    /**
+     * @param policyFactory Creates the policy of each new session
+     */
+    public static void setPolicyFactory(final Supplier<AdaptiveDeflatePolicy> policyFactory) {
+        PonyPerMessageDeflateExtension.policyFactory = policyFactory;
     }
 
     @Override
@@ -47,13 +73,73 @@ public class PonyPerMessageDeflateExtension extends PerMessageDeflateExtension {
         super.incomingFrame(frame);
     }
 
+    @Override
+    public void outgoingFrame(final Frame frame, final WriteCallback callback, final BatchMode batchMode) {
+        final byte opCode = frame.getOpCode();
+        if (OpCode.isControlFrame(opCode)) {
+            super.outgoingFrame(frame, callback, batchMode);
+            return;
+        }
+
+        final boolean idle = pendingCompressedMessages.get() == 0;
+        if (idle && frame.isFin() && opCode != OpCode.CONTINUATION && !policy.shouldCompress(frame.getPayloadLength())) {
+            forwardOutgoingFrame(frame, callback, batchMode);
+            return;
+        }
+
+        if (idle) {
+            final int level = policy.getLevel();
+            if (level != deflaterLevel) {
+                super.getDeflater().setLevel(level);
+                deflaterLevel = level;
+            }
+        }
+        if (frame.isFin()) pendingCompressedMessages.incrementAndGet();
+        policy.onCompressionInput(frame.getPayloadLength());
+        super.outgoingFrame(frame, callback, batchMode);
+    }
+
+    /**
+     * Called by the compression of each chunk right before deflating it, on the compressing thread
+     */
+    @Override
+    public Deflater getDeflater() {
+        compressionStart = System.nanoTime();
+        return super.getDeflater();
+    }
+
+    /**
+     * Called with the control frames and the compressed chunks, right after deflating them
+     */
     @Override
     protected void nextOutgoingFrame(final Frame frame, final WriteCallback callback, final BatchMode batchMode) {
+        if (OpCode.isControlFrame(frame.getOpCode())) {
+            forwardOutgoingFrame(frame, callback, batchMode);
+            return;
+        }
+
+        policy.onCompressionOutput(frame.getPayloadLength(), System.nanoTime() - compressionStart, frame.isFin());
+        if (frame.isFin()) pendingCompressedMessages.decrementAndGet();
+        forwardOutgoingFrame(frame, callback, batchMode);
+    }
+
+    private void forwardOutgoingFrame(final Frame frame, final WriteCallback callback, final BatchMode batchMode) {
         if (webSocketListener != null)
             webSocketListener.onOutgoingWebSocketFrame(getFrameHeaderLength(frame), frame.getPayloadLength());
         super.nextOutgoingFrame(frame, callback, batchMode);
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        // The deflater goes back to a pool shared by the sessions
+        if (deflaterLevel != Deflater.DEFAULT_COMPRESSION) super.getDeflater().setLevel(Deflater.DEFAULT_COMPRESSION);
+        super.doStop();
+    }
+
+    public DeflateStats getStats() {
+        return policy.getStats();
+    }
+
     /**
      * Inspired by {@link Generator#generateHeaderBytes(Frame, ByteBuffer)}
      *
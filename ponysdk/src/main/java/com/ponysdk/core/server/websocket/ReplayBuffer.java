@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The last bytes sent on a connection, kept to be sent again when the terminal resumes its session on a new
+ * connection. The offsets are positions in the whole outgoing stream of the UIContext, since the terminal counts the
+ * bytes it received and the replayed data can be split differently in WebSocket messages.
+ * The bytes before the offset acknowledged by the terminal are not replayable anymore.
+ * The ring grows on demand to hold the unacknowledged bytes, up to the capacity, so an idle or promptly acknowledged
+ * connection doesn't hold the whole capacity.
+ */
+final class ReplayBuffer {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final int MIN_RING_LENGTH = 1 << 10;
+
+    private final int capacity;
+    private byte[] ring = EMPTY;
+
+    private long endOffset;
+    private long acknowledgedOffset;
+
+    ReplayBuffer(final int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Invalid capacity : " + capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Copies the remaining bytes of the buffer, without changing its position. The oldest bytes are overwritten
+     * when the buffer is full.
+     */
+    synchronized void append(final ByteBuffer buffer) {
+        final ByteBuffer source = buffer.duplicate();
+        final int length = source.remaining();
+        if (length == 0) return;
+        ensureRingLength(endOffset + length - acknowledgedOffset);
+        if (length > ring.length) source.position(source.limit() - ring.length);
+
+        put(endOffset + length - source.remaining(), source);
+        endOffset += length;
+    }
+
+    /**
+     * Grows the ring to hold the given number of bytes, up to the capacity, keeping the replayable bytes
+     */
+    private void ensureRingLength(final long length) {
+        if (length <= ring.length || ring.length == capacity) return;
+        final long newLength = Math.max(length, Math.max(MIN_RING_LENGTH, (long) ring.length * 2));
+        final long startOffset = getStartOffset();
+        final byte[] replayable = new byte[(int) (endOffset - startOffset)];
+        get(startOffset, replayable);
+        ring = new byte[(int) Math.min(capacity, newLength)];
+        put(startOffset, ByteBuffer.wrap(replayable));
+    }
+
+    private void put(final long offset, final ByteBuffer source) {
+        int index = (int) (offset % ring.length);
+        while (source.hasRemaining()) {
+            final int chunk = Math.min(source.remaining(), ring.length - index);
+            source.get(ring, index, chunk);
+            index = (index + chunk) % ring.length;
+        }
+    }
+
+    private void get(final long offset, final byte[] bytes) {
+        if (bytes.length == 0) return;
+        final int index = (int) (offset % ring.length);
+        final int firstChunk = Math.min(bytes.length, ring.length - index);
+        System.arraycopy(ring, index, bytes, 0, firstChunk);
+        System.arraycopy(ring, 0, bytes, firstChunk, bytes.length - firstChunk);
+    }
+
+    /**
+     * @return the offset of the oldest replayable byte
+     */
+    synchronized long getStartOffset() {
+        return Math.max(acknowledgedOffset, endOffset - ring.length);
+    }
+
+    /**
+     * @return the number of bytes appended since the creation of the buffer
+     */
+    synchronized long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * @return the number of bytes currently allocated, at most the capacity
+     */
+    synchronized int getAllocatedSize() {
+        return ring.length;
+    }
+
+    synchronized long getAcknowledgedOffset() {
+        return acknowledgedOffset;
+    }
+
+    /**
+     * Releases the bytes received by the terminal. Outdated or unknown offsets are ignored.
+     */
+    synchronized void acknowledge(final long offset) {
+        if (offset > acknowledgedOffset && offset <= endOffset) acknowledgedOffset = offset;
+    }
+
+    synchronized boolean isReplayable(final long offset) {
+        return offset >= getStartOffset() && offset <= endOffset;
+    }
+
+    /**
+     * @return a copy of the bytes from the offset to the end of the buffer
+     * @throws IllegalArgumentException if the bytes from the offset are not replayable anymore
+     */
+    synchronized ByteBuffer read(final long offset) {
+        if (!isReplayable(offset)) {
+            throw new IllegalArgumentException(
+                "Offset " + offset + " is not replayable, available range : [" + getStartOffset() + ", " + endOffset + "]");
+        }
+        final byte[] bytes = new byte[(int) (endOffset - offset)];
+        get(offset, bytes);
+        return ByteBuffer.wrap(bytes);
+    }
+
+}
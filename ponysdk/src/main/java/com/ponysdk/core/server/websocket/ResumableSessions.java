@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The WebSockets whose UIContext can be resumed by a new connection of its terminal, by UIContext id.
+ * A terminal proves it owns the UIContext with the random token it received when the UIContext was created.
+ */
+public class ResumableSessions {
+
+    private static final SecureRandom random = new SecureRandom();
+    private static final int TOKEN_LENGTH = 24;
+
+    private final Map<Integer, WebSocket> socketsByContextId = new ConcurrentHashMap<>();
+
+    static String newToken() {
+        final byte[] bytes = new byte[TOKEN_LENGTH];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    void register(final int contextId, final WebSocket socket) {
+        socketsByContextId.put(contextId, socket);
+    }
+
+    void unregister(final int contextId, final WebSocket socket) {
+        socketsByContextId.remove(contextId, socket);
+    }
+
+    /**
+     * @return the WebSocket of the UIContext, or null if the UIContext is unknown or the token does not match
+     */
+    WebSocket get(final int contextId, final String token) {
+        final WebSocket socket = socketsByContextId.get(contextId);
+        if (socket == null || token == null) return null;
+        final byte[] expected = socket.getResumeToken().getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.US_ASCII)) ? socket : null;
+    }
+
+    public int size() {
+        return socketsByContextId.size();
+    }
+
+}
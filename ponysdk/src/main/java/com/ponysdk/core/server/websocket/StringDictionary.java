@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The strings stored for a connection, mirrored by the terminal. Each stored string has an id in [1, capacity],
+ * the least recently used string is evicted when the dictionary is full and its id is reused, so the terminal only
+ * has to overwrite the entry of a definition.
+ * Not thread-safe, it is only used by the writer of the connection.
+ */
+final class StringDictionary {
+
+    static final int NOT_STORED = 0;
+    static final int MAX_ENTRY_LENGTH = 1 << 11;
+
+    private final int capacity;
+    private final LinkedHashMap<String, Integer> idByString;
+
+    private int definitionCount;
+    private int referenceCount;
+
+    StringDictionary(final int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Invalid capacity : " + capacity);
+        this.capacity = capacity;
+        this.idByString = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @return the id of the string if it is already stored, the opposite of the id assigned to the string if it
+     *         must be defined, or {@link #NOT_STORED} if the string is too long to be stored
+     */
+    int lookup(final String value) {
+        final Integer id = idByString.get(value);
+        if (id != null) {
+            referenceCount++;
+            return id;
+        }
+        if (value.length() > MAX_ENTRY_LENGTH) return NOT_STORED;
+
+        final int newId;
+        if (idByString.size() < capacity) {
+            newId = idByString.size() + 1;
+        } else {
+            final Iterator<Map.Entry<String, Integer>> eldest = idByString.entrySet().iterator();
+            newId = eldest.next().getValue();
+            eldest.remove();
+        }
+        idByString.put(value, newId);
+        definitionCount++;
+        return -newId;
+    }
+
+    int size() {
+        return idByString.size();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getDefinitionCount() {
+        return definitionCount;
+    }
+
+    int getReferenceCount() {
+        return referenceCount;
+    }
+
+}
@@ -28,6 +28,7 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.server.application.ApplicationConfiguration;
 import com.ponysdk.core.server.application.ApplicationManager;
 import com.ponysdk.core.server.application.UIContext;
+import com.ponysdk.core.server.concurrent.ByteBufferPool;
 import com.ponysdk.core.server.context.CommunicationSanityChecker;
 import com.ponysdk.core.server.stm.TxnContext;
 import com.ponysdk.core.ui.basic.PObject;
@@ -40,7 +41,9 @@ import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.json.Json;
 import javax.json.JsonArray;
+import javax.json.JsonNumber;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 import java.io.IOException;
@@ -55,15 +58,30 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
 
     private static final Logger log = LoggerFactory.getLogger(WebSocket.class);
 
+    /**
+     * Close code sent to a terminal trying to resume an unknown or expired session, it has to reload the application
+     */
+    public static final int RESUMPTION_REJECTED = 4000;
+
     private ServletUpgradeRequest request;
     private WebsocketMonitor monitor;
     private WebSocketPusher websocketPusher;
     private ApplicationManager applicationManager;
+    private ByteBufferPool bufferPool;
+    private ResumableSessions resumableSessions;
 
     private TxnContext context;
-    private Session session;
+    private volatile Session session;
     private UIContext uiContext;
+    private BinaryJsonDecoder binaryDecoder;
     private Listener listener;
+    private CommunicationSanityChecker communicationSanityChecker;
+
+    private String resumeToken;
+    // The UIContext that the terminal asks to resume on this connection, -1 for a new session
+    private int resumedContextId = -1;
+    // The WebSocket of the resumed UIContext, which receives the events of this connection once the resumption is accepted
+    private volatile WebSocket resumedWebSocket;
 
     private long lastSentPing;
 
@@ -75,16 +93,34 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
         try {
             if (!session.isOpen()) throw new IllegalStateException("Session already closed");
             this.session = session;
+            // The token and the offset to resume are sent by the first message, not in the URL which can be logged
+            if (resumedContextId != -1) return;
 
-            // 1K for max chunk size and 1M for total buffer size
+            // 4K for max chunk size and 1M for total buffer size, or the sizes of the pool
             // Don't set max chunk size > 8K because when using Jetty Websocket compression, the chunks are limited to 8K
 
-            this.websocketPusher = new WebSocketPusher(session, 1 << 20, 1 << 12, TimeUnit.SECONDS.toMillis(60));
+            if (bufferPool != null) {
+                this.websocketPusher = new WebSocketPusher(session, bufferPool, 1 << 12, TimeUnit.SECONDS.toMillis(60));
+            } else {
+                this.websocketPusher = new WebSocketPusher(session, 1 << 20, 1 << 12, TimeUnit.SECONDS.toMillis(60));
+            }
+            final ApplicationConfiguration applicationConfiguration = applicationManager.getConfiguration();
+            websocketPusher.setStringDictionaryCapacity(applicationConfiguration.getStringDictionaryCapacity());
+            if (isResumptionEnabled(applicationConfiguration)) {
+                websocketPusher.setReplayBufferSize(applicationConfiguration.getReplayBufferSize());
+                resumeToken = ResumableSessions.newToken();
+            }
             uiContext = new UIContext(this, context, applicationManager.getConfiguration(), request);
+            websocketPusher.setMetrics(uiContext.getMetrics());
+            binaryDecoder = new BinaryJsonDecoder(uiContext.getJsonProvider());
             log.info("Creating a new {}", uiContext);
 
-            final CommunicationSanityChecker communicationSanityChecker = new CommunicationSanityChecker(uiContext);
+            communicationSanityChecker = new CommunicationSanityChecker(uiContext);
             context.registerUIContext(uiContext);
+            if (resumeToken != null) {
+                resumableSessions.register(uiContext.getID(), this);
+                uiContext.addContextDestroyListener(destroyedContext -> resumableSessions.unregister(destroyedContext.getID(), this));
+            }
 
             uiContext.acquire();
             try {
@@ -99,6 +135,11 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
                 encode(ServerToClientModel.CREATE_CONTEXT, uiContext.getID()); // TODO nciaravola integer ?
                 encode(ServerToClientModel.OPTION_FORMFIELD_TABULATION, configuration.isTabindexOnlyFormField());
                 encode(ServerToClientModel.HEARTBEAT_PERIOD, heartBeatPeriod);
+                encode(ServerToClientModel.TERMINAL_FRAME_BUDGET, configuration.getTerminalFrameBudget());
+                if (resumeToken != null) {
+                    encode(ServerToClientModel.RESUME_TOKEN, resumeToken);
+                    encode(ServerToClientModel.RESUME_TIMEOUT, (int) configuration.getSessionResumptionTimeout());
+                }
                 endObject();
                 if (isAlive()) flush0();
             } catch (final Throwable e) {
@@ -115,17 +156,107 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
         }
     }
 
+    /**
+     * Checks the resume token sent by the first message of a terminal resuming its session, and hands the connection
+     * over to the WebSocket of the resumed UIContext
+     */
+    private void processResumeRequest(final String message) {
+        final WebSocket webSocket;
+        final long offset;
+        try (final JsonReader reader = Json.createReader(new StringReader(message))) {
+            final JsonObject jsonObject = reader.readObject();
+            webSocket = resumableSessions != null
+                    ? resumableSessions.get(resumedContextId,
+                        jsonObject.getString(ClientToServerModel.RESUME_TOKEN.toStringValue(), null))
+                    : null;
+            final JsonNumber offsetValue = jsonObject.getJsonNumber(ClientToServerModel.RESUME_OFFSET.toStringValue());
+            offset = offsetValue != null ? offsetValue.longValue() : -1;
+        } catch (final RuntimeException e) {
+            log.warn("Invalid resume request : {}", message, e);
+            session.close(RESUMPTION_REJECTED, "Invalid resume request");
+            return;
+        }
+
+        if (webSocket == null || offset < 0) {
+            log.info("Cannot resume an unknown or expired UIContext, the terminal has to reload the application");
+            session.close(RESUMPTION_REJECTED, "Unknown session");
+            return;
+        }
+        resumedWebSocket = webSocket;
+        webSocket.resume(session, offset);
+    }
+
+    /**
+     * Resumes the UIContext on the new connection of its terminal, sending the data it has missed
+     *
+     * @param offset The number of bytes received by the terminal on the previous connections
+     */
+    private void resume(final Session newSession, final long offset) {
+        final Session oldSession = this.session;
+        // From now on, the events of the old connection are ignored
+        this.session = newSession;
+        websocketPusher.detach();
+        if (oldSession != null && oldSession.isOpen()) {
+            try {
+                oldSession.disconnect();
+            } catch (final IOException e) {
+                log.warn("Unable to disconnect the previous session of UIContext #{}", uiContext.getID(), e);
+            }
+        }
+
+        if (uiContext.isAlive() && websocketPusher.attach(newSession, offset)) {
+            uiContext.onResumed();
+            communicationSanityChecker.start();
+            log.info("UIContext #{} resumed from offset {}", uiContext.getID(), offset);
+        } else {
+            log.info("Cannot resume UIContext #{} from offset {}, the terminal has to reload the application", uiContext.getID(),
+                offset);
+            newSession.close(RESUMPTION_REJECTED, "Session expired");
+            uiContext.onDestroy();
+        }
+    }
+
+    /**
+     * Stops writing on the current connection and waits for the terminal to resume the session on a new one
+     */
+    public void suspend() {
+        communicationSanityChecker.stop();
+        websocketPusher.detach();
+        disconnect();
+    }
+
     @Override
     public void onWebSocketError(final Throwable throwable) {
+        final WebSocket resumedWebSocket = this.resumedWebSocket;
+        if (resumedWebSocket != null) {
+            resumedWebSocket.onWebSocketError(throwable);
+            return;
+        }
+        if (uiContext == null) {
+            log.error("WebSocket Error without UIContext", throwable);
+            return;
+        }
         log.error("WebSocket Error on UIContext #{}", uiContext.getID(), throwable);
-        uiContext.onDestroy();
+        // With the session resumption, the UIContext is suspended or destroyed when the connection is closed
+        if (resumeToken == null) uiContext.onDestroy();
     }
 
     @Override
     public void onWebSocketClose(final int statusCode, final String reason) {
+        final WebSocket resumedWebSocket = this.resumedWebSocket;
+        if (resumedWebSocket != null) {
+            resumedWebSocket.onWebSocketClose(statusCode, reason);
+            return;
+        }
+        if (uiContext == null) return; // The resumption has been rejected
+        if (resumeToken != null && isSessionOpen()) {
+            log.info("Previous WebSocket closed on resumed UIContext #{} : {}", uiContext.getID(), NiceStatusCode.getMessage(statusCode));
+            return;
+        }
         log.info("WebSocket closed on UIContext #{} : {}, reason : {}", uiContext.getID(), NiceStatusCode.getMessage(statusCode),
                 Objects.requireNonNullElse(reason, ""));
-        uiContext.onDestroy();
+        if (resumeToken != null && statusCode != StatusCode.NORMAL && statusCode != StatusCode.SHUTDOWN) uiContext.suspend();
+        else uiContext.onDestroy();
     }
 
     /**
@@ -134,10 +265,19 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
 
     @Override
     public void onWebSocketText(final String message) {
+        final WebSocket resumedWebSocket = this.resumedWebSocket;
+        if (resumedWebSocket != null) {
+            resumedWebSocket.onWebSocketText(message);
+            return;
+        } else if (resumedContextId != -1) {
+            processResumeRequest(message);
+            return;
+        }
         if (this.listener != null) listener.onIncomingText(message);
         if (isAlive()) {
             try {
                 uiContext.onMessageReceived();
+                uiContext.getMetrics().onMessageReceived();
                 if (monitor != null) monitor.onMessageReceived(WebSocket.this, message);
 
                 final JsonObject jsonObject;
@@ -145,21 +285,7 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
                     jsonObject = reader.readObject();
                 }
 
-                if (jsonObject.containsKey(ClientToServerModel.HEARTBEAT_REQUEST.toStringValue())) {
-                    sendHeartbeat();
-                } else if (jsonObject.containsKey(ClientToServerModel.TERMINAL_LATENCY.toStringValue())) {
-                    processRoundtripLatency(jsonObject);
-                } else if (jsonObject.containsKey(ClientToServerModel.APPLICATION_INSTRUCTIONS.toStringValue())) {
-                    processInstructions(jsonObject);
-                } else if (jsonObject.containsKey(ClientToServerModel.ERROR_MSG.toStringValue())) {
-                    processTerminalLog(jsonObject, ClientToServerModel.ERROR_MSG);
-                } else if (jsonObject.containsKey(ClientToServerModel.WARN_MSG.toStringValue())) {
-                    processTerminalLog(jsonObject, ClientToServerModel.WARN_MSG);
-                } else if (jsonObject.containsKey(ClientToServerModel.INFO_MSG.toStringValue())) {
-                    processTerminalLog(jsonObject, ClientToServerModel.INFO_MSG);
-                } else {
-                    log.error("Unknown message from terminal #{} : {}", uiContext.getID(), message);
-                }
+                processMessage(jsonObject);
 
                 if (monitor != null) monitor.onMessageProcessed(this, message);
             } catch (final Throwable e) {
@@ -173,7 +299,73 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
         }
     }
 
+    /**
+     * Receive from the terminal, cf {@link BinaryJsonDecoder}
+     */
+    @Override
+    public void onWebSocketBinary(final byte[] payload, final int offset, final int len) {
+        final WebSocket resumedWebSocket = this.resumedWebSocket;
+        if (resumedWebSocket != null) {
+            resumedWebSocket.onWebSocketBinary(payload, offset, len);
+            return;
+        } else if (resumedContextId != -1) {
+            log.info("Binary message received before the resume request, the terminal has to reload the application");
+            session.close(RESUMPTION_REJECTED, "Missing resume request");
+            return;
+        }
+        if (this.listener != null) listener.onIncomingBinary(len);
+        if (isAlive()) {
+            JsonObject jsonObject = null;
+            // Only needed by the monitor
+            String message = null;
+            try {
+                uiContext.onMessageReceived();
+                uiContext.getMetrics().onMessageReceived();
+                jsonObject = binaryDecoder.decode(payload, offset, len);
+                if (monitor != null) {
+                    message = jsonObject.toString();
+                    monitor.onMessageReceived(WebSocket.this, message);
+                }
+
+                processMessage(jsonObject);
+
+                if (monitor != null) monitor.onMessageProcessed(this, message);
+            } catch (final Throwable e) {
+                log.error("Cannot process message from terminal  #" + uiContext.getID() + " : "
+                        + (jsonObject != null ? jsonObject : len + " bytes"), e);
+            } finally {
+                if (monitor != null) monitor.onMessageUnprocessed(this, message);
+            }
+        } else {
+            log.info("UI Context #{} is destroyed, binary message dropped from terminal : {} bytes",
+                    uiContext != null ? uiContext.getID() : -1, len);
+        }
+    }
+
+    private void processMessage(final JsonObject jsonObject) {
+        if (jsonObject.containsKey(ClientToServerModel.HEARTBEAT_REQUEST.toStringValue())) {
+            sendHeartbeat();
+        } else if (jsonObject.containsKey(ClientToServerModel.TERMINAL_LATENCY.toStringValue())) {
+            processRoundtripLatency(jsonObject);
+        } else if (jsonObject.containsKey(ClientToServerModel.APPLICATION_INSTRUCTIONS.toStringValue())) {
+            processInstructions(jsonObject);
+        } else if (jsonObject.containsKey(ClientToServerModel.ERROR_MSG.toStringValue())) {
+            processTerminalLog(jsonObject, ClientToServerModel.ERROR_MSG);
+        } else if (jsonObject.containsKey(ClientToServerModel.WARN_MSG.toStringValue())) {
+            processTerminalLog(jsonObject, ClientToServerModel.WARN_MSG);
+        } else if (jsonObject.containsKey(ClientToServerModel.INFO_MSG.toStringValue())) {
+            processTerminalLog(jsonObject, ClientToServerModel.INFO_MSG);
+        } else {
+            log.error("Unknown message from terminal #{} : {}", uiContext.getID(), jsonObject);
+        }
+    }
+
     private void processRoundtripLatency(final JsonObject jsonObject) {
+        final String resumeOffsetKey = ClientToServerModel.RESUME_OFFSET.toStringValue();
+        if (jsonObject.containsKey(resumeOffsetKey) && resumeToken != null) {
+            websocketPusher.getReplayBuffer().acknowledge(jsonObject.getJsonNumber(resumeOffsetKey).longValue());
+        }
+
         final long roundtripLatency = TimeUnit.MILLISECONDS.convert(System.nanoTime() - lastSentPing, TimeUnit.NANOSECONDS);
         log.debug("Roundtrip measurement : {} ms from terminal #{}", roundtripLatency, uiContext.getID());
         uiContext.addRoundtripLatencyValue(roundtripLatency);
@@ -189,10 +381,16 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
 
     private void processInstructions(final JsonObject jsonObject) {
         final String applicationInstructions = ClientToServerModel.APPLICATION_INSTRUCTIONS.toStringValue();
-        uiContext.execute(() -> {
+        uiContext.submit(() -> {
             final JsonArray appInstructions = jsonObject.getJsonArray(applicationInstructions);
+            uiContext.getMetrics().onInstructionsReceived(appInstructions.size());
             for (int i = 0; i < appInstructions.size(); i++) {
-                uiContext.fireClientData(appInstructions.getJsonObject(i));
+                final JsonObject instruction = appInstructions.getJsonObject(i);
+                try {
+                    uiContext.fireClientData(instruction);
+                } catch (final Throwable e) {
+                    log.error("Cannot process client instruction {} from terminal #{}", instruction, uiContext.getID(), e);
+                }
             }
         });
     }
@@ -221,14 +419,6 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
         }
     }
 
-    /**
-     * Receive from the terminal
-     */
-    @Override
-    public void onWebSocketBinary(final byte[] payload, final int offset, final int len) {
-        // Can't receive binary data from terminal (GWT limitation)
-    }
-
     /**
      * Send round trip to the client
      */
@@ -251,7 +441,24 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
     }
 
     public void flush() {
-        if (isAlive() && isSessionOpen()) flush0();
+        // While suspended, the flushed data is kept in the replay buffer
+        if (isAlive() && (isSessionOpen() || uiContext.isSuspended())) flush0();
+    }
+
+    /**
+     * @return true if the terminal does not read fast enough and only urgent messages should be written
+     * @see com.ponysdk.core.server.concurrent.AutoFlushedBuffer#shouldOnlyWriteUrgentMessages()
+     */
+    public boolean shouldOnlyWriteUrgentMessages() {
+        return websocketPusher != null && websocketPusher.shouldOnlyWriteUrgentMessages();
+    }
+
+    /**
+     * @return the number of bytes flushed but not yet written on the connection
+     * @see com.ponysdk.core.server.concurrent.AutoFlushedBuffer#getPendingFlushSize()
+     */
+    public int getPendingFlushSize() {
+        return websocketPusher != null ? websocketPusher.getPendingFlushSize() : 0;
     }
 
     void flush0() {
@@ -307,11 +514,55 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
             websocketPusher.encode(model, value);
             if (listener != null) listener.onOutgoingPonyFrame(model, value);
         } catch (final IOException e) {
-            log.error("Can't write on the websocket for UIContext #{}, so we destroy the application", uiContext.getID(), e);
-            uiContext.destroy();
+            onEncodeFailure(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final boolean value) {
+        try {
+            websocketPusher.encode(model, value);
+            if (listener != null) listener.onOutgoingPonyFrame(model, value);
+        } catch (final IOException e) {
+            onEncodeFailure(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final int value) {
+        try {
+            websocketPusher.encode(model, value);
+            if (listener != null) listener.onOutgoingPonyFrame(model, value);
+        } catch (final IOException e) {
+            onEncodeFailure(e);
+        }
+    }
+
+    @Override
+    public void encode(final ServerToClientModel model, final long value) {
+        try {
+            websocketPusher.encode(model, value);
+            if (listener != null) listener.onOutgoingPonyFrame(model, value);
+        } catch (final IOException e) {
+            onEncodeFailure(e);
         }
     }
 
+    @Override
+    public void encode(final ServerToClientModel model, final double value) {
+        try {
+            websocketPusher.encode(model, value);
+            if (listener != null) listener.onOutgoingPonyFrame(model, value);
+        } catch (final IOException e) {
+            onEncodeFailure(e);
+        }
+    }
+
+    private void onEncodeFailure(final IOException e) {
+        log.error("Can't write on the websocket for UIContext #{}, so we destroy the application", uiContext.getID(), e);
+        uiContext.destroy();
+    }
+
     private enum NiceStatusCode {
 
         NORMAL(StatusCode.NORMAL, "Normal closure"),
@@ -373,28 +624,69 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
         this.monitor = monitor;
     }
 
+    public void setBufferPool(final ByteBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
     public void setContext(final TxnContext context) {
         this.context = context;
     }
 
+    public void setResumableSessions(final ResumableSessions resumableSessions) {
+        this.resumableSessions = resumableSessions;
+    }
+
+    /**
+     * @param resumedContextId The id of the UIContext that the terminal resumes on this new connection, its resume
+     *            token and its offset are expected in the first message
+     */
+    void setResumedContextId(final int resumedContextId) {
+        this.resumedContextId = resumedContextId;
+    }
+
+    String getResumeToken() {
+        return resumeToken;
+    }
+
+    /**
+     * @return true if the UIContext can be resumed by a new connection of its terminal
+     */
+    public boolean isResumable() {
+        return resumeToken != null;
+    }
+
+    private boolean isResumptionEnabled(final ApplicationConfiguration configuration) {
+        return resumableSessions != null && configuration.getSessionResumptionTimeout() > 0;
+    }
+
     public void setListener(final Listener listener) {
         this.listener = listener;
         this.websocketPusher.setWebSocketListener(listener);
+        final PonyPerMessageDeflateExtension extension = getDeflateExtension();
+        if (extension != null) extension.setWebSocketListener(listener);
+    }
+
+    /**
+     * @return the compression statistics of the session, or null if the per-message deflate is not used
+     */
+    public DeflateStats getCompressionStats() {
+        final PonyPerMessageDeflateExtension extension = getDeflateExtension();
+        return extension != null ? extension.getStats() : null;
+    }
+
+    private PonyPerMessageDeflateExtension getDeflateExtension() {
         if (!(session instanceof Container)) {
             log.warn("Unrecognized session type {} for {}", session == null ? null : session.getClass(), uiContext);
-            return;
+            return null;
         }
         final ExtensionStack extensionStack = ((Container) session).getBean(ExtensionStack.class);
         if (extensionStack == null) {
             log.warn("No Extension Stack for {}", uiContext);
-            return;
+            return null;
         }
         final PonyPerMessageDeflateExtension extension = extensionStack.getBean(PonyPerMessageDeflateExtension.class);
-        if (extension == null) {
-            log.warn("Missing PonyPerMessageDeflateExtension from Extension Stack for {}", uiContext);
-            return;
-        }
-        extension.setWebSocketListener(listener);
+        if (extension == null) log.warn("Missing PonyPerMessageDeflateExtension from Extension Stack for {}", uiContext);
+        return extension;
     }
 
     public static interface Listener {
@@ -407,6 +699,9 @@ public class WebSocket implements WebSocketListener, WebsocketEncoder {
 
         void onIncomingText(String text);
 
+        default void onIncomingBinary(final int length) {
+        }
+
         void onIncomingWebSocketFrame(int headerLength, int payloadLength);
 
     }
@@ -28,6 +28,8 @@ import com.ponysdk.core.model.BooleanModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.model.ValueTypeModel;
 import com.ponysdk.core.server.concurrent.AutoFlushedBuffer;
+import com.ponysdk.core.server.concurrent.ByteBufferPool;
+import com.ponysdk.core.server.metrics.SessionMetrics;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WriteCallback;
 import org.slf4j.Logger;
@@ -36,7 +38,6 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
@@ -51,33 +52,74 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
     private static final int MAX_UNSIGNED_SHORT_VALUE = Short.MAX_VALUE * 2 + 1;
     private static final int MODEL_KEY_SIZE = 1;
 
-    private final Session session;
+    private volatile Session session;
+    private ReplayBuffer replayBuffer;
+    private ByteBuffer pendingFlush;
 
     private static volatile WebSocketStatsRecorder statsRecorder;
     private int metaBytes;
 
     private WebSocket.Listener listener;
+    private SessionMetrics metrics;
+    private long flushStartTime;
+
+    private StringDictionary stringDictionary;
+    private int mainWindowId = -1;
+    private boolean mainWindowBlock = true;
+    private boolean frameBlock;
 
     public WebSocketPusher(final Session session, final int bufferSize, final int maxChunkSize, final long timeoutMillis) {
         super(bufferSize, true, maxChunkSize, 0.25f, timeoutMillis);
         this.session = session;
     }
 
+    public WebSocketPusher(final Session session, final ByteBufferPool bufferPool, final int maxChunkSize, final long timeoutMillis) {
+        super(bufferPool, maxChunkSize, 0.25f, timeoutMillis);
+        this.session = session;
+    }
+
     @Override
     protected void doFlush(final ByteBuffer bufferToFlush) {
         final int bytes = bufferToFlush.remaining();
-        session.getRemote().sendBytes(bufferToFlush, this);
+        if (metrics != null) {
+            metrics.onMessageSent();
+            flushStartTime = System.nanoTime();
+        }
+        if (replayBuffer == null) {
+            session.getRemote().sendBytes(bufferToFlush, this);
+        } else {
+            final boolean detached;
+            synchronized (replayBuffer) {
+                replayBuffer.append(bufferToFlush);
+                pendingFlush = bufferToFlush;
+                final Session currentSession = session;
+                detached = currentSession == null;
+                if (!detached) currentSession.getRemote().sendBytes(bufferToFlush, this);
+            }
+            // No connection to write on, the data will be replayed when the session is resumed
+            if (detached) skipPendingFlush();
+        }
         if (listener != null) listener.onOutgoingPonyFramesBytes(bytes);
     }
 
+    private void skipPendingFlush() {
+        pendingFlush.position(pendingFlush.limit());
+        onFlushCompletion();
+    }
+
     @Override
     protected void closeFlusher() {
-        session.close();
+        final Session currentSession = session;
+        if (currentSession != null) currentSession.close();
     }
 
     @Override
     public void writeFailed(final Throwable t) {
-        if (t instanceof Exception) {
+        if (replayBuffer != null && t instanceof Exception) {
+            // The data is kept in the replay buffer, the connection will be replaced when the session is resumed
+            if (log.isDebugEnabled()) log.debug("Write failed, waiting for the session to be resumed", t);
+            skipPendingFlush();
+        } else if (t instanceof Exception) {
             onFlushFailure((Exception) t);
         } else {
             // wrap error into a generic exception to notify producer thread and rethrow the original throwable
@@ -88,6 +130,7 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
 
     @Override
     public void writeSuccess() {
+        if (metrics != null) metrics.recordFlushLatency(System.nanoTime() - flushStartTime);
         onFlushCompletion();
     }
 
@@ -130,13 +173,99 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
                 case ARRAY:
                     write(model, (Object[]) value);
                     break;
+                case STRING_DICTIONARY:
+                    writeDictionaryString(model, (String) value);
+                    break;
                 default:
                     log.error("Unknown model type : {}", model.getTypeModel());
                     break;
             }
     }
 
+    /**
+     * Primitive variant of {@link #encode(ServerToClientModel, Object)} that avoids boxing the value
+     */
+    void encode(final ServerToClientModel model, final boolean value) throws IOException {
+        if (log.isDebugEnabled()) log.debug("Writing in the buffer : {} => {}", model, value);
+        if (model.getTypeModel() == ValueTypeModel.BOOLEAN) write(model, value);
+        else throw new IllegalArgumentException("Cannot encode a boolean for the model " + model + " of type " + model.getTypeModel());
+    }
+
+    /**
+     * Primitive variant of {@link #encode(ServerToClientModel, Object)} that avoids boxing the value.
+     * The value is narrowed or widened to the value type of the model
+     */
+    void encode(final ServerToClientModel model, final int value) throws IOException {
+        if (log.isDebugEnabled()) log.debug("Writing in the buffer : {} => {}", model, value);
+        switch (model.getTypeModel()) {
+            case BYTE:
+                write(model, (byte) value);
+                break;
+            case SHORT:
+                write(model, (short) value);
+                break;
+            case UINT31:
+                writeUint31(model, value);
+                break;
+            case INTEGER:
+                write(model, value);
+                break;
+            case LONG:
+                write(model, (long) value);
+                break;
+            case DOUBLE:
+                write(model, (double) value);
+                break;
+            case FLOAT:
+                write(model, (float) value);
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot encode an int for the model " + model + " of type " + model.getTypeModel());
+        }
+    }
+
+    /**
+     * Primitive variant of {@link #encode(ServerToClientModel, Object)} that avoids boxing the value
+     */
+    void encode(final ServerToClientModel model, final long value) throws IOException {
+        if (log.isDebugEnabled()) log.debug("Writing in the buffer : {} => {}", model, value);
+        switch (model.getTypeModel()) {
+            case LONG:
+                write(model, value);
+                break;
+            case DOUBLE:
+                write(model, (double) value);
+                break;
+            case FLOAT:
+                write(model, (float) value);
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot encode a long for the model " + model + " of type " + model.getTypeModel());
+        }
+    }
+
+    /**
+     * Primitive variant of {@link #encode(ServerToClientModel, Object)} that avoids boxing the value
+     */
+    void encode(final ServerToClientModel model, final double value) throws IOException {
+        if (log.isDebugEnabled()) log.debug("Writing in the buffer : {} => {}", model, value);
+        switch (model.getTypeModel()) {
+            case DOUBLE:
+                write(model, value);
+                break;
+            case FLOAT:
+                write(model, (float) value);
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot encode a double for the model " + model + " of type " + model.getTypeModel());
+        }
+    }
+
     private void write(final ServerToClientModel model) throws IOException {
+        if (model == ServerToClientModel.END) {
+            frameBlock = false;
+            if (metrics != null) metrics.onInstructionSent();
+        }
         putModelKey(model);
         record(model, null, MODEL_KEY_SIZE, 0);
     }
@@ -148,37 +277,38 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
     private void write(final ServerToClientModel model, final byte value) throws IOException {
         putModelKey(model);
         put(value);
-        record(model, value, MODEL_KEY_SIZE, Byte.BYTES);
+        if (statsRecorder != null) record(model, value, MODEL_KEY_SIZE, Byte.BYTES);
     }
 
     private void write(final ServerToClientModel model, final short value) throws IOException {
         putModelKey(model);
         putShort(value);
-        record(model, value, MODEL_KEY_SIZE, Short.BYTES);
+        if (statsRecorder != null) record(model, value, MODEL_KEY_SIZE, Short.BYTES);
     }
 
     private void write(final ServerToClientModel model, final int value) throws IOException {
+        trackBlock(model, value);
         putModelKey(model);
         putInt(value);
-        record(model, value, MODEL_KEY_SIZE, Integer.BYTES);
+        if (statsRecorder != null) record(model, value, MODEL_KEY_SIZE, Integer.BYTES);
     }
 
     private void write(final ServerToClientModel model, final long longValue) throws IOException {
         putModelKey(model);
         putLong(longValue);
-        record(model, longValue, MODEL_KEY_SIZE, Long.BYTES);
+        if (statsRecorder != null) record(model, longValue, MODEL_KEY_SIZE, Long.BYTES);
     }
 
     private void write(final ServerToClientModel model, final double doubleValue) throws IOException {
         putModelKey(model);
         putDouble(doubleValue);
-        record(model, doubleValue, MODEL_KEY_SIZE, Double.BYTES);
+        if (statsRecorder != null) record(model, doubleValue, MODEL_KEY_SIZE, Double.BYTES);
     }
 
     private void write(final ServerToClientModel model, final float floatValue) throws IOException {
         putModelKey(model);
         putFloat(floatValue);
-        record(model, floatValue, MODEL_KEY_SIZE, Float.BYTES);
+        if (statsRecorder != null) record(model, floatValue, MODEL_KEY_SIZE, Float.BYTES);
     }
 
     private void write(final ServerToClientModel model, final Object[] value) throws IOException {
@@ -197,9 +327,10 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
     }
 
     private void writeUint31(final ServerToClientModel model, final int value) throws IOException {
+        trackBlock(model, value);
         putModelKey(model);
         final int bytes = putUint31(value);
-        record(model, value, MODEL_KEY_SIZE, bytes);
+        if (statsRecorder != null) record(model, value, MODEL_KEY_SIZE, bytes);
     }
 
     private int putUint31(final int value) throws IOException {
@@ -308,8 +439,7 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
 
     private int putArrayStringElement(final Object o) throws IOException {
         final String s = (String) o;
-        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
-        final int length = bytes.length;
+        final int length = utf8Length(s);
 
         if (length <= MAX_UNSIGNED_BYTE_VALUE) {
             put(length == s.length() ? ArrayValueModel.STRING_ASCII_UINT8_LENGTH.getValue()
@@ -327,27 +457,65 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
             metaBytes += 4;
         }
 
-        put(bytes);
+        putUTF8(s);
 
-        return bytes.length;
+        return length;
     }
 
     private void write(final ServerToClientModel model, final String value) throws IOException {
         putModelKey(model);
 
         try {
-            putString(model, value);
+            putString(model, value, MODEL_KEY_SIZE);
         } catch (final UnsupportedEncodingException e) {
             throw new IllegalArgumentException("Cannot convert message : " + value);
         }
     }
 
-    private void putString(final ServerToClientModel model, final String value) throws IOException {
-        int metaBytes = MODEL_KEY_SIZE;
+    /**
+     * The blocks of a window other than the main window, or of a frame, are forwarded by the main terminal to
+     * another terminal that doesn't share its string dictionary. As in the terminal, the first window of the
+     * connection is the main window, and the window of the previous block is kept until the next
+     * {@link ServerToClientModel#WINDOW_ID}.
+     */
+    private void trackBlock(final ServerToClientModel model, final int value) {
+        if (model == ServerToClientModel.WINDOW_ID) {
+            if (mainWindowId == -1) mainWindowId = value;
+            mainWindowBlock = value == mainWindowId;
+        } else if (model == ServerToClientModel.FRAME_ID) {
+            frameBlock = true;
+        }
+    }
+
+    private void writeDictionaryString(final ServerToClientModel model, final String value) throws IOException {
+        putModelKey(model);
+
+        if (value == null) {
+            final int headerBytes = putUint31(0);
+            record(model, null, MODEL_KEY_SIZE + headerBytes, 0);
+            return;
+        }
+
+        final int id = stringDictionary != null && mainWindowBlock && !frameBlock ? stringDictionary.lookup(value)
+                : StringDictionary.NOT_STORED;
+        if (id > 0) {
+            final int headerBytes = putUint31(id << 1);
+            record(model, value, MODEL_KEY_SIZE + headerBytes, 0);
+        } else {
+            final int headerBytes = putUint31(-id << 1 | ValueTypeModel.STRING_DICTIONARY_DEFINITION);
+            try {
+                putString(model, value, MODEL_KEY_SIZE + headerBytes);
+            } catch (final UnsupportedEncodingException e) {
+                throw new IllegalArgumentException("Cannot convert message : " + value);
+            }
+        }
+    }
+
+    private void putString(final ServerToClientModel model, final String value, final int headerBytes) throws IOException {
+        int metaBytes = headerBytes;
         int dataBytes;
         if (value != null) {
-            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
-            final int length = bytes.length;
+            final int length = utf8Length(value);
             if (value.length() == length) { //ASCII
                 if (length <= ValueTypeModel.STRING_ASCII_UINT8) { // 0 -> 250 (The MOST common case)
                     putUnsignedByte((short) length);
@@ -377,7 +545,7 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
                     metaBytes += 5;
                 }
             }
-            put(bytes);
+            putUTF8(value);
             dataBytes = length;
         } else {
             putUnsignedByte((short) 0);
@@ -437,7 +605,79 @@ public class WebSocketPusher extends AutoFlushedBuffer implements WriteCallback
         if (recorder != null) recorder.record(model, value, metaBytes, dataBytes);
     }
 
+    /**
+     * @param capacity The maximum number of strings stored for the connection, 0 to disable the string dictionary.
+     *            Must be set before the first message since the terminal keeps its entries.
+     */
+    void setStringDictionaryCapacity(final int capacity) {
+        this.stringDictionary = capacity > 0 ? new StringDictionary(capacity) : null;
+    }
+
+    StringDictionary getStringDictionary() {
+        return stringDictionary;
+    }
+
+    /**
+     * Keeps the sent bytes, so the session can be resumed on another connection.
+     * Must be set before the first message.
+     *
+     * @param capacity The maximum number of bytes kept to be replayed
+     */
+    void setReplayBufferSize(final int capacity) {
+        this.replayBuffer = new ReplayBuffer(capacity);
+    }
+
+    ReplayBuffer getReplayBuffer() {
+        return replayBuffer;
+    }
+
+    /**
+     * Stops writing on the current connection, the flushed data are only kept in the replay buffer until the session
+     * is resumed with {@link #attach(Session, long)}
+     */
+    void detach() {
+        synchronized (replayBuffer) {
+            session = null;
+        }
+    }
+
+    /**
+     * Resumes the session on a new connection, the data not received by the terminal is sent again before any new data
+     *
+     * @param newSession The new connection of the terminal
+     * @param offset The number of bytes received by the terminal
+     * @return false if the data from the offset is not available anymore, the session can't be resumed
+     */
+    boolean attach(final Session newSession, final long offset) {
+        synchronized (replayBuffer) {
+            if (!replayBuffer.isReplayable(offset)) return false;
+            replayBuffer.acknowledge(offset);
+            final ByteBuffer missingData = replayBuffer.read(offset);
+            if (missingData.hasRemaining()) {
+                final int bytes = missingData.remaining();
+                newSession.getRemote().sendBytes(missingData, new WriteCallback() {
+
+                    @Override
+                    public void writeSuccess() {
+                        log.debug("{} bytes replayed from offset {}", bytes, offset);
+                    }
+
+                    @Override
+                    public void writeFailed(final Throwable t) {
+                        log.warn("Cannot replay {} bytes from offset {}", bytes, offset, t);
+                    }
+                });
+            }
+            session = newSession;
+            return true;
+        }
+    }
+
     void setWebSocketListener(final WebSocket.Listener listener) {
         this.listener = listener;
     }
+
+    void setMetrics(final SessionMetrics metrics) {
+        this.metrics = metrics;
+    }
 }
@@ -23,6 +23,8 @@
 
 package com.ponysdk.core.server.websocket;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.servlet.http.HttpSession;
 
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
@@ -30,8 +32,10 @@ import org.eclipse.jetty.websocket.servlet.WebSocketServletFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.server.application.Application;
 import com.ponysdk.core.server.application.ApplicationManager;
+import com.ponysdk.core.server.concurrent.ByteBufferPool;
 import com.ponysdk.core.server.servlet.SessionManager;
 import com.ponysdk.core.server.stm.TxnContext;
 
@@ -43,6 +47,9 @@ public class WebSocketServlet extends org.eclipse.jetty.websocket.servlet.WebSoc
     private int maxIdleTime = 1000000;
     private final ApplicationManager applicationManager;
     private WebsocketMonitor monitor;
+    // Each connection starts with 16K and grows up to 1M, 64M are kept for reuse
+    private ByteBufferPool bufferPool = new ByteBufferPool(1 << 14, 1 << 20, true, 1L << 26, TimeUnit.SECONDS.toMillis(10));
+    private final ResumableSessions resumableSessions = new ResumableSessions();
 
     public WebSocketServlet(final ApplicationManager applicationManager) {
         this.applicationManager = applicationManager;
@@ -57,6 +64,15 @@ public class WebSocketServlet extends org.eclipse.jetty.websocket.servlet.WebSoc
             webSocket.setRequest(request);
             webSocket.setApplicationManager(applicationManager);
             webSocket.setMonitor(monitor);
+            webSocket.setBufferPool(bufferPool);
+            webSocket.setResumableSessions(resumableSessions);
+            // The resumption is checked with the first message, an unknown session is rejected with a close code so
+            // the terminal knows it has to reload
+            final int resumedContextId = getResumedContextId(request);
+            if (resumedContextId != -1) {
+                webSocket.setResumedContextId(resumedContextId);
+                return webSocket;
+            }
 
             final TxnContext context = new TxnContext(webSocket);
             webSocket.setContext(context);
@@ -69,6 +85,21 @@ public class WebSocketServlet extends org.eclipse.jetty.websocket.servlet.WebSoc
         });
     }
 
+    /**
+     * @return the id of the UIContext resumed by the terminal, -1 if it is a new session
+     */
+    private static int getResumedContextId(final ServletUpgradeRequest request) {
+        final String contextId = request.getHttpServletRequest().getParameter(ClientToServerModel.UI_CONTEXT_ID.toStringValue());
+        if (contextId == null) return -1;
+        try {
+            return Integer.parseInt(contextId);
+        } catch (final NumberFormatException e) {
+            log.warn("Invalid UIContext id to resume : {}", contextId);
+            // Not a UIContext id, the resumption will be rejected
+            return 0;
+        }
+    }
+
     protected void configureWithSession(final ServletUpgradeRequest request, final TxnContext context) {
         // Force session creation if there is no session
         request.getHttpServletRequest().getSession(true);
@@ -96,4 +127,22 @@ public class WebSocketServlet extends org.eclipse.jetty.websocket.servlet.WebSoc
         this.monitor = monitor;
     }
 
+    /**
+     * Gets the pool of the write buffers of the connections, to observe its occupancy
+     */
+    public ByteBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    public void setBufferPool(final ByteBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * Gets the WebSockets whose UIContext can be resumed, to observe their count
+     */
+    public ResumableSessions getResumableSessions() {
+        return resumableSessions;
+    }
+
 }
@@ -35,6 +35,44 @@ public interface WebsocketEncoder {
      */
     void encode(final ServerToClientModel model, final Object value);
 
+    /**
+     * Encodes a primitive value without boxing it. The value is converted to the value type of the model
+     *
+     * @param model Model to encode
+     * @param value The value, must be compatible with a {@link com.ponysdk.core.model.ValueTypeModel#BOOLEAN} model
+     */
+    default void encode(final ServerToClientModel model, final boolean value) {
+        encode(model, (Object) value);
+    }
+
+    /**
+     * @param model Model to encode
+     * @param value The value, must be compatible with an integral or floating point model
+     * @see #encode(ServerToClientModel, boolean)
+     */
+    default void encode(final ServerToClientModel model, final int value) {
+        encode(model, (Object) value);
+    }
+
+    /**
+     * @param model Model to encode
+     * @param value The value, must be compatible with a {@link com.ponysdk.core.model.ValueTypeModel#LONG} or
+     *            floating point model
+     * @see #encode(ServerToClientModel, boolean)
+     */
+    default void encode(final ServerToClientModel model, final long value) {
+        encode(model, (Object) value);
+    }
+
+    /**
+     * @param model Model to encode
+     * @param value The value, must be compatible with a floating point model
+     * @see #encode(ServerToClientModel, boolean)
+     */
+    default void encode(final ServerToClientModel model, final double value) {
+        encode(model, (Object) value);
+    }
+
     void endObject();
 
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationHandle;
+import com.google.gwt.user.client.Timer;
+
+/**
+ * Runs a task once on the next animation frame. Animation frames are suspended while the document is hidden, the task
+ * is then run after a delay.
+ */
+class AnimationFrameTask {
+
+    private final Runnable task;
+    private final int maxDelay;
+
+    private AnimationHandle animationHandle;
+    private Timer timer;
+
+    AnimationFrameTask(final Runnable task, final int maxDelay) {
+        this.task = task;
+        this.maxDelay = maxDelay;
+    }
+
+    void schedule() {
+        if (isScheduled()) return;
+
+        animationHandle = AnimationScheduler.get().requestAnimationFrame(timestamp -> run());
+        if (timer == null) {
+            timer = new Timer() {
+
+                @Override
+                public void run() {
+                    AnimationFrameTask.this.run();
+                }
+            };
+        }
+        timer.schedule(maxDelay);
+    }
+
+    boolean isScheduled() {
+        return animationHandle != null;
+    }
+
+    void cancel() {
+        if (animationHandle == null) return;
+        animationHandle.cancel();
+        animationHandle = null;
+        timer.cancel();
+    }
+
+    private void run() {
+        cancel();
+        task.run();
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gwt.dom.client.Document;
+
+import elemental.html.Uint8Array;
+import elemental.js.util.JsArrayOf;
+
+/**
+ * Terminal micro-benchmark : replays frames recorded by the main terminal in detached terminals, to measure the cost
+ * of the terminal alone (decoding, dispatch of the instructions, DOM updates and layout) without the server and the
+ * network.
+ * <p>
+ * Start the application with the {@value #RECORD_FRAMES_PARAMETER} URL parameter to record the frames received by
+ * the main terminal from the start of the session, then call
+ * {@code pony.replayFrames(pony.getRecordedFrames(), 20)} from the browser console.
+ * <p>
+ * A replay leaves the session untouched : it doesn't create the windows, the browser, the frames and the scripts,
+ * nor change the history, the cookies or the focus, and its root panels are attached to a hidden panel instead of the
+ * root panels of the session. The JavaScript add-ons are still created, as they are part of the cost of a render.
+ */
+final class FrameReplayer {
+
+    static final String RECORD_FRAMES_PARAMETER = "ponyRecordFrames";
+
+    private static final Logger log = Logger.getLogger(FrameReplayer.class.getName());
+
+    private FrameReplayer() {
+    }
+
+    /**
+     * @return the mean duration of a replay of all the frames, in milliseconds
+     */
+    static double replay(final JsArrayOf<Uint8Array> frames, final int iterations) {
+        double total = 0;
+        double min = Double.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            final UIBuilder uiBuilder = new UIBuilder(true);
+            uiBuilder.init(requestData -> {
+            });
+
+            final double start = now();
+            for (int f = 0; f < frames.length(); f++) {
+                uiBuilder.updateMainTerminal(frames.get(f));
+            }
+            // Force the layout, it is part of the cost of a render
+            Document.get().getBody().getOffsetHeight();
+            final double duration = now() - start;
+
+            total += duration;
+            min = Math.min(min, duration);
+            uiBuilder.detachWidgets();
+        }
+
+        final double mean = iterations > 0 ? total / iterations : 0;
+        if (log.isLoggable(Level.INFO))
+            log.info("Replayed " + frames.length() + " frames " + iterations + " times : mean " + mean + " ms, min " + min + " ms");
+        return mean;
+    }
+
+    private static native double now() /*-{
+                                       return $wnd.performance.now();
+                                       }-*/;
+
+}
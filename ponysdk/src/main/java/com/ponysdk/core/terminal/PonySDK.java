@@ -46,6 +46,8 @@ import com.ponysdk.core.terminal.ui.PTObject;
 import com.ponysdk.core.terminal.ui.PTWindowManager;
 
 import elemental.client.Browser;
+import elemental.html.Uint8Array;
+import elemental.js.util.JsArrayOf;
 import elemental.xml.XMLHttpRequest;
 import jsinterop.annotations.JsType;
 
@@ -54,6 +56,8 @@ public class PonySDK implements UncaughtExceptionHandler {
 
     private static final Logger log = Logger.getLogger(PonySDK.class.getName());
 
+    private static final int HEARTBEAT_FAILURE = 4001;
+
     private static PonySDK INSTANCE;
 
     private final UIBuilder uiBuilder = new UIBuilder();
@@ -66,8 +70,14 @@ public class PonySDK implements UncaughtExceptionHandler {
 
     //Communication SanityChecker
     private long lastHeartBeatFail = 0L;
+    private int heartBeatPeriod;
+    private boolean heartBeatStarted;
     private ReconnectionChecker reconnectionChecker;
 
+    //Session resumption
+    private String resumeToken;
+    private int resumeTimeout;
+
     public PonySDK() {
         if (INSTANCE != null) throw new RuntimeException("Cannot instanciate PonySDK twice");
         INSTANCE = this;
@@ -97,10 +107,45 @@ public class PonySDK implements UncaughtExceptionHandler {
 
     private void startMainContext() {
         Window.addCloseHandler(event -> close());
-        final String builder = GWT.getHostPageBaseURL().replaceFirst("http", "ws") + MappingPath.WEBSOCKET + "?"
-                + ClientToServerModel.TYPE_HISTORY.toStringValue() + "=" + History.getToken();
         reconnectionChecker = new ReconnectionChecker();
-        socketClient = new WebSocketClient(builder, uiBuilder, reconnectionChecker);
+        if (Window.Location.getParameter(FrameReplayer.RECORD_FRAMES_PARAMETER) != null) uiBuilder.startFrameRecording();
+        socketClient = new WebSocketClient(getWebSocketUrl(), uiBuilder, reconnectionChecker);
+    }
+
+    private static String getWebSocketUrl() {
+        return GWT.getHostPageBaseURL().replaceFirst("http", "ws") + MappingPath.WEBSOCKET + "?"
+                + ClientToServerModel.TYPE_HISTORY.toStringValue() + "=" + History.getToken();
+    }
+
+    /**
+     * Opens a new connection resuming the session, the server only sends the data that has not been received
+     *
+     * @param disconnectionTime the time when the connection was lost
+     * @return false if the session can't be resumed, the application has to be reloaded
+     */
+    boolean resume(final long disconnectionTime) {
+        if (resumeToken == null || System.currentTimeMillis() - disconnectionTime > resumeTimeout) return false;
+        log.info("Resuming the session from " + uiBuilder.getReceivedBytes() + " received bytes");
+        final String url = getWebSocketUrl() + "&" + ClientToServerModel.UI_CONTEXT_ID.toStringValue() + "=" + contextId;
+        // The token is sent by the first message rather than in the URL, which can be logged by the proxies
+        final PTInstruction resumeRequest = new PTInstruction();
+        resumeRequest.put(ClientToServerModel.RESUME_TOKEN, resumeToken);
+        resumeRequest.put(ClientToServerModel.RESUME_OFFSET, uiBuilder.getReceivedBytes());
+        socketClient = new WebSocketClient(url, uiBuilder, reconnectionChecker, resumeRequest);
+        return true;
+    }
+
+    void onResumed() {
+        if (!heartBeatStarted) startHeartBeat();
+    }
+
+    public void setSessionResumption(final String resumeToken, final int resumeTimeout) {
+        this.resumeToken = resumeToken;
+        this.resumeTimeout = resumeTimeout;
+    }
+
+    public boolean isResumable() {
+        return resumeToken != null;
     }
 
     private void startChildContext() {
@@ -172,6 +217,23 @@ public class PonySDK implements UncaughtExceptionHandler {
         uiBuilder.setReadyWindow(windowID);
     }
 
+    /**
+     * @return the frames received by the main terminal, if the application has been started with the
+     *         {@value FrameReplayer#RECORD_FRAMES_PARAMETER} URL parameter
+     */
+    public JsArrayOf<Uint8Array> getRecordedFrames() {
+        return uiBuilder.getRecordedFrames();
+    }
+
+    /**
+     * Replays recorded frames in detached terminals
+     *
+     * @return the mean duration of a replay, in milliseconds
+     */
+    public double replayFrames(final JsArrayOf<Uint8Array> frames, final int iterations) {
+        return FrameReplayer.replay(frames, iterations);
+    }
+
     public void registerAddOnFactory(final String signature, final JavascriptAddOnFactory javascriptAddOnFactory) {
         uiBuilder.registerJavascriptAddOnFactory(signature, javascriptAddOnFactory);
     }
@@ -186,7 +248,7 @@ public class PonySDK implements UncaughtExceptionHandler {
     }
 
     public void close() {
-        socketClient.close();
+        socketClient.close(1000, "window closed");
         PTWindowManager.closeAll();
     }
 
@@ -207,8 +269,15 @@ public class PonySDK implements UncaughtExceptionHandler {
     }
 
     public void setHeartBeatPeriod(final int heartBeatInseconds) {
-        if (heartBeatInseconds == 0) return;
-        final int heartBeatInMilli = heartBeatInseconds * 1000;
+        heartBeatPeriod = heartBeatInseconds;
+        startHeartBeat();
+    }
+
+    private void startHeartBeat() {
+        if (heartBeatPeriod == 0) return;
+        heartBeatStarted = true;
+        lastHeartBeatFail = 0L;
+        final int heartBeatInMilli = heartBeatPeriod * 1000;
         Scheduler.get().scheduleFixedDelay(() -> {
             final long now = System.currentTimeMillis();
             final long lastMessageTime = socketClient.getLastMessageTime();
@@ -221,9 +290,11 @@ public class PonySDK implements UncaughtExceptionHandler {
                 }
             } else {
                 if (now - lastMessageTime > heartBeatInMilli) {
-                    socketClient.close(1000, "server did not respond");
+                    // Not a normal closure, so the server keeps the session if it can be resumed
+                    socketClient.close(HEARTBEAT_FAILURE, "server did not respond");
                     reconnectionChecker.detectConnectionFailure();
                     //stop the scheduling
+                    heartBeatStarted = false;
                     return false;
                 } else {
                     lastHeartBeatFail = 0L;
@@ -48,6 +48,7 @@ public class ReconnectionChecker {
     private final XMLHttpRequest reconnectionRequest;
 
     private boolean errorDetected;
+    private long disconnectionTime = -1;
 
     public ReconnectionChecker() {
         window = Browser.getWindow();
@@ -57,7 +58,7 @@ public class ReconnectionChecker {
             if (reconnectionRequest.getReadyState() == XMLHttpRequest.DONE) {
                 if (reconnectionRequest.getStatus() == HTTP_STATUS_CODE_OK) {
                     errorDetected = false;
-                    window.getLocation().reload();
+                    if (!PonySDK.get().resume(disconnectionTime)) window.getLocation().reload();
                 } else {
                     // We reschedule the next check (we wait to avoid spaming)
                     Scheduler.get().scheduleFixedDelay(() -> {
@@ -72,6 +73,8 @@ public class ReconnectionChecker {
     public void detectConnectionFailure() {
         if (errorDetected) return;
         errorDetected = true;
+        // A failed resumption doesn't extend the time allowed to resume the session
+        if (disconnectionTime == -1) disconnectionTime = System.currentTimeMillis();
 
         log.severe("Failure detected");
         notifyConnectionLostListeners();
@@ -93,6 +96,24 @@ public class ReconnectionChecker {
         }, RETRY_PERIOD);
     }
 
+    public void onConnectionResumed() {
+        disconnectionTime = -1;
+        log.info("Connection resumed");
+        PonySDK.get().onResumed();
+
+        if (isSpecificReconnectionInformation()) {
+            hideSpecificReconnectionInformation();
+        } else {
+            final Element reconnectionElement = Browser.getDocument().getElementById("reconnection");
+            reconnectionElement.getStyle().setDisplay("none");
+        }
+    }
+
+    public void onResumptionRejected() {
+        log.info("The session can't be resumed, reloading the application");
+        window.getLocation().reload();
+    }
+
     private final native void notifyConnectionLostListeners() /*-{
                                                               for(var i = 0 ; i < $wnd.document.onConnectionLostListeners.length ; i++) {
                                                                   var connectionLostListener = $wnd.document.onConnectionLostListeners[i];
@@ -112,6 +133,10 @@ public class ReconnectionChecker {
                                                                     $wnd.showReconnectionInformation();
                                                                     }-*/;
 
+    private final native void hideSpecificReconnectionInformation() /*-{
+                                                                    if ($wnd.hideReconnectionInformation && typeof $wnd.hideReconnectionInformation == 'function') $wnd.hideReconnectionInformation();
+                                                                    }-*/;
+
     private void retryConnection() {
         reconnectionRequest.open("GET", getPingUrl() + "&retry");
         setHTTPRequestTimeout(reconnectionRequest, RETRY_TIMEOUT);
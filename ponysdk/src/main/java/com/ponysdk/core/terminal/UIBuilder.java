@@ -29,11 +29,19 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import com.google.gwt.core.client.Duration;
 import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style;
+import com.google.gwt.dom.client.Style.Overflow;
+import com.google.gwt.dom.client.Style.Position;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.dom.client.Style.Visibility;
 import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONValue;
 import com.google.gwt.user.client.History;
+import com.google.gwt.user.client.ui.AbsolutePanel;
+import com.google.gwt.user.client.ui.RootLayoutPanel;
 import com.google.gwt.user.client.ui.RootPanel;
 import com.google.gwt.user.client.ui.UIObject;
 import com.google.gwt.user.client.ui.Widget;
@@ -43,7 +51,9 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.model.WidgetType;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.StaleUpdateIndex;
 import com.ponysdk.core.terminal.request.RequestBuilder;
 import com.ponysdk.core.terminal.ui.PTCookies;
 import com.ponysdk.core.terminal.ui.PTFrame;
@@ -55,6 +65,9 @@ import com.ponysdk.core.terminal.ui.PTWindowManager;
 
 import elemental.client.Browser;
 import elemental.html.Uint8Array;
+import elemental.js.util.JsArrayOf;
+import elemental.util.ArrayOfInt;
+import elemental.util.ArrayOfNumber;
 import elemental.util.Collections;
 import elemental.util.MapFromIntTo;
 import elemental.util.MapFromStringTo;
@@ -63,6 +76,30 @@ public class UIBuilder {
 
     private static final Logger log = Logger.getLogger(UIBuilder.class.getName());
 
+    // Longest wait for an animation frame, when the document is hidden
+    private static final int MAX_FRAME_DELAY = 100;
+
+    // Number of blocks applied between two checks of the frame budget
+    private static final int BUDGET_CHECK_PERIOD = 16;
+
+    private static final ModelDispatcher<UIBuilder> INSTRUCTIONS = new ModelDispatcher<UIBuilder>()
+        .register(ServerToClientModel.TYPE_CREATE, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processCreate(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_UPDATE, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processUpdate(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_ADD, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processAdd(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_GC, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processGC(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_REMOVE, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processRemove(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_ADD_HANDLER, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processAddHandler(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_REMOVE_HANDLER, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processRemoveHandler(buffer, binaryModel.getIntValue()))
+        .register(ServerToClientModel.TYPE_HISTORY, (uiBuilder, buffer, binaryModel) -> uiBuilder
+            .processHistory(buffer, binaryModel.getStringValue()));
+
     private final UIFactory uiFactory = new UIFactory();
     private final MapFromIntTo<PTObject> objectByID = Collections.mapFromIntTo();
     private final Map<UIObject, Integer> objectIDByWidget = new HashMap<>();
@@ -73,20 +110,55 @@ public class UIBuilder {
 
     private RequestBuilder requestBuilder;
 
+    private JSONArray pendingInstructions;
+    private final Map<Object, Integer> latestInstructionIndexes = new HashMap<>();
+    private final AnimationFrameTask flushTask = new AnimationFrameTask(this::flushInstructions, MAX_FRAME_DELAY);
+
+    // Frames received and not applied yet, applied in slices of frameBudget ms per animation frame
+    private JsArrayOf<Uint8Array> pendingFrames;
+    private int frameBudget;
+    private boolean applyingFrames;
+    private final AnimationFrameTask applyTask = new AnimationFrameTask(this::applyFrames, MAX_FRAME_DELAY);
+    private final StaleUpdateIndex staleUpdates = new StaleUpdateIndex();
+    private boolean staleUpdatesIndexed;
+
     private int currentWindowId = -1;
 
-    private long lastReceivedMessage;
+    // Arrival time of the pending frames, then of the frames merged in the reader buffer with the position they end at
+    private final ArrayOfNumber pendingFrameArrivals = Collections.arrayOfNumber();
+    private final ArrayOfNumber bufferFrameArrivals = Collections.arrayOfNumber();
+    private final ArrayOfInt bufferFrameEnds = Collections.arrayOfInt();
+    private long receivedBytes;
+
+    // A replay only rebuilds the widgets, without side effects on the session or the other windows
+    private final boolean replay;
+    private AbsolutePanel replayRoot;
+    private JsArrayOf<Uint8Array> recordedFrames;
+
+    public UIBuilder() {
+        this(false);
+    }
+
+    UIBuilder(final boolean replay) {
+        this.replay = replay;
+    }
 
     public void init(final RequestBuilder requestBuilder) {
         if (log.isLoggable(Level.INFO)) log.info("Init graphical system");
 
         this.requestBuilder = requestBuilder;
 
+        // A replay leaves the history and the cookies of the session untouched
+        if (replay) return;
+
         PTHistory.addValueChangeHandler(this);
 
         final PTCookies cookies = new PTCookies(this);
         objectByID.put(0, cookies);
 
+        // The pending instructions would be lost with the page
+        Browser.getWindow().addEventListener("pagehide", event -> flushInstructions(), false);
+
         // hide loading component
         final Widget w = RootPanel.get("loading");
         if (w != null) {
@@ -97,87 +169,205 @@ public class UIBuilder {
         }
     }
 
+    /**
+     * Replaces the connection to the server, when the session is resumed
+     */
+    public void setRequestBuilder(final RequestBuilder requestBuilder) {
+        this.requestBuilder = requestBuilder;
+    }
+
+    /**
+     * @return the number of bytes received from the server, the offset from which a resumed session continues
+     */
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Keeps all the frames received from now on, to be replayed by {@link FrameReplayer}
+     */
+    void startFrameRecording() {
+        recordedFrames = JsArrayOf.create();
+    }
+
+    JsArrayOf<Uint8Array> getRecordedFrames() {
+        return recordedFrames;
+    }
+
     public void updateMainTerminal(final Uint8Array buffer) {
-        lastReceivedMessage = System.currentTimeMillis();
+        if (recordedFrames != null) recordedFrames.push(buffer);
+        receivedBytes += buffer.getByteLength();
+
+        if (pendingFrames == null) pendingFrames = JsArrayOf.create();
+        pendingFrames.push(buffer);
+        pendingFrameArrivals.push(Duration.currentTimeMillis());
+        if (!applyingFrames) applyFrames();
+    }
+
+    /**
+     * Applies the pending frames in order until the frame budget is spent, the next ones are applied on the next
+     * animation frame so the browser can render and handle the user inputs meanwhile. When the terminal falls behind,
+     * the updates superseded by a pending update are skipped.
+     */
+    private void applyFrames() {
+        applyingFrames = true;
+        try {
+            final double deadline = frameBudget > 0 ? Duration.currentTimeMillis() + frameBudget : Double.MAX_VALUE;
+            int appliedBlocks = 0;
+            while (true) {
+                if (!applyNextBlock()) {
+                    if (pendingFrames.isEmpty()) return;
+                    final boolean behind = pendingFrames.length() > 1;
+                    readerBuffer.init(pendingFrames);
+                    indexFrameArrivals();
+                    pendingFrames.setLength(0);
+                    staleUpdatesIndexed = false;
+                    if (behind) indexStaleUpdates();
+                } else if (++appliedBlocks % BUDGET_CHECK_PERIOD == 0 && Duration.currentTimeMillis() >= deadline) {
+                    if (!staleUpdatesIndexed) indexStaleUpdates();
+                    applyTask.schedule();
+                    return;
+                }
+            }
+        } finally {
+            applyingFrames = applyTask.isScheduled();
+        }
+    }
 
-        readerBuffer.init(buffer);
+    /**
+     * Keeps where each merged frame ends in the reader buffer, a block belongs to the frame holding its last byte
+     */
+    private void indexFrameArrivals() {
+        bufferFrameArrivals.setLength(0);
+        bufferFrameEnds.setLength(0);
+        int end = readerBuffer.getSize();
+        for (int i = pendingFrames.length() - 1; i >= 0; i--) {
+            bufferFrameEnds.insert(0, end);
+            bufferFrameArrivals.insert(0, pendingFrameArrivals.get(i));
+            end -= pendingFrames.get(i).getByteLength();
+        }
+        pendingFrameArrivals.setLength(0);
+    }
 
-        while (readerBuffer.hasEnoughKeyBytes()) {
-            final int nextBlockPosition = readerBuffer.shiftNextBlock(true);
-            if (nextBlockPosition == ReaderBuffer.NOT_FULL_BUFFER_POSITION) return;
+    /**
+     * @return the arrival time of the frame completing the block ending at the given position
+     */
+    private double getArrivalTime(final int blockEndPosition) {
+        for (int i = 0; i < bufferFrameEnds.length(); i++) {
+            if (blockEndPosition <= bufferFrameEnds.get(i)) return bufferFrameArrivals.get(i);
+        }
+        return Duration.currentTimeMillis();
+    }
 
-            // Detect if the message is not for the main terminal but for a specific window
-            final BinaryModel binaryModel = readerBuffer.readBinaryModel();
-            final ServerToClientModel model = binaryModel.getModel();
+    private void indexStaleUpdates() {
+        staleUpdates.index(readerBuffer, currentWindowId, PTWindowManager.getMainWindowId());
+        staleUpdatesIndexed = true;
+        if (log.isLoggable(Level.FINE))
+            log.fine("Terminal behind the server, " + staleUpdates.getStaleCount() + " stale updates will be skipped");
+    }
 
-            if (ServerToClientModel.ROUNDTRIP_LATENCY == model) {
-                final PTInstruction requestData = new PTInstruction();
-                requestData.put(ClientToServerModel.TERMINAL_LATENCY, System.currentTimeMillis() - lastReceivedMessage);
-                requestBuilder.send(requestData);
-                readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
-            } else if (ServerToClientModel.CREATE_CONTEXT == model) {
-                PonySDK.get().setContextId(binaryModel.getIntValue());
-                // Read ServerToClientModel.OPTION_FORMFIELD_TABULATION element
-                PonySDK.get().setTabindexOnlyFormField(readerBuffer.readBinaryModel().getBooleanValue());
-                PonySDK.get().setHeartBeatPeriod(readerBuffer.readBinaryModel().getIntValue());
-                readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
-            } else if (ServerToClientModel.DESTROY_CONTEXT == model) {
-                destroy();
-                readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
-            } else if (ServerToClientModel.HEARTBEAT == model) {
+    /**
+     * @return false if the buffer has no complete block left
+     */
+    private boolean applyNextBlock() {
+        if (!readerBuffer.hasEnoughKeyBytes()) return false;
+
+        final int blockPosition = readerBuffer.getPosition();
+        final int nextBlockPosition = readerBuffer.shiftNextBlock(true);
+        if (nextBlockPosition == ReaderBuffer.NOT_FULL_BUFFER_POSITION) return false;
+
+        if (staleUpdatesIndexed && staleUpdates.isStale(blockPosition)) {
+            // Skipped but decoded, its definitions of the string dictionary are used by the next blocks
+            readerBuffer.shiftNextBlock(false);
+            return true;
+        }
+
+        // Detect if the message is not for the main terminal but for a specific window
+        final BinaryModel binaryModel = readerBuffer.readBinaryModel();
+        final ServerToClientModel model = binaryModel.getModel();
+
+        if (ServerToClientModel.ROUNDTRIP_LATENCY == model) {
+            final PTInstruction requestData = new PTInstruction();
+            // The time spent by the ping in the terminal, including the frames queued before it
+            requestData.put(ClientToServerModel.TERMINAL_LATENCY,
+                (long) (Duration.currentTimeMillis() - getArrivalTime(nextBlockPosition)));
+            // Acknowledge the received bytes, they don't have to be kept for a resumption anymore
+            if (PonySDK.get().isResumable()) requestData.put(ClientToServerModel.RESUME_OFFSET, receivedBytes);
+            requestBuilder.send(requestData);
+            readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
+        } else if (ServerToClientModel.CREATE_CONTEXT == model && replay) {
+            readerBuffer.shiftNextBlock(false);
+        } else if (ServerToClientModel.CREATE_CONTEXT == model) {
+            PonySDK.get().setContextId(binaryModel.getIntValue());
+            // Read ServerToClientModel.OPTION_FORMFIELD_TABULATION element
+            PonySDK.get().setTabindexOnlyFormField(readerBuffer.readBinaryModel().getBooleanValue());
+            PonySDK.get().setHeartBeatPeriod(readerBuffer.readBinaryModel().getIntValue());
+            frameBudget = readerBuffer.readBinaryModel().getIntValue();
+            final BinaryModel resumeModel = readerBuffer.readBinaryModel();
+            if (ServerToClientModel.RESUME_TOKEN == resumeModel.getModel()) {
+                final String resumeToken = resumeModel.getStringValue();
+                // Read ServerToClientModel.RESUME_TIMEOUT element
+                PonySDK.get().setSessionResumption(resumeToken, readerBuffer.readBinaryModel().getIntValue());
                 readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
-            } else {
-                final int oldCurrentWindowId = currentWindowId;
-                if (ServerToClientModel.WINDOW_ID == model) currentWindowId = binaryModel.getIntValue();
-
-                if (currentWindowId == PTWindowManager.getMainWindowId() || oldCurrentWindowId == -1) {
-                    BinaryModel binaryModel2;
-                    if (ServerToClientModel.WINDOW_ID == model) binaryModel2 = readerBuffer.readBinaryModel();
-                    else binaryModel2 = binaryModel;
-
-                    final ServerToClientModel model2 = binaryModel.getModel();
-                    if (ServerToClientModel.FRAME_ID == model2) {
-                        final int frameId = binaryModel2.getIntValue();
-                        final PTFrame frame = (PTFrame) getPTObject(frameId);
-                        frame.postMessage(readerBuffer.slice(readerBuffer.getPosition(), nextBlockPosition));
-                    } else {
-                        update(binaryModel, readerBuffer);
-                    }
+            }
+        } else if (ServerToClientModel.DESTROY_CONTEXT == model) {
+            if (!replay) destroy();
+            readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
+        } else if (ServerToClientModel.HEARTBEAT == model) {
+            readerBuffer.readBinaryModel(); // Read ServerToClientModel.END element
+        } else {
+            final int oldCurrentWindowId = currentWindowId;
+            if (ServerToClientModel.WINDOW_ID == model) currentWindowId = binaryModel.getIntValue();
+
+            if (currentWindowId == PTWindowManager.getMainWindowId() || oldCurrentWindowId == -1) {
+                BinaryModel binaryModel2;
+                if (ServerToClientModel.WINDOW_ID == model) binaryModel2 = readerBuffer.readBinaryModel();
+                else binaryModel2 = binaryModel;
+
+                final ServerToClientModel model2 = binaryModel.getModel();
+                if (ServerToClientModel.FRAME_ID == model2) {
+                    final int frameId = binaryModel2.getIntValue();
+                    final PTFrame frame = (PTFrame) getPTObject(frameId);
+                    frame.postMessage(readerBuffer.slice(readerBuffer.getPosition(), nextBlockPosition));
                 } else {
-                    if (ServerToClientModel.WINDOW_ID != model) readerBuffer.rewind(binaryModel);
-
-                    final PTWindow window = PTWindowManager.getWindow(currentWindowId);
-                    if (window != null && window.isReady()) {
-                        final int startPosition = readerBuffer.getPosition();
-                        int endPosition = nextBlockPosition;
-
-                        // Concat multiple messages for the same window
-                        readerBuffer.setPosition(endPosition);
-                        while (readerBuffer.hasEnoughKeyBytes()) {
-                            final int nextBlockPosition1 = readerBuffer.shiftNextBlock(true);
-                            if (nextBlockPosition1 != ReaderBuffer.NOT_FULL_BUFFER_POSITION) {
-                                final BinaryModel newBinaryModel = readerBuffer.readBinaryModel();
-                                final ServerToClientModel model2 = newBinaryModel.getModel();
-                                if (ServerToClientModel.WINDOW_ID != model2 && ServerToClientModel.ROUNDTRIP_LATENCY != model2
-                                        && ServerToClientModel.CREATE_CONTEXT != model2
-                                        && ServerToClientModel.DESTROY_CONTEXT != model2) {
-                                    endPosition = nextBlockPosition1;
-                                    readerBuffer.setPosition(endPosition);
-                                } else {
-                                    break;
-                                }
+                    update(binaryModel, readerBuffer);
+                }
+            } else {
+                if (ServerToClientModel.WINDOW_ID != model) readerBuffer.rewind(binaryModel);
+
+                final PTWindow window = PTWindowManager.getWindow(currentWindowId);
+                if (!replay && window != null && window.isReady()) {
+                    final int startPosition = readerBuffer.getPosition();
+                    int endPosition = nextBlockPosition;
+
+                    // Concat multiple messages for the same window
+                    readerBuffer.setPosition(endPosition);
+                    while (readerBuffer.hasEnoughKeyBytes()) {
+                        final int nextBlockPosition1 = readerBuffer.shiftNextBlock(true);
+                        if (nextBlockPosition1 != ReaderBuffer.NOT_FULL_BUFFER_POSITION) {
+                            final BinaryModel newBinaryModel = readerBuffer.readBinaryModel();
+                            final ServerToClientModel model2 = newBinaryModel.getModel();
+                            if (ServerToClientModel.WINDOW_ID != model2 && ServerToClientModel.ROUNDTRIP_LATENCY != model2
+                                    && ServerToClientModel.CREATE_CONTEXT != model2
+                                    && ServerToClientModel.DESTROY_CONTEXT != model2) {
+                                endPosition = nextBlockPosition1;
+                                readerBuffer.setPosition(endPosition);
                             } else {
                                 break;
                             }
+                        } else {
+                            break;
                         }
-
-                        window.postMessage(readerBuffer.slice(startPosition, endPosition));
-                    } else {
-                        readerBuffer.shiftNextBlock(false);
                     }
+
+                    window.postMessage(readerBuffer.slice(startPosition, endPosition));
+                } else {
+                    readerBuffer.shiftNextBlock(false);
                 }
             }
         }
+
+        return true;
     }
 
     public void updateWindowTerminal(final Uint8Array buffer) {
@@ -208,23 +398,7 @@ public class UIBuilder {
         final ServerToClientModel model = binaryModel.getModel();
 
         try {
-            if (ServerToClientModel.TYPE_CREATE == model) {
-                processCreate(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_UPDATE == model) {
-                processUpdate(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_ADD == model) {
-                processAdd(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_GC == model) {
-                processGC(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_REMOVE == model) {
-                processRemove(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_ADD_HANDLER == model) {
-                processAddHandler(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_REMOVE_HANDLER == model) {
-                processRemoveHandler(buffer, binaryModel.getIntValue());
-            } else if (ServerToClientModel.TYPE_HISTORY == model) {
-                processHistory(buffer, binaryModel.getStringValue());
-            } else {
+            if (!INSTRUCTIONS.dispatch(this, buffer, binaryModel)) {
                 log.log(Level.WARNING, "Unknown instruction type : " + binaryModel + " ; " + buffer.toString());
                 if (ServerToClientModel.END != model) buffer.shiftNextBlock(false);
             }
@@ -238,6 +412,12 @@ public class UIBuilder {
         // ServerToClientModel.WIDGET_TYPE
         final WidgetType widgetType = WidgetType.fromRawValue(buffer.readBinaryModel().getIntValue());
 
+        if (replay && hasSessionSideEffects(widgetType)) {
+            if (log.isLoggable(Level.FINE)) log.fine("Replay skips the creation of #" + objectID + " " + widgetType);
+            buffer.shiftNextBlock(false);
+            return;
+        }
+
         final PTObject ptObject = uiFactory.newUIObject(widgetType);
         if (ptObject != null) {
             ptObject.create(buffer, objectID, this);
@@ -250,6 +430,15 @@ public class UIBuilder {
         }
     }
 
+    /**
+     * @return true if the object acts on the browser window or the other windows, not only on its widget : the
+     *         windows, the browser, the frames and the scripts
+     */
+    private static boolean hasSessionSideEffects(final WidgetType widgetType) {
+        return WidgetType.WINDOW == widgetType || WidgetType.BROWSER == widgetType || WidgetType.FRAME == widgetType
+                || WidgetType.SCRIPT == widgetType;
+    }
+
     private void processAdd(final ReaderBuffer buffer, final int objectID) {
         final PTObject ptObject = getPTObject(objectID);
         if (ptObject != null) {
@@ -346,6 +535,11 @@ public class UIBuilder {
     }
 
     private void processHistory(final ReaderBuffer buffer, final String token) {
+        if (replay) {
+            buffer.shiftNextBlock(false);
+            return;
+        }
+
         final String oldToken = History.getToken();
 
         // ServerToClientModel.HISTORY_FIRE_EVENTS
@@ -384,6 +578,50 @@ public class UIBuilder {
         Browser.getWindow().getLocation().reload();
     }
 
+    /**
+     * Detaches the widgets created by this terminal from the document, the root panels shared with the main terminal
+     * are kept
+     */
+    void detachWidgets() {
+        final ArrayOfInt objectIDs = widgetIDByObjectID.keys();
+        for (int i = 0; i < objectIDs.length(); i++) {
+            final UIObject uiObject = widgetIDByObjectID.get(objectIDs.get(i));
+            if (uiObject instanceof Widget && !(uiObject instanceof RootPanel) && !(uiObject instanceof RootLayoutPanel)) {
+                final Widget widget = (Widget) uiObject;
+                if (widget.isAttached()) widget.removeFromParent();
+            }
+        }
+        if (replayRoot != null) replayRoot.removeFromParent();
+    }
+
+    /**
+     * @return true if this terminal replays recorded frames, see {@link FrameReplayer}
+     */
+    public boolean isReplay() {
+        return replay;
+    }
+
+    /**
+     * Attaches a root panel of a replay to a hidden panel of the document, in place of the root panels of the
+     * session : its widgets are laid out without being shown over the widgets of the session
+     */
+    public <W extends Widget> W attachReplayRoot(final W rootWidget) {
+        if (replayRoot == null) {
+            replayRoot = new AbsolutePanel();
+            final Style style = replayRoot.getElement().getStyle();
+            style.setVisibility(Visibility.HIDDEN);
+            style.setPosition(Position.ABSOLUTE);
+            style.setLeft(0, Unit.PX);
+            style.setTop(0, Unit.PX);
+            style.setWidth(100, Unit.PCT);
+            style.setHeight(100, Unit.PCT);
+            style.setOverflow(Overflow.HIDDEN);
+            RootPanel.get().add(replayRoot);
+        }
+        replayRoot.add(rootWidget);
+        return rootWidget;
+    }
+
     public void sendDataToServer(final Widget widget, final PTInstruction instruction) {
         if (log.isLoggable(Level.FINE)) {
             if (widget != null) {
@@ -395,14 +633,48 @@ public class UIBuilder {
     }
 
     public void sendDataToServer(final JSONValue instruction) {
+        flushInstructions();
         requestBuilder.send(instruction);
     }
 
+    /**
+     * Sends the instruction with the next batch, all the instructions of an animation frame are sent in a single
+     * message
+     */
     public void sendDataToServer(final JSONObject instruction) {
+        if (pendingInstructions == null) {
+            pendingInstructions = new JSONArray();
+            flushTask.schedule();
+        }
+        pendingInstructions.set(pendingInstructions.size(), instruction);
+    }
+
+    /**
+     * Sends the instruction with the next batch, in place of the instruction of the same key still pending
+     */
+    public void sendLatestDataToServer(final Object key, final JSONObject instruction) {
+        if (pendingInstructions != null) {
+            final Integer index = latestInstructionIndexes.get(key);
+            if (index != null) {
+                pendingInstructions.set(index, instruction);
+                return;
+            }
+        }
+        sendDataToServer(instruction);
+        latestInstructionIndexes.put(key, pendingInstructions.size() - 1);
+    }
+
+    /**
+     * Sends the pending instructions now
+     */
+    public void flushInstructions() {
+        if (pendingInstructions == null) return;
+
         final PTInstruction requestData = new PTInstruction();
-        final JSONArray jsonArray = new JSONArray();
-        jsonArray.set(0, instruction);
-        requestData.put(ClientToServerModel.APPLICATION_INSTRUCTIONS, jsonArray);
+        requestData.put(ClientToServerModel.APPLICATION_INSTRUCTIONS, pendingInstructions);
+        pendingInstructions = null;
+        latestInstructionIndexes.clear();
+        flushTask.cancel();
 
         if (log.isLoggable(Level.FINE)) log.log(Level.FINE, "Data to send " + requestData.toString());
 
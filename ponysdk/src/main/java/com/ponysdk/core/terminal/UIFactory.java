@@ -23,6 +23,7 @@
 
 package com.ponysdk.core.terminal;
 
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.ponysdk.core.model.WidgetType;
@@ -89,66 +90,81 @@ class UIFactory {
 
     private static final Logger log = Logger.getLogger(UIFactory.class.getName());
 
+    // Indexed by WidgetType ordinal
+    private static final Supplier<?>[] factories = new Supplier<?>[WidgetType.values().length];
+
+    static {
+        register(WidgetType.FLOW_PANEL, PTFlowPanel::new);
+        register(WidgetType.SIMPLE_PANEL, PTSimplePanel::new);
+        register(WidgetType.LABEL, PTLabel::new);
+        register(WidgetType.BUTTON, PTButton::new);
+        register(WidgetType.CHECKBOX, PTCheckBox::new);
+        register(WidgetType.DATEBOX, PTDateBox::new);
+        register(WidgetType.DATEPICKER, PTDatePicker::new);
+        register(WidgetType.ADDON_COMPOSITE, PTAddOnComposite::new);
+        register(WidgetType.ADDON, PTAddOn::new);
+        register(WidgetType.ELEMENT, PTElement::new);
+        register(WidgetType.HTML, PTHTML::new);
+        register(WidgetType.IMAGE, PTImage::new);
+        register(WidgetType.LISTBOX, PTListBox::new);
+        register(WidgetType.DIALOG_BOX, PTDialogBox::new);
+        register(WidgetType.PASSWORD_TEXTBOX, PTPasswordTextBox::new);
+        register(WidgetType.TEXTBOX, PTTextBox::new);
+        register(WidgetType.TEXT_AREA, PTTextArea::new);
+        register(WidgetType.ANCHOR, PTAnchor::new);
+        register(WidgetType.FILE_UPLOAD, PTFileUpload::new);
+        register(WidgetType.FOCUS_PANEL, PTFocusPanel::new);
+        register(WidgetType.ABSOLUTE_PANEL, PTAbsolutePanel::new);
+        register(WidgetType.FLEX_TABLE, PTFlexTable::new);
+        register(WidgetType.GRID, PTGrid::new);
+        register(WidgetType.DECORATED_POPUP_PANEL, PTDecoratedPopupPanel::new);
+        register(WidgetType.DECORATOR_PANEL, PTDecoratorPanel::new);
+        register(WidgetType.DISCLOSURE_PANEL, PTDisclosurePanel::new);
+        register(WidgetType.DOCK_LAYOUT_PANEL, PTDockLayoutPanel::new);
+        register(WidgetType.HEADER_PANEL, PTHeaderPanel::new);
+        register(WidgetType.WINDOW, PTWindow::new);
+        register(WidgetType.ROOT_PANEL, PTRootPanel::new);
+        register(WidgetType.MENU_BAR, PTMenuBar::new);
+        register(WidgetType.MENU_ITEM, PTMenuItem::new);
+        register(WidgetType.MENU_ITEM_SEPARATOR, PTMenuItemSeparator::new);
+        register(WidgetType.POPUP_PANEL, PTPopupPanel::new);
+        register(WidgetType.PUSH_BUTTON, PTPushButton::new);
+        register(WidgetType.RADIO_BUTTON, PTRadioButton::new);
+        register(WidgetType.SCROLL_PANEL, PTScrollPanel::new);
+        register(WidgetType.TAB_PANEL, PTTabPanel::new);
+        register(WidgetType.SCRIPT, PTScript::new);
+        register(WidgetType.TREE, PTTree::new);
+        register(WidgetType.TREE_ITEM, PTTreeItem::new);
+        register(WidgetType.BROWSER, PTBrowser::new);
+        register(WidgetType.FRAME, PTFrame::new);
+        register(WidgetType.HORIZONTAL_PANEL, PTHorizontalPanel::new);
+        register(WidgetType.VERTICAL_PANEL, PTVerticalPanel::new);
+        register(WidgetType.ROOT_LAYOUT_PANEL, PTRootLayoutPanel::new);
+        register(WidgetType.LAYOUT_PANEL, PTLayoutPanel::new);
+        register(WidgetType.SIMPLE_LAYOUT_PANEL, PTSimpleLayoutPanel::new);
+        register(WidgetType.SPLIT_LAYOUT_PANEL, PTSplitLayoutPanel::new);
+        register(WidgetType.STACKLAYOUT_PANEL, PTStackLayoutPanel::new);
+        register(WidgetType.TAB_LAYOUT_PANEL, PTTabLayoutPanel::new);
+        register(WidgetType.RICH_TEXT_TOOLBAR, PTRichTextToolbar::new);
+        register(WidgetType.RICH_TEXT_AREA, PTRichTextArea::new);
+        register(WidgetType.SUGGESTBOX, PTSuggestBox::new);
+        register(WidgetType.FUNCTIONAL_LABEL, PTFunctionalLabel::new);
+        register(WidgetType.FUNCTION, PTFunction::new);
+        register(WidgetType.MULTIWORD_SUGGEST_ORACLE, PTMultiWordSuggestOracle::new);
+    }
+
+    /**
+     * Registers the factory of the terminal implementation of a widget type, replacing the existing one if any
+     */
+    static void register(final WidgetType widgetType, final Supplier<? extends PTObject> factory) {
+        factories[widgetType.ordinal()] = factory;
+    }
+
     PTObject newUIObject(final WidgetType widgetType) {
-        if (WidgetType.FLOW_PANEL == widgetType) return new PTFlowPanel();
-        else if (WidgetType.SIMPLE_PANEL == widgetType) return new PTSimplePanel<>();
-        else if (WidgetType.LABEL == widgetType) return new PTLabel<>();
-        else if (WidgetType.BUTTON == widgetType) return new PTButton();
-        else if (WidgetType.CHECKBOX == widgetType) return new PTCheckBox<>();
-        else if (WidgetType.DATEBOX == widgetType) return new PTDateBox();
-        else if (WidgetType.DATEPICKER == widgetType) return new PTDatePicker();
-        else if (WidgetType.ADDON_COMPOSITE == widgetType) return new PTAddOnComposite();
-        else if (WidgetType.ADDON == widgetType) return new PTAddOn();
-        else if (WidgetType.ELEMENT == widgetType) return new PTElement();
-        else if (WidgetType.HTML == widgetType) return new PTHTML();
-        else if (WidgetType.IMAGE == widgetType) return new PTImage();
-        else if (WidgetType.LISTBOX == widgetType) return new PTListBox();
-        else if (WidgetType.DIALOG_BOX == widgetType) return new PTDialogBox();
-        else if (WidgetType.PASSWORD_TEXTBOX == widgetType) return new PTPasswordTextBox();
-        else if (WidgetType.TEXTBOX == widgetType) return new PTTextBox();
-        else if (WidgetType.TEXT_AREA == widgetType) return new PTTextArea();
-        else if (WidgetType.ANCHOR == widgetType) return new PTAnchor();
-        else if (WidgetType.FILE_UPLOAD == widgetType) return new PTFileUpload();
-        else if (WidgetType.FOCUS_PANEL == widgetType) return new PTFocusPanel();
-        else if (WidgetType.ABSOLUTE_PANEL == widgetType) return new PTAbsolutePanel();
-        else if (WidgetType.FLEX_TABLE == widgetType) return new PTFlexTable();
-        else if (WidgetType.GRID == widgetType) return new PTGrid();
-        else if (WidgetType.DECORATED_POPUP_PANEL == widgetType) return new PTDecoratedPopupPanel<>();
-        else if (WidgetType.DECORATOR_PANEL == widgetType) return new PTDecoratorPanel();
-        else if (WidgetType.DISCLOSURE_PANEL == widgetType) return new PTDisclosurePanel();
-        else if (WidgetType.DOCK_LAYOUT_PANEL == widgetType) return new PTDockLayoutPanel<>();
-        else if (WidgetType.HEADER_PANEL == widgetType) return new PTHeaderPanel();
-        else if (WidgetType.WINDOW == widgetType) return new PTWindow();
-        else if (WidgetType.ROOT_PANEL == widgetType) return new PTRootPanel();
-        else if (WidgetType.MENU_BAR == widgetType) return new PTMenuBar();
-        else if (WidgetType.MENU_ITEM == widgetType) return new PTMenuItem();
-        else if (WidgetType.MENU_ITEM_SEPARATOR == widgetType) return new PTMenuItemSeparator();
-        else if (WidgetType.POPUP_PANEL == widgetType) return new PTPopupPanel<>();
-        else if (WidgetType.PUSH_BUTTON == widgetType) return new PTPushButton();
-        else if (WidgetType.RADIO_BUTTON == widgetType) return new PTRadioButton();
-        else if (WidgetType.SCROLL_PANEL == widgetType) return new PTScrollPanel();
-        else if (WidgetType.TAB_PANEL == widgetType) return new PTTabPanel();
-        else if (WidgetType.SCRIPT == widgetType) return new PTScript();
-        else if (WidgetType.TREE == widgetType) return new PTTree();
-        else if (WidgetType.TREE_ITEM == widgetType) return new PTTreeItem();
-        else if (WidgetType.BROWSER == widgetType) return new PTBrowser();
-        else if (WidgetType.FRAME == widgetType) return new PTFrame();
-        else if (WidgetType.HORIZONTAL_PANEL == widgetType) return new PTHorizontalPanel();
-        else if (WidgetType.VERTICAL_PANEL == widgetType) return new PTVerticalPanel();
-        else if (WidgetType.ROOT_LAYOUT_PANEL == widgetType) return new PTRootLayoutPanel();
-        else if (WidgetType.LAYOUT_PANEL == widgetType) return new PTLayoutPanel();
-        else if (WidgetType.SIMPLE_LAYOUT_PANEL == widgetType) return new PTSimpleLayoutPanel();
-        else if (WidgetType.SPLIT_LAYOUT_PANEL == widgetType) return new PTSplitLayoutPanel();
-        else if (WidgetType.STACKLAYOUT_PANEL == widgetType) return new PTStackLayoutPanel();
-        else if (WidgetType.TAB_LAYOUT_PANEL == widgetType) return new PTTabLayoutPanel();
-        else if (WidgetType.RICH_TEXT_TOOLBAR == widgetType) return new PTRichTextToolbar();
-        else if (WidgetType.RICH_TEXT_AREA == widgetType) return new PTRichTextArea();
-        else if (WidgetType.SUGGESTBOX == widgetType) return new PTSuggestBox();
-        else if (WidgetType.FUNCTIONAL_LABEL == widgetType) return new PTFunctionalLabel();
-        else if (WidgetType.FUNCTION == widgetType) return new PTFunction();
-        else if (WidgetType.MULTIWORD_SUGGEST_ORACLE == widgetType) return new PTMultiWordSuggestOracle();
-        else log.severe("UIFactory: Client implementation not found, type : " + widgetType);
+        final Supplier<?> factory = widgetType != null ? factories[widgetType.ordinal()] : null;
+        if (factory != null) return (PTObject) factory.get();
 
+        log.severe("UIFactory: Client implementation not found, type : " + widgetType);
         return null;
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal.instruction;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.user.client.Timer;
+import com.google.gwt.user.client.ui.Widget;
+import com.ponysdk.core.model.DeliveryMode;
+import com.ponysdk.core.terminal.UIBuilder;
+
+/**
+ * Delivers the event instructions of a handler to the server according to its {@link DeliveryMode}
+ */
+public class InstructionDelivery {
+
+    private final UIBuilder uiBuilder;
+    private final DeliveryMode mode;
+    private final int interval;
+
+    private Widget widget;
+    private PTInstruction pendingInstruction;
+    private Timer timer;
+    private double lastDelivery;
+
+    public InstructionDelivery(final UIBuilder uiBuilder, final DeliveryMode mode, final int interval) {
+        this.uiBuilder = uiBuilder;
+        this.mode = mode;
+        this.interval = interval;
+    }
+
+    public void deliver(final Widget widget, final PTInstruction instruction) {
+        if (DeliveryMode.LATEST == mode) {
+            uiBuilder.sendLatestDataToServer(this, instruction);
+        } else if (DeliveryMode.THROTTLE == mode) {
+            throttle(widget, instruction);
+        } else if (DeliveryMode.DEBOUNCE == mode) {
+            this.widget = widget;
+            this.pendingInstruction = instruction;
+            getTimer().schedule(interval);
+        } else {
+            uiBuilder.sendDataToServer(widget, instruction);
+        }
+    }
+
+    private void throttle(final Widget widget, final PTInstruction instruction) {
+        if (pendingInstruction != null) {
+            // The end of the interval is already scheduled
+            this.widget = widget;
+            this.pendingInstruction = instruction;
+            return;
+        }
+
+        final double elapsed = Duration.currentTimeMillis() - lastDelivery;
+        if (elapsed >= interval) {
+            lastDelivery = Duration.currentTimeMillis();
+            uiBuilder.sendDataToServer(widget, instruction);
+        } else {
+            this.widget = widget;
+            this.pendingInstruction = instruction;
+            getTimer().schedule((int) (interval - elapsed));
+        }
+    }
+
+    /**
+     * Drops the instruction waiting for the end of its interval, when the handler or its widget is gone
+     */
+    public void cancel() {
+        if (timer != null) timer.cancel();
+        pendingInstruction = null;
+        widget = null;
+    }
+
+    private Timer getTimer() {
+        if (timer == null) {
+            timer = new Timer() {
+
+                @Override
+                public void run() {
+                    deliverPending();
+                }
+            };
+        }
+        return timer;
+    }
+
+    private void deliverPending() {
+        final PTInstruction instruction = pendingInstruction;
+        final Widget source = widget;
+        pendingInstruction = null;
+        widget = null;
+        if (instruction != null) {
+            lastDelivery = Duration.currentTimeMillis();
+            uiBuilder.sendDataToServer(source, instruction);
+        }
+    }
+
+}
@@ -138,7 +138,7 @@ public class BinaryModel {
         else if (ValueTypeModel.INTEGER == typeModel) return model + " => " + intValue;
         else if (ValueTypeModel.LONG == typeModel) return model + " => " + longValue;
         else if (ValueTypeModel.DOUBLE == typeModel) return model + " => " + doubleValue;
-        else if (ValueTypeModel.STRING == typeModel) return model + " => " + stringValue;
+        else if (ValueTypeModel.STRING == typeModel || ValueTypeModel.STRING_DICTIONARY == typeModel) return model + " => " + stringValue;
         else if (ValueTypeModel.FLOAT == typeModel) return model + " => " + floatValue;
         else if (ValueTypeModel.ARRAY == typeModel) return model + " => " + arrayValue;
         else throw new IllegalArgumentException("No model type configured : " + typeModel);
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal.model;
+
+import com.ponysdk.core.model.ServerToClientModel;
+
+/**
+ * Dispatch table of the instructions received by the terminal, indexed by {@link ServerToClientModel} ordinal, so
+ * that an instruction is dispatched with a single array access instead of walking a chain of comparisons.
+ * <p>
+ * A class hierarchy builds its tables from the top : each class creates its table from the one of its parent class
+ * and registers its own handlers, overriding the handlers of the parent for the same model.
+ *
+ * @param <T> the type of the objects that receive the instructions
+ */
+public final class ModelDispatcher<T> {
+
+    private static final int MODEL_COUNT = ServerToClientModel.values().length;
+
+    @FunctionalInterface
+    public interface Handler<T> {
+
+        void handle(T target, ReaderBuffer buffer, BinaryModel binaryModel);
+
+    }
+
+    private final Handler<?>[] handlers;
+
+    public ModelDispatcher() {
+        handlers = new Handler<?>[MODEL_COUNT];
+    }
+
+    public ModelDispatcher(final ModelDispatcher<? super T> parent) {
+        handlers = new Handler<?>[MODEL_COUNT];
+        System.arraycopy(parent.handlers, 0, handlers, 0, MODEL_COUNT);
+    }
+
+    public ModelDispatcher<T> register(final ServerToClientModel model, final Handler<? super T> handler) {
+        handlers[model.ordinal()] = handler;
+        return this;
+    }
+
+    public boolean isRegistered(final ServerToClientModel model) {
+        return handlers[model.ordinal()] != null;
+    }
+
+    /**
+     * @return false if there is no handler registered for the model of the instruction
+     */
+    @SuppressWarnings("unchecked")
+    public boolean dispatch(final T target, final ReaderBuffer buffer, final BinaryModel binaryModel) {
+        final Handler<? super T> handler = (Handler<? super T>) handlers[binaryModel.getModel().ordinal()];
+        if (handler == null) return false;
+        handler.handle(target, buffer, binaryModel);
+        return true;
+    }
+
+}
@@ -23,6 +23,9 @@
 
 package com.ponysdk.core.terminal.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.gwt.json.client.JSONArray;
 import com.google.gwt.json.client.JSONBoolean;
 import com.google.gwt.json.client.JSONException;
@@ -41,6 +44,7 @@ import elemental.html.ArrayBufferView;
 import elemental.html.DataView;
 import elemental.html.Uint8Array;
 import elemental.html.Window;
+import elemental.js.util.JsArrayOf;
 
 public class ReaderBuffer {
 
@@ -62,18 +66,17 @@ public class ReaderBuffer {
 
     private Window window;
 
+    // Mirror of the string dictionary of the connection, indexed by id
+    private final List<String> stringDictionary = new ArrayList<>();
+
     public ReaderBuffer() {
         this.currentBinaryModel = new BinaryModel();
     }
 
     public void init(final Uint8Array buffer) {
         if (this.buffer != null && position < size) {
-            if (this.window == null) {
-                this.window = Browser.getWindow();
-                createSetElementsMethodOnUint8Array();
-            }
             final int remaningBufferSize = this.size - this.position;
-            final Uint8Array mergedBuffer = window.newUint8Array(remaningBufferSize + buffer.getByteLength());
+            final Uint8Array mergedBuffer = newUint8Array(remaningBufferSize + buffer.getByteLength());
             mergedBuffer.setElements(this.position == 0 ? this.buffer : this.buffer.subarray(this.position), 0);
             mergedBuffer.setElements(buffer, remaningBufferSize);
 
@@ -87,6 +90,44 @@ public class ReaderBuffer {
         this.dataView = newDataView(this.buffer.getBuffer(), this.buffer.getByteOffset(), this.size);
     }
 
+    /**
+     * Same as {@link #init(Uint8Array)} with all the buffers, copied once
+     */
+    public void init(final JsArrayOf<Uint8Array> buffers) {
+        if (buffers.length() == 1) {
+            init(buffers.get(0));
+            return;
+        }
+
+        final int remaningBufferSize = this.buffer != null && position < size ? this.size - this.position : 0;
+        int mergedSize = remaningBufferSize;
+        for (int i = 0; i < buffers.length(); i++) {
+            mergedSize += buffers.get(i).getByteLength();
+        }
+
+        final Uint8Array mergedBuffer = newUint8Array(mergedSize);
+        if (remaningBufferSize > 0) mergedBuffer.setElements(this.buffer.subarray(this.position), 0);
+        int offset = remaningBufferSize;
+        for (int i = 0; i < buffers.length(); i++) {
+            final Uint8Array buffer = buffers.get(i);
+            mergedBuffer.setElements(buffer, offset);
+            offset += buffer.getByteLength();
+        }
+
+        this.buffer = mergedBuffer;
+        this.position = 0;
+        this.size = mergedSize;
+        this.dataView = newDataView(this.buffer.getBuffer(), this.buffer.getByteOffset(), this.size);
+    }
+
+    private Uint8Array newUint8Array(final int length) {
+        if (this.window == null) {
+            this.window = Browser.getWindow();
+            createSetElementsMethodOnUint8Array();
+        }
+        return window.newUint8Array(length);
+    }
+
     // WORKAROUND : No setElements on Uint8Array but Elemental need it, create a passthrough
     private static final native void createSetElementsMethodOnUint8Array() /*-{
                                                                            Uint8Array.prototype.setElements = function(array, offset) { this.set(array, offset) };
@@ -107,6 +148,10 @@ public class ReaderBuffer {
 
     private static final native int getInt8(DataView dataView, int position) /*-{ return dataView.getInt8(position); }-*/;
 
+    public int getSize() {
+        return size;
+    }
+
     public int getPosition() {
         return position;
     }
@@ -123,6 +168,8 @@ public class ReaderBuffer {
 
         if (ValueTypeModel.STRING == typeModel) {
             currentBinaryModel.init(key, readStringModelValue(), modelSize);
+        } else if (ValueTypeModel.STRING_DICTIONARY == typeModel) {
+            currentBinaryModel.init(key, readDictionaryStringModelValue(), modelSize);
         } else if (ValueTypeModel.UINT31 == typeModel) {
             currentBinaryModel.init(key, getUint31(), modelSize);
         } else if (ValueTypeModel.NULL == typeModel) {
@@ -265,6 +312,23 @@ public class ReaderBuffer {
         return getString(ascii, stringLength);
     }
 
+    private String readDictionaryStringModelValue() {
+        final int header = getUint31();
+        final int id = header >>> 1;
+        if ((header & ValueTypeModel.STRING_DICTIONARY_DEFINITION) == 0) return id != 0 ? stringDictionary.get(id) : null;
+
+        final String value = readStringModelValue();
+        if (id != 0) putDictionaryString(id, value);
+        return value;
+    }
+
+    private void putDictionaryString(final int id, final String value) {
+        while (stringDictionary.size() <= id) {
+            stringDictionary.add(null);
+        }
+        stringDictionary.set(id, value);
+    }
+
     private JSONArray readArrayModelValue() {
         modelSize += ValueTypeModel.BYTE_SIZE; //array size
         final int arraySize = getUnsignedByte();
@@ -380,7 +444,7 @@ public class ReaderBuffer {
         int endPosition = NOT_FULL_BUFFER_POSITION;
         while (hasEnoughKeyBytes()) {
             try {
-                final ServerToClientModel currentKeyModel = shiftBinaryModel();
+                final ServerToClientModel currentKeyModel = shiftBinaryModel(!dryRun);
                 if (ServerToClientModel.END == currentKeyModel) {
                     endPosition = position;
                     break;
@@ -398,13 +462,28 @@ public class ReaderBuffer {
         return endPosition;
     }
 
-    private final ServerToClientModel shiftBinaryModel() {
+    /**
+     * Skips the next model, the definitions of the string dictionary are not stored
+     *
+     * @return the key of the skipped model
+     */
+    public ServerToClientModel shiftModel() {
+        return shiftBinaryModel(false);
+    }
+
+    /**
+     * @param definitions If true, the skipped definitions of the string dictionary are stored, since they can be
+     *            referenced by the next blocks
+     */
+    private final ServerToClientModel shiftBinaryModel(final boolean definitions) {
         final ServerToClientModel key = getModelKey();
 
         final ValueTypeModel typeModel = key.getTypeModel();
 
         if (ValueTypeModel.STRING == typeModel) {
             shiftString();
+        } else if (ValueTypeModel.STRING_DICTIONARY == typeModel) {
+            shiftDictionaryString(definitions);
         } else if (ValueTypeModel.NULL == typeModel) {
             // Nothing to do
         } else if (ValueTypeModel.UINT31 == typeModel) {
@@ -437,6 +516,15 @@ public class ReaderBuffer {
         if (value < 0) position += Short.BYTES;
     }
 
+    private void shiftDictionaryString(final boolean definitions) {
+        final int header = getUint31();
+        if ((header & ValueTypeModel.STRING_DICTIONARY_DEFINITION) == 0) return;
+
+        final int id = header >>> 1;
+        if (definitions && id != 0) putDictionaryString(id, readStringModelValue());
+        else shiftString();
+    }
+
     private void shiftString() {
         int messageSize = getUnsignedByte();
         if (messageSize > ValueTypeModel.STRING_ASCII_UINT8) {
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal.model;
+
+import com.ponysdk.core.model.ServerToClientModel;
+
+import elemental.util.ArrayOf;
+import elemental.util.ArrayOfInt;
+import elemental.util.ArrayOfString;
+import elemental.util.Collections;
+import elemental.util.MapFromStringToInt;
+
+/**
+ * Finds the update blocks whose properties are all updated again by a later block of the buffer. Skipping them lets a
+ * terminal falling behind the server catch up without changing the final state of the widgets.
+ * <p>
+ * Only the blocks of the main window made of {@link #isCoalescable(ServerToClientModel) property setters} can be
+ * skipped, a block changing the current window is always applied.
+ */
+public class StaleUpdateIndex {
+
+    private static final boolean[] COALESCABLE = new boolean[ServerToClientModel.values().length];
+
+    static {
+        final ServerToClientModel[] setters = { ServerToClientModel.TEXT, ServerToClientModel.HTML, ServerToClientModel.HREF,
+                                                ServerToClientModel.PLACEHOLDER, ServerToClientModel.ENABLED,
+                                                ServerToClientModel.STYLE_NAME, ServerToClientModel.WIDGET_TITLE,
+                                                ServerToClientModel.WIDGET_WIDTH, ServerToClientModel.WIDGET_HEIGHT,
+                                                ServerToClientModel.WIDGET_VISIBLE };
+        for (final ServerToClientModel setter : setters) {
+            COALESCABLE[setter.ordinal()] = true;
+        }
+    }
+
+    private ArrayOfInt stalePositions = Collections.arrayOfInt();
+    private int cursor;
+
+    // Index being built : the last block position of each property, keyed by object id and model, and the keys of
+    // each skippable block
+    private MapFromStringToInt lastPositions;
+    private ArrayOfInt blockPositions;
+    private ArrayOf<ArrayOfString> blockKeys;
+    private int currentPosition;
+    private ArrayOfString currentKeys;
+
+    /**
+     * @return true if the model sets a property of a widget, whose previous value doesn't matter
+     */
+    public static boolean isCoalescable(final ServerToClientModel model) {
+        return COALESCABLE[model.ordinal()];
+    }
+
+    /**
+     * Indexes the complete blocks from the current position of the buffer, the position is restored
+     */
+    public void index(final ReaderBuffer buffer, final int currentWindowId, final int mainWindowId) {
+        clear();
+
+        final int startPosition = buffer.getPosition();
+        int windowId = currentWindowId;
+        while (buffer.hasEnoughKeyBytes()) {
+            final int blockPosition = buffer.getPosition();
+            final int nextBlockPosition = buffer.shiftNextBlock(true);
+            if (nextBlockPosition == ReaderBuffer.NOT_FULL_BUFFER_POSITION) break;
+
+            final int oldWindowId = windowId;
+            BinaryModel binaryModel = buffer.readBinaryModel();
+            final boolean skippable = ServerToClientModel.WINDOW_ID != binaryModel.getModel();
+            if (!skippable) {
+                windowId = binaryModel.getIntValue();
+                binaryModel = buffer.readBinaryModel();
+            }
+
+            if (ServerToClientModel.TYPE_UPDATE == binaryModel.getModel() && (windowId == mainWindowId || oldWindowId == -1)) {
+                final int objectID = binaryModel.getIntValue();
+                startBlock(blockPosition, skippable);
+                ServerToClientModel model;
+                while ((model = buffer.shiftModel()) != ServerToClientModel.END) {
+                    addUpdate(objectID, model);
+                }
+            }
+
+            buffer.setPosition(nextBlockPosition);
+        }
+        buffer.setPosition(startPosition);
+
+        build();
+    }
+
+    void startBlock(final int blockPosition, final boolean skippable) {
+        currentPosition = blockPosition;
+        if (skippable) {
+            currentKeys = Collections.arrayOfString();
+            blockPositions.push(blockPosition);
+            blockKeys.push(currentKeys);
+        } else {
+            currentKeys = null;
+        }
+    }
+
+    void addUpdate(final int objectID, final ServerToClientModel model) {
+        if (isCoalescable(model)) {
+            final String key = objectID + "." + model.ordinal();
+            lastPositions.put(key, currentPosition);
+            if (currentKeys != null) currentKeys.push(key);
+        } else if (currentKeys != null) {
+            // The block has other effects than setting its properties, it can't be skipped
+            blockPositions.pop();
+            blockKeys.pop();
+            currentKeys = null;
+        }
+    }
+
+    void build() {
+        for (int i = 0; i < blockPositions.length(); i++) {
+            final int blockPosition = blockPositions.get(i);
+            final ArrayOfString keys = blockKeys.get(i);
+            boolean stale = keys.length() > 0;
+            for (int k = 0; stale && k < keys.length(); k++) {
+                stale = lastPositions.get(keys.get(k)) > blockPosition;
+            }
+            if (stale) stalePositions.push(blockPosition);
+        }
+
+        lastPositions = null;
+        blockPositions = null;
+        blockKeys = null;
+        currentKeys = null;
+    }
+
+    /**
+     * @param blockPosition the position of the next block to apply, the blocks are checked in order
+     * @return true if the block can be skipped
+     */
+    public boolean isStale(final int blockPosition) {
+        while (cursor < stalePositions.length() && stalePositions.get(cursor) < blockPosition) {
+            cursor++;
+        }
+        return cursor < stalePositions.length() && stalePositions.get(cursor) == blockPosition;
+    }
+
+    /**
+     * @return the number of blocks that can be skipped
+     */
+    public int getStaleCount() {
+        return stalePositions.length();
+    }
+
+    /**
+     * Forgets the index, the positions of the buffer are no longer valid
+     */
+    public void clear() {
+        stalePositions = Collections.arrayOfInt();
+        cursor = 0;
+        lastPositions = Collections.mapFromStringToInt();
+        blockPositions = Collections.arrayOfInt();
+        blockKeys = Collections.arrayOf();
+        currentKeys = null;
+    }
+
+}
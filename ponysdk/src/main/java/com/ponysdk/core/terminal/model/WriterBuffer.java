@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONBoolean;
+import com.google.gwt.json.client.JSONNumber;
+import com.google.gwt.json.client.JSONObject;
+import com.google.gwt.json.client.JSONString;
+import com.google.gwt.json.client.JSONValue;
+import com.ponysdk.core.model.ClientToServerModel;
+import com.ponysdk.core.model.JsonValueTypeModel;
+import com.ponysdk.core.model.ValueTypeModel;
+
+import elemental.client.Browser;
+import elemental.html.ArrayBuffer;
+import elemental.html.DataView;
+import elemental.html.Uint8Array;
+import elemental.html.Window;
+
+/**
+ * Writes the JSON messages sent to the server in their binary encoding, cf {@link JsonValueTypeModel}.
+ * The counterpart of {@link ReaderBuffer}.
+ */
+public class WriterBuffer {
+
+    private static final boolean LITTLE_INDIAN = false;
+
+    private static final int INITIAL_SIZE = 256;
+
+    private final Map<String, Integer> modelKeys = new HashMap<>();
+
+    private final Window window;
+
+    private Uint8Array buffer;
+
+    private DataView dataView;
+
+    private int position;
+
+    public WriterBuffer() {
+        for (final ClientToServerModel model : ClientToServerModel.values()) {
+            modelKeys.put(model.toStringValue(), (int) model.getValue());
+        }
+        this.window = Browser.getWindow();
+        allocate(INITIAL_SIZE);
+    }
+
+    /**
+     * @return true if the browser provides what is needed to encode the messages
+     */
+    public static final native boolean isSupported() /*-{
+                                                      return typeof $wnd.TextEncoder !== 'undefined' && typeof $wnd.DataView !== 'undefined';
+                                                      }-*/;
+
+    private static final native DataView newDataView(ArrayBuffer buffer) /*-{ return new DataView(buffer); }-*/;
+
+    private static final native Uint8Array encode(String value) /*-{ return new $wnd.TextEncoder().encode(value); }-*/;
+
+    private static final native void setUint8(DataView dataView, int position, int value) /*-{ dataView.setUint8(position, value); }-*/;
+
+    private static final native void set(Uint8Array buffer, Uint8Array array, int offset) /*-{ buffer.set(array, offset); }-*/;
+
+    /**
+     * Encodes a message. The returned buffer is a copy, this writer can be reused right away.
+     */
+    public ArrayBuffer write(final JSONValue value) {
+        position = 0;
+        writeValue(value);
+        return buffer.getBuffer().slice(0, position);
+    }
+
+    private void writeValue(final JSONValue value) {
+        if (value == null || value.isNull() != null) {
+            writeType(JsonValueTypeModel.NULL);
+            return;
+        }
+
+        final JSONObject object = value.isObject();
+        if (object != null) {
+            writeObject(object);
+            return;
+        }
+
+        final JSONString string = value.isString();
+        if (string != null) {
+            writeType(JsonValueTypeModel.STRING);
+            writeString(string.stringValue());
+            return;
+        }
+
+        final JSONNumber number = value.isNumber();
+        if (number != null) {
+            final double d = number.doubleValue();
+            final int i = (int) d;
+            if (i == d) {
+                writeType(JsonValueTypeModel.INTEGER);
+                ensureCapacity(ValueTypeModel.INTEGER_SIZE);
+                dataView.setInt32(position, i, LITTLE_INDIAN);
+                position += ValueTypeModel.INTEGER_SIZE;
+            } else {
+                writeType(JsonValueTypeModel.DOUBLE);
+                ensureCapacity(ValueTypeModel.DOUBLE_SIZE);
+                dataView.setFloat64(position, d, LITTLE_INDIAN);
+                position += ValueTypeModel.DOUBLE_SIZE;
+            }
+            return;
+        }
+
+        final JSONBoolean bool = value.isBoolean();
+        if (bool != null) {
+            writeType(bool.booleanValue() ? JsonValueTypeModel.BOOLEAN_TRUE : JsonValueTypeModel.BOOLEAN_FALSE);
+            return;
+        }
+
+        final JSONArray array = value.isArray();
+        if (array != null) {
+            writeType(JsonValueTypeModel.ARRAY);
+            final int size = array.size();
+            writeInt(size);
+            for (int i = 0; i < size; i++) {
+                writeValue(array.get(i));
+            }
+            return;
+        }
+
+        throw new IllegalArgumentException("Unsupported JSON value : " + value);
+    }
+
+    private void writeObject(final JSONObject object) {
+        writeType(JsonValueTypeModel.OBJECT);
+        final Set<String> keys = object.keySet();
+        writeInt(keys.size());
+        for (final String key : keys) {
+            final Integer modelKey = modelKeys.get(key);
+            ensureCapacity(1);
+            if (modelKey != null) {
+                setUint8(dataView, position++, modelKey);
+            } else {
+                setUint8(dataView, position++, JsonValueTypeModel.STRING_KEY);
+                writeString(key);
+            }
+            writeValue(object.get(key));
+        }
+    }
+
+    private void writeType(final JsonValueTypeModel type) {
+        ensureCapacity(1);
+        setUint8(dataView, position++, type.getValue());
+    }
+
+    private void writeInt(final int value) {
+        ensureCapacity(ValueTypeModel.INTEGER_SIZE);
+        dataView.setInt32(position, value, LITTLE_INDIAN);
+        position += ValueTypeModel.INTEGER_SIZE;
+    }
+
+    private void writeString(final String value) {
+        final Uint8Array bytes = encode(value);
+        final int length = bytes.getLength();
+        writeInt(length);
+        ensureCapacity(length);
+        set(buffer, bytes, position);
+        position += length;
+    }
+
+    private void ensureCapacity(final int length) {
+        final int capacity = buffer.getLength();
+        if (position + length > capacity) {
+            final Uint8Array previousBuffer = buffer;
+            allocate(Math.max(capacity * 2, position + length));
+            set(buffer, previousBuffer.subarray(0, position), 0);
+        }
+    }
+
+    private void allocate(final int size) {
+        buffer = window.newUint8Array(size);
+        dataView = newDataView(buffer.getBuffer());
+    }
+
+}
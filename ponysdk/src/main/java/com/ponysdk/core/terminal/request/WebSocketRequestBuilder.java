@@ -24,19 +24,25 @@
 package com.ponysdk.core.terminal.request;
 
 import com.google.gwt.json.client.JSONValue;
+import com.ponysdk.core.terminal.model.WriterBuffer;
 import com.ponysdk.core.terminal.socket.WebSocketClient;
 
 public class WebSocketRequestBuilder implements RequestBuilder {
 
     private final WebSocketClient webSocketClient;
 
+    // null if the browser can't encode binary messages, JSON text is sent instead
+    private final WriterBuffer writerBuffer;
+
     public WebSocketRequestBuilder(final WebSocketClient webSocketClient) {
         this.webSocketClient = webSocketClient;
+        this.writerBuffer = WriterBuffer.isSupported() ? new WriterBuffer() : null;
     }
 
     @Override
     public void send(final JSONValue value) {
-        webSocketClient.send(value.toString());
+        if (writerBuffer != null) webSocketClient.send(writerBuffer.write(value));
+        else webSocketClient.send(value.toString());
     }
 
     @Override
@@ -28,6 +28,7 @@ import java.util.logging.Logger;
 
 import com.ponysdk.core.terminal.ReconnectionChecker;
 import com.ponysdk.core.terminal.UIBuilder;
+import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.request.WebSocketRequestBuilder;
 
 import elemental.client.Browser;
@@ -41,19 +42,40 @@ public class WebSocketClient {
 
     private static final Logger log = Logger.getLogger(WebSocketClient.class.getName());
 
+    // cf com.ponysdk.core.server.websocket.WebSocket.RESUMPTION_REJECTED
+    private static final int RESUMPTION_REJECTED = 4000;
+
     private final Window window;
     private final WebSocket webSocket;
 
     private long lastMessageTime = -1;
 
     public WebSocketClient(final String url, final UIBuilder uiBuilder, final ReconnectionChecker reconnectionChecker) {
+        this(url, uiBuilder, reconnectionChecker, null);
+    }
+
+    /**
+     * @param resumeRequest the first message of a connection resuming the session of a previous connection, with the
+     *            resume token and the received bytes, or null for a new session. When resuming, the graphical system
+     *            is already initialized and only the missing data is received
+     */
+    public WebSocketClient(final String url, final UIBuilder uiBuilder, final ReconnectionChecker reconnectionChecker,
+            final PTInstruction resumeRequest) {
         this.window = Browser.getWindow();
         this.webSocket = window.newWebSocket(url);
         this.webSocket.setBinaryType("arraybuffer");
 
         webSocket.setOnopen(event -> {
-            uiBuilder.init(new WebSocketRequestBuilder(WebSocketClient.this));
-            if (log.isLoggable(Level.INFO)) log.info("WebSocket connected");
+            if (resumeRequest != null) {
+                // Sent as text before any other message, the server hands the connection over once the token is checked
+                send(resumeRequest.toString());
+                uiBuilder.setRequestBuilder(new WebSocketRequestBuilder(WebSocketClient.this));
+                reconnectionChecker.onConnectionResumed();
+                if (log.isLoggable(Level.INFO)) log.info("WebSocket reconnected");
+            } else {
+                uiBuilder.init(new WebSocketRequestBuilder(WebSocketClient.this));
+                if (log.isLoggable(Level.INFO)) log.info("WebSocket connected");
+            }
             lastMessageTime = System.currentTimeMillis();
         });
 
@@ -63,7 +85,8 @@ public class WebSocketClient {
                 final int statusCode = closeEvent.getCode();
                 if (log.isLoggable(Level.INFO)) log.info("WebSocket disconnected : " + statusCode);
                 // If it's a not normal disconnection
-                if (statusCode != 1000) reconnectionChecker.detectConnectionFailure();
+                if (statusCode == RESUMPTION_REJECTED) reconnectionChecker.onResumptionRejected();
+                else if (statusCode != 1000) reconnectionChecker.detectConnectionFailure();
             } else {
                 log.severe("WebSocket disconnected : " + event);
                 reconnectionChecker.detectConnectionFailure();
@@ -92,6 +115,13 @@ public class WebSocketClient {
         webSocket.send(message);
     }
 
+    public void send(final ArrayBuffer message) {
+        send(webSocket, message);
+    }
+
+    // WORKAROUND : Elemental only sends strings
+    private static final native void send(WebSocket webSocket, ArrayBuffer message) /*-{ webSocket.send(message); }-*/;
+
     public void close() {
         webSocket.close();
     }
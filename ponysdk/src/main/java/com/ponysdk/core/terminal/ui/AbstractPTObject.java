@@ -26,10 +26,13 @@ package com.ponysdk.core.terminal.ui;
 import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 abstract class AbstractPTObject implements PTObject {
 
+    private static final ModelDispatcher<PTObject> UPDATES = new ModelDispatcher<>();
+
     protected int objectID;
 
     protected UIBuilder uiBuilder;
@@ -45,9 +48,21 @@ abstract class AbstractPTObject implements PTObject {
         this.uiBuilder = uiBuilder;
     }
 
+    /**
+     * Dispatches the instruction through the update table of the class, the subclasses that override this method
+     * (e.g. the add-ons of the applications) check their own models first
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        return false;
+        return ((ModelDispatcher<PTObject>) getUpdates()).dispatch(this, buffer, binaryModel);
+    }
+
+    /**
+     * @return the update table of the class, built from the table of the parent class
+     */
+    protected ModelDispatcher<? extends PTObject> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -24,58 +24,52 @@
 package com.ponysdk.core.terminal.ui;
 
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 import elemental.dom.Document;
 import elemental.html.Window;
 
 public abstract class PTAbstractWindow extends AbstractPTObject {
 
-    protected Window window;
-
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.PRINT == model) {
-            window.print();
-            return true;
-        } else if (ServerToClientModel.RELOAD == model) {
-            window.getLocation().reload();
-            return true;
-        } else if (ServerToClientModel.WINDOW_LOCATION_REPLACE == model) {
-            window.getLocation().replace(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.RESIZE_BY_X == model) {
+    protected static final ModelDispatcher<PTAbstractWindow> UPDATES = new ModelDispatcher<PTAbstractWindow>()
+        .register(ServerToClientModel.PRINT, (ptObject, buffer, binaryModel) -> ptObject.window.print())
+        .register(ServerToClientModel.RELOAD, (ptObject, buffer, binaryModel) -> ptObject.window.getLocation().reload())
+        .register(ServerToClientModel.WINDOW_LOCATION_REPLACE, (ptObject, buffer, binaryModel) -> {
+            ptObject.window.getLocation().replace(binaryModel.getStringValue());
+        })
+        .register(ServerToClientModel.RESIZE_BY_X, (ptObject, buffer, binaryModel) -> {
             final float x = (float) binaryModel.getDoubleValue();
             final float y = (float) buffer.readBinaryModel().getDoubleValue();
-            window.resizeBy(x, y);
-            return true;
-        } else if (ServerToClientModel.RESIZE_TO_WIDTH == model) {
+            ptObject.window.resizeBy(x, y);
+        })
+        .register(ServerToClientModel.RESIZE_TO_WIDTH, (ptObject, buffer, binaryModel) -> {
             final int width = binaryModel.getIntValue();
             final int height = buffer.readBinaryModel().getIntValue();
-            window.resizeTo(width, height);
-            return true;
-        } else if (ServerToClientModel.MOVE_BY_X == model) {
+            ptObject.window.resizeTo(width, height);
+        })
+        .register(ServerToClientModel.MOVE_BY_X, (ptObject, buffer, binaryModel) -> {
             final float x = (float) binaryModel.getDoubleValue();
             final float y = (float) buffer.readBinaryModel().getDoubleValue();
-            window.moveBy(x, y);
-            return true;
-        } else if (ServerToClientModel.MOVE_TO_X == model) {
+            ptObject.window.moveBy(x, y);
+        })
+        .register(ServerToClientModel.MOVE_TO_X, (ptObject, buffer, binaryModel) -> {
             final float x = (float) binaryModel.getDoubleValue();
             final float y = (float) buffer.readBinaryModel().getDoubleValue();
-            window.moveTo(x, y);
-            return true;
-        } else if (ServerToClientModel.FOCUS == model) {
-            if (binaryModel.getBooleanValue()) window.focus();
-            else window.blur();
-            return true;
-        } else if (ServerToClientModel.WINDOW_TITLE == model) {
-            setTitle(binaryModel.getStringValue(), window);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+            ptObject.window.moveTo(x, y);
+        })
+        .register(ServerToClientModel.FOCUS, (ptObject, buffer, binaryModel) -> {
+            if (binaryModel.getBooleanValue()) ptObject.window.focus();
+            else ptObject.window.blur();
+        })
+        .register(ServerToClientModel.WINDOW_TITLE, (ptObject, buffer, binaryModel) -> {
+            setTitle(binaryModel.getStringValue(), ptObject.window);
+        });
+
+    protected Window window;
+
+    @Override
+    protected ModelDispatcher<? extends PTAbstractWindow> getUpdates() {
+        return UPDATES;
     }
 
     public static final native void setTitle(String title, Window window) /*-{
@@ -33,6 +33,7 @@ import com.ponysdk.core.terminal.JavascriptAddOn;
 import com.ponysdk.core.terminal.JavascriptAddOnFactory;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 import elemental.json.JsonObject;
@@ -41,6 +42,19 @@ public class PTAddOn extends AbstractPTObject {
 
     private static final Logger log = Logger.getLogger(PTAddOn.class.getName());
 
+    protected static final ModelDispatcher<PTAddOn> UPDATES = new ModelDispatcher<PTAddOn>()
+        .register(ServerToClientModel.PADDON_METHOD, (ptObject, buffer, binaryModel) -> {
+            final String methodName = binaryModel.getStringValue();
+            final BinaryModel arguments = buffer.readBinaryModel();
+            if (ServerToClientModel.PADDON_ARGUMENTS == arguments.getModel()) {
+                ptObject.doUpdate(methodName, arguments.getArrayValue().getJavaScriptObject());
+            } else {
+                buffer.rewind(arguments);
+                ptObject.doUpdate(methodName, null);
+            }
+        })
+        .register(ServerToClientModel.DESTROY, (ptObject, buffer, binaryModel) -> ptObject.destroy());
+
     protected boolean destroyed;
 
     JavascriptAddOn addOn;
@@ -80,24 +94,8 @@ public class PTAddOn extends AbstractPTObject {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.PADDON_METHOD == model) {
-            final String methodName = binaryModel.getStringValue();
-            final BinaryModel arguments = buffer.readBinaryModel();
-            if (ServerToClientModel.PADDON_ARGUMENTS == arguments.getModel()) {
-                doUpdate(methodName, arguments.getArrayValue().getJavaScriptObject());
-            } else {
-                buffer.rewind(arguments);
-                doUpdate(methodName, null);
-            }
-            return true;
-        } else if (ServerToClientModel.DESTROY == model) {
-            destroy();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTAddOn> getUpdates() {
+        return UPDATES;
     }
 
     protected void doUpdate(final String methodName, final JavaScriptObject arguments) {
@@ -25,11 +25,18 @@ package com.ponysdk.core.terminal.ui;
 
 import com.google.gwt.user.client.ui.Anchor;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTAnchor extends PTFocusWidget<Anchor> {
 
+    protected static final ModelDispatcher<PTAnchor> UPDATES = new ModelDispatcher<PTAnchor>(PTFocusWidget.UPDATES)
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setText(binaryModel.getStringValue()))
+        .register(ServerToClientModel.HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHTML(binaryModel.getStringValue()))
+        .register(ServerToClientModel.HREF, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHref(binaryModel.getStringValue()));
+
     @Override
     protected Anchor createUIObject() {
         return new Anchor() {
@@ -43,20 +50,8 @@ public class PTAnchor extends PTFocusWidget<Anchor> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.TEXT == model) {
-            uiObject.setText(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.HTML == model) {
-            uiObject.setHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.HREF == model) {
-            uiObject.setHref(binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTAnchor> getUpdates() {
+        return UPDATES;
     }
 
 }
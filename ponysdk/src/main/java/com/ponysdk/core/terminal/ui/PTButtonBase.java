@@ -25,23 +25,19 @@ package com.ponysdk.core.terminal.ui;
 
 import com.google.gwt.user.client.ui.ButtonBase;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 abstract class PTButtonBase<T extends ButtonBase> extends PTFocusWidget<T> {
 
+    protected static final ModelDispatcher<PTButtonBase<?>> UPDATES = new ModelDispatcher<PTButtonBase<?>>(PTFocusWidget.UPDATES)
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setText(binaryModel.getStringValue()))
+        .register(ServerToClientModel.HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHTML(binaryModel.getStringValue()));
+
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.TEXT == model) {
-            uiObject.setText(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.HTML == model) {
-            uiObject.setHTML(binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTButtonBase<?>> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -28,41 +28,39 @@ import com.google.gwt.user.client.ui.HasHorizontalAlignment.HorizontalAlignmentC
 import com.google.gwt.user.client.ui.HasVerticalAlignment.VerticalAlignmentConstant;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.ui.converter.GWTConverter;
 
 public abstract class PTCellPanel<W extends CellPanel> extends PTComplexPanel<W> {
 
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.WIDGET_HORIZONTAL_ALIGNMENT == model) {
+    protected static final ModelDispatcher<PTCellPanel<?>> UPDATES = new ModelDispatcher<PTCellPanel<?>>(PTWidget.UPDATES)
+        .register(ServerToClientModel.WIDGET_HORIZONTAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> {
             final HorizontalAlignmentConstant horizontalAlignment = GWTConverter
                 .asHorizontalAlignmentConstant(binaryModel.getIntValue());
             // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setCellHorizontalAlignment(w, horizontalAlignment);
-            return true;
-        } else if (ServerToClientModel.WIDGET_VERTICAL_ALIGNMENT == model) {
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setCellHorizontalAlignment(w, horizontalAlignment);
+        })
+        .register(ServerToClientModel.WIDGET_VERTICAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> {
             final VerticalAlignmentConstant verticalAlignment = GWTConverter.asVerticalAlignmentConstant(binaryModel.getIntValue());
             // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setCellVerticalAlignment(w, verticalAlignment);
-            return true;
-        } else if (ServerToClientModel.CELL_WIDTH == model) {
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setCellVerticalAlignment(w, verticalAlignment);
+        })
+        .register(ServerToClientModel.CELL_WIDTH, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.WIDGET_ID
-            uiObject.setCellWidth(asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder), value);
-            return true;
-        } else if (ServerToClientModel.CELL_HEIGHT == model) {
+            ptObject.uiObject.setCellWidth(ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder), value);
+        })
+        .register(ServerToClientModel.CELL_HEIGHT, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.WIDGET_ID
-            uiObject.setCellHeight(asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder), value);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+            ptObject.uiObject.setCellHeight(ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder), value);
+        });
+
+    @Override
+    protected ModelDispatcher<? extends PTCellPanel<?>> getUpdates() {
+        return UPDATES;
     }
 
 }
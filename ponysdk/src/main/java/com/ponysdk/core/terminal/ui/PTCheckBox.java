@@ -30,11 +30,22 @@ import com.ponysdk.core.model.PCheckBoxState;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTCheckBox<T extends CheckBox> extends PTButtonBase<T> {
 
+    protected static final ModelDispatcher<PTCheckBox<?>> UPDATES = new ModelDispatcher<PTCheckBox<?>>(PTButtonBase.UPDATES)
+        .register(ServerToClientModel.VALUE_CHECKBOX, (ptObject, buffer, binaryModel) -> {
+            final PCheckBoxState state = PCheckBoxState.fromRawValue(binaryModel.getIntValue());
+            final boolean indeterminate = PCheckBoxState.INDETERMINATE == state;
+            if (!indeterminate) ptObject.uiObject.setValue(PCheckBoxState.CHECKED == state);
+            setIndeterminate(ptObject.inputElement, indeterminate);
+        })
+        .register(ServerToClientModel.TABINDEX, (ptObject, buffer, binaryModel) -> {
+            ptObject.inputElement.setTabIndex(binaryModel.getIntValue());
+        });
+
     private Element inputElement;
 
     @Override
@@ -60,20 +71,8 @@ public class PTCheckBox<T extends CheckBox> extends PTButtonBase<T> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.VALUE_CHECKBOX == model) {
-            final PCheckBoxState state = PCheckBoxState.fromRawValue(binaryModel.getIntValue());
-            final boolean indeterminate = PCheckBoxState.INDETERMINATE == state;
-            if (!indeterminate) uiObject.setValue(PCheckBoxState.CHECKED == state);
-            setIndeterminate(inputElement, indeterminate);
-            return true;
-        } else if (ServerToClientModel.TABINDEX == model) {
-            inputElement.setTabIndex(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTCheckBox<?>> getUpdates() {
+        return UPDATES;
     }
 
     protected void addValueChangeHandler(final UIBuilder uiService) {
@@ -26,26 +26,23 @@ package com.ponysdk.core.terminal.ui;
 import com.google.gwt.user.client.ui.Composite;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.ui.PTComposite.MyComposite;
 
 public abstract class PTComposite extends PTWidget<MyComposite> {
 
+    protected static final ModelDispatcher<PTComposite> UPDATES = new ModelDispatcher<PTComposite>(PTWidget.UPDATES)
+        .register(ServerToClientModel.WIDGET_ID, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .initWidget(ptObject.asWidget(binaryModel.getIntValue(), ptObject.uiBuilder)));
+
     @Override
     protected MyComposite createUIObject() {
         return new MyComposite();
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.WIDGET_ID == model) {
-            uiObject.initWidget(asWidget(binaryModel.getIntValue(), uiBuilder));
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTComposite> getUpdates() {
+        return UPDATES;
     }
 
     static final class MyComposite extends Composite {
@@ -27,12 +27,17 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import elemental.client.Browser;
 
 public class PTCookies extends AbstractPTObject {
 
+    protected static final ModelDispatcher<PTCookies> UPDATES = new ModelDispatcher<PTCookies>()
+        .register(ServerToClientModel.ADD_COOKIE, (ptObject, buffer, binaryModel) -> {
+            final String value = binaryModel.getStringValue();
+            Browser.getDocument().setCookie(value);
+        });
+
     public PTCookies(final UIBuilder uiBuilder) {
         String cookies = Browser.getDocument().getCookie();
         if (cookies == null) return;
@@ -42,15 +47,8 @@ public class PTCookies extends AbstractPTObject {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.ADD_COOKIE == model) {
-            final String value = binaryModel.getStringValue();
-            Browser.getDocument().setCookie(value);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTCookies> getUpdates() {
+        return UPDATES;
     }
 
 }
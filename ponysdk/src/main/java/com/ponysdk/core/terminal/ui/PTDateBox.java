@@ -36,11 +36,24 @@ import com.ponysdk.core.terminal.PonySDK;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.PTDateBox.MyDateBox;
 
 public class PTDateBox extends PTWidget<MyDateBox> {
 
+    protected static final ModelDispatcher<PTDateBox> UPDATES = new ModelDispatcher<PTDateBox>(PTWidget.UPDATES)
+        .register(ServerToClientModel.VALUE, (ptObject, buffer, binaryModel) -> {
+            final String dateText = binaryModel.getStringValue();
+            ptObject.uiObject.setValue(ptObject.format.parse(ptObject.uiObject, dateText != null ? dateText : "", false));
+        })
+        .register(ServerToClientModel.DATE_FORMAT_PATTERN, (ptObject, buffer, binaryModel) -> {
+            ptObject.format = new DefaultFormat(DateTimeFormat.getFormat(binaryModel.getStringValue()));
+            ptObject.uiObject.setFormat(ptObject.format);
+        })
+        .register(ServerToClientModel.ENABLED, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setEnabled(binaryModel.getBooleanValue()));
+
     private PTDatePicker datePicker;
     private DefaultFormat format;
     private Date defaultDate;
@@ -74,22 +87,8 @@ public class PTDateBox extends PTWidget<MyDateBox> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.VALUE == model) {
-            final String dateText = binaryModel.getStringValue();
-            uiObject.setValue(format.parse(uiObject, dateText != null ? dateText : "", false));
-            return true;
-        } else if (ServerToClientModel.DATE_FORMAT_PATTERN == model) {
-            format = new DefaultFormat(DateTimeFormat.getFormat(binaryModel.getStringValue()));
-            uiObject.setFormat(format);
-            return true;
-        } else if (ServerToClientModel.ENABLED == model) {
-            uiObject.setEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTDateBox> getUpdates() {
+        return UPDATES;
     }
 
     class MyDateBox extends DateBox {
@@ -35,11 +35,49 @@ import com.ponysdk.core.model.DateConverter;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTDatePicker extends PTWidget<DatePicker> {
 
+    protected static final ModelDispatcher<PTDatePicker> UPDATES = new ModelDispatcher<PTDatePicker>(PTWidget.UPDATES)
+        .register(ServerToClientModel.DATE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setValue(DateConverter.fromTimestamp(binaryModel.getLongValue())))
+        .register(ServerToClientModel.TIME, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setCurrentMonth(DateConverter.fromTimestamp(binaryModel.getLongValue())))
+        .register(ServerToClientModel.DATE_ENABLED, (ptObject, buffer, binaryModel) -> {
+            final JSONArray dates = binaryModel.getArrayValue();
+            // ServerToClientModel.ENABLED
+            final boolean enabled = buffer.readBinaryModel().getBooleanValue();
+            for (int i = 0; i < dates.size(); i++) {
+                final JSONValue rawObject = dates.get(i);
+                final Date date = DateConverter.decode((long) rawObject.isNumber().doubleValue());
+                if (date.after(ptObject.uiObject.getFirstDate()) && date.before(ptObject.uiObject.getLastDate())) {
+                    ptObject.uiObject.setTransientEnabledOnDates(enabled, date);
+                }
+            }
+        })
+        .register(ServerToClientModel.ADD_DATE_STYLE, (ptObject, buffer, binaryModel) -> {
+            final JSONArray dates = binaryModel.getArrayValue();
+            // ServerToClientModel.STYLE_NAME
+            final String style = buffer.readBinaryModel().getStringValue();
+            for (int i = 0; i < dates.size(); i++) {
+                final JSONValue rawObject = dates.get(i);
+                ptObject.uiObject.addStyleToDates(style, DateConverter.decode((long) rawObject.isNumber().doubleValue()));
+            }
+        })
+        .register(ServerToClientModel.REMOVE_DATE_STYLE, (ptObject, buffer, binaryModel) -> {
+            final JSONArray dates = binaryModel.getArrayValue();
+            // ServerToClientModel.STYLE_NAME
+            final String style = buffer.readBinaryModel().getStringValue();
+            for (int i = 0; i < dates.size(); i++) {
+                final JSONValue rawObject = dates.get(i);
+                ptObject.uiObject.removeStyleFromDates(style, DateConverter.decode((long) rawObject.isNumber().doubleValue()));
+            }
+        })
+        .register(ServerToClientModel.YEAR_ARROWS_VISIBLE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setYearArrowsVisible(binaryModel.getBooleanValue()));
+
     private DateTimeFormat format;
 
     @Override
@@ -73,50 +111,8 @@ public class PTDatePicker extends PTWidget<DatePicker> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.DATE == model) {
-            uiObject.setValue(DateConverter.fromTimestamp(binaryModel.getLongValue()));
-            return true;
-        } else if (ServerToClientModel.TIME == model) {
-            uiObject.setCurrentMonth(DateConverter.fromTimestamp(binaryModel.getLongValue()));
-            return true;
-        } else if (ServerToClientModel.DATE_ENABLED == model) {
-            final JSONArray dates = binaryModel.getArrayValue();
-            // ServerToClientModel.ENABLED
-            final boolean enabled = buffer.readBinaryModel().getBooleanValue();
-            for (int i = 0; i < dates.size(); i++) {
-                final JSONValue rawObject = dates.get(i);
-                final Date date = DateConverter.decode((long) rawObject.isNumber().doubleValue());
-                if (date.after(uiObject.getFirstDate()) && date.before(uiObject.getLastDate())) {
-                    uiObject.setTransientEnabledOnDates(enabled, date);
-                }
-            }
-            return true;
-        } else if (ServerToClientModel.ADD_DATE_STYLE == model) {
-            final JSONArray dates = binaryModel.getArrayValue();
-            // ServerToClientModel.STYLE_NAME
-            final String style = buffer.readBinaryModel().getStringValue();
-            for (int i = 0; i < dates.size(); i++) {
-                final JSONValue rawObject = dates.get(i);
-                uiObject.addStyleToDates(style, DateConverter.decode((long) rawObject.isNumber().doubleValue()));
-            }
-            return true;
-        } else if (ServerToClientModel.REMOVE_DATE_STYLE == model) {
-            final JSONArray dates = binaryModel.getArrayValue();
-            // ServerToClientModel.STYLE_NAME
-            final String style = buffer.readBinaryModel().getStringValue();
-            for (int i = 0; i < dates.size(); i++) {
-                final JSONValue rawObject = dates.get(i);
-                uiObject.removeStyleFromDates(style, DateConverter.decode((long) rawObject.isNumber().doubleValue()));
-            }
-            return true;
-        } else if (ServerToClientModel.YEAR_ARROWS_VISIBLE == model) {
-            uiObject.setYearArrowsVisible(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTDatePicker> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -26,11 +26,19 @@ package com.ponysdk.core.terminal.ui;
 import com.google.gwt.event.dom.client.MouseDownEvent;
 import com.google.gwt.user.client.ui.DialogBox;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTDialogBox extends PTDecoratedPopupPanel<DialogBox> {
 
+    protected static final ModelDispatcher<PTDialogBox> UPDATES = new ModelDispatcher<PTDialogBox>(PTPopupPanel.UPDATES)
+        .register(ServerToClientModel.POPUP_CAPTION, (ptObject, buffer, binaryModel) -> {
+            final DialogBox dialogBox = ptObject.uiObject;
+            dialogBox.setHTML(binaryModel.getStringValue());
+        })
+        .register(ServerToClientModel.DRAGGABLE, (ptObject, buffer, binaryModel) -> {
+            ptObject.draggable = binaryModel.getBooleanValue();
+        });
+
     public PTDialogBox() {
         this.draggable = true;
     }
@@ -41,18 +49,8 @@ public class PTDialogBox extends PTDecoratedPopupPanel<DialogBox> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.POPUP_CAPTION == model) {
-            final DialogBox dialogBox = uiObject;
-            dialogBox.setHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.DRAGGABLE == model) {
-            draggable = binaryModel.getBooleanValue();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTDialogBox> getUpdates() {
+        return UPDATES;
     }
 
     private final class MyDialogBox extends DialogBox {
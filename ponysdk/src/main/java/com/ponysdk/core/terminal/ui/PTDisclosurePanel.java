@@ -28,7 +28,7 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTDisclosurePanel extends PTWidget<DisclosurePanel> {
@@ -36,6 +36,12 @@ public class PTDisclosurePanel extends PTWidget<DisclosurePanel> {
     private static final String OPENNED = "images/disclosure_openned.png";
     private static final String CLOSED = "images/disclosure_closed.png";
 
+    protected static final ModelDispatcher<PTDisclosurePanel> UPDATES = new ModelDispatcher<PTDisclosurePanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.OPEN, (ptObject, buffer, binaryModel) -> ptObject.uiObject.setOpen(true))
+        .register(ServerToClientModel.CLOSE, (ptObject, buffer, binaryModel) -> ptObject.uiObject.setOpen(false))
+        .register(ServerToClientModel.ANIMATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationEnabled(binaryModel.getBooleanValue()));
+
     private String headerText;
     private PImageResource openImageResource;
     private PImageResource closeImageResource;
@@ -76,20 +82,8 @@ public class PTDisclosurePanel extends PTWidget<DisclosurePanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.OPEN == model) {
-            uiObject.setOpen(true);
-            return true;
-        } else if (ServerToClientModel.CLOSE == model) {
-            uiObject.setOpen(false);
-            return true;
-        } else if (ServerToClientModel.ANIMATION == model) {
-            uiObject.setAnimationEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTDisclosurePanel> getUpdates() {
+        return UPDATES;
     }
 
 }
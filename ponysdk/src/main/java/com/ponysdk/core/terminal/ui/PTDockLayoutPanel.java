@@ -29,11 +29,28 @@ import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.PDirection;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTDockLayoutPanel<T extends DockLayoutPanel> extends PTComplexPanel<T> {
 
+    protected static final ModelDispatcher<PTDockLayoutPanel<?>> UPDATES = new ModelDispatcher<PTDockLayoutPanel<?>>(
+        PTWidget.UPDATES)
+        .register(ServerToClientModel.WIDGET_SIZE, (ptObject, buffer, binaryModel) -> {
+            final double newSize = binaryModel.getDoubleValue();
+            // ServerToClientModel.WIDGET_ID
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetSize(w, newSize);
+        })
+        .register(ServerToClientModel.WIDGET_HIDDEN, (ptObject, buffer, binaryModel) -> {
+            final boolean hidden = binaryModel.getBooleanValue();
+            // ServerToClientModel.WIDGET_ID
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetHidden(w, hidden);
+        })
+        .register(ServerToClientModel.ANIMATE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .animate(binaryModel.getIntValue()));
+
     private Unit unit;
 
     @Override
@@ -68,26 +85,8 @@ public class PTDockLayoutPanel<T extends DockLayoutPanel> extends PTComplexPanel
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.WIDGET_SIZE == model) {
-            final double newSize = binaryModel.getDoubleValue();
-            // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetSize(w, newSize);
-            return true;
-        } else if (ServerToClientModel.WIDGET_HIDDEN == model) {
-            final boolean hidden = binaryModel.getBooleanValue();
-            // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetHidden(w, hidden);
-            return true;
-        } else if (ServerToClientModel.ANIMATE == model) {
-            uiObject.animate(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTDockLayoutPanel<?>> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -29,12 +29,19 @@ import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.PTElement.MyHTMLPanel;
 
 public class PTElement extends PTComplexPanel<MyHTMLPanel> {
 
     private static final String EMPTY = "";
+    protected static final ModelDispatcher<PTElement> UPDATES = new ModelDispatcher<PTElement>(PTWidget.UPDATES)
+        .register(ServerToClientModel.HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getElement().setInnerHTML(binaryModel.getStringValue()))
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getElement().setInnerText(binaryModel.getStringValue()));
+
     private String tag;
 
     @Override
@@ -61,17 +68,8 @@ public class PTElement extends PTComplexPanel<MyHTMLPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.HTML == model) {
-            uiObject.getElement().setInnerHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.TEXT == model) {
-            uiObject.getElement().setInnerText(binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTElement> getUpdates() {
+        return UPDATES;
     }
 
     static final class MyHTMLPanel extends HTMLPanel {
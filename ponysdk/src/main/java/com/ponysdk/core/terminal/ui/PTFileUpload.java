@@ -36,11 +36,28 @@ import com.ponysdk.core.model.MappingPath;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.PonySDK;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTFileUpload extends PTWidget<FormPanel> {
 
+    protected static final ModelDispatcher<PTFileUpload> UPDATES = new ModelDispatcher<PTFileUpload>(PTWidget.UPDATES)
+        .register(ServerToClientModel.NAME, (ptObject, buffer, binaryModel) -> {
+            ptObject.fileUpload.setName(binaryModel.getStringValue());
+        })
+        .register(ServerToClientModel.ENABLED, (ptObject, buffer, binaryModel) -> {
+            ptObject.fileUpload.setEnabled(binaryModel.getBooleanValue());
+        })
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> {
+            if (ptObject.label == null) {
+                ptObject.label = DOM.createLabel().cast();
+                ptObject.label.setHtmlFor(ptObject.fileUploadId);
+                ptObject.container.getElement().insertFirst(ptObject.label);
+            }
+            ptObject.label.setInnerText(binaryModel.getStringValue());
+        })
+        .register(ServerToClientModel.CLEAR, (ptObject, buffer, binaryModel) -> ptObject.uiObject.reset());
+
     private FileUpload fileUpload;
     private String fileUploadId;
     private FlowPanel container;
@@ -72,28 +89,8 @@ public class PTFileUpload extends PTWidget<FormPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.NAME == model) {
-            fileUpload.setName(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.ENABLED == model) {
-            fileUpload.setEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.TEXT == model) {
-            if (label == null) {
-                label = DOM.createLabel().cast();
-                label.setHtmlFor(fileUploadId);
-                container.getElement().insertFirst(label);
-            }
-            label.setInnerText(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.CLEAR == model) {
-            uiObject.reset();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTFileUpload> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -26,13 +26,35 @@ package com.ponysdk.core.terminal.ui;
 import com.google.gwt.user.client.ui.FlexTable;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTFlexTable extends PTHTMLTable<FlexTable> {
 
     private static final String PONY_FLEX_TABLE_STYLE_NAME = "pony-PFlexTable";
 
+    protected static final ModelDispatcher<PTFlexTable> UPDATES = new ModelDispatcher<PTFlexTable>(PTHTMLTable.UPDATES)
+        .register(ServerToClientModel.CLEAR_ROW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .removeRow(binaryModel.getIntValue()))
+        .register(ServerToClientModel.INSERT_ROW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .insertRow(binaryModel.getIntValue()))
+        .register(ServerToClientModel.SET_COL_SPAN, (ptObject, buffer, binaryModel) -> {
+            final int value = binaryModel.getIntValue();
+            // ServerToClientModel.ROW
+            final int cellFormatterRow = buffer.readBinaryModel().getIntValue();
+            // ServerToClientModel.COLUMN
+            final int cellFormatterColumn = buffer.readBinaryModel().getIntValue();
+            ptObject.uiObject.getFlexCellFormatter().setColSpan(cellFormatterRow, cellFormatterColumn, value);
+        })
+        .register(ServerToClientModel.SET_ROW_SPAN, (ptObject, buffer, binaryModel) -> {
+            final int value = binaryModel.getIntValue();
+            // ServerToClientModel.ROW
+            final int cellFormatterRow = buffer.readBinaryModel().getIntValue();
+            // ServerToClientModel.COLUMN
+            final int cellFormatterColumn = buffer.readBinaryModel().getIntValue();
+            ptObject.uiObject.getFlexCellFormatter().setRowSpan(cellFormatterRow, cellFormatterColumn, value);
+        });
+
     @Override
     public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiService) {
         super.create(buffer, objectId, uiService);
@@ -45,32 +67,8 @@ public class PTFlexTable extends PTHTMLTable<FlexTable> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.CLEAR_ROW == model) {
-            uiObject.removeRow(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.INSERT_ROW == model) {
-            uiObject.insertRow(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.SET_COL_SPAN == model) {
-            final int value = binaryModel.getIntValue();
-            // ServerToClientModel.ROW
-            final int cellFormatterRow = buffer.readBinaryModel().getIntValue();
-            // ServerToClientModel.COLUMN
-            final int cellFormatterColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getFlexCellFormatter().setColSpan(cellFormatterRow, cellFormatterColumn, value);
-            return true;
-        } else if (ServerToClientModel.SET_ROW_SPAN == model) {
-            final int value = binaryModel.getIntValue();
-            // ServerToClientModel.ROW
-            final int cellFormatterRow = buffer.readBinaryModel().getIntValue();
-            // ServerToClientModel.COLUMN
-            final int cellFormatterColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getFlexCellFormatter().setRowSpan(cellFormatterRow, cellFormatterColumn, value);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTFlexTable> getUpdates() {
+        return UPDATES;
     }
+
 }
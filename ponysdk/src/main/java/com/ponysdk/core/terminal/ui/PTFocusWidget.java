@@ -34,11 +34,27 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.PonySDK;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public abstract class PTFocusWidget<T extends FocusWidget> extends PTWidget<T> {
 
+    protected static final ModelDispatcher<PTFocusWidget<?>> UPDATES = new ModelDispatcher<PTFocusWidget<?>>(PTWidget.UPDATES)
+        .register(ServerToClientModel.LOADING_ON_REQUEST, (ptObject, buffer, binaryModel) -> {
+            ptObject.showLoadingOnRequest = binaryModel.getBooleanValue();
+        })
+        .register(ServerToClientModel.ENABLED_ON_REQUEST, (ptObject, buffer, binaryModel) -> {
+            ptObject.enabledOnRequest = binaryModel.getBooleanValue();
+        })
+        .register(ServerToClientModel.END_OF_PROCESSING, (ptObject, buffer, binaryModel) -> {
+            if (ptObject.showLoadingOnRequest) ptObject.uiObject.removeStyleName("pony-Loading");
+            if (!ptObject.enabledOnRequest) ptObject.uiObject.setEnabled(ptObject.enabled);
+        })
+        .register(ServerToClientModel.ENABLED, (ptObject, buffer, binaryModel) -> {
+            ptObject.enabled = binaryModel.getBooleanValue();
+            ptObject.uiObject.setEnabled(ptObject.enabled);
+        });
+
     protected boolean enabled = true;
     private boolean showLoadingOnRequest = false;
     private boolean enabledOnRequest = false;
@@ -50,25 +66,8 @@ public abstract class PTFocusWidget<T extends FocusWidget> extends PTWidget<T> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.LOADING_ON_REQUEST == model) {
-            showLoadingOnRequest = binaryModel.getBooleanValue();
-            return true;
-        } else if (ServerToClientModel.ENABLED_ON_REQUEST == model) {
-            enabledOnRequest = binaryModel.getBooleanValue();
-            return true;
-        } else if (ServerToClientModel.END_OF_PROCESSING == model) {
-            if (showLoadingOnRequest) uiObject.removeStyleName("pony-Loading");
-            if (!enabledOnRequest) uiObject.setEnabled(enabled);
-            return true;
-        } else if (ServerToClientModel.ENABLED == model) {
-            this.enabled = binaryModel.getBooleanValue();
-            uiObject.setEnabled(enabled);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTFocusWidget<?>> getUpdates() {
+        return UPDATES;
     }
 
     @Override
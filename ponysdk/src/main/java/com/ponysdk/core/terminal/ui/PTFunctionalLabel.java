@@ -25,11 +25,19 @@ package com.ponysdk.core.terminal.ui;
 
 import com.google.gwt.user.client.ui.Label;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTFunctionalLabel extends PTLabel<Label> {
 
+    protected static final ModelDispatcher<PTFunctionalLabel> UPDATES = new ModelDispatcher<PTFunctionalLabel>(PTLabel.UPDATES)
+        .register(ServerToClientModel.FUNCTION_ARGS, (ptObject, buffer, binaryModel) -> {
+            final String text = ptObject.function.getFunction().apply(binaryModel.getArrayValue().getJavaScriptObject());
+            setText(ptObject.uiObject.getElement(), text);
+        })
+        .register(ServerToClientModel.FUNCTION_ID, (ptObject, buffer, binaryModel) -> {
+            ptObject.function = (PTFunction) ptObject.uiBuilder.getPTObject(binaryModel.getIntValue());
+        });
+
     private PTFunction function;
 
     @Override
@@ -38,16 +46,8 @@ public class PTFunctionalLabel extends PTLabel<Label> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.FUNCTION_ARGS == model) {
-            setText(uiObject.getElement(), function.getFunction().apply(binaryModel.getArrayValue().getJavaScriptObject()));
-            return true;
-        } else if (ServerToClientModel.FUNCTION_ID == model) {
-            function = (PTFunction) uiBuilder.getPTObject(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTFunctionalLabel> getUpdates() {
+        return UPDATES;
     }
+
 }
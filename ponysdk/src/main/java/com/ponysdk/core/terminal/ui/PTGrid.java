@@ -27,10 +27,17 @@ import com.google.gwt.user.client.ui.Grid;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTGrid extends PTHTMLTable<Grid> {
 
+    protected static final ModelDispatcher<PTGrid> UPDATES = new ModelDispatcher<PTGrid>(PTHTMLTable.UPDATES)
+        .register(ServerToClientModel.CLEAR_ROW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .removeRow(binaryModel.getIntValue()))
+        .register(ServerToClientModel.INSERT_ROW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .insertRow(binaryModel.getIntValue()));
+
     private int rows = -1;
     private int columns = -1;
 
@@ -55,17 +62,8 @@ public class PTGrid extends PTHTMLTable<Grid> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.CLEAR_ROW == model) {
-            uiObject.removeRow(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.INSERT_ROW == model) {
-            uiObject.insertRow(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTGrid> getUpdates() {
+        return UPDATES;
     }
 
 }
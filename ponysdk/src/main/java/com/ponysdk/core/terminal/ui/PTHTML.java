@@ -25,28 +25,24 @@ package com.ponysdk.core.terminal.ui;
 
 import com.google.gwt.user.client.ui.HTML;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTHTML extends PTLabel<HTML> {
 
+    protected static final ModelDispatcher<PTHTML> UPDATES = new ModelDispatcher<PTHTML>(PTLabel.UPDATES)
+        .register(ServerToClientModel.HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHTML(binaryModel.getStringValue()))
+        .register(ServerToClientModel.WORD_WRAP, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setWordWrap(binaryModel.getBooleanValue()));
+
     @Override
     protected HTML createUIObject() {
         return new HTML();
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.HTML == model) {
-            uiObject.setHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.WORD_WRAP == model) {
-            uiObject.setWordWrap(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTHTML> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -28,131 +28,123 @@ import com.google.gwt.user.client.ui.HasHorizontalAlignment.HorizontalAlignmentC
 import com.google.gwt.user.client.ui.HasVerticalAlignment.VerticalAlignmentConstant;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.converter.GWTConverter;
 
 public abstract class PTHTMLTable<T extends HTMLTable> extends PTPanel<T> {
 
-    @Override
-    public void add(final ReaderBuffer buffer, final PTObject ptObject) {
-        final Widget w = asWidget(ptObject);
-
-        // ServerToClientModel.ROW
-        final int row = buffer.readBinaryModel().getIntValue();
-        // ServerToClientModel.COLUMN
-        final int cell = buffer.readBinaryModel().getIntValue();
-
-        uiObject.getCellFormatter().addStyleName(row, cell, "ptc");
-        uiObject.setWidget(row, cell, w);
-    }
-
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.CLEAR == model) {
-            uiObject.clear();
-            return true;
-        } else if (ServerToClientModel.BORDER_WIDTH == model) {
-            uiObject.setBorderWidth(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.CELL_SPACING == model) {
-            uiObject.setCellSpacing(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.CELL_PADDING == model) {
-            uiObject.setCellPadding(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.ROW_FORMATTER_ADD_STYLE_NAME == model) {
+    protected static final ModelDispatcher<PTHTMLTable<?>> UPDATES = new ModelDispatcher<PTHTMLTable<?>>(PTWidget.UPDATES)
+        .register(ServerToClientModel.CLEAR, (ptObject, buffer, binaryModel) -> ptObject.uiObject.clear())
+        .register(ServerToClientModel.BORDER_WIDTH, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setBorderWidth(binaryModel.getIntValue()))
+        .register(ServerToClientModel.CELL_SPACING, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setCellSpacing(binaryModel.getIntValue()))
+        .register(ServerToClientModel.CELL_PADDING, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setCellPadding(binaryModel.getIntValue()))
+        .register(ServerToClientModel.ROW_FORMATTER_ADD_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.ROW
             final int row = buffer.readBinaryModel().getIntValue();
-            uiObject.getRowFormatter().addStyleName(row, value);
-            return true;
-        } else if (ServerToClientModel.ROW_FORMATTER_SET_STYLE_NAME == model) {
+            ptObject.uiObject.getRowFormatter().addStyleName(row, value);
+        })
+        .register(ServerToClientModel.ROW_FORMATTER_SET_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.ROW
             final int row = buffer.readBinaryModel().getIntValue();
-            uiObject.getRowFormatter().setStyleName(row, value);
-            return true;
-        } else if (ServerToClientModel.ROW_FORMATTER_REMOVE_STYLE_NAME == model) {
+            ptObject.uiObject.getRowFormatter().setStyleName(row, value);
+        })
+        .register(ServerToClientModel.ROW_FORMATTER_REMOVE_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.ROW
             final int row = buffer.readBinaryModel().getIntValue();
-            uiObject.getRowFormatter().removeStyleName(row, value);
-            return true;
-        } else if (ServerToClientModel.ROW_FORMATTER_SHOW_ROW == model) {
-            uiObject.getRowFormatter().setVisible(binaryModel.getIntValue(), true);
-            return true;
-        } else if (ServerToClientModel.ROW_FORMATTER_HIDE_ROW == model) {
-            uiObject.getRowFormatter().setVisible(binaryModel.getIntValue(), false);
-            return true;
-        } else if (ServerToClientModel.CELL_FORMATTER_ADD_STYLE_NAME == model) {
+            ptObject.uiObject.getRowFormatter().removeStyleName(row, value);
+        })
+        .register(ServerToClientModel.ROW_FORMATTER_SHOW_ROW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getRowFormatter().setVisible(binaryModel.getIntValue(), true))
+        .register(ServerToClientModel.ROW_FORMATTER_HIDE_ROW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getRowFormatter().setVisible(binaryModel.getIntValue(), false))
+        .register(ServerToClientModel.CELL_FORMATTER_ADD_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.ROW
             final int cellRow = buffer.readBinaryModel().getIntValue();
             // ServerToClientModel.COLUMN
             final int cellColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getCellFormatter().addStyleName(cellRow, cellColumn, value);
-            return true;
-        } else if (ServerToClientModel.CELL_FORMATTER_REMOVE_STYLE_NAME == model) {
+            ptObject.uiObject.getCellFormatter().addStyleName(cellRow, cellColumn, value);
+        })
+        .register(ServerToClientModel.CELL_FORMATTER_REMOVE_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.ROW
             final int cellRow = buffer.readBinaryModel().getIntValue();
             // ServerToClientModel.COLUMN
             final int cellColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getCellFormatter().removeStyleName(cellRow, cellColumn, value);
-            return true;
-        } else if (ServerToClientModel.CELL_FORMATTER_SET_STYLE_NAME == model) {
+            ptObject.uiObject.getCellFormatter().removeStyleName(cellRow, cellColumn, value);
+        })
+        .register(ServerToClientModel.CELL_FORMATTER_SET_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.ROW
             final int cellRow = buffer.readBinaryModel().getIntValue();
             // ServerToClientModel.COLUMN
             final int cellColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getCellFormatter().setStyleName(cellRow, cellColumn, value);
-            return true;
-        } else if (ServerToClientModel.VERTICAL_ALIGNMENT == model) {
+            ptObject.uiObject.getCellFormatter().setStyleName(cellRow, cellColumn, value);
+        })
+        .register(ServerToClientModel.VERTICAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> {
             final VerticalAlignmentConstant value = GWTConverter.asVerticalAlignmentConstant(binaryModel.getIntValue());
             // ServerToClientModel.ROW
             final int cellRow = buffer.readBinaryModel().getIntValue();
             // ServerToClientModel.COLUMN
             final int cellColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getCellFormatter().setVerticalAlignment(cellRow, cellColumn, value);
-            return true;
-        } else if (ServerToClientModel.HORIZONTAL_ALIGNMENT == model) {
+            ptObject.uiObject.getCellFormatter().setVerticalAlignment(cellRow, cellColumn, value);
+        })
+        .register(ServerToClientModel.HORIZONTAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> {
             final HorizontalAlignmentConstant value = GWTConverter.asHorizontalAlignmentConstant(binaryModel.getIntValue());
             // ServerToClientModel.ROW
             final int cellRow = buffer.readBinaryModel().getIntValue();
             // ServerToClientModel.COLUMN
             final int cellColumn = buffer.readBinaryModel().getIntValue();
-            uiObject.getCellFormatter().setHorizontalAlignment(cellRow, cellColumn, value);
-            return true;
-        } else if (ServerToClientModel.COLUMN_FORMATTER_ADD_STYLE_NAME == model) {
+            ptObject.uiObject.getCellFormatter().setHorizontalAlignment(cellRow, cellColumn, value);
+        })
+        .register(ServerToClientModel.COLUMN_FORMATTER_ADD_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.COLUMN
             final int column = buffer.readBinaryModel().getIntValue();
-            uiObject.getColumnFormatter().addStyleName(column, value);
-            return true;
-        } else if (ServerToClientModel.COLUMN_FORMATTER_REMOVE_STYLE_NAME == model) {
+            ptObject.uiObject.getColumnFormatter().addStyleName(column, value);
+        })
+        .register(ServerToClientModel.COLUMN_FORMATTER_REMOVE_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.COLUMN
             final int column = buffer.readBinaryModel().getIntValue();
-            uiObject.getColumnFormatter().removeStyleName(column, value);
-            return true;
-        } else if (ServerToClientModel.COLUMN_FORMATTER_SET_STYLE_NAME == model) {
+            ptObject.uiObject.getColumnFormatter().removeStyleName(column, value);
+        })
+        .register(ServerToClientModel.COLUMN_FORMATTER_SET_STYLE_NAME, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.COLUMN
             final int column = buffer.readBinaryModel().getIntValue();
-            uiObject.getColumnFormatter().setStyleName(column, value);
-            return true;
-        } else if (ServerToClientModel.COLUMN_FORMATTER_COLUMN_WIDTH == model) {
+            ptObject.uiObject.getColumnFormatter().setStyleName(column, value);
+        })
+        .register(ServerToClientModel.COLUMN_FORMATTER_COLUMN_WIDTH, (ptObject, buffer, binaryModel) -> {
             final String value = binaryModel.getStringValue();
             // ServerToClientModel.COLUMN
             final int column = buffer.readBinaryModel().getIntValue();
-            uiObject.getColumnFormatter().setWidth(column, value);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+            ptObject.uiObject.getColumnFormatter().setWidth(column, value);
+        });
+
+    @Override
+    public void add(final ReaderBuffer buffer, final PTObject ptObject) {
+        final Widget w = asWidget(ptObject);
+
+        // ServerToClientModel.ROW
+        final int row = buffer.readBinaryModel().getIntValue();
+        // ServerToClientModel.COLUMN
+        final int cell = buffer.readBinaryModel().getIntValue();
+
+        uiObject.getCellFormatter().addStyleName(row, cell, "ptc");
+        uiObject.setWidget(row, cell, w);
+    }
+
+    @Override
+    protected ModelDispatcher<? extends PTHTMLTable<?>> getUpdates() {
+        return UPDATES;
     }
 
 }
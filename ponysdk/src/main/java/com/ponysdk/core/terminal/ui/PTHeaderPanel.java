@@ -27,10 +27,14 @@ import com.google.gwt.user.client.ui.HeaderPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTHeaderPanel extends PTPanel<HeaderPanel> {
 
+    protected static final ModelDispatcher<PTHeaderPanel> UPDATES = new ModelDispatcher<PTHeaderPanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.RESIZE, (ptObject, buffer, binaryModel) -> ptObject.uiObject.onResize());
+
     @Override
     protected HeaderPanel createUIObject() {
         return new HeaderPanel();
@@ -64,14 +68,8 @@ public class PTHeaderPanel extends PTPanel<HeaderPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.RESIZE == model) {
-            uiObject.onResize();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTHeaderPanel> getUpdates() {
+        return UPDATES;
     }
 
     @Override
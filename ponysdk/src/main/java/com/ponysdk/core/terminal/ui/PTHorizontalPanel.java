@@ -26,11 +26,23 @@ package com.ponysdk.core.terminal.ui;
 import com.google.gwt.user.client.ui.HorizontalPanel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.converter.GWTConverter;
 
 public class PTHorizontalPanel extends PTCellPanel<HorizontalPanel> {
 
+    protected static final ModelDispatcher<PTHorizontalPanel> UPDATES = new ModelDispatcher<PTHorizontalPanel>(
+        PTCellPanel.UPDATES)
+        .register(ServerToClientModel.BORDER_WIDTH, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setBorderWidth(binaryModel.getIntValue()))
+        .register(ServerToClientModel.SPACING, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setSpacing(binaryModel.getIntValue()))
+        .register(ServerToClientModel.HORIZONTAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHorizontalAlignment(GWTConverter.asHorizontalAlignmentConstant(binaryModel.getIntValue())))
+        .register(ServerToClientModel.VERTICAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVerticalAlignment(GWTConverter.asVerticalAlignmentConstant(binaryModel.getIntValue())));
+
     @Override
     protected HorizontalPanel createUIObject() {
         return new HorizontalPanel();
@@ -48,23 +60,8 @@ public class PTHorizontalPanel extends PTCellPanel<HorizontalPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.BORDER_WIDTH == model) {
-            uiObject.setBorderWidth(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.SPACING == model) {
-            uiObject.setSpacing(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.HORIZONTAL_ALIGNMENT == model) {
-            uiObject.setHorizontalAlignment(GWTConverter.asHorizontalAlignmentConstant(binaryModel.getIntValue()));
-            return true;
-        } else if (ServerToClientModel.VERTICAL_ALIGNMENT == model) {
-            uiObject.setVerticalAlignment(GWTConverter.asVerticalAlignmentConstant(binaryModel.getIntValue()));
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTHorizontalPanel> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -32,10 +32,15 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.PonySDK;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTImage extends PTWidget<Image> {
 
+    protected static final ModelDispatcher<PTImage> UPDATES = new ModelDispatcher<PTImage>(PTWidget.UPDATES)
+        .register(ServerToClientModel.URL, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setUrl(binaryModel.getStringValue()));
+
     private String url;
     private int left = -1;
     private int top = -1;
@@ -70,14 +75,8 @@ public class PTImage extends PTWidget<Image> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.URL == model) {
-            uiObject.setUrl(binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTImage> getUpdates() {
+        return UPDATES;
     }
 
     @Override
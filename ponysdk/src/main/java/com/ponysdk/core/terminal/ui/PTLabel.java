@@ -26,11 +26,28 @@ package com.ponysdk.core.terminal.ui;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.ui.Label;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTLabel<T extends Label> extends PTWidget<T> {
 
+    protected static final ModelDispatcher<PTLabel<?>> UPDATES = new ModelDispatcher<PTLabel<?>>(PTWidget.UPDATES)
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> {
+            final String value = binaryModel.getStringValue();
+            setText(ptObject.uiObject.getElement(), value);
+            if (ptObject.attributeLinkedToValue != null) {
+                final Element element = ptObject.uiObject.getElement();
+                if (value != null && !value.isEmpty()) element.setAttribute(ptObject.attributeLinkedToValue, value);
+                else element.removeAttribute(ptObject.attributeLinkedToValue);
+            }
+        })
+        .register(ServerToClientModel.ATTRIBUTE_LINKED_TO_VALUE, (ptObject, buffer, binaryModel) -> {
+            ptObject.attributeLinkedToValue = binaryModel.getStringValue();
+            final String text = ptObject.uiObject.getText();
+            if (text != null && !text.isEmpty()) {
+                ptObject.uiObject.getElement().setAttribute(ptObject.attributeLinkedToValue, text);
+            }
+        });
+
     private String attributeLinkedToValue;
 
     @Override
@@ -39,25 +56,8 @@ public class PTLabel<T extends Label> extends PTWidget<T> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.TEXT == model) {
-            final String value = binaryModel.getStringValue();
-            setText(uiObject.getElement(), value);
-            if (attributeLinkedToValue != null) {
-                final Element element = uiObject.getElement();
-                if (value != null && !value.isEmpty()) element.setAttribute(attributeLinkedToValue, value);
-                else element.removeAttribute(attributeLinkedToValue);
-            }
-            return true;
-        } else if (ServerToClientModel.ATTRIBUTE_LINKED_TO_VALUE == model) {
-            this.attributeLinkedToValue = binaryModel.getStringValue();
-            final String text = uiObject.getText();
-            if (text != null && !text.isEmpty()) uiObject.getElement().setAttribute(attributeLinkedToValue, text);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTLabel<?>> getUpdates() {
+        return UPDATES;
     }
 
     protected static final native void setText(Element element, String text) /*-{
@@ -29,35 +29,28 @@ import com.google.gwt.user.client.ui.LayoutPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.ui.converter.GWTConverter;
 
 public class PTLayoutPanel extends PTComplexPanel<LayoutPanel> {
 
-    @Override
-    protected LayoutPanel createUIObject() {
-        return new LayoutPanel();
-    }
-
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.WIDGET_HORIZONTAL_ALIGNMENT == model) {
+    protected static final ModelDispatcher<PTLayoutPanel> UPDATES = new ModelDispatcher<PTLayoutPanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.WIDGET_HORIZONTAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> {
             final Alignment alignment = GWTConverter.asAlignment(binaryModel.getIntValue());
             // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetHorizontalPosition(w, alignment);
-            return true;
-        } else if (ServerToClientModel.WIDGET_VERTICAL_ALIGNMENT == model) {
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetHorizontalPosition(w, alignment);
+        })
+        .register(ServerToClientModel.WIDGET_VERTICAL_ALIGNMENT, (ptObject, buffer, binaryModel) -> {
             final Alignment alignment = GWTConverter.asAlignment(binaryModel.getIntValue());
             // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetVerticalPosition(w, alignment);
-            return true;
-        } else if (ServerToClientModel.UNIT == model) {
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetVerticalPosition(w, alignment);
+        })
+        .register(ServerToClientModel.UNIT, (ptObject, buffer, binaryModel) -> {
             final Unit unit = GWTConverter.asUnit(binaryModel.getIntValue());
             // ServerToClientModel.WIDGET_ID
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
 
             final BinaryModel key1 = buffer.readBinaryModel();
             if (ServerToClientModel.LEFT == key1.getModel()) {
@@ -65,49 +58,46 @@ public class PTLayoutPanel extends PTComplexPanel<LayoutPanel> {
                 final BinaryModel key2 = buffer.readBinaryModel();
                 if (ServerToClientModel.RIGHT == key2.getModel()) {
                     final double right = key2.getDoubleValue();
-                    uiObject.setWidgetLeftRight(w, left, unit, right, unit);
-                    return true;
+                    ptObject.uiObject.setWidgetLeftRight(w, left, unit, right, unit);
                 } else if (ServerToClientModel.WIDTH == key2.getModel()) {
                     final double width = key2.getDoubleValue();
-                    uiObject.setWidgetLeftWidth(w, left, unit, width, unit);
-                    return true;
+                    ptObject.uiObject.setWidgetLeftWidth(w, left, unit, width, unit);
                 }
             } else if (ServerToClientModel.RIGHT == key1.getModel()) {
                 final double right = key1.getDoubleValue();
                 // ServerToClientModel.WIDTH
                 final BinaryModel key2 = buffer.readBinaryModel();
                 final double width = key2.getDoubleValue();
-                uiObject.setWidgetRightWidth(w, right, unit, width, unit);
-                return true;
+                ptObject.uiObject.setWidgetRightWidth(w, right, unit, width, unit);
             } else if (ServerToClientModel.TOP == key1.getModel()) {
                 final double top = key1.getDoubleValue();
                 final BinaryModel key2 = buffer.readBinaryModel();
                 if (ServerToClientModel.BOTTOM == key2.getModel()) {
                     final double bottom = key2.getDoubleValue();
-                    uiObject.setWidgetTopBottom(w, top, unit, bottom, unit);
-                    return true;
+                    ptObject.uiObject.setWidgetTopBottom(w, top, unit, bottom, unit);
                 } else if (ServerToClientModel.HEIGHT == key2.getModel()) {
                     final double height = key2.getDoubleValue();
-                    uiObject.setWidgetTopHeight(w, top, unit, height, unit);
-                    return true;
+                    ptObject.uiObject.setWidgetTopHeight(w, top, unit, height, unit);
                 }
             } else if (ServerToClientModel.BOTTOM == key1.getModel()) {
                 final double bottom = key1.getDoubleValue();
                 // ServerToClientModel.HEIGHT
                 final BinaryModel key2 = buffer.readBinaryModel();
                 final double height = key2.getDoubleValue();
-                uiObject.setWidgetBottomHeight(w, bottom, unit, height, unit);
-                return true;
+                ptObject.uiObject.setWidgetBottomHeight(w, bottom, unit, height, unit);
             }
-        }
+        })
+        .register(ServerToClientModel.ANIMATE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .animate(binaryModel.getIntValue()));
 
-        // FIXME
-        if (ServerToClientModel.ANIMATE == model) {
-            uiObject.animate(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    @Override
+    protected LayoutPanel createUIObject() {
+        return new LayoutPanel();
+    }
+
+    @Override
+    protected ModelDispatcher<? extends PTLayoutPanel> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -34,10 +34,59 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTListBox extends PTFocusWidget<ListBox> {
 
+    protected static final ModelDispatcher<PTListBox> UPDATES = new ModelDispatcher<PTListBox>(PTFocusWidget.UPDATES)
+        .register(ServerToClientModel.CLEAR, (ptObject, buffer, binaryModel) -> ptObject.uiObject.clear())
+        .register(ServerToClientModel.ITEM_INSERTED, (ptObject, buffer, binaryModel) -> {
+            final String item = binaryModel.getStringValue() != null ? binaryModel.getStringValue() : "";
+            final BinaryModel indexModel = buffer.readBinaryModel();
+            if (ServerToClientModel.INDEX == indexModel.getModel()) {
+                ptObject.uiObject.insertItem(item, indexModel.getIntValue());
+            } else {
+                buffer.rewind(indexModel);
+                ptObject.uiObject.addItem(item);
+            }
+        })
+        .register(ServerToClientModel.ITEM_ADD, (ptObject, buffer, binaryModel) -> {
+            final JSONArray items = binaryModel.getArrayValue();
+            // ServerToClientModel.ITEM_GROUP
+            final String groupName = buffer.readBinaryModel().getStringValue();
+            final SelectElement select = ptObject.uiObject.getElement().cast();
+
+            final OptGroupElement groupElement = Document.get().createOptGroupElement();
+            groupElement.setLabel(groupName);
+
+            for (int i = 0; i < items.size(); i++) {
+                final OptionElement optElement = Document.get().createOptionElement();
+                optElement.setInnerText(items.get(i).isString().stringValue());
+                groupElement.appendChild(optElement);
+            }
+            select.appendChild(groupElement);
+        })
+        .register(ServerToClientModel.ITEM_UPDATED, (ptObject, buffer, binaryModel) -> {
+            final String item = binaryModel.getStringValue() != null ? binaryModel.getStringValue() : "";
+            // ServerToClientModel.INDEX
+            final int index = buffer.readBinaryModel().getIntValue();
+            ptObject.uiObject.setItemText(index, item);
+        })
+        .register(ServerToClientModel.ITEM_REMOVED, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .removeItem(binaryModel.getIntValue()))
+        .register(ServerToClientModel.SELECTED, (ptObject, buffer, binaryModel) -> {
+            final boolean selected = binaryModel.getBooleanValue();
+            // ServerToClientModel.INDEX
+            final int index = buffer.readBinaryModel().getIntValue();
+            if (index == -1) ptObject.uiObject.setSelectedIndex(index);
+            else ptObject.uiObject.setItemSelected(index, selected);
+        })
+        .register(ServerToClientModel.VISIBLE_ITEM_COUNT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVisibleItemCount(binaryModel.getIntValue()))
+        .register(ServerToClientModel.MULTISELECT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setMultipleSelect(binaryModel.getBooleanValue()));
+
     @Override
     public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiService) {
         super.create(buffer, objectId, uiService);
@@ -76,62 +125,8 @@ public class PTListBox extends PTFocusWidget<ListBox> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.CLEAR == model) {
-            uiObject.clear();
-            return true;
-        } else if (ServerToClientModel.ITEM_INSERTED == model) {
-            final String item = binaryModel.getStringValue() != null ? binaryModel.getStringValue() : "";
-            final BinaryModel indexModel = buffer.readBinaryModel();
-            if (ServerToClientModel.INDEX == indexModel.getModel()) {
-                uiObject.insertItem(item, indexModel.getIntValue());
-            } else {
-                buffer.rewind(indexModel);
-                uiObject.addItem(item);
-            }
-            return true;
-        } else if (ServerToClientModel.ITEM_ADD == model) {
-            final JSONArray items = binaryModel.getArrayValue();
-            // ServerToClientModel.ITEM_GROUP
-            final String groupName = buffer.readBinaryModel().getStringValue();
-            final SelectElement select = uiObject.getElement().cast();
-
-            final OptGroupElement groupElement = Document.get().createOptGroupElement();
-            groupElement.setLabel(groupName);
-
-            for (int i = 0; i < items.size(); i++) {
-                final OptionElement optElement = Document.get().createOptionElement();
-                optElement.setInnerText(items.get(i).isString().stringValue());
-                groupElement.appendChild(optElement);
-            }
-            select.appendChild(groupElement);
-            return true;
-        } else if (ServerToClientModel.ITEM_UPDATED == model) {
-            final String item = binaryModel.getStringValue() != null ? binaryModel.getStringValue() : "";
-            // ServerToClientModel.INDEX
-            final int index = buffer.readBinaryModel().getIntValue();
-            uiObject.setItemText(index, item);
-            return true;
-        } else if (ServerToClientModel.ITEM_REMOVED == model) {
-            uiObject.removeItem(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.SELECTED == model) {
-            final boolean selected = binaryModel.getBooleanValue();
-            // ServerToClientModel.INDEX
-            final int index = buffer.readBinaryModel().getIntValue();
-            if (index == -1) uiObject.setSelectedIndex(index);
-            else uiObject.setItemSelected(index, selected);
-            return true;
-        } else if (ServerToClientModel.VISIBLE_ITEM_COUNT == model) {
-            uiObject.setVisibleItemCount(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.MULTISELECT == model) {
-            uiObject.setMultipleSelect(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTListBox> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -27,12 +27,18 @@ import com.google.gwt.user.client.ui.MenuBar;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTMenuBar extends PTWidget<MenuBar> {
 
     private static final String MENUBAR_STYLE = "pony-MenuBar";
 
+    protected static final ModelDispatcher<PTMenuBar> UPDATES = new ModelDispatcher<PTMenuBar>(PTWidget.UPDATES)
+        .register(ServerToClientModel.CLEAR, (ptObject, buffer, binaryModel) -> ptObject.uiObject.clearItems())
+        .register(ServerToClientModel.ANIMATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationEnabled(binaryModel.getBooleanValue()));
+
     private boolean isVertical;
 
     @Override
@@ -85,16 +91,8 @@ public class PTMenuBar extends PTWidget<MenuBar> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.CLEAR == model) {
-            uiObject.clearItems();
-            return true;
-        } else if (ServerToClientModel.ANIMATION == model) {
-            uiObject.setAnimationEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTMenuBar> getUpdates() {
+        return UPDATES;
     }
+
 }
@@ -29,11 +29,19 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTMenuItem extends PTUIObject<MenuItem> {
 
+    protected static final ModelDispatcher<PTMenuItem> UPDATES = new ModelDispatcher<PTMenuItem>(PTUIObject.UPDATES)
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setText(binaryModel.getStringValue()))
+        .register(ServerToClientModel.HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHTML(binaryModel.getStringValue()))
+        .register(ServerToClientModel.ENABLED, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setEnabled(binaryModel.getBooleanValue()));
+
     @Override
     protected MenuItem createUIObject() {
         return new MenuItem("?", (Command) null);
@@ -46,20 +54,8 @@ public class PTMenuItem extends PTUIObject<MenuItem> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.TEXT == model) {
-            uiObject.setText(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.HTML == model) {
-            uiObject.setHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.ENABLED == model) {
-            uiObject.setEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTMenuItem> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -26,48 +26,42 @@ package com.ponysdk.core.terminal.ui;
 import com.google.gwt.user.client.ui.MultiWordSuggestOracle;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public final class PTMultiWordSuggestOracle extends AbstractPTObject {
 
-    private MultiWordSuggestOracle oracle;
-
-    @Override
-    public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiService) {
-        super.create(buffer, objectId, uiService);
-        this.oracle = new MultiWordSuggestOracle();
-        PTSuggestBox.put(objectID, oracle);
-    }
-
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        if (ServerToClientModel.SUGGESTION == binaryModel.getModel()) {
-            oracle.add(binaryModel.getStringValue());
-            return true;
-        }
+    private static final ModelDispatcher<PTMultiWordSuggestOracle> UPDATES = new ModelDispatcher<PTMultiWordSuggestOracle>()
+        .register(ServerToClientModel.SUGGESTION, (ptObject, buffer, binaryModel) -> ptObject.oracle
+            .add(binaryModel.getStringValue()))
         /*
-         * FIXME else if (Model.SUGGESTIONS == binaryModel.getModel()) {
+         * FIXME Model.SUGGESTIONS
          * final JSONArray jsonArray = binaryModel.get().isArray(); for (int
          * i = 0; i < jsonArray.size(); i++) {
-         * oracle.add(jsonArray.get(i).isString().stringValue()); } return
-         * true; }
+         * oracle.add(jsonArray.get(i).isString().stringValue()); }
          */
         /*
-         * FIXME else if (Model.DEFAULT_SUGGESTIONS == binaryModel.getModel()) {
+         * FIXME Model.DEFAULT_SUGGESTIONS
          * final List<String> defaultSuggestions = new ArrayList<>(); final
          * JSONArray jsonArray = binaryModel.get().isArray(); for (int i =
          * 0; i < jsonArray.size(); i++) {
          * defaultSuggestions.add(jsonArray.get(i).isString().stringValue())
          * ; } oracle.setDefaultSuggestionsFromText(defaultSuggestions);
-         * return true; }
          */
-        else if (ServerToClientModel.CLEAR == binaryModel.getModel()) {
-            oracle.clear();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+        .register(ServerToClientModel.CLEAR, (ptObject, buffer, binaryModel) -> ptObject.oracle.clear());
+
+    private MultiWordSuggestOracle oracle;
+
+    @Override
+    public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiService) {
+        super.create(buffer, objectId, uiService);
+        this.oracle = new MultiWordSuggestOracle();
+        PTSuggestBox.put(objectID, oracle);
+    }
+
+    @Override
+    protected ModelDispatcher<? extends PTMultiWordSuggestOracle> getUpdates() {
+        return UPDATES;
     }
 
 }
\ No newline at end of file
@@ -42,11 +42,42 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTPopupPanel<T extends PopupPanel> extends PTSimplePanel<T>
         implements MouseDownHandler, MouseUpHandler, MouseMoveHandler {
 
+    protected static final ModelDispatcher<PTPopupPanel<?>> UPDATES = new ModelDispatcher<PTPopupPanel<?>>(PTWidget.UPDATES)
+        .register(ServerToClientModel.ANIMATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationEnabled(binaryModel.getBooleanValue()))
+        .register(ServerToClientModel.CENTER, (ptObject, buffer, binaryModel) -> {
+            ptObject.uiObject.show();
+            ptObject.uiObject.center();
+        })
+        .register(ServerToClientModel.OPEN, (ptObject, buffer, binaryModel) -> ptObject.uiObject.show())
+        .register(ServerToClientModel.POPUP_POSITION_AND_SHOW, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVisible(true))
+        .register(ServerToClientModel.CLOSE, (ptObject, buffer, binaryModel) -> ptObject.uiObject.hide())
+        .register(ServerToClientModel.POPUP_GLASS_ENABLED, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setGlassEnabled(binaryModel.getBooleanValue()))
+        .register(ServerToClientModel.MODAL, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setModal(binaryModel.getBooleanValue()))
+        .register(ServerToClientModel.POSITION_LEFT, (ptObject, buffer, binaryModel) -> {
+            final int left = binaryModel.getIntValue();
+            // ServerToClientModel.POSITION_TOP
+            final int top = buffer.readBinaryModel().getIntValue();
+            ptObject.uiObject.setPopupPosition(left, top);
+        })
+        .register(ServerToClientModel.DRAGGABLE, (ptObject, buffer, binaryModel) -> {
+            ptObject.draggable = binaryModel.getBooleanValue();
+            if (ptObject.draggable) {
+                ptObject.uiObject.addDomHandler(ptObject, MouseDownEvent.getType());
+                ptObject.uiObject.addDomHandler(ptObject, MouseUpEvent.getType());
+                ptObject.uiObject.addDomHandler(ptObject, MouseMoveEvent.getType());
+            }
+        });
+
     protected boolean autoHide;
     protected boolean draggable;
 
@@ -81,47 +112,8 @@ public class PTPopupPanel<T extends PopupPanel> extends PTSimplePanel<T>
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.ANIMATION == model) {
-            uiObject.setAnimationEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.CENTER == model) {
-            uiObject.show();
-            uiObject.center();
-            return true;
-        } else if (ServerToClientModel.OPEN == model) {
-            uiObject.show();
-            return true;
-        } else if (ServerToClientModel.POPUP_POSITION_AND_SHOW == model) {
-            uiObject.setVisible(true);
-            return true;
-        } else if (ServerToClientModel.CLOSE == model) {
-            uiObject.hide();
-            return true;
-        } else if (ServerToClientModel.POPUP_GLASS_ENABLED == model) {
-            uiObject.setGlassEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.MODAL == model) {
-            uiObject.setModal(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.POSITION_LEFT == model) {
-            final int left = binaryModel.getIntValue();
-            // ServerToClientModel.POSITION_TOP
-            final int top = buffer.readBinaryModel().getIntValue();
-            uiObject.setPopupPosition(left, top);
-            return true;
-        } else if (ServerToClientModel.DRAGGABLE == model) {
-            draggable = binaryModel.getBooleanValue();
-            if (draggable) {
-                uiObject.addDomHandler(this, MouseDownEvent.getType());
-                uiObject.addDomHandler(this, MouseUpEvent.getType());
-                uiObject.addDomHandler(this, MouseMoveEvent.getType());
-            }
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTPopupPanel<?>> getUpdates() {
+        return UPDATES;
     }
 
     @Override
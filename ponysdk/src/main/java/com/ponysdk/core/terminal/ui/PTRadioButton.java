@@ -29,11 +29,16 @@ import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.RadioButton;
 import com.ponysdk.core.model.PCheckBoxState;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTRadioButton extends PTCheckBox<RadioButton> {
 
+    protected static final ModelDispatcher<PTRadioButton> UPDATES = new ModelDispatcher<PTRadioButton>(PTCheckBox.UPDATES)
+        .register(ServerToClientModel.NAME, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setName(binaryModel.getStringValue()))
+        .register(ServerToClientModel.VALUE_CHECKBOX, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setValue(PCheckBoxState.CHECKED == PCheckBoxState.fromRawValue(binaryModel.getIntValue()), true));
+
     @Override
     protected RadioButton createUIObject() {
         return new RadioButton(null) {
@@ -62,17 +67,8 @@ public class PTRadioButton extends PTCheckBox<RadioButton> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.NAME == model) {
-            uiObject.setName(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.VALUE_CHECKBOX == model) {
-            uiObject.setValue(PCheckBoxState.CHECKED == PCheckBoxState.fromRawValue(binaryModel.getIntValue()), true);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTRadioButton> getUpdates() {
+        return UPDATES;
     }
 
 }
@@ -30,12 +30,38 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.converter.GWTConverter;
 
 public class PTRichTextArea extends PTFocusWidget<RichTextArea> implements BlurHandler {
 
+    protected static final ModelDispatcher<PTRichTextArea> UPDATES = new ModelDispatcher<PTRichTextArea>(PTFocusWidget.UPDATES)
+        .register(ServerToClientModel.HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHTML(binaryModel.getStringValue()))
+        .register(ServerToClientModel.URL, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().createLink(binaryModel.getStringValue()))
+        .register(ServerToClientModel.INSERT_HORIZONTAL_RULE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().insertHorizontalRule())
+        .register(ServerToClientModel.INSERT_HTML, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().insertHTML(binaryModel.getStringValue()))
+        .register(ServerToClientModel.IMAGE_URL, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().insertImage(binaryModel.getStringValue()))
+        .register(ServerToClientModel.ORDERED, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().insertOrderedList())
+        .register(ServerToClientModel.UNORDERED, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().insertUnorderedList())
+        .register(ServerToClientModel.BACK_COLOR, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().setBackColor(binaryModel.getStringValue()))
+        .register(ServerToClientModel.FONT_COLOR, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().setForeColor(binaryModel.getStringValue()))
+        .register(ServerToClientModel.FONT_NAME, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().setFontName(binaryModel.getStringValue()))
+        .register(ServerToClientModel.FONT_SIZE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().setFontSize(GWTConverter.asFontSize(binaryModel.getIntValue())))
+        .register(ServerToClientModel.JUSTIFICATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getFormatter().setJustification(GWTConverter.asJustification(binaryModel.getIntValue())));
+
     @Override
     public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiBuilder) {
         super.create(buffer, objectId, uiBuilder);
@@ -55,47 +81,8 @@ public class PTRichTextArea extends PTFocusWidget<RichTextArea> implements BlurH
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.HTML == model) {
-            uiObject.setHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.URL == model) {
-            uiObject.getFormatter().createLink(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.INSERT_HORIZONTAL_RULE == model) {
-            uiObject.getFormatter().insertHorizontalRule();
-            return true;
-        } else if (ServerToClientModel.INSERT_HTML == model) {
-            uiObject.getFormatter().insertHTML(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.IMAGE_URL == model) {
-            uiObject.getFormatter().insertImage(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.ORDERED == model) {
-            uiObject.getFormatter().insertOrderedList();
-            return true;
-        } else if (ServerToClientModel.UNORDERED == model) {
-            uiObject.getFormatter().insertUnorderedList();
-            return true;
-        } else if (ServerToClientModel.BACK_COLOR == model) {
-            uiObject.getFormatter().setBackColor(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.FONT_COLOR == model) {
-            uiObject.getFormatter().setForeColor(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.FONT_NAME == model) {
-            uiObject.getFormatter().setFontName(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.FONT_SIZE == model) {
-            uiObject.getFormatter().setFontSize(GWTConverter.asFontSize(binaryModel.getIntValue()));
-            return true;
-        } else if (ServerToClientModel.JUSTIFICATION == model) {
-            uiObject.getFormatter().setJustification(GWTConverter.asJustification(binaryModel.getIntValue()));
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTRichTextArea> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -23,12 +23,18 @@
 
 package com.ponysdk.core.terminal.ui;
 
+import com.google.gwt.user.client.ui.LayoutPanel;
 import com.google.gwt.user.client.ui.RootLayoutPanel;
 
 public class PTRootLayoutPanel extends PTLayoutPanel {
 
     @Override
-    protected RootLayoutPanel createUIObject() {
+    protected LayoutPanel createUIObject() {
+        if (uiBuilder.isReplay()) {
+            final LayoutPanel layoutPanel = uiBuilder.attachReplayRoot(new LayoutPanel());
+            layoutPanel.setSize("100%", "100%");
+            return layoutPanel;
+        }
         return RootLayoutPanel.get();
     }
 }
@@ -23,6 +23,7 @@
 
 package com.ponysdk.core.terminal.ui;
 
+import com.google.gwt.user.client.ui.AbsolutePanel;
 import com.google.gwt.user.client.ui.RootPanel;
 import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.ServerToClientModel;
@@ -45,6 +46,7 @@ public class PTRootPanel extends PTAbsolutePanel {
         else buffer.rewind(binaryModel);
 
         super.create(buffer, objectId, uiService);
+        if (uiService.isReplay()) return;
 
         final Document document = Browser.getWindow().getDocument();
         if (PTAbstractWindow.isPageVisibilityAPI(document)) {
@@ -54,7 +56,8 @@ public class PTRootPanel extends PTAbsolutePanel {
     }
 
     @Override
-    protected RootPanel createUIObject() {
+    protected AbsolutePanel createUIObject() {
+        if (uiBuilder.isReplay()) return uiBuilder.attachReplayRoot(new AbsolutePanel());
         return rootId != null ? RootPanel.get(rootId) : RootPanel.get();
     }
 
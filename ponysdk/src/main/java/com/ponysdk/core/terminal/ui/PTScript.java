@@ -31,26 +31,14 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTScript extends AbstractPTObject {
 
     private static final Logger log = Logger.getLogger(PTScript.class.getName());
 
-    public static native void eval(String script) /*-{
-                                                     $wnd.eval(script);
-                                                     }-*/;
-
-    public static native Object evalWithCallback(String script) /*-{
-                                                                var r = $wnd.eval(script);
-                                                                if (typeof r=="object") return null; // JSON.stringify(r);
-                                                                else return r;
-                                                                }-*/;
-
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.EVAL == model) {
+    protected static final ModelDispatcher<PTScript> UPDATES = new ModelDispatcher<PTScript>()
+        .register(ServerToClientModel.EVAL, (ptObject, buffer, binaryModel) -> {
             long commandID = -1;
             long delayMillis = -1;
 
@@ -66,12 +54,22 @@ public class PTScript extends AbstractPTObject {
             else buffer.rewind(delayModel);
 
             if (commandID == -1) eval(script, delayMillis);
-            else evalWithCallback(script, commandID, delayMillis);
+            else ptObject.evalWithCallback(script, commandID, delayMillis);
+        });
 
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    public static native void eval(String script) /*-{
+                                                     $wnd.eval(script);
+                                                     }-*/;
+
+    public static native Object evalWithCallback(String script) /*-{
+                                                                var r = $wnd.eval(script);
+                                                                if (typeof r=="object") return null; // JSON.stringify(r);
+                                                                else return r;
+                                                                }-*/;
+
+    @Override
+    protected ModelDispatcher<? extends PTScript> getUpdates() {
+        return UPDATES;
     }
 
     private static void eval(final String script, final long delayMillis) {
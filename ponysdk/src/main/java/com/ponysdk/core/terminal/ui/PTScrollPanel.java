@@ -29,15 +29,31 @@ import com.google.gwt.user.client.DOM;
 import com.google.gwt.user.client.ui.ScrollPanel;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ClientToServerModel;
+import com.ponysdk.core.model.DeliveryMode;
 import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.core.terminal.instruction.InstructionDelivery;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTScrollPanel extends PTSimplePanel<ScrollPanel> {
 
+    protected static final ModelDispatcher<PTScrollPanel> UPDATES = new ModelDispatcher<PTScrollPanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.HORIZONTAL_SCROLL_POSITION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHorizontalScrollPosition(binaryModel.getIntValue()))
+        .register(ServerToClientModel.VERTICAL_SCROLL_POSITION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVerticalScrollPosition(binaryModel.getIntValue()))
+        .register(ServerToClientModel.SCROLL_TO, (ptObject, buffer, binaryModel) -> {
+            final long scrollTo = binaryModel.getLongValue();
+            if (scrollTo == 0) ptObject.uiObject.scrollToBottom();
+            else if (scrollTo == 1) ptObject.uiObject.scrollToLeft();
+            else if (scrollTo == 2) ptObject.uiObject.scrollToRight();
+            else if (scrollTo == 3) ptObject.uiObject.scrollToTop();
+        });
+
     private boolean dragging;
+    private InstructionDelivery scrollDelivery;
 
     @Override
     protected ScrollPanel createUIObject() {
@@ -51,29 +67,15 @@ public class PTScrollPanel extends PTSimplePanel<ScrollPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.HORIZONTAL_SCROLL_POSITION == model) {
-            uiObject.setHorizontalScrollPosition(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.VERTICAL_SCROLL_POSITION == model) {
-            uiObject.setVerticalScrollPosition(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.SCROLL_TO == model) {
-            final long scrollTo = binaryModel.getLongValue();
-            if (scrollTo == 0) uiObject.scrollToBottom();
-            else if (scrollTo == 1) uiObject.scrollToLeft();
-            else if (scrollTo == 2) uiObject.scrollToRight();
-            else if (scrollTo == 3) uiObject.scrollToTop();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTScrollPanel> getUpdates() {
+        return UPDATES;
     }
 
     @Override
     public void addHandler(final ReaderBuffer buffer, final HandlerModel handlerModel) {
         if (HandlerModel.HANDLER_SCROLL == handlerModel) {
+            // Only the last position of a frame matters
+            scrollDelivery = new InstructionDelivery(uiBuilder, DeliveryMode.LATEST, 0);
             uiObject.addScrollHandler(event -> {
                 if (!dragging) sendScrollPositionEvent();
             });
@@ -101,7 +103,7 @@ public class PTScrollPanel extends PTSimplePanel<ScrollPanel> {
         eventInstruction.put(ClientToServerModel.HANDLER_SCROLL_WIDTH, uiObject.getMaximumHorizontalScrollPosition());
         eventInstruction.put(ClientToServerModel.HANDLER_SCROLL_VERTICAL, uiObject.getVerticalScrollPosition());
         eventInstruction.put(ClientToServerModel.HANDLER_SCROLL_HORIZONTAL, uiObject.getHorizontalScrollPosition());
-        uiBuilder.sendDataToServer(uiObject, eventInstruction);
+        scrollDelivery.deliver(uiObject, eventInstruction);
     }
 
     @Override
@@ -33,12 +33,30 @@ import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.PTSplitLayoutPanel.MySplitLayoutPanel;
 
 public class PTSplitLayoutPanel extends PTDockLayoutPanel<MySplitLayoutPanel> {
 
+    protected static final ModelDispatcher<PTSplitLayoutPanel> UPDATES = new ModelDispatcher<PTSplitLayoutPanel>(
+        PTDockLayoutPanel.UPDATES)
+        .register(ServerToClientModel.MIN_SIZE, (ptObject, buffer, binaryModel) -> {
+            final int minSize = binaryModel.getIntValue();
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetMinSize(w, minSize);
+        })
+        .register(ServerToClientModel.SNAP_CLOSED_SIZE, (ptObject, buffer, binaryModel) -> {
+            final int snapClosedSize = binaryModel.getIntValue();
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetSnapClosedSize(w, snapClosedSize);
+        })
+        .register(ServerToClientModel.TOGGLE_DISPLAY_ALLOWED, (ptObject, buffer, binaryModel) -> {
+            final boolean enable = binaryModel.getBooleanValue();
+            final Widget w = ptObject.asWidget(buffer.readBinaryModel().getIntValue(), ptObject.uiBuilder);
+            ptObject.uiObject.setWidgetToggleDisplayAllowed(w, enable);
+        });
+
     @Override
     public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiBuilder) {
         super.create(buffer, objectId, uiBuilder);
@@ -51,26 +69,8 @@ public class PTSplitLayoutPanel extends PTDockLayoutPanel<MySplitLayoutPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.MIN_SIZE == model) {
-            final int minSize = binaryModel.getIntValue();
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetMinSize(w, minSize);
-            return true;
-        } else if (ServerToClientModel.SNAP_CLOSED_SIZE == model) {
-            final int snapClosedSize = binaryModel.getIntValue();
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetSnapClosedSize(w, snapClosedSize);
-            return true;
-        } else if (ServerToClientModel.TOGGLE_DISPLAY_ALLOWED == model) {
-            final boolean enable = binaryModel.getBooleanValue();
-            final Widget w = asWidget(buffer.readBinaryModel().getIntValue(), uiBuilder);
-            uiObject.setWidgetToggleDisplayAllowed(w, enable);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTSplitLayoutPanel> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -31,11 +31,19 @@ import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTStackLayoutPanel extends PTWidget<StackLayoutPanel> {
 
+    protected static final ModelDispatcher<PTStackLayoutPanel> UPDATES = new ModelDispatcher<PTStackLayoutPanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.WIDGET_ID, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .showWidget(ptObject.asWidget(binaryModel.getIntValue(), ptObject.uiBuilder)))
+        .register(ServerToClientModel.ANIMATE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .animate(binaryModel.getIntValue()))
+        .register(ServerToClientModel.ANIMATION_DURATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationDuration(binaryModel.getIntValue()));
+
     private Unit unit;
 
     @Override
@@ -67,20 +75,8 @@ public class PTStackLayoutPanel extends PTWidget<StackLayoutPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.WIDGET_ID == model) {
-            uiObject.showWidget(asWidget(binaryModel.getIntValue(), uiBuilder));
-            return true;
-        } else if (ServerToClientModel.ANIMATE == model) {
-            uiObject.animate(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.ANIMATION_DURATION == model) {
-            uiObject.setAnimationDuration(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTStackLayoutPanel> getUpdates() {
+        return UPDATES;
     }
 
     @Override
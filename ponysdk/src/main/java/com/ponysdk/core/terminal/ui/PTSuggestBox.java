@@ -30,13 +30,17 @@ import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 import elemental.js.util.JsMapFromIntTo;
 
 public class PTSuggestBox extends PTWidget<SuggestBox> {
 
+    protected static final ModelDispatcher<PTSuggestBox> UPDATES = new ModelDispatcher<PTSuggestBox>(PTWidget.UPDATES)
+        .register(ServerToClientModel.LIMIT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setLimit(binaryModel.getIntValue()));
+
     private static JsMapFromIntTo<SuggestOracle> oracleByID;
 
     private PTTextBox ptTextBox;
@@ -61,14 +65,8 @@ public class PTSuggestBox extends PTWidget<SuggestBox> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.LIMIT == model) {
-            uiObject.setLimit(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTSuggestBox> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -31,10 +31,21 @@ import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTTabLayoutPanel extends PTWidget<TabLayoutPanel> {
 
+    protected static final ModelDispatcher<PTTabLayoutPanel> UPDATES = new ModelDispatcher<PTTabLayoutPanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.ANIMATE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .animate(binaryModel.getIntValue()))
+        .register(ServerToClientModel.VERTICAL, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationVertical(binaryModel.getBooleanValue()))
+        .register(ServerToClientModel.ANIMATION_DURATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationDuration(binaryModel.getIntValue()))
+        .register(ServerToClientModel.SELECTED_INDEX, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .selectTab(binaryModel.getIntValue()));
+
     @Override
     protected TabLayoutPanel createUIObject() {
         return new TabLayoutPanel(2, Unit.EM);
@@ -74,23 +85,8 @@ public class PTTabLayoutPanel extends PTWidget<TabLayoutPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.ANIMATE == model) {
-            uiObject.animate(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.VERTICAL == model) {
-            uiObject.setAnimationVertical(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.ANIMATION_DURATION == model) {
-            uiObject.setAnimationDuration(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.SELECTED_INDEX == model) {
-            uiObject.selectTab(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTabLayoutPanel> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -30,10 +30,17 @@ import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTTabPanel extends PTWidget<TabPanel> {
 
+    protected static final ModelDispatcher<PTTabPanel> UPDATES = new ModelDispatcher<PTTabPanel>(PTWidget.UPDATES)
+        .register(ServerToClientModel.SELECTED_INDEX, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .selectTab(binaryModel.getIntValue()))
+        .register(ServerToClientModel.ANIMATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationEnabled(binaryModel.getBooleanValue()));
+
     @Override
     protected TabPanel createUIObject() {
         return new TabPanel();
@@ -74,17 +81,8 @@ public class PTTabPanel extends PTWidget<TabPanel> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.SELECTED_INDEX == model) {
-            uiObject.selectTab(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.ANIMATION == model) {
-            uiObject.setAnimationEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTabPanel> getUpdates() {
+        return UPDATES;
     }
 
     @Override
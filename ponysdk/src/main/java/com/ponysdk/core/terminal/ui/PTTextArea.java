@@ -27,11 +27,16 @@ import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.TextArea;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 
 public class PTTextArea extends PTTextBoxBase<TextArea> {
 
+    protected static final ModelDispatcher<PTTextArea> UPDATES = new ModelDispatcher<PTTextArea>(PTTextBoxBase.UPDATES)
+        .register(ServerToClientModel.VISIBLE_LINES, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVisibleLines(binaryModel.getIntValue()))
+        .register(ServerToClientModel.CHARACTER_WIDTH, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setCharacterWidth(binaryModel.getIntValue()));
+
     @Override
     protected TextArea createUIObject() {
         return new TextArea() {
@@ -53,17 +58,8 @@ public class PTTextArea extends PTTextBoxBase<TextArea> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.VISIBLE_LINES == model) {
-            uiObject.setVisibleLines(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.CHARACTER_WIDTH == model) {
-            uiObject.setCharacterWidth(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTextArea> getUpdates() {
+        return UPDATES;
     }
 
 }
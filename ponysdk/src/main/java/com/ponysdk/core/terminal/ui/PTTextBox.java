@@ -32,12 +32,32 @@ import com.google.gwt.regexp.shared.RegExp;
 import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.TextBox;
 import com.ponysdk.core.model.ServerToClientModel;
-import com.ponysdk.core.terminal.model.BinaryModel;
-import com.ponysdk.core.terminal.model.ReaderBuffer;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.ui.widget.mask.TextBoxMaskedDecorator;
 
 public class PTTextBox extends PTTextBoxBase<TextBox> implements KeyPressHandler, DropHandler {
 
+    protected static final ModelDispatcher<PTTextBox> UPDATES = new ModelDispatcher<PTTextBox>(PTTextBoxBase.UPDATES)
+        .register(ServerToClientModel.VISIBLE_LENGTH, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVisibleLength(binaryModel.getIntValue()))
+        .register(ServerToClientModel.MAX_LENGTH, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setMaxLength(binaryModel.getIntValue()))
+        .register(ServerToClientModel.MASK, (ptObject, buffer, binaryModel) -> {
+            final String mask = binaryModel.getStringValue();
+            // ServerToClientModel.VISIBILITY
+            final boolean showMask = buffer.readBinaryModel().getBooleanValue();
+            // ServerToClientModel.REPLACEMENT_STRING
+            final String replace = buffer.readBinaryModel().getStringValue();
+            if (ptObject.maskDecorator == null) ptObject.maskDecorator = new TextBoxMaskedDecorator(ptObject.uiObject);
+            ptObject.maskDecorator.setMask(mask, showMask, replace.charAt(0));
+        })
+        .register(ServerToClientModel.REGEX_FILTER, (ptObject, buffer, binaryModel) -> {
+            ptObject.regExp = RegExp.compile(binaryModel.getStringValue());
+            ptObject.uiObject.addKeyPressHandler(ptObject);
+            ptObject.uiObject.addDropHandler(ptObject);
+            ptObject.uiObject.sinkEvents(Event.ONPASTE);
+        });
+
     private TextBoxMaskedDecorator maskDecorator;
     private RegExp regExp;
 
@@ -63,32 +83,8 @@ public class PTTextBox extends PTTextBoxBase<TextBox> implements KeyPressHandler
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.VISIBLE_LENGTH == model) {
-            uiObject.setVisibleLength(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.MAX_LENGTH == model) {
-            uiObject.setMaxLength(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.MASK == model) {
-            final String mask = binaryModel.getStringValue();
-            // ServerToClientModel.VISIBILITY
-            final boolean showMask = buffer.readBinaryModel().getBooleanValue();
-            // ServerToClientModel.REPLACEMENT_STRING
-            final String replace = buffer.readBinaryModel().getStringValue();
-            if (maskDecorator == null) maskDecorator = new TextBoxMaskedDecorator(uiObject);
-            maskDecorator.setMask(mask, showMask, replace.charAt(0));
-            return true;
-        } else if (ServerToClientModel.REGEX_FILTER == model) {
-            regExp = RegExp.compile(binaryModel.getStringValue());
-            uiObject.addKeyPressHandler(this);
-            uiObject.addDropHandler(this);
-            uiObject.sinkEvents(Event.ONPASTE);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTextBox> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -32,11 +32,16 @@ import com.ponysdk.core.model.DomHandlerType;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public abstract class PTTextBoxBase<T extends TextBoxBase> extends PTValueBoxBase<T, String> {
 
+    protected static final ModelDispatcher<PTTextBoxBase<?>> UPDATES = new ModelDispatcher<PTTextBoxBase<?>>(
+        PTValueBoxBase.UPDATES)
+        .register(ServerToClientModel.PLACEHOLDER, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .getElement().setAttribute("placeholder", binaryModel.getStringValue()));
+
     private String lastValue;
 
     @Override
@@ -52,14 +57,8 @@ public abstract class PTTextBoxBase<T extends TextBoxBase> extends PTValueBoxBas
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.PLACEHOLDER == model) {
-            uiObject.getElement().setAttribute("placeholder", binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTextBoxBase<?>> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -79,7 +78,7 @@ public abstract class PTTextBoxBase<T extends TextBoxBase> extends PTValueBoxBas
 
                     final PTInstruction eventInstruction = buildEventInstruction(domHandlerType);
                     eventInstruction.put(ClientToServerModel.VALUE_KEY, nativeKeyCode);
-                    uiBuilder.sendDataToServer(eventInstruction);
+                    sendDomEvent(domHandlerType, eventInstruction);
 
                     break;
                 }
@@ -95,7 +94,7 @@ public abstract class PTTextBoxBase<T extends TextBoxBase> extends PTValueBoxBas
 
             final PTInstruction eventInstruction = buildEventInstruction(domHandlerType);
             eventInstruction.put(ClientToServerModel.VALUE_KEY, nativeKeyCode);
-            uiBuilder.sendDataToServer(eventInstruction);
+            sendDomEvent(domHandlerType, eventInstruction);
         }
         preventOrStopEvent(event);
     }
@@ -24,15 +24,26 @@
 package com.ponysdk.core.terminal.ui;
 
 import com.google.gwt.user.client.ui.Tree;
+import com.google.gwt.user.client.ui.TreeItem;
 import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTTree extends PTWidget<Tree> {
 
+    protected static final ModelDispatcher<PTTree> UPDATES = new ModelDispatcher<PTTree>(PTWidget.UPDATES)
+        .register(ServerToClientModel.ANIMATION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setAnimationEnabled(binaryModel.getBooleanValue()))
+        .register(ServerToClientModel.SELECTED_INDEX, (ptObject, buffer, binaryModel) -> {
+            final int selectedItemId = binaryModel.getIntValue();
+            final TreeItem selectedItem = selectedItemId != -1 ? ptObject.asWidget(selectedItemId, ptObject.uiBuilder) : null;
+            ptObject.uiObject.setSelectedItem(selectedItem, false);
+        })
+        .register(ServerToClientModel.CLEAR, (ptObject, buffer, binaryModel) -> ptObject.uiObject.clear());
+
     @Override
     public void create(final ReaderBuffer buffer, final int objectId, final UIBuilder uiBuilder) {
         super.create(buffer, objectId, uiBuilder);
@@ -68,22 +79,8 @@ public class PTTree extends PTWidget<Tree> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.ANIMATION == model) {
-            uiObject.setAnimationEnabled(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.SELECTED_INDEX == model) {
-            final int selectedItemId = binaryModel.getIntValue();
-            if (selectedItemId != -1) uiObject.setSelectedItem(asWidget(selectedItemId, uiBuilder), false);
-            else uiObject.setSelectedItem(null, false);
-            return true;
-        } else if (ServerToClientModel.CLEAR == model) {
-            uiObject.clear();
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTree> getUpdates() {
+        return UPDATES;
     }
 
 }
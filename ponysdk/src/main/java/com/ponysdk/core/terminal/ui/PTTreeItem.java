@@ -31,10 +31,17 @@ import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public class PTTreeItem extends PTUIObject<TreeItem> {
 
+    protected static final ModelDispatcher<PTTreeItem> UPDATES = new ModelDispatcher<PTTreeItem>(PTUIObject.UPDATES)
+        .register(ServerToClientModel.OPEN, (ptObject, buffer, binaryModel) -> ptObject.uiObject.setState(true, false))
+        .register(ServerToClientModel.CLOSE, (ptObject, buffer, binaryModel) -> ptObject.uiObject.setState(false, false))
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setText(binaryModel.getStringValue()));
+
     private Tree tree;
 
     private String text;
@@ -85,20 +92,8 @@ public class PTTreeItem extends PTUIObject<TreeItem> {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.OPEN == model) {
-            uiObject.setState(true, false);
-            return true;
-        } else if (ServerToClientModel.CLOSE == model) {
-            uiObject.setState(false, false);
-            return true;
-        } else if (ServerToClientModel.TEXT == model) {
-            uiObject.setText(binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTTreeItem> getUpdates() {
+        return UPDATES;
     }
 
     @Override
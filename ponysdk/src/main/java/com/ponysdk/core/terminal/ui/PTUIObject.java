@@ -28,7 +28,7 @@ import com.google.gwt.dom.client.Element;
 import com.google.gwt.user.client.ui.UIObject;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.UIBuilder;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 import elemental.json.JsonObject;
@@ -37,6 +37,59 @@ public abstract class PTUIObject<T extends UIObject> extends AbstractPTObject {
 
     private static final String PID_KEY = "pid";
 
+    protected static final ModelDispatcher<PTUIObject<?>> UPDATES = new ModelDispatcher<PTUIObject<?>>()
+        .register(ServerToClientModel.ADD_STYLE_NAME, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .addStyleName(binaryModel.getStringValue()))
+        .register(ServerToClientModel.WIDGET_VISIBLE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setVisible(binaryModel.getBooleanValue()))
+        .register(ServerToClientModel.WIDGET_TITLE, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setTitle(binaryModel.getStringValue()))
+        .register(ServerToClientModel.PUT_PROPERTY_KEY, (ptObject, buffer, binaryModel) -> {
+            final String value = binaryModel.getStringValue();
+            // ServerToClientModel.PROPERTY_VALUE
+            ptObject.uiObject.getElement().setPropertyString(value, buffer.readBinaryModel().getStringValue());
+        })
+        .register(ServerToClientModel.PUT_ATTRIBUTE_KEY, (ptObject, buffer, binaryModel) -> {
+            final String value = binaryModel.getStringValue();
+            // ServerToClientModel.ATTRIBUTE_VALUE
+            ptObject.uiObject.getElement().setAttribute(value, buffer.readBinaryModel().getStringValue());
+        })
+        .register(ServerToClientModel.PUT_STYLE_KEY, (ptObject, buffer, binaryModel) -> {
+            final String value = binaryModel.getStringValue();
+            // ServerToClientModel.STYLE_VALUE
+            ptObject.uiObject.getElement().getStyle().setProperty(value, buffer.readBinaryModel().getStringValue());
+        })
+        .register(ServerToClientModel.REMOVE_STYLE_NAME, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .removeStyleName(binaryModel.getStringValue()))
+        .register(ServerToClientModel.STYLE_NAME, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setStyleName(binaryModel.getStringValue()))
+        .register(ServerToClientModel.REMOVE_ATTRIBUTE_KEY, (ptObject, buffer, binaryModel) -> ptObject.uiObject.getElement()
+            .removeAttribute(binaryModel.getStringValue()))
+        .register(ServerToClientModel.REMOVE_STYLE_KEY, (ptObject, buffer, binaryModel) -> ptObject.uiObject.getElement()
+            .getStyle().clearProperty(binaryModel.getStringValue()))
+        .register(ServerToClientModel.FORCE_DOM_ID, (ptObject, buffer, binaryModel) -> ptObject.uiObject.getElement()
+            .setId(String.valueOf(ptObject.getObjectID())))
+        .register(ServerToClientModel.FOCUS, (ptObject, buffer, binaryModel) -> {
+            // A replay must not take the focus from the widgets of the session
+            if (ptObject.uiBuilder.isReplay()) return;
+            if (binaryModel.getBooleanValue()) ptObject.uiObject.getElement().focus();
+            else ptObject.uiObject.getElement().blur();
+        })
+        .register(ServerToClientModel.WIDGET_WIDTH, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setWidth(binaryModel.getStringValue()))
+        .register(ServerToClientModel.WIDGET_HEIGHT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setHeight(binaryModel.getStringValue()))
+        .register(ServerToClientModel.TABINDEX, (ptObject, buffer, binaryModel) -> ptObject.uiObject.getElement()
+            .setTabIndex(binaryModel.getIntValue()))
+        .register(ServerToClientModel.BIND, (ptObject, buffer, binaryModel) -> ptObject.nativeObject = ptObject
+            .bind(binaryModel.getStringValue(), ptObject.objectID, ptObject.uiObject.getElement()))
+        .register(ServerToClientModel.NATIVE, (ptObject, buffer, binaryModel) -> {
+            final JsonObject object = binaryModel.getJsonObject();
+            ptObject.sendToNative(ptObject.objectID, ptObject.nativeObject, (JavaScriptObject) object);
+        })
+        .register(ServerToClientModel.ENSURE_DEBUG_ID, (ptObject, buffer, binaryModel) -> ptObject.uiObject.getElement()
+            .setAttribute(PID_KEY, binaryModel.getStringValue()));
+
     protected T uiObject;
 
     private Object nativeObject;
@@ -51,73 +104,8 @@ public abstract class PTUIObject<T extends UIObject> extends AbstractPTObject {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.ADD_STYLE_NAME == model) {
-            uiObject.addStyleName(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.WIDGET_VISIBLE == model) {
-            uiObject.setVisible(binaryModel.getBooleanValue());
-            return true;
-        } else if (ServerToClientModel.WIDGET_TITLE == model) {
-            uiObject.setTitle(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.PUT_PROPERTY_KEY == model) {
-            final String value = binaryModel.getStringValue();
-            // ServerToClientModel.PROPERTY_VALUE
-            uiObject.getElement().setPropertyString(value, buffer.readBinaryModel().getStringValue());
-            return true;
-        } else if (ServerToClientModel.PUT_ATTRIBUTE_KEY == model) {
-            final String value = binaryModel.getStringValue();
-            // ServerToClientModel.ATTRIBUTE_VALUE
-            uiObject.getElement().setAttribute(value, buffer.readBinaryModel().getStringValue());
-            return true;
-        } else if (ServerToClientModel.PUT_STYLE_KEY == model) {
-            final String value = binaryModel.getStringValue();
-            // ServerToClientModel.STYLE_VALUE
-            uiObject.getElement().getStyle().setProperty(value, buffer.readBinaryModel().getStringValue());
-            return true;
-        } else if (ServerToClientModel.REMOVE_STYLE_NAME == model) {
-            uiObject.removeStyleName(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.STYLE_NAME == model) {
-            uiObject.setStyleName(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.REMOVE_ATTRIBUTE_KEY == model) {
-            uiObject.getElement().removeAttribute(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.REMOVE_STYLE_KEY == model) {
-            uiObject.getElement().getStyle().clearProperty(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.FORCE_DOM_ID == model) {
-            uiObject.getElement().setId(String.valueOf(getObjectID()));
-            return true;
-        } else if (ServerToClientModel.FOCUS == model) {
-            if (binaryModel.getBooleanValue()) uiObject.getElement().focus();
-            else uiObject.getElement().blur();
-            return true;
-        } else if (ServerToClientModel.WIDGET_WIDTH == model) {
-            uiObject.setWidth(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.WIDGET_HEIGHT == model) {
-            uiObject.setHeight(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.TABINDEX == model) {
-            uiObject.getElement().setTabIndex(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.BIND == model) {
-            nativeObject = bind(binaryModel.getStringValue(), objectID, uiObject.getElement());
-            return true;
-        } else if (ServerToClientModel.NATIVE == model) {
-            final JsonObject object = binaryModel.getJsonObject();
-            sendToNative(objectID, nativeObject, (JavaScriptObject) object);
-            return true;
-        } else if (ServerToClientModel.ENSURE_DEBUG_ID == model) {
-            uiObject.getElement().setAttribute(PID_KEY, binaryModel.getStringValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTUIObject<?>> getUpdates() {
+        return UPDATES;
     }
 
     public <WIDGET_TYPE extends UIObject> WIDGET_TYPE asWidget(final int objectID, final UIBuilder uiService) {
@@ -29,34 +29,30 @@ import com.ponysdk.core.model.ClientToServerModel;
 import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 public abstract class PTValueBoxBase<T extends ValueBoxBase<W>, W> extends PTFocusWidget<T> {
 
-    protected boolean handlePasteEnabled;
-
-    @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.TEXT == model) {
-            uiObject.setText(binaryModel.getStringValue());
-            return true;
-        } else if (ServerToClientModel.SELECT_ALL == model) {
-            uiObject.selectAll();
-            return true;
-        } else if (ServerToClientModel.CURSOR_POSITION == model) {
-            uiObject.setCursorPos(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.SELECTION_RANGE_START == model) {
+    protected static final ModelDispatcher<PTValueBoxBase<?, ?>> UPDATES = new ModelDispatcher<PTValueBoxBase<?, ?>>(
+        PTFocusWidget.UPDATES)
+        .register(ServerToClientModel.TEXT, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setText(binaryModel.getStringValue()))
+        .register(ServerToClientModel.SELECT_ALL, (ptObject, buffer, binaryModel) -> ptObject.uiObject.selectAll())
+        .register(ServerToClientModel.CURSOR_POSITION, (ptObject, buffer, binaryModel) -> ptObject.uiObject
+            .setCursorPos(binaryModel.getIntValue()))
+        .register(ServerToClientModel.SELECTION_RANGE_START, (ptObject, buffer, binaryModel) -> {
             final int start = binaryModel.getIntValue();
             // ServerToClientModel.SELECTION_RANGE_LENGTH
             final int length = buffer.readBinaryModel().getIntValue();
-            uiObject.setSelectionRange(start, length);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+            ptObject.uiObject.setSelectionRange(start, length);
+        });
+
+    protected boolean handlePasteEnabled;
+
+    @Override
+    protected ModelDispatcher<? extends PTValueBoxBase<?, ?>> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -59,12 +59,15 @@ import com.google.gwt.user.client.Event;
 import com.google.gwt.user.client.ui.IsWidget;
 import com.google.gwt.user.client.ui.Widget;
 import com.ponysdk.core.model.ClientToServerModel;
+import com.ponysdk.core.model.DeliveryMode;
 import com.ponysdk.core.model.DomHandlerConverter;
 import com.ponysdk.core.model.DomHandlerType;
 import com.ponysdk.core.model.HandlerModel;
 import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.core.terminal.instruction.InstructionDelivery;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
 import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 import com.ponysdk.core.terminal.ui.w3c.api.IntersectionObserver;
 
@@ -76,29 +79,31 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
 
     private static final Logger log = Logger.getLogger(PTWidget.class.getName());
 
+    protected static final ModelDispatcher<PTWidget<?>> UPDATES = new ModelDispatcher<PTWidget<?>>(PTUIObject.UPDATES)
+        .register(ServerToClientModel.WIDGET_FULL_SIZE, (ptObject, buffer, binaryModel) -> {
+            ptObject.uiObject.setWidth(HUNDRED_PERCENT);
+            ptObject.uiObject.setHeight(HUNDRED_PERCENT);
+        })
+        .register(ServerToClientModel.PREVENT_EVENT, (ptObject, buffer, binaryModel) -> {
+            if (ptObject.preventedEvents == null) ptObject.preventedEvents = new HashSet<>(4);
+            ptObject.preventedEvents.add(binaryModel.getIntValue());
+        })
+        .register(ServerToClientModel.STOP_EVENT, (ptObject, buffer, binaryModel) -> {
+            if (ptObject.stoppedEvents == null) ptObject.stoppedEvents = new HashSet<>(4);
+            ptObject.stoppedEvents.add(binaryModel.getIntValue());
+        });
+
     private Set<Integer> preventedEvents;
     private Set<Integer> stoppedEvents;
 
+    private InstructionDelivery[] deliveries;
+
     private IntersectionObserver intersectionObserver;
+    private InstructionDelivery visibilityDelivery;
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.WIDGET_FULL_SIZE == model) {
-            uiObject.setWidth(HUNDRED_PERCENT);
-            uiObject.setHeight(HUNDRED_PERCENT);
-            return true;
-        } else if (ServerToClientModel.PREVENT_EVENT == model) {
-            if (preventedEvents == null) preventedEvents = new HashSet<>(4);
-            preventedEvents.add(binaryModel.getIntValue());
-            return true;
-        } else if (ServerToClientModel.STOP_EVENT == model) {
-            if (stoppedEvents == null) stoppedEvents = new HashSet<>(4);
-            stoppedEvents.add(binaryModel.getIntValue());
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTWidget<?>> getUpdates() {
+        return UPDATES;
     }
 
     @Override
@@ -106,6 +111,7 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
         if (handlerModel.isDomHandler()) {
             addDomHandler(buffer, DomHandlerConverter.convert(handlerModel));
         } else if (HandlerModel.HANDLER_VISIBILITY == handlerModel) {
+            visibilityDelivery = new InstructionDelivery(uiBuilder, DeliveryMode.LATEST, 0);
             intersectionObserver = createIntersectionObserver();
             if (intersectionObserver != null)
                 Scheduler.get().scheduleDeferred(() -> intersectionObserver.observe(uiObject.getElement()));
@@ -129,7 +135,7 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
     private void sendWidgetVisibility(final boolean visible) {
         final PTInstruction eventInstruction = new PTInstruction(objectID);
         eventInstruction.put(ClientToServerModel.HANDLER_WIDGET_VISIBILITY, visible);
-        uiBuilder.sendDataToServer(uiObject, eventInstruction);
+        visibilityDelivery.deliver(uiObject, eventInstruction);
     }
 
     @Override
@@ -137,6 +143,11 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
         if (handlerModel.isDomHandler()) {
             // TODO Remove HANDLER_DOM
             // removeDomHandler(DomHandlerConverter.convert(handlerModel));
+            if (deliveries != null) {
+                final int index = DomHandlerConverter.convert(handlerModel).ordinal();
+                if (deliveries[index] != null) deliveries[index].cancel();
+                deliveries[index] = null;
+            }
         } else if (HandlerModel.HANDLER_VISIBILITY == handlerModel) {
             if (intersectionObserver != null) intersectionObserver.unobserve(uiObject.getElement());
         } else {
@@ -144,12 +155,29 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
         }
     }
 
+    @Override
+    public void destroy() {
+        if (deliveries != null) {
+            for (final InstructionDelivery delivery : deliveries) {
+                if (delivery != null) delivery.cancel();
+            }
+        }
+        if (intersectionObserver != null) intersectionObserver.unobserve(uiObject.getElement());
+        super.destroy();
+    }
+
     @Override
     public T asWidget() {
         return uiObject;
     }
 
     private void addDomHandler(final ReaderBuffer buffer, final DomHandlerType domHandlerType) {
+        final InstructionDelivery delivery = extractDelivery(buffer);
+        if (delivery != null) {
+            if (deliveries == null) deliveries = new InstructionDelivery[DomHandlerType.values().length];
+            deliveries[domHandlerType.ordinal()] = delivery;
+        }
+
         if (DomHandlerType.CLICK == domHandlerType) {
             uiObject.addDomHandler(event -> triggerMouseClickEvent(domHandlerType, event), ClickEvent.getType());
         } else if (DomHandlerType.DOUBLE_CLICK == domHandlerType) {
@@ -190,6 +218,8 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
             uiObject.addBitlessDomHandler(event -> triggerDomEvent(domHandlerType, event), DragEnterEvent.getType());
         } else if (DomHandlerType.DRAG_LEAVE == domHandlerType) {
             uiObject.addBitlessDomHandler(event -> triggerDomEvent(domHandlerType, event), DragLeaveEvent.getType());
+        } else if (DomHandlerType.DRAG_OVER == domHandlerType) {
+            uiObject.addBitlessDomHandler(event -> triggerDomEvent(domHandlerType, event), DragOverEvent.getType());
         } else if (DomHandlerType.DROP == domHandlerType) {
             uiObject.addBitlessDomHandler(event -> {
                 // required by GWT api
@@ -202,7 +232,7 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
                 final PTInstruction eventInstruction = buildEventInstruction(domHandlerType);
                 final String dragWidgetID = event.getData("text");
                 if (dragWidgetID != null) eventInstruction.put(ClientToServerModel.DRAG_SRC, Long.parseLong(dragWidgetID));
-                uiBuilder.sendDataToServer(uiObject, eventInstruction);
+                sendDomEvent(domHandlerType, eventInstruction);
             }, DropEvent.getType());
         } else if (DomHandlerType.CONTEXT_MENU == domHandlerType) {
             uiObject.addDomHandler(event -> triggerDomEvent(domHandlerType, event), ContextMenuEvent.getType());
@@ -217,6 +247,15 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
         return eventInstruction;
     }
 
+    /**
+     * Sends the event instruction according to the delivery policy of its handler
+     */
+    protected void sendDomEvent(final DomHandlerType domHandlerType, final PTInstruction eventInstruction) {
+        final InstructionDelivery delivery = deliveries != null ? deliveries[domHandlerType.ordinal()] : null;
+        if (delivery != null) delivery.deliver(uiObject, eventInstruction);
+        else uiBuilder.sendDataToServer(uiObject, eventInstruction);
+    }
+
     private void triggerDomEvent(final DomHandlerType domHandlerType, final DomEvent<?> event) {
         triggerDomEvent(domHandlerType, event, null);
     }
@@ -225,7 +264,7 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
                                    final Consumer<PTInstruction> enricher) {
         final PTInstruction eventInstruction = buildEventInstruction(domHandlerType);
         if (enricher != null) enricher.accept(eventInstruction);
-        uiBuilder.sendDataToServer(uiObject, eventInstruction);
+        sendDomEvent(domHandlerType, eventInstruction);
         preventOrStopEvent(event);
     }
 
@@ -293,7 +332,7 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
         if (needToBeSent) {
             final PTInstruction eventInstruction = buildEventInstruction(domHandlerType);
             eventInstruction.put(ClientToServerModel.VALUE_KEY, nativeKeyCode);
-            uiBuilder.sendDataToServer(uiObject, eventInstruction);
+            sendDomEvent(domHandlerType, eventInstruction);
         }
 
         preventOrStopEvent(event);
@@ -322,6 +361,19 @@ public abstract class PTWidget<T extends Widget> extends PTUIObject<T> implement
         }
     }
 
+    private InstructionDelivery extractDelivery(final ReaderBuffer buffer) {
+        final BinaryModel binaryModel = buffer.readBinaryModel();
+        if (ServerToClientModel.DOM_HANDLER_DELIVERY == binaryModel.getModel()) {
+            final JSONArray values = binaryModel.getArrayValue();
+            final DeliveryMode mode = DeliveryMode.fromRawValue((int) values.get(0).isNumber().doubleValue());
+            final int interval = (int) values.get(1).isNumber().doubleValue();
+            return new InstructionDelivery(uiBuilder, mode, interval);
+        } else {
+            buffer.rewind(binaryModel);
+            return null;
+        }
+    }
+
     private static final int[] extractKeyFilter(final ReaderBuffer buffer) {
         final BinaryModel binaryModel = buffer.readBinaryModel();
         if (ServerToClientModel.KEY_FILTER == binaryModel.getModel()) {
@@ -32,7 +32,7 @@ import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.terminal.PonySDK;
 import com.ponysdk.core.terminal.UIBuilder;
 import com.ponysdk.core.terminal.instruction.PTInstruction;
-import com.ponysdk.core.terminal.model.BinaryModel;
+import com.ponysdk.core.terminal.model.ModelDispatcher;
 import com.ponysdk.core.terminal.model.ReaderBuffer;
 
 import elemental.client.Browser;
@@ -44,6 +44,25 @@ public class PTWindow extends PTAbstractWindow implements PostMessageHandler {
 
     private static final String EMPTY = "";
 
+    protected static final ModelDispatcher<PTWindow> UPDATES = new ModelDispatcher<PTWindow>(PTAbstractWindow.UPDATES)
+        .register(ServerToClientModel.OPEN, (ptObject, buffer, binaryModel) -> {
+            ptObject.window = Browser.getWindow().open(ptObject.url, ptObject.name, ptObject.features);
+            // Window can be null if browser doesn't allow popup
+            if (ptObject.window != null) {
+                ptObject.window.setOnunload(event -> ptObject.onClose());
+            } else {
+                log.log(Level.WARNING, "Can't open PTWindow #" + ptObject.objectID + ". Check the browser's settings");
+
+                final PTInstruction instruction = new PTInstruction(ptObject.objectID);
+                instruction.put(ClientToServerModel.HANDLER_DESTROY);
+                ptObject.uiBuilder.sendDataToServer(instruction);
+
+                ptObject.uiBuilder.sendWarningMessageToServer(
+                    "Can't open PTWindow #" + ptObject.objectID + ". Check the browser's settings", ptObject.objectID);
+            }
+        })
+        .register(ServerToClientModel.CLOSE, (ptObject, buffer, binaryModel) -> ptObject.close(false));
+
     private String url = EMPTY;
     private String name = EMPTY;
     private String features;
@@ -78,29 +97,8 @@ public class PTWindow extends PTAbstractWindow implements PostMessageHandler {
     }
 
     @Override
-    public boolean update(final ReaderBuffer buffer, final BinaryModel binaryModel) {
-        final ServerToClientModel model = binaryModel.getModel();
-        if (ServerToClientModel.OPEN == model) {
-            window = Browser.getWindow().open(url, name, features);
-            // Window can be null if browser doesn't allow popup
-            if (window != null) {
-                window.setOnunload(event -> onClose());
-            } else {
-                log.log(Level.WARNING, "Can't open PTWindow #" + objectID + ". Check the browser's settings");
-
-                final PTInstruction instruction = new PTInstruction(objectID);
-                instruction.put(ClientToServerModel.HANDLER_DESTROY);
-                uiBuilder.sendDataToServer(instruction);
-
-                uiBuilder.sendWarningMessageToServer("Can't open PTWindow #" + objectID + ". Check the browser's settings", objectID);
-            }
-            return true;
-        } else if (ServerToClientModel.CLOSE == model) {
-            close(false);
-            return true;
-        } else {
-            return super.update(buffer, binaryModel);
-        }
+    protected ModelDispatcher<? extends PTWindow> getUpdates() {
+        return UPDATES;
     }
 
     public void close(final boolean forced) {
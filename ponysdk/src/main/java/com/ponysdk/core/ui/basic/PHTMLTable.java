@@ -128,6 +128,10 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
         saveUpdate(writer -> writer.write(ServerToClientModel.CLEAR));
     }
 
+    /**
+     * Removes the row and shifts the following ones up. The cells refer to their {@link Row}, so the cost is a
+     * constant time per following row, whatever the number of columns.
+     */
     public void removeRow(final int row) {
         final TreeMap<Integer, PWidget> widgetByColumn = columnByRow.remove(new Row(row));
         if (widgetByColumn == null) return;
@@ -136,30 +140,22 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
         final List<PWidget> values = new ArrayList<>(widgetByColumn.values());
         values.forEach(widget -> remove(widget, false));
 
-        for (final Entry<Row, TreeMap<Integer, PWidget>> entry : columnByRow.entrySet()) {
-            final Row irow = entry.getKey();
-            if (irow.value > row) {
-                for (final PWidget widget : entry.getValue().values()) {
-                    final Cell cell = cellByWidget.get(widget);
-                    cell.row = cell.row - 1;
-                }
-                irow.value = irow.value - 1;
-            }
+        // The order of the keys is kept, they can be updated in place
+        for (final Row irow : columnByRow.tailMap(new Row(row), false).keySet()) {
+            irow.value = irow.value - 1;
         }
 
         saveUpdate(writer -> writer.write(ServerToClientModel.CLEAR_ROW, row));
     }
 
+    /**
+     * Inserts an empty row and shifts the following ones down, in a constant time per following row as
+     * {@link #removeRow(int)}
+     */
     public void insertRow(final int row) {
-        for (final Entry<Row, TreeMap<Integer, PWidget>> entry : columnByRow.entrySet()) {
-            final Row irow = entry.getKey();
-            if (irow.value >= row) {
-                for (final PWidget widget : entry.getValue().values()) {
-                    final Cell cell = cellByWidget.get(widget);
-                    cell.row = cell.row + 1;
-                }
-                irow.value = irow.value + 1;
-            }
+        // The order of the keys is kept, they can be updated in place
+        for (final Row irow : columnByRow.tailMap(new Row(row), true).keySet()) {
+            irow.value = irow.value + 1;
         }
         rowFormatter.insertRowStyle(row);
         saveUpdate(writer -> writer.write(ServerToClientModel.INSERT_ROW, row));
@@ -227,12 +223,11 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
     private PWidget removeWidgetFromMap(final PWidget widget) {
         final Cell cell = cellByWidget.remove(widget);
         if (cell == null) return null; // already removed
-        final Row row = new Row(cell.row);
-        final Map<Integer, PWidget> cellByColumn = columnByRow.get(row);
+        final Map<Integer, PWidget> cellByColumn = columnByRow.get(cell.row);
         if (cellByColumn != null) {
             final PWidget w = cellByColumn.remove(cell.column);
             if (cellByColumn.isEmpty()) {
-                columnByRow.remove(row);
+                columnByRow.remove(cell.row);
             }
             return w;
         }
@@ -240,11 +235,14 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
     }
 
     private void addWidgetToMap(final int row, final int column, final PWidget widget) {
-        final Row irow = new Row(row);
-        final Cell cell = new Cell(row, column);
-        cellByWidget.put(widget, cell);
-        TreeMap<Integer, PWidget> cellByColumn = columnByRow.computeIfAbsent(irow, k -> new TreeMap<>());
-        cellByColumn.put(column, widget);
+        // The cells of a row share its key, which is shifted by insertRow() and removeRow()
+        Row irow = columnByRow.ceilingKey(new Row(row));
+        if (irow == null || irow.value != row) {
+            irow = new Row(row);
+            columnByRow.put(irow, new TreeMap<>());
+        }
+        cellByWidget.put(widget, new Cell(irow, column));
+        columnByRow.get(irow).put(column, widget);
     }
 
     @Override
@@ -276,16 +274,12 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
 
     protected static class Cell {
 
-        private int row;
+        private final Row row;
 
         private int column;
 
-        protected Cell(final int rowIndex, final int cellIndex) {
+        Cell(final Row row, final int cellIndex) {
             this.column = cellIndex;
-            this.row = rowIndex;
-        }
-
-        public void setRow(final int row) {
             this.row = row;
         }
 
@@ -297,10 +291,11 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
 
     public class PRowFormatter {
 
-        private Map<Integer, Set<String>> styleNames = new HashMap<>();
+        // Shifted in place as the rows of the table
+        private final TreeMap<Row, Set<String>> styleNames = new TreeMap<>();
 
         public void addStyleName(final int row, final String styleName) {
-            Set<String> styles = styleNames.computeIfAbsent(row, k -> new HashSet<>());
+            final Set<String> styles = styleNames.computeIfAbsent(new Row(row), k -> new HashSet<>());
 
             if (styles.add(styleName)) {
                 saveUpdate(writer -> {
@@ -311,7 +306,7 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
         }
 
         public void removeStyleName(final int row, final String styleName) {
-            final Set<String> styles = styleNames.get(row);
+            final Set<String> styles = styleNames.get(new Row(row));
 
             if (styles == null) return;
 
@@ -324,10 +319,10 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
         }
 
         public void setStyleName(final int row, final String styleName) {
-            Set<String> styles = styleNames.get(row);
+            Set<String> styles = styleNames.get(new Row(row));
             if (styles == null) {
                 styles = new HashSet<>();
-                styleNames.put(row, styles);
+                styleNames.put(new Row(row), styles);
             } else {
                 styles.clear();
             }
@@ -349,25 +344,16 @@ public abstract class PHTMLTable<T extends PCellFormatter> extends PPanel {
         }
 
         protected void insertRowStyle(final int row) {
-            final Map<Integer, Set<String>> temp = new HashMap<>();
-            for (final Entry<Integer, Set<String>> entry : styleNames.entrySet()) {
-                if (entry.getKey() >= row) {
-                    temp.put(entry.getKey() + 1, entry.getValue());
-                } else temp.put(entry.getKey(), entry.getValue());
+            for (final Row irow : styleNames.tailMap(new Row(row), true).keySet()) {
+                irow.value = irow.value + 1;
             }
-            temp.put(row, new HashSet<>());
-            styleNames = temp;
         }
 
         protected void removeRowStyle(final int row) {
-            styleNames.remove(row);
-            final Map<Integer, Set<String>> temp = new HashMap<>();
-            for (final Entry<Integer, Set<String>> entry : styleNames.entrySet()) {
-                if (entry.getKey() > row) {
-                    temp.put(entry.getKey() - 1, entry.getValue());
-                } else temp.put(entry.getKey(), entry.getValue());
+            styleNames.remove(new Row(row));
+            for (final Row irow : styleNames.tailMap(new Row(row), false).keySet()) {
+                irow.value = irow.value - 1;
             }
-            styleNames = temp;
         }
     }
 
@@ -221,7 +221,35 @@ public abstract class PObject {
     }
 
     protected void saveUpdate(final ServerToClientModel serverToClientModel, final Object value) {
-        saveUpdate(serverToClientModel.getValue(), writer -> writer.write(serverToClientModel, value));
+        saveKeyedUpdate(serverToClientModel, writer -> writer.write(serverToClientModel, value));
+    }
+
+    protected void saveUpdate(final ServerToClientModel serverToClientModel, final boolean value) {
+        saveKeyedUpdate(serverToClientModel, writer -> writer.write(serverToClientModel, value));
+    }
+
+    protected void saveUpdate(final ServerToClientModel serverToClientModel, final int value) {
+        saveKeyedUpdate(serverToClientModel, writer -> writer.write(serverToClientModel, value));
+    }
+
+    protected void saveUpdate(final ServerToClientModel serverToClientModel, final long value) {
+        saveKeyedUpdate(serverToClientModel, writer -> writer.write(serverToClientModel, value));
+    }
+
+    protected void saveUpdate(final ServerToClientModel serverToClientModel, final double value) {
+        saveKeyedUpdate(serverToClientModel, writer -> writer.write(serverToClientModel, value));
+    }
+
+    /**
+     * Once initialized, only the last update of a model is written by the transaction
+     *
+     * @see ModelWriter#stackUpdate(PObject, ServerToClientModel, ModelWriterCallback)
+     */
+    private void saveKeyedUpdate(final ServerToClientModel serverToClientModel, final ModelWriterCallback callback) {
+        if (destroy) return;
+
+        if (initialized) UIContext.get().getWriter().stackUpdate(this, serverToClientModel, callback);
+        else safeStackedInstructions().put((int) serverToClientModel.getValue(), () -> writeUpdate(callback));
     }
 
     private void saveUpdate(final int atomicKey, final ModelWriterCallback callback) {
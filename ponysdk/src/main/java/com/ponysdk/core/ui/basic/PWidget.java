@@ -29,6 +29,7 @@ import com.ponysdk.core.ui.basic.event.*;
 import com.ponysdk.core.ui.basic.event.PDomEvent.Type;
 import com.ponysdk.core.ui.basic.event.PVisibilityEvent.PVisibilityHandler;
 import com.ponysdk.core.ui.eventbus.*;
+import com.ponysdk.core.ui.model.PDeliveryPolicy;
 import com.ponysdk.core.ui.model.PEventType;
 import com.ponysdk.core.ui.model.ServerBinaryModel;
 import com.ponysdk.core.util.SetPool;
@@ -349,32 +350,48 @@ public abstract class PWidget extends PObject implements IsPWidget {
     }
 
     public HandlerRegistration addKeyPressHandler(final PKeyPressHandler handler) {
-        final Integer[] filteredKeys = handler.getJsonFilteredKeys();
-        if (filteredKeys != null)
-            return addDomHandler(handler, PKeyPressEvent.TYPE, new ServerBinaryModel(ServerToClientModel.KEY_FILTER, filteredKeys));
-        else return addDomHandler(handler, PKeyPressEvent.TYPE);
+        return addKeyPressHandler(handler, PDeliveryPolicy.IMMEDIATE);
+    }
+
+    public HandlerRegistration addKeyPressHandler(final PKeyPressHandler handler, final PDeliveryPolicy deliveryPolicy) {
+        return addDomHandler(handler, PKeyPressEvent.TYPE, keyFilter(handler.getJsonFilteredKeys()), deliveryPolicy);
     }
 
     public HandlerRegistration addKeyUpHandler(final PKeyUpHandler handler) {
-        final Integer[] filteredKeys = handler.getJsonFilteredKeys();
-        if (filteredKeys != null)
-            return addDomHandler(handler, PKeyUpEvent.TYPE, new ServerBinaryModel(ServerToClientModel.KEY_FILTER, filteredKeys));
-        else return addDomHandler(handler, PKeyUpEvent.TYPE);
+        return addKeyUpHandler(handler, PDeliveryPolicy.IMMEDIATE);
+    }
+
+    public HandlerRegistration addKeyUpHandler(final PKeyUpHandler handler, final PDeliveryPolicy deliveryPolicy) {
+        return addDomHandler(handler, PKeyUpEvent.TYPE, keyFilter(handler.getJsonFilteredKeys()), deliveryPolicy);
     }
 
     public HandlerRegistration addKeyDownHandler(final PKeyDownEvent.Handler handler) {
-        final Integer[] filteredKeys = handler.getJsonFilteredKeys();
-        if (filteredKeys != null)
-            return addDomHandler(handler, PKeyDownEvent.TYPE, new ServerBinaryModel(ServerToClientModel.KEY_FILTER, filteredKeys));
-        else return addDomHandler(handler, PKeyDownEvent.TYPE);
+        return addKeyDownHandler(handler, PDeliveryPolicy.IMMEDIATE);
+    }
+
+    public HandlerRegistration addKeyDownHandler(final PKeyDownEvent.Handler handler, final PDeliveryPolicy deliveryPolicy) {
+        return addDomHandler(handler, PKeyDownEvent.TYPE, keyFilter(handler.getJsonFilteredKeys()), deliveryPolicy);
+    }
+
+    private static ServerBinaryModel keyFilter(final Integer[] filteredKeys) {
+        return filteredKeys != null ? new ServerBinaryModel(ServerToClientModel.KEY_FILTER, filteredKeys) : null;
     }
 
     public HandlerRegistration addDomHandler(final EventHandler handler, final PDomEvent.Type type) {
-        return addDomHandler(handler, type, null);
+        return addDomHandler(handler, type, null, PDeliveryPolicy.IMMEDIATE);
+    }
+
+    /**
+     * Adds a DOM handler whose events are delivered by the terminal according to the policy. The policy is sent with
+     * the first handler of the type, the next handlers of the same type share it.
+     */
+    public HandlerRegistration addDomHandler(final EventHandler handler, final PDomEvent.Type type,
+                                             final PDeliveryPolicy deliveryPolicy) {
+        return addDomHandler(handler, type, null, deliveryPolicy);
     }
 
     private HandlerRegistration addDomHandler(final EventHandler handler, final PDomEvent.Type type,
-                                              final ServerBinaryModel binaryModel) {
+                                              final ServerBinaryModel binaryModel, final PDeliveryPolicy deliveryPolicy) {
         if (destroy) return null;
         if (eventSource == null) eventSource = new TinyEventSource();
         final HandlerRegistration handlerRegistration = eventSource.addHandler(type, handler);
@@ -382,12 +399,16 @@ public abstract class PWidget extends PObject implements IsPWidget {
         final SetPool<Type>.ImmutableSet pool = oneTimeHandlerCreation.getAdd(type);
         if (pool != oneTimeHandlerCreation) {
             oneTimeHandlerCreation = pool;
+            final ServerBinaryModel delivery = deliveryPolicy.isImmediate() ? null : deliveryPolicy.toBinaryModel();
             final ModelWriterCallback callback = writer -> {
                 writer.write(ServerToClientModel.HANDLER_TYPE, DomHandlerConverter.convert(type.getDomHandlerType()).getValue());
+                if (delivery != null) writer.write(delivery.getKey(), delivery.getValue());
                 if (binaryModel != null) writer.write(binaryModel.getKey(), binaryModel.getValue());
             };
             if (initialized) writeAddHandler(callback);
             else safeStackedInstructions().put(saveKey++, () -> writeAddHandler(callback));
+        } else if (!deliveryPolicy.isImmediate()) {
+            log.warn("Delivery policy {} ignored, a handler of type {} is already registered on {}", deliveryPolicy, type, this);
         }
 
         return handlerRegistration;
@@ -27,8 +27,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.SortedSet;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -39,8 +39,10 @@ import com.ponysdk.core.ui.datagrid.impl.DefaultView;
 public class DataGrid<T> implements IsPWidget {
 
     private final View view;
+    private final VirtualView virtualView;
     private final List<ColumnDescriptor<T>> columns = new ArrayList<>();
     private DataGridTreeSet<T> rows;
+    private int windowStart;
 
     public DataGrid() {
         this(new DefaultView(), Function.identity());
@@ -61,6 +63,12 @@ public class DataGrid<T> implements IsPWidget {
     public DataGrid(final View view, final Function<T, ?> keyProvider, final Comparator<T> comparator) {
         this.view = view;
         this.rows = new DataGridTreeSet<>(comparator, keyProvider);
+        if (view instanceof VirtualView) {
+            virtualView = (VirtualView) view;
+            virtualView.setScrollListener(this::onScroll);
+        } else {
+            virtualView = null;
+        }
     }
 
     @Override
@@ -70,13 +78,13 @@ public class DataGrid<T> implements IsPWidget {
 
     public void addColumnDescriptor(final ColumnDescriptor<T> column) {
         if (columns.add(column)) {
-            int r = 0;
             final int c = columns.size() - 1;
 
             drawHeader(c, column);
 
-            for (final T w : rows) {
-                drawCell(r++, c, column, w);
+            final Iterator<T> iterator = rows.iterator(windowStart);
+            for (int r = 0; r < getWindowSize() && iterator.hasNext(); r++) {
+                drawCell(r, c, column, iterator.next());
             }
         }
     }
@@ -94,24 +102,9 @@ public class DataGrid<T> implements IsPWidget {
     }
 
     public void addData(final T data) {
-        if (rows.containsData(data)) {
-            final int indexBefore = rows.getPosition(data);
-            if (indexBefore != -1) {
-                rows.remove(data);
-                rows.add(data);
-                final int indexAfter = rows.headSet(data).size();
-                if (indexBefore == indexAfter) {
-                    update(indexAfter, data);
-                } else {
-                    draw(Math.min(indexBefore, indexAfter), data);
-                }
-            } else {
-                //Update
-            }
-        } else {
-            rows.add(data);
-            draw(rows.headSet(data).size(), data);
-        }
+        final T previous = rows.getData(data);
+        if (previous != null) replace(previous, data);
+        else insert(data);
     }
 
     public void removeColumn(final ColumnDescriptor<T> column) {
@@ -120,8 +113,6 @@ public class DataGrid<T> implements IsPWidget {
         final int c = columns.indexOf(column);
 
         if (c != -1) {
-            int r = 0;
-
             final int size = columns.size() - 1;
 
             columns.remove(c);
@@ -129,10 +120,10 @@ public class DataGrid<T> implements IsPWidget {
             for (int i = c; i < columns.size(); i++) {
                 final ColumnDescriptor<T> currentColumn = columns.get(i);
                 drawHeader(i, currentColumn);
-                for (final T data : rows) {
-                    drawCell(r++, i, currentColumn, data);
+                final Iterator<T> iterator = rows.iterator(windowStart);
+                for (int r = 0; r < getWindowSize() && iterator.hasNext(); r++) {
+                    drawCell(r, i, currentColumn, iterator.next());
                 }
-                r = 0;
             }
 
             resetColumn(size, column);
@@ -140,12 +131,12 @@ public class DataGrid<T> implements IsPWidget {
     }
 
     public void removeData(final T data) {
-        final T higher = rows.higher(data);
-        final int index = rows.headSet(data).size();
-        if (rows.remove(data)) {
-            draw(index, higher);
-            resetRow(rows.size());
-        }
+        final T previous = rows.getData(data);
+        if (previous == null) return;
+        final int index = rows.getPosition(previous);
+        if (!rows.remove(previous)) return;
+        if (virtualView != null) refreshWindow(index, rows.size());
+        else removeRow(index);
     }
 
     public List<ColumnDescriptor<T>> getColumns() {
@@ -157,21 +148,105 @@ public class DataGrid<T> implements IsPWidget {
     }
 
     public void update(final T data, final Function<T, T> merge) {
-        final int indexBefore = rows.getPosition(data);
-        if (indexBefore != -1) {
-            rows.remove(data);
-            rows.add(merge.apply(data));
-            final int indexAfter = rows.getPosition(data);
-            if (indexBefore == indexAfter) {
-                update(indexAfter, data);
-            } else {
-                draw(Math.min(indexBefore, indexAfter), data);
-            }
+        final T previous = rows.getData(data);
+        if (previous != null) replace(previous, merge.apply(data));
+        else insert(data);
+    }
+
+    private void insert(final T data) {
+        rows.add(data);
+        final int index = rows.getPosition(data);
+        if (virtualView != null) refreshWindow(index, rows.size() - 1);
+        else insertRow(index, data);
+    }
+
+    private void replace(final T previous, final T data) {
+        final int indexBefore = rows.getPosition(previous);
+        rows.remove(previous);
+        rows.add(data);
+        final int indexAfter = rows.getPosition(data);
+        if (virtualView != null) {
+            refreshWindow(Math.min(indexBefore, indexAfter), Math.max(indexBefore, indexAfter));
+        } else if (indexBefore == indexAfter) {
+            update(indexAfter, data);
+        } else if (Math.abs(indexBefore - indexAfter) == 1) {
+            // Swapping two neighbours costs less than shifting
+            update(indexBefore, rows.get(indexBefore));
+            update(indexAfter, data);
+        } else if (canShiftRows(rows.size()) && view.removeRow(indexBefore)) {
+            view.insertRow(indexAfter);
+            update(indexAfter, data);
         } else {
-            rows.add(data);
-            draw(rows.headSet(data).size(), data);
+            draw(Math.min(indexBefore, indexAfter), Math.max(indexBefore, indexAfter));
+        }
+    }
+
+    /**
+     * Displays the new row {@code r}, shifting the following rows down on the terminal side when the view allows it
+     */
+    private void insertRow(final int r, final T data) {
+        final int rowCount = view.getRowCount();
+        if (canShiftRows(rows.size() - 1) && view.insertRow(r)) {
+            // Drops a trailing row left blank by clear()
+            if (rowCount >= rows.size()) view.removeRow(rowCount);
+            update(r, data);
+        } else {
+            draw(r, rows.size() - 1);
+        }
+    }
+
+    /**
+     * Removes the row {@code r}, shifting the following rows up on the terminal side when the view allows it
+     */
+    private void removeRow(final int r) {
+        if (canShiftRows(rows.size() + 1) && view.removeRow(r)) return;
+        draw(r, rows.size() - 1);
+        resetRow(rows.size());
+    }
+
+    /**
+     * Redraws the data between the positions {@code fromIndex} and {@code toIndex} that are in the window of the
+     * virtual view
+     */
+    private void refreshWindow(final int fromIndex, final int toIndex) {
+        virtualView.setDataSize(rows.size());
+        final int start = clampWindowStart(windowStart);
+        if (start != windowStart) moveWindow(start);
+        else drawWindow(fromIndex, toIndex);
+    }
+
+    private void onScroll(final int requestedWindowStart) {
+        final int start = clampWindowStart(requestedWindowStart);
+        if (start != windowStart) moveWindow(start);
+    }
+
+    private void moveWindow(final int start) {
+        windowStart = start;
+        virtualView.setWindowStart(start);
+        drawWindow(start, start + getWindowSize() - 1);
+    }
+
+    private void drawWindow(final int fromIndex, final int toIndex) {
+        final int first = Math.max(fromIndex, windowStart);
+        final int last = Math.min(toIndex, windowStart + getWindowSize() - 1);
+        final Iterator<T> iterator = rows.iterator(first);
+        for (int i = first; i <= last; i++) {
+            final int r = i - windowStart;
+            if (iterator.hasNext()) update(r, iterator.next());
+            else if (r < view.getRowCount()) resetRow(r);
         }
+    }
+
+    private int clampWindowStart(final int start) {
+        return Math.max(0, Math.min(start, rows.size() - getWindowSize()));
+    }
+
+    private int getWindowSize() {
+        return virtualView != null ? virtualView.getWindowSize() : Integer.MAX_VALUE;
+    }
 
+    private boolean canShiftRows(final int displayedRows) {
+        return !columns.isEmpty() && view.getRowCount() >= displayedRows;
     }
 
     private void update(final int r, final T data) {
@@ -181,18 +256,10 @@ public class DataGrid<T> implements IsPWidget {
         }
     }
 
-    private void draw(final int fromRow, final T from) {
-        if (from == null) return;
-        final SortedSet<T> tail = rows.tailSet(from);
-        int r = fromRow;
-        int c = 0;
-
-        for (final T w : tail) {
-            for (final ColumnDescriptor<T> column : columns) {
-                drawCell(r, c++, column, w);
-            }
-            c = 0;
-            r++;
+    private void draw(final int fromRow, final int toRow) {
+        final Iterator<T> iterator = rows.iterator(fromRow);
+        for (int r = fromRow; r <= toRow && iterator.hasNext(); r++) {
+            update(r, iterator.next());
         }
     }
 
@@ -225,6 +292,11 @@ public class DataGrid<T> implements IsPWidget {
 
     public void clear() {
         rows.clear();
+        if (virtualView != null) {
+            windowStart = 0;
+            virtualView.setWindowStart(0);
+            virtualView.setDataSize(0);
+        }
         final int rowCount = view.getRowCount();
         for (int i = rowCount - 1; i >= 0; i--) {
             resetRow(i);
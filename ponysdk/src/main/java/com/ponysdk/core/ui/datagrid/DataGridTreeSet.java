@@ -23,50 +23,291 @@
 
 package com.ponysdk.core.ui.datagrid;
 
+import java.util.AbstractSet;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.TreeSet;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 
-public class DataGridTreeSet<E> extends TreeSet<E> {
+/**
+ * A sorted set backed by a size-augmented AVL tree, so that the position of an element ({@link #getPosition(Object)})
+ * and the element at a position ({@link #get(int)}) are both computed in O(log n).
+ * <p>
+ * Elements are also indexed by key, see {@link #getData(Object)}.
+ */
+public class DataGridTreeSet<E> extends AbstractSet<E> {
 
+    private final Comparator<E> comparator;
     private final Function<E, ?> keyProvider;
 
     private final Map<Object, E> map = new HashMap<>();
 
+    private Node<E> root;
+    private boolean modified;
+
     public DataGridTreeSet(final Comparator<E> comparator, final Function<E, ?> keyProvider) {
-        super((o1, o2) -> {
+        this.comparator = (o1, o2) -> {
             final int compare = comparator.compare(o1, o2);
             if (compare != 0) return compare;
             return Integer.compare(keyProvider.apply(o1).hashCode(), keyProvider.apply(o2).hashCode());
-        });
+        };
         this.keyProvider = keyProvider;
     }
 
+    /**
+     * @return the number of elements lower than {@code e}, or -1 if {@code e} is not in the set
+     */
     public int getPosition(final E e) {
-        return headSet(e).size();
+        int position = 0;
+        Node<E> node = root;
+        while (node != null) {
+            final int compare = comparator.compare(e, node.value);
+            if (compare < 0) {
+                node = node.left;
+            } else if (compare > 0) {
+                position += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return position + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the element at the position {@code index}
+     */
+    public E get(final int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        int i = index;
+        Node<E> node = root;
+        while (true) {
+            final int leftSize = size(node.left);
+            if (i < leftSize) {
+                node = node.left;
+            } else if (i > leftSize) {
+                i -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * @return the element of the set having the same key as {@code e}, or null
+     */
+    public E getData(final E e) {
+        return map.get(keyProvider.apply(e));
+    }
+
+    public boolean containsData(final E e) {
+        return map.containsKey(keyProvider.apply(e));
+    }
+
+    /**
+     * @return the least element strictly greater than {@code e}, or null
+     */
+    public E higher(final E e) {
+        E higher = null;
+        Node<E> node = root;
+        while (node != null) {
+            if (comparator.compare(e, node.value) < 0) {
+                higher = node.value;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return higher;
     }
 
     @Override
     public boolean add(final E e) {
         map.put(keyProvider.apply(e), e);
-        return super.add(e);
+        modified = false;
+        root = insert(root, e);
+        return modified;
     }
 
     @Override
-    public boolean remove(final Object e) {
-        map.remove(keyProvider.apply((E) e));
-        return super.remove(e);
+    public boolean remove(final Object o) {
+        final E e = asElement(o);
+        if (e == null) return false;
+        modified = false;
+        root = delete(root, e);
+        if (modified) map.remove(keyProvider.apply(e));
+        return modified;
     }
 
-    public boolean containsData(final E e) {
-        return map.containsKey(keyProvider.apply(e));
+    @Override
+    public boolean contains(final Object o) {
+        final E e = asElement(o);
+        return e != null && getPosition(e) != -1;
+    }
+
+    /**
+     * The elements can only be compared as {@code E}, like {@link java.util.TreeSet} does an object of another type
+     * is not found
+     *
+     * @return {@code o} as an element, or null if it cannot be compared to the elements of the set
+     */
+    @SuppressWarnings("unchecked")
+    private E asElement(final Object o) {
+        if (o == null || root == null) return null;
+        try {
+            comparator.compare((E) o, root.value);
+            return (E) o;
+        } catch (final ClassCastException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
     }
 
     @Override
     public void clear() {
-        super.clear();
+        root = null;
         map.clear();
     }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * @return an iterator over the elements, in ascending order, starting at the position {@code fromIndex}
+     */
+    public Iterator<E> iterator(final int fromIndex) {
+        return new Iterator<E>() {
+
+            private int index = fromIndex;
+            private E last;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                last = get(index++);
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) throw new IllegalStateException();
+                DataGridTreeSet.this.remove(last);
+                last = null;
+                index--;
+            }
+        };
+    }
+
+    private Node<E> insert(final Node<E> node, final E e) {
+        if (node == null) {
+            modified = true;
+            return new Node<>(e);
+        }
+        final int compare = comparator.compare(e, node.value);
+        if (compare < 0) node.left = insert(node.left, e);
+        else if (compare > 0) node.right = insert(node.right, e);
+        else return node;
+        return balance(node);
+    }
+
+    private Node<E> delete(final Node<E> node, final E e) {
+        if (node == null) return null;
+        final int compare = comparator.compare(e, node.value);
+        if (compare < 0) {
+            node.left = delete(node.left, e);
+        } else if (compare > 0) {
+            node.right = delete(node.right, e);
+        } else {
+            modified = true;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            Node<E> min = node.right;
+            while (min.left != null) {
+                min = min.left;
+            }
+            node.value = min.value;
+            node.right = deleteMin(node.right);
+        }
+        return balance(node);
+    }
+
+    private Node<E> deleteMin(final Node<E> node) {
+        if (node.left == null) return node.right;
+        node.left = deleteMin(node.left);
+        return balance(node);
+    }
+
+    private static <E> Node<E> balance(final Node<E> node) {
+        node.update();
+        final int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        } else {
+            return node;
+        }
+    }
+
+    private static <E> Node<E> rotateRight(final Node<E> node) {
+        final Node<E> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static <E> Node<E> rotateLeft(final Node<E> node) {
+        final Node<E> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int size(final Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static int height(final Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static final class Node<E> {
+
+        private E value;
+        private Node<E> left;
+        private Node<E> right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(final E value) {
+            this.value = value;
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+
+    }
+
 }
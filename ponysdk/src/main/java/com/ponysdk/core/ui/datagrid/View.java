@@ -38,4 +38,22 @@ public interface View extends IsPWidget {
 
     PWidget getCell(int r, int c);
 
+    /**
+     * Inserts an empty row before the row {@code r}, shifting the following rows down
+     *
+     * @return false if the view does not support row insertion, in which case the rows are redrawn
+     */
+    default boolean insertRow(final int r) {
+        return false;
+    }
+
+    /**
+     * Removes the row {@code r}, shifting the following rows up
+     *
+     * @return false if the view does not support row removal, in which case the rows are redrawn
+     */
+    default boolean removeRow(final int r) {
+        return false;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.datagrid;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link View} that only materializes a window of rows : the visible rows plus an overscan margin. The row
+ * {@code r} of the view displays the data at the position {@code windowStart + r}, and its widgets are recycled
+ * when the window moves.
+ */
+public interface VirtualView extends View {
+
+    /**
+     * @return the number of rows materialized by the view
+     */
+    int getWindowSize();
+
+    /**
+     * Sets the total number of data, used to size the scrollable area
+     */
+    void setDataSize(int size);
+
+    /**
+     * Moves the materialized rows to the data at the position {@code windowStart}
+     */
+    void setWindowStart(int windowStart);
+
+    /**
+     * Sets the listener notified with the requested window start when the terminal scrolls
+     */
+    void setScrollListener(IntConsumer listener);
+
+}
@@ -62,4 +62,16 @@ public class DefaultView implements View {
         table.setWidget(r + 1, c, w);
     }
 
+    @Override
+    public boolean insertRow(final int r) {
+        table.insertRow(r + 1);
+        return true;
+    }
+
+    @Override
+    public boolean removeRow(final int r) {
+        table.removeRow(r + 1);
+        return true;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.datagrid.impl;
+
+import java.util.function.IntConsumer;
+
+import com.ponysdk.core.ui.basic.Element;
+import com.ponysdk.core.ui.basic.PFlexTable;
+import com.ponysdk.core.ui.basic.PFlowPanel;
+import com.ponysdk.core.ui.basic.PScrollPanel;
+import com.ponysdk.core.ui.basic.PWidget;
+import com.ponysdk.core.ui.datagrid.VirtualView;
+
+/**
+ * A {@link VirtualView} displaying rows of a fixed height, the style name {@code pony-VirtualView-row} should give
+ * the rows this height.
+ */
+public class DefaultVirtualView implements VirtualView {
+
+    private static final String PX = "px";
+
+    private final PFlowPanel panel = Element.newPFlowPanel();
+    private final PFlexTable header = Element.newPFlexTable();
+    private final PScrollPanel scrollPanel = Element.newPScrollPanel();
+    private final PFlowPanel content = Element.newPFlowPanel();
+    private final PFlexTable table = Element.newPFlexTable();
+
+    private final int rowHeight;
+    private final int overscan;
+    private final int windowSize;
+
+    private IntConsumer scrollListener;
+
+    /**
+     * @param rowHeight the height of a row, in pixels
+     * @param visibleRows the number of rows visible in the viewport
+     * @param overscan the number of rows materialized above and below the viewport
+     */
+    public DefaultVirtualView(final int rowHeight, final int visibleRows, final int overscan) {
+        this.rowHeight = rowHeight;
+        this.overscan = overscan;
+        this.windowSize = visibleRows + 2 * overscan;
+
+        panel.addStyleName("pony-VirtualView");
+        table.addStyleName("pony-VirtualView-row");
+
+        content.setStyleProperty("position", "relative");
+        content.setStyleProperty("overflow", "hidden");
+        content.setHeight("0px");
+        table.setStyleProperty("position", "absolute");
+        table.setStyleProperty("top", "0px");
+
+        scrollPanel.setHeight(visibleRows * rowHeight + PX);
+        scrollPanel.addScrollHandler(event -> {
+            if (scrollListener != null) scrollListener.accept(event.getVerticalPostion() / rowHeight - overscan);
+        });
+
+        content.add(table);
+        scrollPanel.setWidget(content);
+        panel.add(header);
+        panel.add(scrollPanel);
+    }
+
+    @Override
+    public PWidget asWidget() {
+        return panel;
+    }
+
+    @Override
+    public void setHeader(final int c, final PWidget w) {
+        header.setWidget(0, c, w);
+    }
+
+    @Override
+    public PWidget getHeader(final int c) {
+        return header.getWidget(0, c);
+    }
+
+    @Override
+    public PWidget getCell(final int r, final int c) {
+        return table.getWidget(r, c);
+    }
+
+    @Override
+    public int getRowCount() {
+        return table.getRowCount();
+    }
+
+    @Override
+    public void setCell(final int r, final int c, final PWidget w) {
+        table.setWidget(r, c, w);
+    }
+
+    @Override
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public void setDataSize(final int size) {
+        content.setHeight(size * rowHeight + PX);
+    }
+
+    @Override
+    public void setWindowStart(final int windowStart) {
+        table.setStyleProperty("top", windowStart * rowHeight + PX);
+    }
+
+    @Override
+    public void setScrollListener(final IntConsumer listener) {
+        this.scrollListener = listener;
+    }
+
+    public int getRowHeight() {
+        return rowHeight;
+    }
+
+    public int getOverscan() {
+        return overscan;
+    }
+
+}
@@ -78,6 +78,13 @@ public abstract class Event<H extends EventHandler> {
             index = nextHashCode.incrementAndGet();
         }
 
+        /**
+         * @return the dense index of this type, allocated in creation order starting from 1
+         */
+        final int getIndex() {
+            return index;
+        }
+
         @Override
         public final int hashCode() {
             return index;
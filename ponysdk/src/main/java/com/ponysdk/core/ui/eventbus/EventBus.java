@@ -23,20 +23,20 @@
 
 package com.ponysdk.core.ui.eventbus;
 
-import com.ponysdk.core.util.SetUtils;
+import com.ponysdk.core.util.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Set;
 
 public class EventBus {
 
     private static final Logger log = LoggerFactory.getLogger(EventBus.class);
 
-    private Set<BroadcastEventHandler> broadcastHandlerManager;
+    private static final BroadcastEventHandler[] EMPTY_BROADCAST_HANDLERS = new BroadcastEventHandler[0];
+
+    private BroadcastEventHandler[] broadcastHandlers = EMPTY_BROADCAST_HANDLERS;
 
     private final EventSource globalEventSource = new EventSource();
 
@@ -59,21 +59,17 @@ public class EventBus {
         doFire(event, source);
     }
 
-    private Collection<EventHandler> getIterableHandlers(final EventSource eventSource, final Event.Type eventType) {
-        if (eventSource == null) return Collections.emptyList();
-        final Collection<EventHandler> handlers = eventSource.getEventHandlers(eventType);
-        if (handlers.isEmpty()) return Collections.emptyList();
-        return new ArrayList<>(handlers);
-    }
-
+    /**
+     * The handlers are copy-on-write arrays, firing iterates over the arrays current at the time of the fire : the
+     * handlers added or removed by a handler are only taken into account from the next fire
+     */
     private void doFire(final Event<?> event, final EventSource source) {
         Collection<Throwable> causes = null;
         final Event.Type eventType = event.getAssociatedType();
 
-        final Collection<EventHandler> specificHandlers = getIterableHandlers(source, eventType);
-        final Collection<EventHandler> globalHandlers = getIterableHandlers(globalEventSource, eventType);
-        final Collection<BroadcastEventHandler> broadcastHandlers = broadcastHandlerManager == null ? null
-                : new ArrayList<>(broadcastHandlerManager);
+        final EventHandler[] specificHandlers = source != null ? source.getHandlers(eventType) : EventSource.EMPTY_HANDLERS;
+        final EventHandler[] globalHandlers = globalEventSource.getHandlers(eventType);
+        final BroadcastEventHandler[] broadcastHandlers = this.broadcastHandlers;
 
         for (final EventHandler handler : specificHandlers) {
             causes = dispatchEvent(event, eventType, handler, causes);
@@ -82,16 +78,14 @@ public class EventBus {
             causes = dispatchEvent(event, eventType, handler, causes);
         }
 
-        if (broadcastHandlers != null) {
-            for (final BroadcastEventHandler handler : broadcastHandlers) {
-                log.debug("broadcast eventbus #{}", event);
-                try {
-                    handler.onEvent(event);
-                } catch (final Exception t) {
-                    log.error("Cannot broadcast fired eventbus #{}", eventType, t);
-                    if (causes == null) causes = new ArrayList<>();
-                    causes.add(t);
-                }
+        for (final BroadcastEventHandler handler : broadcastHandlers) {
+            log.debug("broadcast eventbus #{}", event);
+            try {
+                handler.onEvent(event);
+            } catch (final Exception t) {
+                log.error("Cannot broadcast fired eventbus #{}", eventType, t);
+                if (causes == null) causes = new ArrayList<>();
+                causes.add(t);
             }
         }
 
@@ -112,13 +106,11 @@ public class EventBus {
     }
 
     public void addHandler(final BroadcastEventHandler handler) {
-        if (broadcastHandlerManager == null) broadcastHandlerManager = SetUtils.newArraySet(4);
-        broadcastHandlerManager.add(handler);
+        broadcastHandlers = ArrayUtils.addIfAbsent(broadcastHandlers, handler);
     }
 
     public void removeHandler(final BroadcastEventHandler handler) {
-        if (broadcastHandlerManager == null) return;
-        broadcastHandlerManager.remove(handler);
+        broadcastHandlers = ArrayUtils.remove(broadcastHandlers, handler);
     }
 
 }
@@ -23,6 +23,7 @@
 
 package com.ponysdk.core.ui.eventbus;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,36 +31,85 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import com.ponysdk.core.util.ArrayUtils;
+
+/**
+ * Handlers by event type, stored in copy-on-write arrays : firing an event iterates over the current array without
+ * copying it, and a handler added or removed during the dispatch only applies to the next events.
+ */
 public class EventSource {
 
-    private final Map<Event.Type, Set<EventHandler>> handlers;
+    static final EventHandler[] EMPTY_HANDLERS = new EventHandler[0];
+
+    // Indexed by Event.Type#getIndex()
+    private EventHandler[][] handlersByType = new EventHandler[0][];
+
+    public HandlerRegistration addHandler(final Event.Type type, final EventHandler handler) {
+        if (type == null) throw new NullPointerException("Cannot add a handler with a null type");
+        if (handler == null) throw new NullPointerException("Cannot add a null handler");
+        setHandlers(type, ArrayUtils.addIfAbsent(getHandlers(type), handler));
+        return () -> removeHandler(type, handler);
+    }
+
+    public boolean removeHandler(final Event.Type type, final EventHandler handler) {
+        if (type == null) return false;
+        final EventHandler[] handlers = getHandlers(type);
+        final EventHandler[] newHandlers = ArrayUtils.remove(handlers, handler);
+        if (newHandlers == handlers) return false;
+        setHandlers(type, newHandlers);
+        return true;
+    }
 
-    public EventSource() {
-        this.handlers = newHandlersMap();
+    /**
+     * @return a set of the current handlers of the type, built by {@link #newHandlersSet()} : unlike the previous
+     *         versions, it is a snapshot and adding or removing handlers from it does not change this source
+     */
+    public Collection<EventHandler> getEventHandlers(final Event.Type eventType) {
+        final EventHandler[] handlers = getHandlers(eventType);
+        if (handlers.length == 0) return Collections.emptySet();
+        final Set<EventHandler> set = newHandlersSet();
+        set.addAll(Arrays.asList(handlers));
+        return set;
     }
 
+    /**
+     * @deprecated the handlers are stored in copy-on-write arrays, this set only receives the snapshots returned by
+     *             {@link #getEventHandlers(Event.Type)}; override {@link #getHandlers(Event.Type)} and
+     *             {@link #setHandlers(Event.Type, EventHandler[])} to change the storage
+     */
+    @Deprecated
     protected Set<EventHandler> newHandlersSet() {
         return new HashSet<>();
     }
 
+    /**
+     * @deprecated the handlers are stored in copy-on-write arrays, this map is no longer used; override
+     *             {@link #getHandlers(Event.Type)} and {@link #setHandlers(Event.Type, EventHandler[])} to change
+     *             the storage
+     */
+    @Deprecated
     protected Map<Event.Type, Set<EventHandler>> newHandlersMap() {
         return new HashMap<>();
     }
 
-    public HandlerRegistration addHandler(final Event.Type type, final EventHandler handler) {
-        if (type == null) throw new NullPointerException("Cannot add a handler with a null type");
-        if (handler == null) throw new NullPointerException("Cannot add a null handler");
-        handlers.computeIfAbsent(type, t -> newHandlersSet()).add(handler);
-        return () -> removeHandler(type, handler);
+    /**
+     * @return the handlers of the type, the returned array is never modified
+     */
+    protected EventHandler[] getHandlers(final Event.Type type) {
+        final int index = type.getIndex();
+        final EventHandler[][] handlersByType = this.handlersByType;
+        if (index >= handlersByType.length) return EMPTY_HANDLERS;
+        final EventHandler[] handlers = handlersByType[index];
+        return handlers != null ? handlers : EMPTY_HANDLERS;
     }
 
-    public boolean removeHandler(final Event.Type type, final EventHandler handler) {
-        final Set<EventHandler> typeHandlers = handlers.get(type);
-        if (typeHandlers == null) return false;
-        return typeHandlers.remove(handler);
+    protected void setHandlers(final Event.Type type, final EventHandler[] handlers) {
+        final int index = type.getIndex();
+        if (index >= handlersByType.length) {
+            if (handlers.length == 0) return;
+            handlersByType = Arrays.copyOf(handlersByType, Math.max(index + 1, handlersByType.length * 2));
+        }
+        handlersByType[index] = handlers.length != 0 ? handlers : null;
     }
 
-    public Collection<EventHandler> getEventHandlers(final Event.Type eventType) {
-        return handlers.getOrDefault(eventType, Collections.emptySet());
-    }
 }
@@ -23,23 +23,50 @@
 
 package com.ponysdk.core.ui.eventbus;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
 
 import com.ponysdk.core.ui.eventbus.Event.Type;
-import com.ponysdk.core.util.SetUtils;
 
+/**
+ * EventSource for the few event types of a single widget : the types are scanned linearly instead of indexing an
+ * array sized for all the event types of the JVM
+ */
 public class TinyEventSource extends EventSource {
 
+    private static final Type[] EMPTY_TYPES = new Type[0];
+
+    private Type[] types = EMPTY_TYPES;
+    private EventHandler[][] handlersByType = new EventHandler[0][];
+
     @Override
-    protected Map<Type, Set<EventHandler>> newHandlersMap() {
-        return new HashMap<>(4);
+    protected EventHandler[] getHandlers(final Type type) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) return handlersByType[i];
+        }
+        return EMPTY_HANDLERS;
     }
 
     @Override
-    protected Set<EventHandler> newHandlersSet() {
-        return SetUtils.newArraySet(1);
+    protected void setHandlers(final Type type, final EventHandler[] handlers) {
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == type) {
+                if (handlers.length != 0) {
+                    handlersByType[i] = handlers;
+                } else {
+                    final int last = types.length - 1;
+                    types[i] = types[last];
+                    handlersByType[i] = handlersByType[last];
+                    types = Arrays.copyOf(types, last);
+                    handlersByType = Arrays.copyOf(handlersByType, last);
+                }
+                return;
+            }
+        }
+        if (handlers.length == 0) return;
+        types = Arrays.copyOf(types, types.length + 1);
+        handlersByType = Arrays.copyOf(handlersByType, types.length);
+        types[types.length - 1] = type;
+        handlersByType[types.length - 1] = handlers;
     }
 
 }
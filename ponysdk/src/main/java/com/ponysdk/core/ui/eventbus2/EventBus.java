@@ -23,21 +23,36 @@
 
 package com.ponysdk.core.ui.eventbus2;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.ponysdk.core.util.SetUtils;
+import com.ponysdk.core.util.ArrayUtils;
 
 public class EventBus {
 
     private static final Logger log = LoggerFactory.getLogger(EventBus.class);
 
-    private final Map<Class<?>, Set<EventHandler<?>>> handlersByType = new HashMap<>();
+    private static final EventHandler<?>[] EMPTY_HANDLERS = new EventHandler<?>[0];
+
+    /*
+     * Dense index of the event classes, shared by all the buses, so that the handlers of a bus can be looked up in an
+     * array instead of a map
+     */
+    private static final AtomicInteger nextTypeIndex = new AtomicInteger();
+    private static final ClassValue<Integer> typeIndexes = new ClassValue<Integer>() {
+
+        @Override
+        protected Integer computeValue(final Class<?> type) {
+            return nextTypeIndex.getAndIncrement();
+        }
+    };
+
+    // Copy-on-write arrays indexed by the type index, a handler unsubscribed during a post still receives the event
+    private EventHandler<?>[][] handlersByType = new EventHandler<?>[0][];
 
     public static final class EventHandler<T> implements Consumer<Object> {
 
@@ -60,11 +75,20 @@ public class EventBus {
 
     private <T> EventHandler<T> register(final Class<T> type) {
         final EventHandler<T> handler = new EventHandler<>(type);
-        final Set<EventHandler<?>> handlers = handlersByType.computeIfAbsent(type, t -> SetUtils.newArraySet(4));
-        handlers.add(handler);
+        final int index = typeIndexes.get(type);
+        if (index >= handlersByType.length)
+            handlersByType = Arrays.copyOf(handlersByType, Math.max(index + 1, handlersByType.length * 2));
+        handlersByType[index] = ArrayUtils.addIfAbsent(getHandlers(index), handler);
         return handler;
     }
 
+    private EventHandler<?>[] getHandlers(final int index) {
+        final EventHandler<?>[][] handlersByType = this.handlersByType;
+        if (index >= handlersByType.length) return EMPTY_HANDLERS;
+        final EventHandler<?>[] handlers = handlersByType[index];
+        return handlers != null ? handlers : EMPTY_HANDLERS;
+    }
+
     public <T> EventHandler<T> subscribe(final Class<T> type, final Consumer<T> function) {
         if (type == null) return null;
         final EventHandler<T> handler = register(type);
@@ -74,11 +98,12 @@ public class EventBus {
 
     public boolean unsubscribe(final EventHandler<?> handler) {
         if (handler == null) return false;
-        final Set<EventHandler<?>> handlers = handlersByType.get(handler.type);
-        if (handlers != null) {
-            final boolean remove = handlers.remove(handler);
-            if (handlers.isEmpty()) handlersByType.remove(handler.type);
-            return remove;
+        final int index = typeIndexes.get(handler.type);
+        final EventHandler<?>[] handlers = getHandlers(index);
+        if (handlers.length != 0) {
+            final EventHandler<?>[] newHandlers = ArrayUtils.remove(handlers, handler);
+            handlersByType[index] = newHandlers.length != 0 ? newHandlers : null;
+            return newHandlers != handlers;
         } else {
             log.error("No subscribed handlers for {}", handler.type);
             return false;
@@ -87,9 +112,14 @@ public class EventBus {
 
     public void post(final Object event) {
         if (event == null) return;
-        final Set<EventHandler<?>> handlers = handlersByType.get(event.getClass());
-        if (handlers != null) handlers.forEach(handler -> handler.accept(event));
-        else log.error("No subscribed handlers for {}", event.getClass());
+        final EventHandler<?>[] handlers = getHandlers(typeIndexes.get(event.getClass()));
+        if (handlers.length != 0) {
+            for (final EventHandler<?> handler : handlers) {
+                handler.accept(event);
+            }
+        } else {
+            log.error("No subscribed handlers for {}", event.getClass());
+        }
     }
 
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.model;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import com.ponysdk.core.model.DeliveryMode;
+import com.ponysdk.core.model.ServerToClientModel;
+
+/**
+ * Tells the terminal how to deliver the events of a DOM handler. Every event of a widget is sent by default, a
+ * policy lets a chatty handler (mouse over, key up, drag over...) send only the events the server needs.
+ * <p>
+ * The terminal sends all the pending events of an animation frame in a single message, processed in a single
+ * server transaction.
+ */
+public final class PDeliveryPolicy {
+
+    /**
+     * Every event is delivered
+     */
+    public static final PDeliveryPolicy IMMEDIATE = new PDeliveryPolicy(DeliveryMode.IMMEDIATE, 0);
+
+    /**
+     * Only the last event of an animation frame is delivered
+     */
+    public static final PDeliveryPolicy LATEST_ONLY = new PDeliveryPolicy(DeliveryMode.LATEST, 0);
+
+    private final DeliveryMode mode;
+    private final int intervalMillis;
+
+    private PDeliveryPolicy(final DeliveryMode mode, final int intervalMillis) {
+        this.mode = mode;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * At most one event is delivered per interval, the last event of an interval is delivered at its end
+     */
+    public static PDeliveryPolicy throttle(final Duration interval) {
+        return new PDeliveryPolicy(DeliveryMode.THROTTLE, toMillis(interval));
+    }
+
+    /**
+     * The last event is delivered once no other event occurred during the interval
+     */
+    public static PDeliveryPolicy debounce(final Duration interval) {
+        return new PDeliveryPolicy(DeliveryMode.DEBOUNCE, toMillis(interval));
+    }
+
+    private static int toMillis(final Duration interval) {
+        Objects.requireNonNull(interval, "Interval must not be null");
+        final long millis = interval.toMillis();
+        if (millis <= 0 || millis > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid delivery interval : " + interval + " must be between 1 ms and "
+                    + Integer.MAX_VALUE + " ms");
+        }
+        return (int) millis;
+    }
+
+    public DeliveryMode getMode() {
+        return mode;
+    }
+
+    public int getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    public boolean isImmediate() {
+        return mode == DeliveryMode.IMMEDIATE;
+    }
+
+    /**
+     * @return the model sent with the handler, the terminal reads the mode then the interval
+     */
+    public ServerBinaryModel toBinaryModel() {
+        return new ServerBinaryModel(ServerToClientModel.DOM_HANDLER_DELIVERY,
+            new Object[] { mode.getValue(), intervalMillis });
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final PDeliveryPolicy that = (PDeliveryPolicy) o;
+        return intervalMillis == that.intervalMillis && mode == that.mode;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, intervalMillis);
+    }
+
+    @Override
+    public String toString() {
+        return intervalMillis == 0 ? mode.name() : mode.name() + "(" + intervalMillis + " ms)";
+    }
+
+}
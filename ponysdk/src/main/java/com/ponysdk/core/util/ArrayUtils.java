@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import java.util.Arrays;
+
+/**
+ * Helpers for copy-on-write arrays : the arrays are never modified, each modification returns a new array (or the
+ * same one if nothing changed), so that they can be iterated without copy while they are being updated
+ */
+public class ArrayUtils {
+
+    private ArrayUtils() {
+        //Utility class
+    }
+
+    /**
+     * @return a copy of {@code array} ending with {@code e}, or {@code array} itself if it already contains an
+     *         element equal to {@code e}
+     */
+    public static <E> E[] addIfAbsent(final E[] array, final E e) {
+        if (indexOf(array, e) != -1) return array;
+        final E[] copy = Arrays.copyOf(array, array.length + 1);
+        copy[array.length] = e;
+        return copy;
+    }
+
+    /**
+     * @return a copy of {@code array} without its first element equal to {@code o}, or {@code array} itself if there
+     *         is no such element
+     */
+    public static <E> E[] remove(final E[] array, final Object o) {
+        final int index = indexOf(array, o);
+        if (index == -1) return array;
+        final E[] copy = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    public static int indexOf(final Object[] array, final Object o) {
+        for (int i = 0; i < array.length; i++) {
+            if (o == null ? array[i] == null : o.equals(array[i])) return i;
+        }
+        return -1;
+    }
+
+}
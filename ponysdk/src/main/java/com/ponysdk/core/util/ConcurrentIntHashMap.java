@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread-safe map with primitive {@code int} keys, so lookups don't box the key.<br>
+ * Lookups are lock-free, updates are serialized and are expected to be less frequent than lookups.<br>
+ * The table uses open addressing with linear probing. A slot is never reused for another key, removed
+ * entries are only dropped when the table is rebuilt, so a lookup can't observe the value of another
+ * key.
+ *
+ * @param <V> the type of the values, null values are not allowed
+ */
+public class ConcurrentIntHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // value of the removed entries until the next rebuild
+    private static final Object REMOVED = new Object();
+
+    private volatile Table table;
+
+    // written while holding the lock
+    private volatile int size;
+    // guarded by this
+    private int usedSlots;
+
+    private static final class Table {
+
+        private final AtomicIntegerArray keys;
+        // null for a free slot, the key is always set before the value
+        private final AtomicReferenceArray<Object> values;
+        private final int mask;
+
+        private Table(final int capacity) {
+            keys = new AtomicIntegerArray(capacity);
+            values = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+
+    }
+
+    public ConcurrentIntHashMap() {
+        table = new Table(MIN_CAPACITY);
+    }
+
+    /**
+     * @return the value of the key, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        final Table t = table;
+        for (int i = hash(key) & t.mask;; i = i + 1 & t.mask) {
+            final Object value = t.values.get(i);
+            if (value == null) return null;
+            if (t.keys.get(i) == key) return value == REMOVED ? null : (V) value;
+        }
+    }
+
+    /**
+     * @return the previous value of the key, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(final int key, final V value) {
+        if (value == null) throw new NullPointerException("Null values are not allowed");
+        if (usedSlots + 1 > table.values.length() >> 1) rebuild(size + 1);
+
+        final Table t = table;
+        for (int i = hash(key) & t.mask;; i = i + 1 & t.mask) {
+            final Object previous = t.values.get(i);
+            if (previous == null) {
+                t.keys.set(i, key);
+                t.values.set(i, value);
+                usedSlots++;
+                size++;
+                return null;
+            } else if (t.keys.get(i) == key) {
+                t.values.set(i, value);
+                if (previous == REMOVED) {
+                    size++;
+                    return null;
+                }
+                return (V) previous;
+            }
+        }
+    }
+
+    /**
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(final int key) {
+        final Table t = table;
+        for (int i = hash(key) & t.mask;; i = i + 1 & t.mask) {
+            final Object previous = t.values.get(i);
+            if (previous == null) return null;
+            if (t.keys.get(i) == key) {
+                if (previous == REMOVED) return null;
+                t.values.set(i, REMOVED);
+                size--;
+                return (V) previous;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // builds a new table without the removed entries, then publishes it
+    private void rebuild(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize << 2) {
+            capacity <<= 1;
+        }
+
+        final Table oldTable = table;
+        final Table newTable = new Table(capacity);
+        for (int i = 0; i < oldTable.values.length(); i++) {
+            final Object value = oldTable.values.get(i);
+            if (value == null || value == REMOVED) continue;
+            final int key = oldTable.keys.get(i);
+            int j = hash(key) & newTable.mask;
+            while (newTable.values.get(j) != null) {
+                j = j + 1 & newTable.mask;
+            }
+            newTable.keys.set(j, key);
+            newTable.values.set(j, value);
+        }
+        usedSlots = size;
+        table = newTable;
+    }
+
+    private static int hash(final int key) {
+        // the keys are often sequential ids, spread them over the table
+        final int h = key * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache that weakly references the objects that it contains, designed for concurrent interning.
+ * <p>
+ * Unlike {@link SynchronizedWeakCache}, lookups never lock : the entries are split in lock-striped segments, hits
+ * are served by a lock-free read of the segment table, and only insertions take the lock of a single segment.
+ * Entries whose value has been garbage collected are expunged in batch from the segment reference queue, each time
+ * a value is inserted in that segment.
+ * <p>
+ * The lookup key is only compared to the cached values through {@code key.equals(value)}, so the key may be of a
+ * different type than the values as long as its hash code is the one of the equivalent value.
+ *
+ * @param <E> MUST be immutable
+ * @see WeakReference
+ */
+public class ConcurrentWeakCache<E> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final int MAXIMUM_SEGMENTS = 1 << 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Segment<E>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+
+    public ConcurrentWeakCache() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public ConcurrentWeakCache(final int initialCapacity) {
+        this(initialCapacity, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    public ConcurrentWeakCache(final int initialCapacity, final int concurrencyLevel) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Illegal initial capacity : " + initialCapacity);
+        if (concurrencyLevel <= 0) throw new IllegalArgumentException("Illegal concurrency level : " + concurrencyLevel);
+
+        final int segmentCount = tableSizeFor(Math.min(concurrencyLevel, MAXIMUM_SEGMENTS));
+        segments = newSegments(segmentCount);
+        segmentMask = segmentCount - 1;
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+
+        final int segmentCapacity = tableSizeFor(Math.max(2, (initialCapacity + segmentCount - 1) / segmentCount));
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * If there is an instance equivalent to {@code key} present in the cache, return it. Otherwise, use the
+     * {@code mappingFuction} to create a new instance based on the {@code key}, put it in the cache and return it.
+     * <i><b>NB :</b> If the {@code mappingFunction} is applied, its result is not guaranteed to be inserted in the
+     * cache.</i>
+     *
+     * @param key             mappingFunction key
+     * @param mappingFunction mappingFunction ref
+     * @return an existing instance, or a newly created one if absent
+     */
+    public <T> E getOrCompute(final T key, final Function<T, E> mappingFunction) {
+        final int hash = spread(key.hashCode());
+        final Segment<E> segment = segmentFor(hash);
+        final E e = segment.get(key, hash);
+        if (e != null) return e;
+        return segment.putIfAbsent(key, hash, mappingFunction.apply(key));
+    }
+
+    /**
+     * @return the number of entries in the cache, including the ones whose value has been collected but not yet
+     *         expunged
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment<E> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Expunges the entries whose value has been garbage collected from all the segments
+     */
+    public void expungeStaleEntries() {
+        for (final Segment<E> segment : segments) {
+            segment.cleanUp();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Segment<E>[] newSegments(final int length) {
+        return (Segment<E>[]) new Segment<?>[length];
+    }
+
+    private Segment<E> segmentFor(final int hash) {
+        return segments[hash >>> segmentShift & segmentMask];
+    }
+
+    private static int spread(final int h) {
+        final int hash = h * 0x9E3779B9;
+        return hash ^ hash >>> 16;
+    }
+
+    private static int tableSizeFor(final int capacity) {
+        if (capacity >= MAXIMUM_CAPACITY) return MAXIMUM_CAPACITY;
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static final class Entry<E> extends WeakReference<E> {
+
+        private final int hash;
+        /*
+         * Only written under the segment lock to unlink a stale successor, lock-free readers can only miss entries
+         * (and then fall back on the locked path), never loop
+         */
+        private volatile Entry<E> next;
+
+        private Entry(final E value, final int hash, final Entry<E> next, final ReferenceQueue<E> queue) {
+            super(value, queue);
+            this.hash = hash;
+            this.next = next;
+        }
+
+    }
+
+    private static final class Segment<E> {
+
+        private final ReferenceQueue<E> queue = new ReferenceQueue<>();
+        private volatile AtomicReferenceArray<Entry<E>> table;
+        private volatile int count;
+
+        private Segment(final int capacity) {
+            table = new AtomicReferenceArray<>(capacity);
+        }
+
+        private E get(final Object key, final int hash) {
+            final AtomicReferenceArray<Entry<E>> tab = table;
+            for (Entry<E> entry = tab.get(hash & tab.length() - 1); entry != null; entry = entry.next) {
+                if (entry.hash == hash) {
+                    final E value = entry.get();
+                    if (value != null && key.equals(value)) return value;
+                }
+            }
+            return null;
+        }
+
+        private synchronized E putIfAbsent(final Object key, final int hash, final E value) {
+            expungeStaleEntries();
+
+            final E existing = get(key, hash);
+            if (existing != null) return existing;
+
+            AtomicReferenceArray<Entry<E>> tab = table;
+            if (count >= tab.length() - (tab.length() >>> 2) && tab.length() < MAXIMUM_CAPACITY) tab = resize(tab);
+
+            final int index = hash & tab.length() - 1;
+            tab.set(index, new Entry<>(value, hash, tab.get(index), queue));
+            count = count + 1;
+            return value;
+        }
+
+        private synchronized void cleanUp() {
+            expungeStaleEntries();
+        }
+
+        private int size() {
+            return count;
+        }
+
+        /**
+         * Drains all the entries collected since the last insertion at once, under the segment lock
+         */
+        private void expungeStaleEntries() {
+            Reference<? extends E> ref;
+            int removed = 0;
+            while ((ref = queue.poll()) != null) {
+                @SuppressWarnings("unchecked")
+                final Entry<E> stale = (Entry<E>) ref;
+                if (unlink(stale)) removed++;
+            }
+            if (removed > 0) count = count - removed;
+        }
+
+        private boolean unlink(final Entry<E> stale) {
+            final AtomicReferenceArray<Entry<E>> tab = table;
+            final int index = stale.hash & tab.length() - 1;
+            Entry<E> previous = null;
+            for (Entry<E> entry = tab.get(index); entry != null; previous = entry, entry = entry.next) {
+                if (entry == stale) {
+                    if (previous == null) tab.set(index, entry.next);
+                    else previous.next = entry.next;
+                    return true;
+                }
+            }
+            // The entry belonged to a table replaced by a resize, its copy is expunged on its own
+            return false;
+        }
+
+        /**
+         * Copies the live entries into a table twice as large. The copies are new references registered on the
+         * queue, so readers still walking the old table are never disturbed.
+         */
+        private AtomicReferenceArray<Entry<E>> resize(final AtomicReferenceArray<Entry<E>> oldTable) {
+            final AtomicReferenceArray<Entry<E>> newTable = new AtomicReferenceArray<>(oldTable.length() << 1);
+            final int mask = newTable.length() - 1;
+            int newCount = 0;
+            for (int i = 0; i < oldTable.length(); i++) {
+                for (Entry<E> entry = oldTable.get(i); entry != null; entry = entry.next) {
+                    final E value = entry.get();
+                    if (value == null) continue;
+                    final int index = entry.hash & mask;
+                    newTable.set(index, new Entry<>(value, entry.hash, newTable.get(index), queue));
+                    newCount++;
+                }
+            }
+            count = newCount;
+            table = newTable;
+            return newTable;
+        }
+
+    }
+
+}
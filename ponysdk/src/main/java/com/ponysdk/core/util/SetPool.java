@@ -54,8 +54,10 @@ public class SetPool<E> {
     /*
      * Implementation notes.
      *
-     * SetPool is based on a SynchronizedWeakCache that weakly caches values.
+     * SetPool is based on a ConcurrentWeakCache that weakly caches values.
      * The values in this cache are unique instances of ImmutableSet.
+     * Pools are typically static and shared by all the UIContexts, so hits are served without locking and
+     * insertions only lock one segment of the cache.
      *
      * The Set instances that are used, internally, as keys to retrieve ImmutableSets are of type MutableSet.
      * They represent the combination of the original ImmutableSet with the desired operation (the hash code of the
@@ -76,7 +78,7 @@ public class SetPool<E> {
     private final ThreadLocal<RetainAllElementsSet> retainAllElementsSetLocals = ThreadLocal
             .withInitial(() -> new RetainAllElementsSet());
 
-    private final SynchronizedWeakCache<ImmutableSet> cache;
+    private final ConcurrentWeakCache<ImmutableSet> cache;
     private final Function<Integer, Set<E>> setFactory;
 
     /**
@@ -102,11 +104,11 @@ public class SetPool<E> {
      *
      * @param setFactory      the factory used to create new Sets that are used internally in the {@code ImmutableSet}s, the
      *                        factory's integer parameter is a hint about the expected size of the Set to create
-     * @param initialCapacity the initial capacity of the internal hash map
+     * @param initialCapacity the initial capacity of the internal cache
      */
     public SetPool(final Function<Integer, Set<E>> setFactory, final int initialCapacity) {
         emptySet = new ImmutableSet(setFactory.apply(0), 0);
-        cache = new SynchronizedWeakCache<>(initialCapacity);
+        cache = new ConcurrentWeakCache<>(initialCapacity);
         cache.getOrCompute(emptySet, e -> e);
         this.setFactory = setFactory;
     }
@@ -24,9 +24,13 @@
 package com.ponysdk.core.writer;
 
 import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.server.websocket.WebsocketEncoder;
+import com.ponysdk.core.ui.basic.PFrame;
+import com.ponysdk.core.ui.basic.PObject;
 import com.ponysdk.core.ui.basic.PWindow;
 
 public class ModelWriter {
@@ -35,11 +39,17 @@ public class ModelWriter {
 
     private WeakReference<PWindow> currentWindow;
 
+    // Updates of the current transaction by object, then by model in the order of their last write
+    private Map<PObject, Map<ServerToClientModel, ModelWriterCallback>> stackedUpdates;
+    private boolean writingStackedUpdates;
+
     public ModelWriter(final WebsocketEncoder encoder) {
         this.encoder = encoder;
     }
 
     public void beginObject(final PWindow window) {
+        if (!writingStackedUpdates && stackedUpdates != null && !stackedUpdates.isEmpty()) flushStackedUpdates();
+
         encoder.beginObject();
 
         if (currentWindow == null || !window.equals(currentWindow.get())) {
@@ -59,10 +69,86 @@ public class ModelWriter {
         encoder.encode(model, value);
     }
 
+    public void write(final ServerToClientModel model, final boolean value) {
+        encoder.encode(model, value);
+    }
+
+    /**
+     * @param value Written without boxing, also used for byte and short models
+     */
+    public void write(final ServerToClientModel model, final int value) {
+        encoder.encode(model, value);
+    }
+
+    public void write(final ServerToClientModel model, final long value) {
+        encoder.encode(model, value);
+    }
+
+    /**
+     * @param value Written without boxing, also used for float models
+     */
+    public void write(final ServerToClientModel model, final double value) {
+        encoder.encode(model, value);
+    }
+
     public void endObject() {
         encoder.endObject();
     }
 
+    /**
+     * Stacks the update of a property of an initialized object until the end of the transaction. Only the last
+     * update of each property is written, and all the updates of an object are merged in a single
+     * {@link ServerToClientModel#TYPE_UPDATE} block.
+     * Any other instruction written before the end of the transaction writes the stacked updates first, so the
+     * instructions are never reordered.
+     *
+     * @param object   the updated object
+     * @param model    the updated property
+     * @param callback writes the value of the property
+     * @see #flushStackedUpdates()
+     */
+    public void stackUpdate(final PObject object, final ServerToClientModel model, final ModelWriterCallback callback) {
+        if (stackedUpdates == null) stackedUpdates = new LinkedHashMap<>();
+        Map<ServerToClientModel, ModelWriterCallback> updates = stackedUpdates.get(object);
+        if (updates == null) {
+            updates = new LinkedHashMap<>(4);
+            stackedUpdates.put(object, updates);
+        } else {
+            // Keep the order of the last writes, e.g. OPEN then CLOSE must not become CLOSE then OPEN
+            updates.remove(model);
+        }
+        updates.put(model, callback);
+    }
+
+    /**
+     * Writes the updates stacked by {@link #stackUpdate(PObject, ServerToClientModel, ModelWriterCallback)}.
+     * Called when the transaction is flushed.
+     */
+    public void flushStackedUpdates() {
+        if (stackedUpdates == null || stackedUpdates.isEmpty()) return;
+
+        writingStackedUpdates = true;
+        try {
+            for (final Map.Entry<PObject, Map<ServerToClientModel, ModelWriterCallback>> entry : stackedUpdates.entrySet()) {
+                final PObject object = entry.getKey();
+                final PWindow window = object.getWindow();
+                if (window == null) continue; // Destroyed during the transaction
+
+                beginObject(window);
+                final PFrame frame = object.getFrame();
+                if (frame != null) write(ServerToClientModel.FRAME_ID, frame.getID());
+                write(ServerToClientModel.TYPE_UPDATE, object.getID());
+                for (final ModelWriterCallback callback : entry.getValue().values()) {
+                    callback.doWrite(this);
+                }
+                endObject();
+            }
+        } finally {
+            stackedUpdates.clear();
+            writingStackedUpdates = false;
+        }
+    }
+
     public PWindow getCurrentWindow() {
         return currentWindow != null ? currentWindow.get() : null;
     }
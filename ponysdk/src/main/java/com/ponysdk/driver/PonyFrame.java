@@ -27,8 +27,8 @@ import com.ponysdk.core.model.ServerToClientModel;
 
 public class PonyFrame {
 
-    final ServerToClientModel model;
-    final Object value;
+    ServerToClientModel model;
+    Object value;
 
     PonyFrame(final ServerToClientModel model, final Object value) {
         super();
@@ -36,6 +36,14 @@ public class PonyFrame {
         this.value = value;
     }
 
+    /**
+     * Reuses the frame for another model and value
+     */
+    void set(final ServerToClientModel model, final Object value) {
+        this.model = model;
+        this.value = value;
+    }
+
     public ServerToClientModel getModel() {
         return model;
     }
@@ -24,6 +24,9 @@
 package com.ponysdk.driver;
 
 import com.ponysdk.core.model.*;
+import org.glassfish.tyrus.client.ClientManager;
+import org.glassfish.tyrus.client.ClientProperties;
+import org.glassfish.tyrus.client.ThreadPoolConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -52,6 +55,26 @@ import java.util.function.ToIntFunction;
 public class PonySDKWebDriver implements WebDriver {
 
     private final static Logger log = LoggerFactory.getLogger(PonySDKWebDriver.class);
+
+    /**
+     * The models always decoded in lazy mode, used by the driver to communicate implicitly with the server
+     */
+    public final static Set<ServerToClientModel> IMPLICIT_COMMUNICATION_MODELS = Collections.unmodifiableSet(EnumSet.of(
+            ServerToClientModel.END, ServerToClientModel.CREATE_CONTEXT, ServerToClientModel.ROUNDTRIP_LATENCY,
+            ServerToClientModel.HISTORY_FIRE_EVENTS, ServerToClientModel.TYPE_HISTORY, ServerToClientModel.ADD_COOKIE,
+            ServerToClientModel.VALUE, ServerToClientModel.OPEN, ServerToClientModel.TYPE_UPDATE));
+    /**
+     * The models to decode in lazy mode to find the elements by their hierarchy, attributes, styles or tag
+     */
+    public final static Set<ServerToClientModel> ELEMENT_MODELS = Collections.unmodifiableSet(EnumSet.of(
+            ServerToClientModel.TYPE_CREATE, ServerToClientModel.WIDGET_TYPE, ServerToClientModel.TYPE_ADD,
+            ServerToClientModel.PARENT_OBJECT_ID, ServerToClientModel.INDEX, ServerToClientModel.TYPE_REMOVE,
+            ServerToClientModel.TYPE_GC, ServerToClientModel.PUT_ATTRIBUTE_KEY, ServerToClientModel.ATTRIBUTE_VALUE,
+            ServerToClientModel.REMOVE_ATTRIBUTE_KEY, ServerToClientModel.STYLE_NAME, ServerToClientModel.ADD_STYLE_NAME,
+            ServerToClientModel.REMOVE_STYLE_NAME, ServerToClientModel.WIDGET_VISIBLE, ServerToClientModel.ENABLED));
+    private final static ServerToClientModel[] MODELS = ServerToClientModel.values();
+    // The minimum size of a Grizzly worker thread pool
+    private final static int MIN_WORKER_THREADS = 3;
     private final static ThreadLocal<byte[]> byteArrays = ThreadLocal.withInitial(() -> new byte[32]);
     private final ConcurrentHashMap<Integer, PonyWebElement> elements = new ConcurrentHashMap<>();
     private final PonySearchContext globalContext = new PonySearchContext(Collections.unmodifiableCollection(elements.values()),
@@ -75,28 +98,69 @@ public class PonySDKWebDriver implements WebDriver {
     private volatile String url;
     private volatile int contextId;
 
+    // The models decoded in lazy mode, null to decode all of them
+    private final Set<ServerToClientModel> decodedModels;
+    // In lazy mode, the frames are reused from one message to the next
+    private final List<PonyFrame> framePool = new ArrayList<>();
+    private int usedFrames;
+    // In lazy mode, the first value of each model in the message in construction, valid if stamped with messageStamp
+    private final Object[] messageValues = new Object[MODELS.length];
+    private final int[] messageStamps = new int[MODELS.length];
+    private int messageStamp = 1;
+
     private ByteBuffer buffer = ByteBuffer.allocate(4096);
     private int length = 0;
+    // Strings stored for the connection, referenced by the STRING_DICTIONARY values
+    private final Map<Integer, String> stringDictionary = new HashMap<>();
 
     public PonySDKWebDriver() {
         this(null, null, null, true);
     }
 
     public PonySDKWebDriver(final PonyMessageListener messageListener, final PonyBandwithListener bandwithListener,
-                            PonySessionListener sessionListener, final boolean handleImplicitCommunication) {
+                            final PonySessionListener sessionListener, final boolean handleImplicitCommunication) {
+        this(messageListener, bandwithListener, sessionListener, handleImplicitCommunication, null);
+    }
+
+    /**
+     * @param clientManager The client runtime shared by several drivers, cf {@link #createSharedClientManager(int)},
+     *                      or null to create one for each connection
+     */
+    public PonySDKWebDriver(final PonyMessageListener messageListener, final PonyBandwithListener bandwithListener,
+                            final PonySessionListener sessionListener, final boolean handleImplicitCommunication,
+                            final ClientManager clientManager) {
+        this(messageListener, bandwithListener, sessionListener, handleImplicitCommunication, clientManager, null);
+    }
+
+    /**
+     * @param decodedModels In lazy mode, the models to decode in addition to {@link #IMPLICIT_COMMUNICATION_MODELS},
+     *                      e.g. {@link #ELEMENT_MODELS} to find elements. The other frames are skipped without being
+     *                      decoded, and the frames given to the {@link PonyMessageListener} are reused for the next
+     *                      message. Null to decode all the frames.
+     */
+    public PonySDKWebDriver(final PonyMessageListener messageListener, final PonyBandwithListener bandwithListener,
+                            PonySessionListener sessionListener, final boolean handleImplicitCommunication,
+                            final ClientManager clientManager, final Set<ServerToClientModel> decodedModels) {
         super();
+        if (decodedModels != null) {
+            this.decodedModels = EnumSet.noneOf(ServerToClientModel.class);
+            this.decodedModels.addAll(IMPLICIT_COMMUNICATION_MODELS);
+            this.decodedModels.addAll(decodedModels);
+        } else {
+            this.decodedModels = null;
+        }
         this.handleImplicitCommunication = handleImplicitCommunication;
         this.messageListener = messageListener == null ? INDIFFERENT_MSG_LISTENER : messageListener;
         this.bandwithListener = bandwithListener == null ? INDIFFERENT_BANDWITH_LISTENER : bandwithListener;
         sessionListener = sessionListener == null ? INDIFFERENT_SESSION_LISTENER : sessionListener;
-        this.client = new WebsocketClient(messageHandler, bandwithListener, sessionListener);
+        this.client = new WebsocketClient(messageHandler, bandwithListener, sessionListener, clientManager);
         onMessageSwitch.put(ServerToClientModel.CREATE_CONTEXT, (message, frame) -> {
             log.info("UI Context created with ID {}", contextId = (int) frame.value);
             if (handleImplicitCommunication) sendCookies();
         });
         onMessageSwitch.put(ServerToClientModel.HISTORY_FIRE_EVENTS, (message, frame) -> {
             if ((boolean) frame.getValue()) {
-                final String typeHistory = (String) findValueForModel(message, ServerToClientModel.TYPE_HISTORY);
+                final String typeHistory = (String) getValue(message, ServerToClientModel.TYPE_HISTORY);
                 if (typeHistory == null) return;
                 if (handleImplicitCommunication) sendTypeHistory(this.typeHistory = typeHistory);
             }
@@ -104,11 +168,11 @@ public class PonySDKWebDriver implements WebDriver {
         onMessageSwitch.put(ServerToClientModel.TYPE_ADD, (message, frame) -> {
             final PonyWebElement element = elements.get(frame.value);
             if (element == null) return;
-            final Object parentId = findValueForModel(message, ServerToClientModel.PARENT_OBJECT_ID);
+            final Object parentId = getValue(message, ServerToClientModel.PARENT_OBJECT_ID);
             if (parentId == null) return;
             element.parent = elements.get(parentId);
             if (element.parent == null) return;
-            final Integer index = (Integer) findValueForModel(message, ServerToClientModel.INDEX);
+            final Integer index = (Integer) getValue(message, ServerToClientModel.INDEX);
             if (index == null) {
                 element.parent.children.add(element);
             } else {
@@ -122,10 +186,10 @@ public class PonySDKWebDriver implements WebDriver {
             element.parent = null;
         });
         onMessageSwitch.put(ServerToClientModel.ADD_COOKIE, (message, frame) -> {
-            cookies = (String) findValueForModel(message, ServerToClientModel.VALUE);
+            cookies = (String) getValue(message, ServerToClientModel.VALUE);
         });
         onMessageSwitch.put(ServerToClientModel.TYPE_CREATE, (message, frame) -> {
-            final Byte widget = (Byte) findValueForModel(message, ServerToClientModel.WIDGET_TYPE);
+            final Byte widget = (Byte) getValue(message, ServerToClientModel.WIDGET_TYPE);
             if (widget == null) return;
             final int elementId = (int) frame.value;
             elements.put(elementId, new PonyWebElement(this, elementId, WidgetType.fromRawValue(widget)));
@@ -137,7 +201,7 @@ public class PonySDKWebDriver implements WebDriver {
             final PonyWebElement element = findElement(message);
             if (element == null) return;
             final String key = (String) frame.value;
-            final String value = (String) findValueForModel(message, ServerToClientModel.ATTRIBUTE_VALUE);
+            final String value = (String) getValue(message, ServerToClientModel.ATTRIBUTE_VALUE);
             if (value == null) return;
             element.attributes.put(key, value);
         });
@@ -202,9 +266,26 @@ public class PonySDKWebDriver implements WebDriver {
         });
     }
 
+    /**
+     * Creates a client runtime to share between drivers : all their connections use the same selector and worker
+     * threads instead of a transport for each driver, so thousands of drivers can run in the same JVM
+     *
+     * @param workerThreads the number of threads reading the messages of all the connections, at least 3
+     */
+    public static ClientManager createSharedClientManager(final int workerThreads) {
+        final int poolSize = Math.max(MIN_WORKER_THREADS, workerThreads);
+        final ClientManager client = ClientManager.createClient();
+        client.getProperties().put(ClientProperties.REDIRECT_ENABLED, true);
+        client.getProperties().put(ClientProperties.SHARED_CONTAINER, true);
+        client.getProperties().put(ClientProperties.WORKER_THREAD_POOL_CONFIG,
+            ThreadPoolConfig.defaultConfig().setCorePoolSize(poolSize).setMaxPoolSize(poolSize));
+        return client;
+    }
+
     @Override
     public void get(final String url) {
         try {
+            stringDictionary.clear();
             client.connect(new URI(url));
             this.url = url;
         } catch (final Exception e) {
@@ -334,6 +415,17 @@ public class PonySDKWebDriver implements WebDriver {
         return getString(ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8, b, stringLength);
     }
 
+    private String getDictionaryString(final ByteBuffer b) {
+        final int header = getUint31(b);
+        final int id = header >>> 1;
+        if ((header & ValueTypeModel.STRING_DICTIONARY_DEFINITION) == 0) return id != 0 ? stringDictionary.get(id) : null;
+
+        length += 1;
+        final String value = getString(b);
+        if (id != 0) stringDictionary.put(id, value);
+        return value;
+    }
+
     private Object getString(final ByteBuffer b, final Charset charset, final ToIntFunction<ByteBuffer> readStringLength) {
         final int strLength = readStringLength.applyAsInt(b);
         length += strLength;
@@ -417,12 +509,115 @@ public class PonySDKWebDriver implements WebDriver {
                 return readValue(b, 1, this::getArray);
             case UINT31:
                 return readValue(b, 2, this::getUint31);
+            case STRING_DICTIONARY:
+                return readValue(b, 2, this::getDictionaryString);
+            default:
+                throw new IllegalArgumentException("ValueTypeModel " + type + " is not supported");
+        }
+    }
+
+    /**
+     * Moves the position after the value without decoding it, except the definitions of dictionary strings that can
+     * be referenced later
+     */
+    private void skipModelValue(final ByteBuffer b, final ValueTypeModel type) {
+        switch (type) {
+            case NULL:
+                break;
+            case BOOLEAN:
+            case BYTE:
+                skip(b, 1);
+                break;
+            case SHORT:
+                skip(b, 2);
+                break;
+            case INTEGER:
+            case FLOAT:
+                skip(b, 4);
+                break;
+            case LONG:
+            case DOUBLE:
+                skip(b, 8);
+                break;
+            case STRING:
+                length += 1;
+                skipString(b);
+                break;
+            case ARRAY:
+                length += 1;
+                skipArray(b);
+                break;
+            case UINT31:
+                length += 2;
+                getUint31(b);
+                break;
+            case STRING_DICTIONARY:
+                length += 2;
+                getDictionaryString(b);
+                break;
             default:
                 throw new IllegalArgumentException("ValueTypeModel " + type + " is not supported");
         }
     }
 
-    private synchronized void onMessage(final ByteBuffer message) {
+    private void skip(final ByteBuffer b, final int bytes) {
+        length += bytes;
+        if (b.remaining() < bytes) throw new BufferUnderflowException();
+        b.position(b.position() + bytes);
+    }
+
+    private void skipString(final ByteBuffer b) {
+        int stringLength = readUnsignedByte(b);
+        if (stringLength > ValueTypeModel.STRING_ASCII_UINT8) {
+            switch (stringLength) {
+                case ValueTypeModel.STRING_ASCII_UINT16:
+                case ValueTypeModel.STRING_UTF8_UINT16:
+                    length += 2;
+                    stringLength = readUnsignedShort(b);
+                    break;
+                case ValueTypeModel.STRING_ASCII_UINT32:
+                case ValueTypeModel.STRING_UTF8_INT32:
+                    length += 4;
+                    stringLength = b.getInt();
+                    break;
+                case ValueTypeModel.STRING_UTF8_UINT8:
+                    length += 1;
+                    stringLength = readUnsignedByte(b);
+                    break;
+                default:
+                    assert false; //unreachable
+            }
+        }
+        skip(b, stringLength);
+    }
+
+    private void skipArray(final ByteBuffer b) {
+        final int size = readUnsignedByte(b);
+        length += size; //elements types
+        for (int i = 0; i < size; i++) {
+            final ArrayValueModel model = readArrayValueModel(b);
+            switch (model) {
+                case STRING_ASCII_UINT8_LENGTH:
+                case STRING_UTF8_UINT8_LENGTH:
+                    length += model.getMinSize();
+                    skip(b, readUnsignedByte(b));
+                    break;
+                case STRING_ASCII_UINT16_LENGTH:
+                case STRING_UTF8_UINT16_LENGTH:
+                    length += model.getMinSize();
+                    skip(b, readUnsignedShort(b));
+                    break;
+                case STRING_UTF8_UINT32_LENGTH:
+                    length += model.getMinSize();
+                    skip(b, b.getInt());
+                    break;
+                default:
+                    skip(b, model.getMinSize());
+            }
+        }
+    }
+
+    synchronized void onMessage(final ByteBuffer message) {
         bandwithListener.onReceive(message.remaining());
         while (message.hasRemaining()) {
             final ByteBuffer b = prepareBuffer(message);
@@ -434,8 +629,12 @@ public class PonySDKWebDriver implements WebDriver {
                 final ServerToClientModel model = readModel(b);
                 length = 1;
                 try {
-                    final Object value = readModelValue(b, model.getTypeModel());
-                    onMessage(model, value);
+                    if (decodedModels == null || decodedModels.contains(model)) {
+                        final Object value = readModelValue(b, model.getTypeModel());
+                        onMessage(model, value);
+                    } else {
+                        skipModelValue(b, model.getTypeModel());
+                    }
                 } catch (final BufferUnderflowException e) {
                     b.position(position);
                     break loop;
@@ -493,8 +692,32 @@ public class PonySDKWebDriver implements WebDriver {
         if (model == ServerToClientModel.END) {
             onMessage(messageInConstruction);
             messageInConstruction.clear();
-        } else {
+            if (decodedModels != null) {
+                usedFrames = 0;
+                messageStamp++;
+            }
+        } else if (decodedModels == null) {
             messageInConstruction.add(new PonyFrame(model, value));
+        } else {
+            messageInConstruction.add(obtainFrame(model, value));
+            final int ordinal = model.ordinal();
+            if (messageStamps[ordinal] != messageStamp) {
+                messageStamps[ordinal] = messageStamp;
+                messageValues[ordinal] = value;
+            }
+        }
+    }
+
+    private PonyFrame obtainFrame(final ServerToClientModel model, final Object value) {
+        if (usedFrames < framePool.size()) {
+            final PonyFrame frame = framePool.get(usedFrames++);
+            frame.set(model, value);
+            return frame;
+        } else {
+            final PonyFrame frame = new PonyFrame(model, value);
+            framePool.add(frame);
+            usedFrames++;
+            return frame;
         }
     }
 
@@ -506,15 +729,28 @@ public class PonySDKWebDriver implements WebDriver {
         messageListener.onReceiveMessage(message);
     }
 
+    /**
+     * In lazy mode, only the message currently received can be used
+     */
     public PonyWebElement findElement(final List<PonyFrame> message) {
-        Object id = findValueForModel(message, ServerToClientModel.TYPE_UPDATE);
+        Object id = getValue(message, ServerToClientModel.TYPE_UPDATE);
         if (id == null) {
-            id = findValueForModel(message, ServerToClientModel.TYPE_CREATE);
+            id = getValue(message, ServerToClientModel.TYPE_CREATE);
             if (id == null) return null;
         }
         return elements.get(id);
     }
 
+    /**
+     * Gets the value of the model in the message currently received, using the index of the message in lazy mode
+     * instead of scanning it
+     */
+    private Object getValue(final List<PonyFrame> message, final ServerToClientModel model) {
+        if (decodedModels == null) return findValueForModel(message, model);
+        final int ordinal = model.ordinal();
+        return messageStamps[ordinal] == messageStamp ? messageValues[ordinal] : null;
+    }
+
     public static Object findValueForModel(final List<PonyFrame> message, final ServerToClientModel model) {
         for (final PonyFrame event : message) {
             if (event.model == model) return event.getValue();
@@ -550,7 +786,7 @@ public class PonySDKWebDriver implements WebDriver {
         return buffer.getShort() & 0xFFFF;
     }
 
-    private void sendTypeHistory(final String value) {
+    public void sendTypeHistory(final String value) {
         sendApplicationInstruction(Json.createObjectBuilder().add(ClientToServerModel.TYPE_HISTORY.toStringValue(), value).build());
     }
 
@@ -75,21 +75,36 @@ class WebsocketClient implements AutoCloseable {
     private final MessageHandler.Whole<ByteBuffer> handler;
     private final List<Extension> extensions;
     private final PonySessionListener sessionListener;
+    private final ClientManager clientManager;
 
     public WebsocketClient(final Whole<ByteBuffer> handler, final PonyBandwithListener bandwidthListener,
             final PonySessionListener sessionListener) {
+        this(handler, bandwidthListener, sessionListener, null);
+    }
+
+    /**
+     * @param clientManager The client runtime shared with other clients, or null to create one for each connection
+     */
+    public WebsocketClient(final Whole<ByteBuffer> handler, final PonyBandwithListener bandwidthListener,
+            final PonySessionListener sessionListener, final ClientManager clientManager) {
         super();
         this.handler = handler;
         this.extensions = List.of(new PonyDriverPerMessageDeflateExtension(bandwidthListener));
         this.sessionListener = sessionListener;
+        this.clientManager = clientManager;
     }
 
     public void connect(final URI uri) throws Exception {
         if (session != null) session.close();
         final ClientEndpointConfig cec = ClientEndpointConfig.Builder.create().configurator(configurator).extensions(extensions)
             .build();
-        final ClientManager client = ClientManager.createClient();
-        client.getProperties().put(ClientProperties.REDIRECT_ENABLED, true);
+        final ClientManager client;
+        if (clientManager != null) {
+            client = clientManager;
+        } else {
+            client = ClientManager.createClient();
+            client.getProperties().put(ClientProperties.REDIRECT_ENABLED, true);
+        }
         final Lock lock = new ReentrantLock();
         final Condition condition = lock.newCondition();
         client.connectToServer(new Endpoint() {
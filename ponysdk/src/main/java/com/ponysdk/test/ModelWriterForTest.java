@@ -5,6 +5,7 @@ import com.ponysdk.core.server.application.UIContext;
 import com.ponysdk.core.ui.basic.PObject;
 import com.ponysdk.core.ui.basic.PWindow;
 import com.ponysdk.core.writer.ModelWriter;
+import com.ponysdk.core.writer.ModelWriterCallback;
 
 public class ModelWriterForTest extends ModelWriter {
     private PWindow window;
@@ -23,6 +24,15 @@ public class ModelWriterForTest extends ModelWriter {
     public void endObject() {
     }
 
+    @Override
+    public void stackUpdate(PObject object, ServerToClientModel model, ModelWriterCallback callback) {
+        // No transaction in tests : write the update immediately
+        beginObject(object.getWindow());
+        write(ServerToClientModel.TYPE_UPDATE, object.getID());
+        callback.doWrite(this);
+        endObject();
+    }
+
     @Override
     public PWindow getCurrentWindow() {
         return window;
@@ -33,6 +43,26 @@ public class ModelWriterForTest extends ModelWriter {
         write(model, null);
     }
 
+    @Override
+    public void write(ServerToClientModel model, boolean value) {
+        write(model, (Object) value);
+    }
+
+    @Override
+    public void write(ServerToClientModel model, int value) {
+        write(model, (Object) value);
+    }
+
+    @Override
+    public void write(ServerToClientModel model, long value) {
+        write(model, (Object) value);
+    }
+
+    @Override
+    public void write(ServerToClientModel model, double value) {
+        write(model, (Object) value);
+    }
+
     @Override
     public void write(ServerToClientModel model, Object value) {
         if (model == ServerToClientModel.TYPE_CREATE || model == ServerToClientModel.TYPE_UPDATE) {
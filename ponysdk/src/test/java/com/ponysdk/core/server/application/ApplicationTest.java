@@ -25,6 +25,7 @@ package com.ponysdk.core.server.application;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import javax.servlet.http.HttpSession;
@@ -33,6 +34,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.ponysdk.core.server.servlet.SessionManager;
+
 public class ApplicationTest {
 
     private Application application;
@@ -67,6 +70,10 @@ public class ApplicationTest {
         assertEquals(2, application.getUIContexts().size());
         assertEquals(uiContext1, application.getUIContext(uiContextID1));
         assertEquals(uiContext2, application.getUIContext(uiContextID2));
+        assertEquals(uiContext1, SessionManager.get().getUIContext(uiContextID1));
+        assertEquals(uiContext2, SessionManager.get().getUIContext(uiContextID2));
+
+        application.destroy();
     }
 
     /**
@@ -88,11 +95,13 @@ public class ApplicationTest {
         assertEquals(1, application.countUIContexts());
         assertEquals(1, application.getUIContexts().size());
         assertEquals(uiContext1, application.getUIContext(uiContextID1));
+        assertNull(SessionManager.get().getUIContext(uiContextID2));
 
         application.deregisterUIContext(uiContext1.getID());
 
         assertEquals(0, application.countUIContexts());
         assertTrue(application.getUIContexts().isEmpty());
+        assertNull(SessionManager.get().getUIContext(uiContextID1));
     }
 
     /**
@@ -109,6 +118,7 @@ public class ApplicationTest {
 
         assertEquals(0, application.countUIContexts());
         assertEquals(0, application.getUIContexts().size());
+        assertNull(SessionManager.get().getUIContext(uiContextID1));
     }
 
     /**
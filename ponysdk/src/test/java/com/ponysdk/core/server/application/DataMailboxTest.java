@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DataMailboxTest {
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.DataMailbox#offer(Object)}.
+     */
+    @Test
+    public void testOfferWithoutConflation() {
+        final DataMailbox mailbox = new DataMailbox(0);
+        assertTrue(mailbox.offer("a"));
+        assertFalse(mailbox.offer("a"));
+        assertFalse(mailbox.offerAll(List.of("b", "c")));
+
+        assertEquals(List.of("a", "a", "b", "c"), new ArrayList<>(mailbox.drain()));
+        assertEquals(0, mailbox.size());
+        assertEquals(0, mailbox.getConflatedCount());
+        assertTrue(mailbox.offer("d"));
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.DataMailbox#setKeyProvider(java.util.function.Function)}.
+     */
+    @Test
+    public void testConflation() {
+        final DataMailbox mailbox = new DataMailbox(0);
+        mailbox.setKeyProvider(data -> ((String) data).startsWith("-") ? null : ((String) data).substring(0, 1));
+
+        mailbox.offer("a1");
+        mailbox.offer("b1");
+        mailbox.offer("-x");
+        mailbox.offer("a2");
+        mailbox.offer("-x");
+        mailbox.offerAll(List.of("c1", "b2", "a3"));
+
+        assertEquals(5, mailbox.size());
+        assertEquals(3, mailbox.getConflatedCount());
+        assertEquals(List.of("a3", "b2", "-x", "-x", "c1"), new ArrayList<>(mailbox.drain()));
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.DataMailbox#DataMailbox(int)}.
+     */
+    @Test
+    public void testCapacity() {
+        final DataMailbox mailbox = new DataMailbox(4);
+        mailbox.offerAll(List.of("a", "b", "c", "d", "e", "f"));
+        assertEquals(4, mailbox.size());
+        assertEquals(2, mailbox.getDroppedCount());
+
+        // The capacity is halved while the delivery is postponed
+        mailbox.postpone();
+        assertEquals(List.of("e", "f"), new ArrayList<>(mailbox.drain()));
+        assertEquals(4, mailbox.getDroppedCount());
+
+        mailbox.offerAll(List.of("g", "h", "i", "j"));
+        assertEquals(List.of("g", "h", "i", "j"), new ArrayList<>(mailbox.drain()));
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.DataMailbox#unschedule()}.
+     */
+    @Test
+    public void testUnschedule() {
+        final DataMailbox mailbox = new DataMailbox(0);
+        assertTrue(mailbox.offer("a"));
+        assertFalse(mailbox.offer("b"));
+        mailbox.unschedule();
+        assertTrue(mailbox.offer("c"));
+        assertEquals(3, mailbox.size());
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.DataMailbox#postpone()}.
+     */
+    @Test
+    public void testPostpone() {
+        final DataMailbox mailbox = new DataMailbox(0);
+        long expected = DataMailbox.MIN_POSTPONE_DELAY_MILLIS;
+        for (int i = 0; i < 20; i++) {
+            assertEquals(expected, mailbox.postpone());
+            expected = Math.min(expected * 2, DataMailbox.MAX_POSTPONE_DELAY_MILLIS);
+        }
+        mailbox.drain();
+        assertEquals(DataMailbox.MIN_POSTPONE_DELAY_MILLIS, mailbox.postpone());
+    }
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.ponysdk.core.server.concurrent.VirtualThreads;
+import com.ponysdk.core.server.stm.TxnContext;
+import com.ponysdk.core.server.websocket.WebSocket;
+
+public class UIContextTest {
+
+    private WebSocket socket;
+    private UIContext uiContext;
+
+    @Before
+    public void setUp() {
+        socket = Mockito.mock(WebSocket.class);
+        uiContext = new UIContext(socket, new TxnContext(socket), Mockito.mock(ApplicationConfiguration.class),
+            Mockito.mock(ServletUpgradeRequest.class));
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#submit(Runnable)}.
+     */
+    @Test
+    public void testSubmitDoesNotBlockAndBatches() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(11);
+        final List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        assertTrue(uiContext.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertEquals(uiContext, UIContext.get());
+            done.countDown();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // The UIContext is busy, the producer must not wait for it
+        for (int i = 0; i < 10; i++) {
+            final int index = i;
+            assertTrue(uiContext.submit(() -> {
+                executed.add(index);
+                done.countDown();
+            }));
+        }
+        assertTrue(executed.isEmpty());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), executed);
+        // The tasks queued while the UIContext was busy are run in the same transaction
+        Mockito.verify(socket, Mockito.timeout(5000).times(1)).flush();
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#submit(Runnable)}.
+     */
+    @Test
+    public void testSubmitRejectsWhenFull() throws InterruptedException {
+        final ApplicationConfiguration configuration = new ApplicationConfiguration();
+        configuration.setMaxPendingTasks(2);
+        final UIContext boundedContext = new UIContext(socket, new TxnContext(socket), configuration,
+            Mockito.mock(ServletUpgradeRequest.class));
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        assertTrue(boundedContext.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final CountDownLatch done = new CountDownLatch(1);
+        assertTrue(boundedContext.submit(done::countDown));
+        assertFalse(boundedContext.submit(done::countDown));
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        boundedContext.destroy();
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#execute(Runnable)}.
+     */
+    @Test
+    public void testExecute() {
+        final List<UIContext> contexts = new CopyOnWriteArrayList<>();
+        assertTrue(uiContext.execute(() -> contexts.add(UIContext.get())));
+        assertEquals(List.of(uiContext), contexts);
+
+        assertFalse(uiContext.execute(() -> {
+            throw new IllegalStateException("Unit test");
+        }));
+
+        // Run at once from the UIContext itself
+        assertTrue(uiContext.execute(() -> assertTrue(uiContext.execute(() -> contexts.add(UIContext.get())))));
+        assertEquals(List.of(uiContext, uiContext), contexts);
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#executeAndWait(Runnable)}.
+     */
+    @Test
+    public void testExecuteAndWait() {
+        final List<UIContext> contexts = new CopyOnWriteArrayList<>();
+        assertTrue(uiContext.executeAndWait(() -> contexts.add(UIContext.get())));
+        assertEquals(List.of(uiContext), contexts);
+
+        assertFalse(uiContext.executeAndWait(() -> {
+            throw new IllegalStateException("Unit test");
+        }));
+
+        uiContext.destroy();
+        assertFalse(uiContext.isAlive());
+        assertFalse(uiContext.execute(() -> contexts.add(UIContext.get())));
+        assertFalse(uiContext.executeAndWait(() -> contexts.add(UIContext.get())));
+        assertEquals(1, contexts.size());
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#execute(Runnable)} between UIContexts : more
+     * UIContexts than threads of the Scheduler call each other from their own tasks without waiting for each other.
+     */
+    @Test
+    public void testExecuteFromOtherContexts() throws InterruptedException {
+        final int count = Runtime.getRuntime().availableProcessors() + 1;
+        final List<UIContext> contexts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contexts.add(new UIContext(socket, new TxnContext(socket), Mockito.mock(ApplicationConfiguration.class),
+                Mockito.mock(ServletUpgradeRequest.class)));
+        }
+
+        final CountDownLatch done = new CountDownLatch(count);
+        final List<UIContext> executed = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final UIContext next = contexts.get((i + 1) % count);
+            assertTrue(contexts.get(i).submit(() -> assertTrue(next.execute(() -> {
+                executed.add(UIContext.get());
+                done.countDown();
+            }))));
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(executed.containsAll(contexts));
+
+        contexts.forEach(UIContext::destroy);
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.ApplicationConfiguration#setEnableVirtualThreads(boolean)}.
+     */
+    @Test
+    public void testExecuteOnVirtualThreads() throws InterruptedException {
+        final ApplicationConfiguration configuration = new ApplicationConfiguration();
+        configuration.setEnableVirtualThreads(true);
+        final UIContext virtualContext = new UIContext(socket, new TxnContext(socket), configuration,
+            Mockito.mock(ServletUpgradeRequest.class));
+
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        assertTrue(virtualContext.submit(() -> {
+            threads.add(Thread.currentThread());
+            done.countDown();
+        }));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(virtualContext.executeAndWait(() -> threads.add(Thread.currentThread())));
+
+        assertEquals(2, threads.size());
+        for (final Thread thread : threads) {
+            assertEquals(VirtualThreads.isSupported(), isVirtual(thread));
+        }
+        virtualContext.destroy();
+    }
+
+    private static boolean isVirtual(final Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (final ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#pushToClient(Object)}.
+     */
+    @Test
+    public void testPushToClientConflatesWhileCongested() throws InterruptedException {
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        uiContext.addDataListener(received::add);
+        uiContext.setDataConflationKeyProvider(data -> ((String) data).substring(0, 1));
+
+        Mockito.when(socket.getPendingFlushSize()).thenReturn(1 << 20);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(uiContext.pushToClient("a" + i));
+            assertTrue(uiContext.pushToClient("b" + i));
+        }
+        Thread.sleep(100);
+        assertTrue(received.isEmpty());
+        assertEquals(2, uiContext.getPendingDataCount());
+        assertEquals(198, uiContext.getConflatedDataCount());
+
+        Mockito.when(socket.getPendingFlushSize()).thenReturn(0);
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (received.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("a99", "b99"), received);
+        assertEquals(0, uiContext.getPendingDataCount());
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.application.UIContext#pushToClient(List)} : each data is delivered
+     * to all the listeners, even if one of them fails.
+     */
+    @Test
+    public void testPushToClientIsolatesListeners() throws InterruptedException {
+        final List<Object> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(4);
+        uiContext.addDataListener(data -> {
+            done.countDown();
+            if ("a".equals(data)) throw new IllegalStateException("Unit test");
+            received.add(data);
+        });
+        uiContext.addDataListener(data -> {
+            received.add(data);
+            done.countDown();
+        });
+
+        assertTrue(uiContext.pushToClient(List.of("a", "b")));
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b", "b"), received);
+    }
+
+}
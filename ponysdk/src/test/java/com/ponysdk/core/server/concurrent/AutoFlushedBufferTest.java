@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AutoFlushedBufferTest {
+
+    private static final String[] STRINGS = { "", "a", "Last price", "Dernière cotation €", "日本語のテキスト", "emoji 😀 !",
+                                              "lone \uD800 high", "lone \uDC00 low", "end \uD83D" };
+
+    private ByteArrayOutputStream flushed;
+    private AutoFlushedBuffer buffer;
+    private ExecutorService flusher;
+
+    @Before
+    public void setUp() {
+        flushed = new ByteArrayOutputStream();
+        // Small buffer to go through the auto flushes and the end of the ring buffer
+        buffer = new AutoFlushedBuffer(64, false, 16, 0.25f, TimeUnit.SECONDS.toMillis(1)) {
+
+            @Override
+            protected void doFlush(final ByteBuffer bufferToFlush) {
+                while (bufferToFlush.hasRemaining()) {
+                    flushed.write(bufferToFlush.get());
+                }
+                onFlushCompletion();
+            }
+
+            @Override
+            protected void closeFlusher() {
+                // Nothing to do
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        if (flusher != null) flusher.shutdownNow();
+    }
+
+    /**
+     * Test method for {@link AutoFlushedBuffer#utf8Length(String)}.
+     */
+    @Test
+    public void testUtf8Length() {
+        for (final String s : STRINGS) {
+            assertEquals(s, s.getBytes(StandardCharsets.UTF_8).length, AutoFlushedBuffer.utf8Length(s));
+        }
+    }
+
+    /**
+     * Test method for {@link AutoFlushedBuffer#putUTF8(String)}.
+     */
+    @Test
+    public void testPutUTF8() throws IOException {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 20; i++) {
+            for (final String s : STRINGS) {
+                // Shift the position in the buffer, so the chars are split at every possible offset
+                buffer.put((byte) i);
+                expected.write(i);
+                buffer.putUTF8(s);
+                expected.write(s.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        buffer.flush();
+
+        assertArrayEquals(expected.toByteArray(), flushed.toByteArray());
+    }
+
+    /**
+     * Test method for {@link AutoFlushedBuffer#AutoFlushedBuffer(ByteBufferPool, int, float, long)}.
+     */
+    @Test
+    public void testElasticBuffer() throws Exception {
+        final ByteBufferPool pool = new ByteBufferPool(64, 256, false, 1024, 0);
+        flusher = Executors.newSingleThreadExecutor();
+        // Asynchronous flushes, slower than the writes so they fill the buffer
+        buffer = new AutoFlushedBuffer(pool, 16, 0.25f, TimeUnit.SECONDS.toMillis(5)) {
+
+            @Override
+            protected void doFlush(final ByteBuffer bufferToFlush) {
+                flusher.execute(() -> {
+                    while (bufferToFlush.hasRemaining()) {
+                        flushed.write(bufferToFlush.get());
+                    }
+                    onFlushCompletion();
+                });
+            }
+
+            @Override
+            protected void closeFlusher() {
+                // Nothing to do
+            }
+        };
+        assertEquals(64, buffer.getBufferSize());
+        assertEquals(64, pool.getLeasedBytes());
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 2000; i++) {
+            buffer.putInt(i);
+            buffer.putUTF8(STRINGS[i % STRINGS.length]);
+            expected.write(i >>> 24);
+            expected.write(i >>> 16);
+            expected.write(i >>> 8);
+            expected.write(i);
+            expected.write(STRINGS[i % STRINGS.length].getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(256, buffer.getBufferSize());
+        assertEquals(256, pool.getLeasedBytes());
+
+        buffer.flush();
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (flushed.size() < expected.size() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        flusher.submit(() -> null).get();
+        assertArrayEquals(expected.toByteArray(), flushed.toByteArray());
+
+        // Drained and not full anymore, the buffer goes back to its initial size on next flush
+        buffer.flush();
+        assertEquals(64, buffer.getBufferSize());
+        assertEquals(64, pool.getLeasedBytes());
+        assertTrue(pool.getRetainedBytes() >= 256);
+
+        buffer.close();
+        assertEquals(0, pool.getLeasedBytes());
+    }
+
+    /**
+     * Test method for {@link AutoFlushedBuffer#AutoFlushedBuffer(ByteBufferPool, int, float, long)}.
+     */
+    @Test
+    public void testGrowDuringFlush() throws Exception {
+        final ByteBufferPool pool = new ByteBufferPool(64, 256, false, 1024, 0);
+        final ByteBuffer[] pendingFlush = new ByteBuffer[1];
+        // The flushes only complete when the test says so : the buffer must grow without waiting for them
+        buffer = new AutoFlushedBuffer(pool, 16, 0.25f, 0) {
+
+            @Override
+            protected void doFlush(final ByteBuffer bufferToFlush) {
+                pendingFlush[0] = bufferToFlush;
+            }
+
+            @Override
+            protected void closeFlusher() {
+                // Nothing to do
+            }
+        };
+
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 150; i++) {
+            buffer.put((byte) i);
+            expected.write(i);
+        }
+        assertEquals(128, buffer.getBufferSize());
+        assertEquals(64 + 128, pool.getLeasedBytes());
+        assertTrue(buffer.getPendingFlushSize() <= 150);
+
+        buffer.flush();
+        while (pendingFlush[0] != null) {
+            final ByteBuffer bufferToFlush = pendingFlush[0];
+            pendingFlush[0] = null;
+            while (bufferToFlush.hasRemaining()) {
+                flushed.write(bufferToFlush.get());
+            }
+            buffer.onFlushCompletion();
+        }
+        assertArrayEquals(expected.toByteArray(), flushed.toByteArray());
+        // The previous buffer is given back once it is flushed
+        assertEquals(128, pool.getLeasedBytes());
+        assertEquals(64, pool.getRetainedBytes());
+        assertEquals(0, buffer.getPendingFlushSize());
+    }
+
+}
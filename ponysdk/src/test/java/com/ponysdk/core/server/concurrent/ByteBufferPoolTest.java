@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferPoolTest {
+
+    /**
+     * Test method for {@link ByteBufferPool#acquire(int)} and {@link ByteBufferPool#release(ByteBuffer)}.
+     */
+    @Test
+    public void testAcquireRelease() {
+        final ByteBufferPool pool = new ByteBufferPool(32, 128, false, 64, 0);
+
+        final ByteBuffer buffer = pool.acquire(64);
+        assertEquals(64, buffer.capacity());
+        assertEquals(64, pool.getLeasedBytes());
+        assertEquals(1, pool.getAllocationCount());
+
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        assertEquals(0, pool.getLeasedBytes());
+        assertEquals(64, pool.getRetainedBytes());
+
+        final ByteBuffer reused = pool.acquire(64);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(1, pool.getReuseCount());
+        assertEquals(0, pool.getRetainedBytes());
+
+        // Another size class
+        assertEquals(32, pool.acquire(32).capacity());
+        assertEquals(2, pool.getAllocationCount());
+    }
+
+    /**
+     * Test method for {@link ByteBufferPool#release(ByteBuffer)}.
+     */
+    @Test
+    public void testMaxRetainedBytes() {
+        final ByteBufferPool pool = new ByteBufferPool(32, 128, false, 64, 0);
+        pool.release(pool.acquire(128));
+        assertEquals(0, pool.getRetainedBytes());
+        pool.release(pool.acquire(64));
+        assertEquals(64, pool.getRetainedBytes());
+    }
+
+    /**
+     * Test method for {@link ByteBufferPool#discard(ByteBuffer)}.
+     */
+    @Test
+    public void testDiscard() {
+        final ByteBufferPool pool = new ByteBufferPool(32, 128, false, 64, 0);
+        pool.discard(pool.acquire(32));
+        assertEquals(0, pool.getLeasedBytes());
+        assertEquals(0, pool.getRetainedBytes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAcquireInvalidSize() {
+        new ByteBufferPool(32, 128, false, 64, 0).acquire(48);
+    }
+
+}
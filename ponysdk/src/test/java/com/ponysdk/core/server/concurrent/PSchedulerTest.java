@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.ponysdk.core.server.application.ApplicationConfiguration;
+import com.ponysdk.core.server.application.UIContext;
+import com.ponysdk.core.server.concurrent.PScheduler.UIRunnable;
+import com.ponysdk.core.server.stm.TxnContext;
+import com.ponysdk.core.server.websocket.WebSocket;
+
+public class PSchedulerTest {
+
+    private UIContext uiContext;
+
+    @Before
+    public void setUp() {
+        final WebSocket socket = Mockito.mock(WebSocket.class);
+        uiContext = new UIContext(socket, new TxnContext(socket), Mockito.mock(ApplicationConfiguration.class),
+            Mockito.mock(ServletUpgradeRequest.class));
+    }
+
+    @After
+    public void tearDown() {
+        uiContext.destroy();
+    }
+
+    /**
+     * Test method for {@link PScheduler#scheduleAtFixedRate(UIContext, Runnable, Duration)} : a single run is queued
+     * while the UIContext is busy, and a run cancelled while queued is not run.
+     */
+    @Test
+    public void testFixedRateWhileBusy() throws InterruptedException {
+        final CountDownLatch release = blockUIContext();
+        final AtomicInteger runs = new AtomicInteger();
+        final AtomicReference<UIRunnable> uiRunnable = new AtomicReference<>();
+        uiRunnable.set(PScheduler.scheduleAtFixedRate(uiContext, () -> {
+            runs.incrementAndGet();
+            uiRunnable.get().cancel();
+        }, Duration.ofMillis(10)));
+
+        Thread.sleep(200);
+        release.countDown();
+        Thread.sleep(200);
+        assertEquals(1, runs.get());
+    }
+
+    /**
+     * Test method for {@link PScheduler#scheduleWithFixedDelay(UIContext, Runnable, Duration, Duration)} : the delay
+     * counts from the end of the previous run, queued in the UIContext.
+     */
+    @Test
+    public void testFixedDelay() throws InterruptedException {
+        final CountDownLatch release = blockUIContext();
+        final CountDownLatch done = new CountDownLatch(2);
+        final AtomicInteger runs = new AtomicInteger();
+        final UIRunnable uiRunnable = PScheduler.scheduleWithFixedDelay(uiContext, () -> {
+            runs.incrementAndGet();
+            done.countDown();
+        }, Duration.ZERO, Duration.ofMillis(100));
+
+        Thread.sleep(300);
+        assertEquals(0, runs.get());
+        release.countDown();
+        Thread.sleep(50);
+        assertEquals(1, runs.get());
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        uiRunnable.cancel();
+    }
+
+    private CountDownLatch blockUIContext() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        assertTrue(uiContext.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+public class VirtualThreadsTest {
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.concurrent.VirtualThreads#isSupported()}.
+     */
+    @Test
+    public void testIsSupported() {
+        assertEquals(Runtime.version().major() >= 21, VirtualThreads.isSupported());
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.concurrent.VirtualThreads#newThreadPerTaskExecutor(String)}.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNewThreadPerTaskExecutorUnsupported() {
+        Assume.assumeFalse(VirtualThreads.isSupported());
+        VirtualThreads.newThreadPerTaskExecutor("test");
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.concurrent.VirtualThreads#newThreadPerTaskExecutor(String)}.
+     */
+    @Test
+    public void testNewThreadPerTaskExecutor() throws Exception {
+        Assume.assumeTrue(VirtualThreads.isSupported());
+        final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test");
+        final Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        assertTrue(thread.getName().startsWith("test-"));
+        executor.shutdown();
+        assertTrue(VirtualThreads.startPinningMonitor(java.time.Duration.ofMillis(20)));
+    }
+
+}
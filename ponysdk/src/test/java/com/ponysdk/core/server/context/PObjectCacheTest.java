@@ -30,6 +30,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class PObjectCacheTest extends PSuite {
 
@@ -52,4 +57,54 @@ public class PObjectCacheTest extends PSuite {
         assertEquals(uiObject1, cache.get(uiObjectId1));
     }
 
+    /**
+     * Test method for {@link com.ponysdk.core.server.context.PObjectCache#get(int)}.
+     */
+    @Test
+    public void testGetUnknown() {
+        assertNull(cache.get(-1));
+        assertNull(cache.get(0));
+        assertNull(cache.get(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.context.PObjectCache#add(com.ponysdk.core.ui.basic.PObject)}.
+     */
+    @Test
+    public void testAddOnSeveralPages() {
+        final List<PObject> objects = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            final PObject object = Element.newDiv();
+            objects.add(object);
+            cache.add(object);
+        }
+        assertEquals(objects.size(), cache.size());
+        for (final PObject object : objects) {
+            assertEquals(object, cache.get(object.getID()));
+        }
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.context.PObjectCache#expungeStaleEntries()}.
+     */
+    @Test
+    public void testExpungeStaleEntries() throws InterruptedException {
+        final PObject kept = Element.newDiv();
+        cache.add(kept);
+        for (int i = 0; i < 2000; i++) {
+            cache.add(Element.newDiv());
+        }
+
+        int expunged = 0;
+        for (int i = 0; i < 50 && expunged < 2000; i++) {
+            System.gc();
+            Thread.sleep(10);
+            expunged += cache.expungeStaleEntries();
+        }
+
+        assertTrue("Only " + expunged + " entries expunged", expunged == 2000);
+        assertEquals(1, cache.size());
+        assertEquals(kept, cache.get(kept.getID()));
+    }
+
 }
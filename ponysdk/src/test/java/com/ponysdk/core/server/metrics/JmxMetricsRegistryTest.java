@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class JmxMetricsRegistryTest {
+
+    private MBeanServer server;
+    private SessionMetrics metrics1;
+    private SessionMetrics metrics2;
+    private JmxMetricsRegistry registry;
+
+    @Before
+    public void setUp() {
+        server = MBeanServerFactory.newMBeanServer();
+        metrics1 = new SessionMetrics(1, () -> 3, () -> 1024);
+        metrics2 = new SessionMetrics(2, () -> 1, () -> 0);
+        registry = new JmxMetricsRegistry(server, new AggregatedMetrics(() -> Arrays.asList(metrics1, metrics2)));
+    }
+
+    @Test
+    public void testSessionMetrics() throws Exception {
+        registry.register(metrics1);
+        metrics1.recordRoundtripLatency(40);
+        metrics1.recordRoundtripLatency(60);
+        metrics1.recordCommitTime(TimeUnit.MICROSECONDS.toNanos(200));
+        metrics1.onMessageReceived();
+        metrics1.onInstructionsReceived(5);
+        metrics1.onInstructionSent();
+
+        final ObjectName name = JmxMetricsRegistry.getObjectName(metrics1);
+        assertEquals(1, server.getAttribute(name, "UIContextID"));
+        assertEquals(3, server.getAttribute(name, "QueuedTasks"));
+        assertEquals(1024, server.getAttribute(name, "PendingFlushSize"));
+        assertEquals(1L, server.getAttribute(name, "ReceivedMessageCount"));
+        assertEquals(5L, server.getAttribute(name, "ReceivedInstructionCount"));
+        assertEquals(1L, server.getAttribute(name, "SentInstructionCount"));
+
+        final CompositeData roundtripLatency = (CompositeData) server.getAttribute(name, "RoundtripLatency");
+        assertEquals(2L, roundtripLatency.get("count"));
+        assertEquals(50.0, (double) roundtripLatency.get("mean"), 0.001);
+        assertEquals(60L, roundtripLatency.get("max"));
+        final CompositeData commitTime = (CompositeData) server.getAttribute(name, "CommitTime");
+        assertEquals(200.0, (double) commitTime.get("mean"), 0.001);
+
+        registry.unregister(metrics1);
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testAggregatedMetrics() throws Exception {
+        metrics1.recordNetworkLatency(10);
+        metrics2.recordNetworkLatency(30);
+        metrics1.onMessageSent();
+        metrics2.onMessageSent();
+
+        final ObjectName name = new ObjectName(JmxMetricsRegistry.AGGREGATE_NAME);
+        assertTrue(server.isRegistered(name));
+        assertEquals(2, server.getAttribute(name, "SessionCount"));
+        assertEquals(4L, server.getAttribute(name, "QueuedTasks"));
+        assertEquals(2L, server.getAttribute(name, "SentMessageCount"));
+
+        final CompositeData networkLatency = (CompositeData) server.getAttribute(name, "NetworkLatency");
+        assertEquals(2L, networkLatency.get("count"));
+        assertEquals(20.0, (double) networkLatency.get("mean"), 0.001);
+        assertEquals(30L, networkLatency.get("max"));
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testIndexes() {
+        long previousLowestValue = -1;
+        for (int i = 0; i <= LatencyHistogram.indexOf(1L << 30); i++) {
+            final long lowestValue = LatencyHistogram.lowestValueAt(i);
+            assertTrue(lowestValue > previousLowestValue);
+            assertEquals(i, LatencyHistogram.indexOf(lowestValue));
+            assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.highestValueAt(i)));
+            previousLowestValue = lowestValue;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram(1L << 20);
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMean(), 0.001);
+        assertEquals(1000, snapshot.getMax());
+        assertEquals(500, snapshot.getP50(), 500 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(900, snapshot.getP90(), 900 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(990, snapshot.getP99(), 990 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertTrue(snapshot.getP999() <= snapshot.getMax());
+    }
+
+    @Test
+    public void testIntervalSnapshot() {
+        final LatencyHistogram histogram = new LatencyHistogram(1L << 20);
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(1000);
+        }
+        assertEquals(100, histogram.getIntervalSnapshot().getCount());
+
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(10);
+        }
+        final LatencySnapshot interval = histogram.getIntervalSnapshot();
+        assertEquals(10, interval.getCount());
+        assertEquals(10, interval.getMean(), 0.001);
+        assertEquals(10, interval.getMax());
+        assertEquals(10, interval.getP99());
+
+        assertEquals(0, histogram.getIntervalSnapshot().getCount());
+        assertEquals(110, histogram.getSnapshot().getCount());
+        assertEquals(1000, histogram.getSnapshot().getMax());
+    }
+
+    @Test
+    public void testOutOfRangeValues() {
+        final LatencyHistogram histogram = new LatencyHistogram(1000);
+        histogram.record(-10);
+        histogram.record(10_000);
+
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(4995, snapshot.getMean(), 0.001);
+        assertEquals(10_000, snapshot.getMax());
+        assertEquals(0, snapshot.getP50());
+    }
+
+    @Test
+    public void testAdd() {
+        final LatencyHistogram histogram1 = new LatencyHistogram(1000);
+        final LatencyHistogram histogram2 = new LatencyHistogram(1000);
+        histogram1.record(10);
+        histogram2.record(20);
+        histogram2.record(30);
+
+        final LatencyHistogram merged = new LatencyHistogram(1000);
+        merged.add(histogram1);
+        merged.add(histogram2);
+
+        final LatencySnapshot snapshot = merged.getSnapshot();
+        assertEquals(3, snapshot.getCount());
+        assertEquals(20, snapshot.getMean(), 0.001);
+        assertEquals(30, snapshot.getMax());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddIncompatible() {
+        new LatencyHistogram(1000).add(new LatencyHistogram(2000));
+    }
+
+    @Test
+    public void testEmpty() {
+        final LatencySnapshot snapshot = new LatencyHistogram(1000).getSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMean(), 0);
+        assertEquals(0, snapshot.getMax());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram(1L << 20);
+        final int threads = 4;
+        final int values = 100_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < values; i++) {
+                    histogram.record(i % 100);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        final LatencySnapshot snapshot = histogram.getSnapshot();
+        assertEquals(threads * values, snapshot.getCount());
+        assertEquals(49.5, snapshot.getMean(), 0.001);
+        assertEquals(99, snapshot.getMax());
+    }
+
+}
@@ -59,7 +59,7 @@ public class AjaxServletTest {
         final UIContext uiContext = Mockito.mock(UIContext.class);
         Mockito.when(uiContext.getID()).thenReturn(uiContextID);
         Mockito.when(uiContext.isAlive()).thenReturn(true);
-        Mockito.when(uiContext.execute(ArgumentMatchers.any(Runnable.class))).thenCallRealMethod();
+        Mockito.when(uiContext.executeAndWait(ArgumentMatchers.any(Runnable.class))).thenCallRealMethod();
         application.registerUIContext(uiContext);
         SessionManager.get().registerApplication(application);
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.servlet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.ServletConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.ponysdk.core.server.application.ApplicationConfiguration;
+
+public class BootstrapServletTest {
+
+    private static final String SCRIPT_PATH = "/ponyterminal/ponyterminal.nocache.js";
+    private static final byte[] SCRIPT = String.join("\n", Collections.nCopies(20, "function ponyterminal() { return 'ponyterminal'; }"))
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final BootstrapServlet servlet = new BootstrapServlet();
+    private ServletContext servletContext;
+
+    @Before
+    public void setUp() throws ServletException {
+        servletContext = Mockito.mock(ServletContext.class);
+        Mockito.when(servletContext.getMimeType(SCRIPT_PATH)).thenReturn("application/javascript");
+        Mockito.when(servletContext.getResourceAsStream(SCRIPT_PATH)).then(invocation -> new ByteArrayInputStream(SCRIPT));
+        final ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+        Mockito.when(servletConfig.getServletContext()).thenReturn(servletContext);
+        servlet.init(servletConfig);
+
+        final ApplicationConfiguration configuration = new ApplicationConfiguration();
+        configuration.setApplicationName("test");
+        servlet.setConfiguration(configuration);
+    }
+
+    @Test
+    public void testResourceLoadedOnce() throws IOException {
+        final ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+        servlet.handleRequest(mockRequest(null, null), mockResponse(firstOutput), SCRIPT_PATH);
+        final ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+        servlet.handleRequest(mockRequest(null, null), mockResponse(secondOutput), SCRIPT_PATH);
+
+        assertArrayEquals(SCRIPT, firstOutput.toByteArray());
+        assertArrayEquals(SCRIPT, secondOutput.toByteArray());
+        Mockito.verify(servletContext, Mockito.times(1)).getResourceAsStream(SCRIPT_PATH);
+        assertTrue(servlet.getResourceCacheSize() > SCRIPT.length);
+    }
+
+    @Test
+    public void testGzipVariant() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final HttpServletResponse response = mockResponse(output);
+        servlet.handleRequest(mockRequest("gzip, deflate", null), response, SCRIPT_PATH);
+
+        Mockito.verify(response).setHeader("Content-Encoding", "gzip");
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            assertArrayEquals(SCRIPT, input.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testNotModified() throws IOException {
+        final HttpServletResponse response = mockResponse(new ByteArrayOutputStream());
+        servlet.handleRequest(mockRequest(null, null), response, SCRIPT_PATH);
+        final ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(response).setHeader(Mockito.eq("ETag"), etag.capture());
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final HttpServletResponse notModifiedResponse = mockResponse(output);
+        servlet.handleRequest(mockRequest(null, etag.getValue()), notModifiedResponse, SCRIPT_PATH);
+        Mockito.verify(notModifiedResponse).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        assertEquals(0, output.size());
+
+        // The gzip variant has another ETag
+        final HttpServletResponse gzipResponse = mockResponse(new ByteArrayOutputStream());
+        servlet.handleRequest(mockRequest("gzip", etag.getValue()), gzipResponse, SCRIPT_PATH);
+        Mockito.verify(gzipResponse, Mockito.never()).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    }
+
+    @Test
+    public void testIndexHTML() throws IOException {
+        final ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+        servlet.handleRequest(mockRequest(null, null), mockResponse(firstOutput), "/index.html");
+        final ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+        servlet.handleRequest(mockRequest(null, null), mockResponse(secondOutput), "/index.html");
+
+        assertTrue(new String(firstOutput.toByteArray(), StandardCharsets.UTF_8).contains("<title>test</title>"));
+        assertArrayEquals(firstOutput.toByteArray(), secondOutput.toByteArray());
+    }
+
+    @Test
+    public void testIndexHTMLBuiltPerRequest() throws IOException, ServletException {
+        final int[] requests = new int[1];
+        final BootstrapServlet perRequestServlet = new BootstrapServlet() {
+
+            @Override
+            protected String addTitle(final HttpServletRequest request) {
+                return String.format(TITLE_PATTERN, "request " + ++requests[0]) + NEW_LINE;
+            }
+        };
+        final ServletConfig servletConfig = Mockito.mock(ServletConfig.class);
+        Mockito.when(servletConfig.getServletContext()).thenReturn(servletContext);
+        perRequestServlet.init(servletConfig);
+        perRequestServlet.setConfiguration(new ApplicationConfiguration());
+
+        final ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+        perRequestServlet.handleRequest(mockRequest(null, null), mockResponse(firstOutput), "/index.html");
+        final ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+        perRequestServlet.handleRequest(mockRequest(null, null), mockResponse(secondOutput), "/index.html");
+
+        assertTrue(new String(firstOutput.toByteArray(), StandardCharsets.UTF_8).contains("<title>request 1</title>"));
+        assertTrue(new String(secondOutput.toByteArray(), StandardCharsets.UTF_8).contains("<title>request 2</title>"));
+        assertEquals(0, perRequestServlet.getResourceCacheSize());
+    }
+
+    @Test
+    public void testResourceTooBigToBeCached() throws IOException {
+        servlet.setMaxCachedResourceSize(SCRIPT.length / 3);
+
+        final ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+        final HttpServletResponse response = mockResponse(firstOutput);
+        servlet.handleRequest(mockRequest("gzip", null), response, SCRIPT_PATH);
+        final ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+        servlet.handleRequest(mockRequest(null, null), mockResponse(secondOutput), SCRIPT_PATH);
+
+        // Streamed as is, never kept in memory
+        assertArrayEquals(SCRIPT, firstOutput.toByteArray());
+        assertArrayEquals(SCRIPT, secondOutput.toByteArray());
+        Mockito.verify(response, Mockito.never()).setHeader("Content-Encoding", "gzip");
+        Mockito.verify(servletContext, Mockito.times(2)).getResourceAsStream(SCRIPT_PATH);
+        assertEquals(0, servlet.getResourceCacheSize());
+    }
+
+    @Test
+    public void testNotFound() throws IOException {
+        final HttpServletResponse response = mockResponse(new ByteArrayOutputStream());
+        servlet.handleRequest(mockRequest(null, null), response, "/unknown.js");
+        Mockito.verify(response).sendError(HttpServletResponse.SC_NOT_FOUND);
+    }
+
+    private static HttpServletRequest mockRequest(final String acceptEncoding, final String ifNoneMatch) {
+        final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(request.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+        Mockito.when(request.getHeader("If-None-Match")).thenReturn(ifNoneMatch);
+        Mockito.when(request.getDateHeader("If-Modified-Since")).thenReturn(-1L);
+        return request;
+    }
+
+    private static HttpServletResponse mockResponse(final ByteArrayOutputStream output) throws IOException {
+        final HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
+        Mockito.when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(final int b) {
+                output.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+            }
+        });
+        return response;
+    }
+
+}
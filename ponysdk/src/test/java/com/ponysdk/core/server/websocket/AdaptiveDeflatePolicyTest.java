@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveDeflatePolicyTest {
+
+    private final AtomicBoolean cpuPressure = new AtomicBoolean();
+    private AdaptiveDeflatePolicy policy;
+
+    @Before
+    public void setUp() {
+        policy = new AdaptiveDeflatePolicy(100, 1, 6, cpuPressure::get);
+    }
+
+    @Test
+    public void testSkipSmallMessages() {
+        assertFalse(policy.shouldCompress(99));
+        assertTrue(policy.shouldCompress(100));
+
+        final DeflateStats stats = policy.getStats();
+        assertEquals(1, stats.getSkippedMessages());
+        assertEquals(99, stats.getSkippedBytes());
+        assertTrue(stats.isEnabled());
+    }
+
+    @Test
+    public void testStats() {
+        compress(1000, 250, 1000);
+
+        final DeflateStats stats = policy.getStats();
+        assertEquals(AdaptiveDeflatePolicy.EVALUATION_PERIOD, stats.getCompressedMessages());
+        assertEquals(0.25, stats.getRatio(), 0.001);
+        assertEquals(750L * AdaptiveDeflatePolicy.EVALUATION_PERIOD, stats.getSavedBytes());
+        assertEquals(1000L * AdaptiveDeflatePolicy.EVALUATION_PERIOD, stats.getCpuNanos());
+    }
+
+    @Test
+    public void testLowerLevelWhenExpensive() {
+        compress(1024, 100, TimeUnit.MICROSECONDS.toNanos(100));
+        assertEquals(5, policy.getLevel());
+
+        compress(1024, 100, TimeUnit.MICROSECONDS.toNanos(1));
+        assertEquals(6, policy.getLevel());
+    }
+
+    @Test
+    public void testDisableWhenPoorRatio() {
+        compress(1000, 950, 1000);
+        assertEquals(1, policy.getLevel());
+        assertFalse(policy.getStats().isEnabled());
+
+        for (int i = 0; i < AdaptiveDeflatePolicy.DISABLED_MESSAGES; i++) {
+            assertFalse(policy.shouldCompress(1000));
+        }
+        assertTrue(policy.shouldCompress(1000));
+    }
+
+    @Test
+    public void testCpuPressure() {
+        compress(1000, 600, 1000);
+        assertEquals(6, policy.getLevel());
+
+        cpuPressure.set(true);
+        assertFalse(policy.shouldCompress(1000));
+        assertEquals(1, policy.getLevel());
+        assertFalse(policy.getStats().isEnabled());
+
+        cpuPressure.set(false);
+        assertTrue(policy.shouldCompress(1000));
+        assertEquals(6, policy.getLevel());
+    }
+
+    @Test
+    public void testCpuPressureWithGoodRatio() {
+        compress(1000, 200, 1000);
+
+        cpuPressure.set(true);
+        assertTrue(policy.shouldCompress(1000));
+        assertEquals(1, policy.getLevel());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidLevels() {
+        new AdaptiveDeflatePolicy(100, 6, 1, cpuPressure::get);
+    }
+
+    private void compress(final int input, final int output, final long nanos) {
+        for (int i = 0; i < AdaptiveDeflatePolicy.EVALUATION_PERIOD; i++) {
+            assertTrue(policy.shouldCompress(input));
+            policy.onCompressionInput(input);
+            policy.onCompressionOutput(output, nanos, true);
+        }
+    }
+
+}
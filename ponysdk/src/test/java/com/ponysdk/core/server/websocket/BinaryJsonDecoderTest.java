@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map.Entry;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+import org.junit.Test;
+
+import com.ponysdk.core.model.ClientToServerModel;
+import com.ponysdk.core.model.JsonValueTypeModel;
+
+public class BinaryJsonDecoderTest {
+
+    private final JsonProvider provider = JsonProvider.provider();
+    private final BinaryJsonDecoder decoder = new BinaryJsonDecoder(provider);
+
+    /**
+     * Test method for {@link BinaryJsonDecoder#decode(byte[], int, int)}.
+     */
+    @Test
+    public void testDecode() throws IOException {
+        final String json = "{\"5\":[{\"0\":12,\"e\":{\"x\":-3,\"y\":1.5,\"date\":1600000000000},\"j\":\"Dernière cotation €\"},"
+                + "{\"0\":13,\"V\":true,\"a\":false,\"k\":null,\"n\":[1,\"2\",[]]}]}";
+        final JsonObject expected;
+        try (JsonReader reader = provider.createReader(new StringReader(json))) {
+            expected = reader.readObject();
+        }
+
+        final byte[] message = encode(expected);
+        final JsonObject decoded = decoder.decode(message, 0, message.length);
+        assertEquals(expected, decoded);
+        assertEquals(decoded, expected);
+        assertEquals(expected.hashCode(), decoded.hashCode());
+        assertEquals(1600000000000L, decoded.getJsonArray(ClientToServerModel.APPLICATION_INSTRUCTIONS.toStringValue())
+            .getJsonObject(0).getJsonObject(ClientToServerModel.EVENT_INFO.toStringValue()).getJsonNumber("date").longValue());
+    }
+
+    /**
+     * Test method for {@link BinaryJsonObject#toString()}.
+     */
+    @Test
+    public void testToString() throws IOException {
+        final String json = "{\"0\":12,\"e\":{\"quote\\\"d\":\"a\\\\b\",\"n\":[1.5,null]},\"V\":true}";
+        final JsonObject expected;
+        try (JsonReader reader = provider.createReader(new StringReader(json))) {
+            expected = reader.readObject();
+        }
+
+        final byte[] message = encode(expected);
+        final JsonObject decoded = decoder.decode(message, 0, message.length);
+        try (JsonReader reader = provider.createReader(new StringReader(decoded.toString()))) {
+            assertEquals(expected, reader.readObject());
+        }
+        assertEquals(12, decoded.getInt(ClientToServerModel.OBJECT_ID.toStringValue()));
+        assertEquals(-1, decoded.getInt("missing", -1));
+        assertEquals(true, decoded.getBoolean("V"));
+    }
+
+    /**
+     * Test method for {@link BinaryJsonDecoder#decode(byte[], int, int)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeNotAnObject() throws IOException {
+        final byte[] message = { JsonValueTypeModel.NULL.getValue() };
+        decoder.decode(message, 0, message.length);
+    }
+
+    // Same encoding as the terminal WriterBuffer
+    private static byte[] encode(final JsonValue value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        write(new DataOutputStream(bytes), value);
+        return bytes.toByteArray();
+    }
+
+    private static void write(final DataOutputStream out, final JsonValue value) throws IOException {
+        switch (value.getValueType()) {
+            case NULL:
+                out.writeByte(JsonValueTypeModel.NULL.getValue());
+                break;
+            case FALSE:
+                out.writeByte(JsonValueTypeModel.BOOLEAN_FALSE.getValue());
+                break;
+            case TRUE:
+                out.writeByte(JsonValueTypeModel.BOOLEAN_TRUE.getValue());
+                break;
+            case NUMBER:
+                final JsonNumber number = (JsonNumber) value;
+                if (number.isIntegral() && number.longValue() == number.intValue()) {
+                    out.writeByte(JsonValueTypeModel.INTEGER.getValue());
+                    out.writeInt(number.intValue());
+                } else {
+                    out.writeByte(JsonValueTypeModel.DOUBLE.getValue());
+                    out.writeDouble(number.doubleValue());
+                }
+                break;
+            case STRING:
+                out.writeByte(JsonValueTypeModel.STRING.getValue());
+                writeString(out, ((JsonString) value).getString());
+                break;
+            case ARRAY:
+                final JsonArray array = (JsonArray) value;
+                out.writeByte(JsonValueTypeModel.ARRAY.getValue());
+                out.writeInt(array.size());
+                for (final JsonValue item : array) {
+                    write(out, item);
+                }
+                break;
+            case OBJECT:
+                final JsonObject object = (JsonObject) value;
+                out.writeByte(JsonValueTypeModel.OBJECT.getValue());
+                out.writeInt(object.size());
+                for (final Entry<String, JsonValue> entry : object.entrySet()) {
+                    final ClientToServerModel model = findModel(entry.getKey());
+                    if (model != null) {
+                        out.writeByte(model.getValue());
+                    } else {
+                        out.writeByte(JsonValueTypeModel.STRING_KEY);
+                        writeString(out, entry.getKey());
+                    }
+                    write(out, entry.getValue());
+                }
+                break;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static ClientToServerModel findModel(final String key) {
+        for (final ClientToServerModel model : ClientToServerModel.values()) {
+            if (model.toStringValue().equals(key)) return model;
+        }
+        return null;
+    }
+
+}
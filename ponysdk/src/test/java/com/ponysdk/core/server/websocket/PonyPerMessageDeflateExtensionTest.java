@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import org.eclipse.jetty.io.MappedByteBufferPool;
+import org.eclipse.jetty.util.compression.DeflaterPool;
+import org.eclipse.jetty.util.compression.InflaterPool;
+import org.eclipse.jetty.websocket.api.BatchMode;
+import org.eclipse.jetty.websocket.api.WebSocketPolicy;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.api.extensions.ExtensionConfig;
+import org.eclipse.jetty.websocket.api.extensions.Frame;
+import org.eclipse.jetty.websocket.common.frames.BinaryFrame;
+import org.eclipse.jetty.websocket.common.frames.PingFrame;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class PonyPerMessageDeflateExtensionTest {
+
+    private final List<Frame> frames = new ArrayList<>();
+    private PonyPerMessageDeflateExtension extension;
+
+    @Before
+    public void setUp() {
+        PonyPerMessageDeflateExtension.setPolicyFactory(() -> new AdaptiveDeflatePolicy(100, 1, 6, () -> false));
+        extension = new PonyPerMessageDeflateExtension();
+        extension.init(WebSocketPolicy.newServerPolicy(), new MappedByteBufferPool());
+        extension.setDeflaterPool(new DeflaterPool(1, Deflater.DEFAULT_COMPRESSION, true));
+        extension.setInflaterPool(new InflaterPool(1, true));
+        extension.setConfig(ExtensionConfig.parse("permessage-deflate"));
+        extension.setNextOutgoingFrames((frame, callback, batchMode) -> {
+            frames.add(frame);
+            callback.writeSuccess();
+        });
+    }
+
+    @After
+    public void tearDown() {
+        PonyPerMessageDeflateExtension.setPolicyFactory(AdaptiveDeflatePolicy::new);
+    }
+
+    @Test
+    public void testSmallMessageNotCompressed() {
+        final byte[] payload = new byte[] { 1, 2, 3 };
+        final WriteCallback callback = Mockito.mock(WriteCallback.class);
+        extension.outgoingFrame(new BinaryFrame().setPayload(payload), callback, BatchMode.OFF);
+
+        assertEquals(1, frames.size());
+        assertFalse(frames.get(0).isRsv1());
+        final ByteBuffer sent = frames.get(0).getPayload();
+        final byte[] bytes = new byte[sent.remaining()];
+        sent.get(bytes);
+        assertArrayEquals(payload, bytes);
+        Mockito.verify(callback).writeSuccess();
+        assertEquals(1, extension.getStats().getSkippedMessages());
+    }
+
+    @Test
+    public void testLargeMessageCompressed() {
+        final WriteCallback callback = Mockito.mock(WriteCallback.class);
+        extension.outgoingFrame(new BinaryFrame().setPayload(new byte[4096]), callback, BatchMode.OFF);
+
+        assertEquals(1, frames.size());
+        assertTrue(frames.get(0).isRsv1());
+        assertTrue(frames.get(0).getPayloadLength() < 4096);
+        Mockito.verify(callback).writeSuccess();
+
+        final DeflateStats stats = extension.getStats();
+        assertEquals(1, stats.getCompressedMessages());
+        assertEquals(4096, stats.getInputBytes());
+        assertEquals(frames.get(0).getPayloadLength(), stats.getOutputBytes());
+        assertTrue(stats.getSavedBytes() > 0);
+
+        // The next small message is sent without compression
+        extension.outgoingFrame(new BinaryFrame().setPayload(new byte[] { 1 }), callback, BatchMode.OFF);
+        assertEquals(2, frames.size());
+        assertFalse(frames.get(1).isRsv1());
+    }
+
+    @Test
+    public void testControlFrame() {
+        extension.outgoingFrame(new PingFrame(), Mockito.mock(WriteCallback.class), BatchMode.OFF);
+
+        assertEquals(1, frames.size());
+        assertEquals(0, extension.getStats().getSkippedMessages());
+        assertEquals(0, extension.getStats().getCompressedMessages());
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ReplayBufferTest {
+
+    @Test
+    public void testRead() {
+        final ReplayBuffer replayBuffer = new ReplayBuffer(8);
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+        replayBuffer.append(buffer);
+        replayBuffer.append(ByteBuffer.wrap(new byte[] { 4, 5 }));
+
+        assertEquals(0, buffer.position());
+        assertEquals(5, replayBuffer.getEndOffset());
+        assertArrayEquals(new byte[] { 3, 4, 5 }, toArray(replayBuffer.read(2)));
+        assertArrayEquals(new byte[0], toArray(replayBuffer.read(5)));
+    }
+
+    @Test
+    public void testOverwriteOldestBytes() {
+        final ReplayBuffer replayBuffer = new ReplayBuffer(4);
+        replayBuffer.append(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+        replayBuffer.append(ByteBuffer.wrap(new byte[] { 4, 5, 6 }));
+
+        assertEquals(2, replayBuffer.getStartOffset());
+        assertFalse(replayBuffer.isReplayable(1));
+        assertArrayEquals(new byte[] { 3, 4, 5, 6 }, toArray(replayBuffer.read(2)));
+
+        replayBuffer.append(ByteBuffer.wrap(new byte[] { 7, 8, 9, 10, 11 }));
+        assertEquals(7, replayBuffer.getStartOffset());
+        assertArrayEquals(new byte[] { 8, 9, 10, 11 }, toArray(replayBuffer.read(7)));
+    }
+
+    @Test
+    public void testAcknowledge() {
+        final ReplayBuffer replayBuffer = new ReplayBuffer(8);
+        replayBuffer.append(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+        replayBuffer.acknowledge(2);
+        assertFalse(replayBuffer.isReplayable(1));
+        assertTrue(replayBuffer.isReplayable(2));
+
+        // Outdated and unknown offsets are ignored
+        replayBuffer.acknowledge(1);
+        replayBuffer.acknowledge(4);
+        assertEquals(2, replayBuffer.getAcknowledgedOffset());
+        assertFalse(replayBuffer.isReplayable(4));
+    }
+
+    @Test
+    public void testGrowOnDemand() {
+        final ReplayBuffer replayBuffer = new ReplayBuffer(1 << 20);
+        assertEquals(0, replayBuffer.getAllocatedSize());
+
+        final byte[] bytes = new byte[3000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        replayBuffer.append(ByteBuffer.wrap(bytes, 0, 1000));
+        final int allocatedSize = replayBuffer.getAllocatedSize();
+        assertTrue(allocatedSize >= 1000 && allocatedSize < 1 << 20);
+
+        replayBuffer.append(ByteBuffer.wrap(bytes, 1000, 2000));
+        assertTrue(replayBuffer.getAllocatedSize() >= 3000);
+        assertArrayEquals(bytes, toArray(replayBuffer.read(0)));
+
+        // The acknowledged bytes are overwritten instead of growing the buffer
+        replayBuffer.acknowledge(3000);
+        final int acknowledgedSize = replayBuffer.getAllocatedSize();
+        replayBuffer.append(ByteBuffer.wrap(bytes));
+        assertEquals(acknowledgedSize, replayBuffer.getAllocatedSize());
+        assertArrayEquals(bytes, toArray(replayBuffer.read(3000)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadNotReplayable() {
+        final ReplayBuffer replayBuffer = new ReplayBuffer(2);
+        replayBuffer.append(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+        replayBuffer.read(0);
+    }
+
+    private static byte[] toArray(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class StringDictionaryTest {
+
+    @Test
+    public void testLookup() {
+        final StringDictionary dictionary = new StringDictionary(4);
+        assertEquals(-1, dictionary.lookup("a"));
+        assertEquals(-2, dictionary.lookup("b"));
+        assertEquals(1, dictionary.lookup("a"));
+        assertEquals(2, dictionary.lookup("b"));
+        assertEquals(2, dictionary.size());
+        assertEquals(2, dictionary.getDefinitionCount());
+        assertEquals(2, dictionary.getReferenceCount());
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        final StringDictionary dictionary = new StringDictionary(2);
+        assertEquals(-1, dictionary.lookup("a"));
+        assertEquals(-2, dictionary.lookup("b"));
+        assertEquals(1, dictionary.lookup("a"));
+
+        // "b" is the least recently used, its id is reused
+        assertEquals(-2, dictionary.lookup("c"));
+        assertEquals(2, dictionary.size());
+        assertEquals(1, dictionary.lookup("a"));
+        assertEquals(2, dictionary.lookup("c"));
+        assertEquals(-1, dictionary.lookup("b"));
+    }
+
+    @Test
+    public void testLongStringNotStored() {
+        final StringDictionary dictionary = new StringDictionary(2);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= StringDictionary.MAX_ENTRY_LENGTH; i++) {
+            sb.append('a');
+        }
+        assertEquals(StringDictionary.NOT_STORED, dictionary.lookup(sb.toString()));
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new StringDictionary(0);
+    }
+
+}
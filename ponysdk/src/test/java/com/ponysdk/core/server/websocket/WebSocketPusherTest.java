@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.server.websocket;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.ponysdk.core.model.ServerToClientModel;
+
+public class WebSocketPusherTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private WebSocketPusher pusher;
+
+    @Before
+    public void setUp() {
+        pusher = new WebSocketPusher(Mockito.mock(Session.class), 1 << 16, 1 << 12, 1000) {
+
+            @Override
+            protected void doFlush(final ByteBuffer bufferToFlush) {
+                while (bufferToFlush.hasRemaining()) {
+                    output.write(bufferToFlush.get());
+                }
+                onFlushCompletion();
+            }
+        };
+        pusher.setStringDictionaryCapacity(16);
+    }
+
+    @Test
+    public void testDictionaryString() throws IOException {
+        pusher.encode(ServerToClientModel.WINDOW_ID, 1);
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) "abc");
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) "abc");
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) null);
+
+        final byte modelKey = key(ServerToClientModel.ADD_STYLE_NAME);
+        assertArrayEquals(new byte[] { key(ServerToClientModel.WINDOW_ID), 0, 1, //
+                                       modelKey, 0, 3, 3, 'a', 'b', 'c', // definition of the id 1
+                                       modelKey, 0, 2, // reference to the id 1
+                                       modelKey, 0, 0 }, // null
+            flush());
+    }
+
+    @Test
+    public void testDictionaryDisabledForFrame() throws IOException {
+        pusher.encode(ServerToClientModel.WINDOW_ID, 1);
+        pusher.encode(ServerToClientModel.FRAME_ID, 2);
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) "a");
+        pusher.encode(ServerToClientModel.END, null);
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) "a");
+
+        final byte modelKey = key(ServerToClientModel.ADD_STYLE_NAME);
+        assertArrayEquals(new byte[] { key(ServerToClientModel.WINDOW_ID), 0, 1, //
+                                       key(ServerToClientModel.FRAME_ID), 0, 2, //
+                                       modelKey, 0, 1, 1, 'a', // inline
+                                       key(ServerToClientModel.END), //
+                                       modelKey, 0, 3, 1, 'a' }, // definition of the id 1
+            flush());
+    }
+
+    @Test
+    public void testDictionaryDisabledForOtherWindow() throws IOException {
+        pusher.encode(ServerToClientModel.WINDOW_ID, 1);
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) "a");
+        pusher.encode(ServerToClientModel.WINDOW_ID, 5);
+        pusher.encode(ServerToClientModel.ADD_STYLE_NAME, (Object) "a");
+
+        final byte[] bytes = flush();
+        assertEquals(key(ServerToClientModel.ADD_STYLE_NAME), bytes[bytes.length - 5]);
+        assertArrayEquals(new byte[] { 0, 1, 1, 'a' }, new byte[] { bytes[bytes.length - 4], bytes[bytes.length - 3],
+                                                                     bytes[bytes.length - 2], bytes[bytes.length - 1] });
+        assertEquals(1, pusher.getStringDictionary().size());
+    }
+
+    @Test
+    public void testDictionaryDisabled() throws IOException {
+        pusher.setStringDictionaryCapacity(0);
+        pusher.encode(ServerToClientModel.EVAL, (Object) "a");
+        pusher.encode(ServerToClientModel.EVAL, (Object) "a");
+
+        final byte modelKey = key(ServerToClientModel.EVAL);
+        assertArrayEquals(new byte[] { modelKey, 0, 1, 1, 'a', modelKey, 0, 1, 1, 'a' }, flush());
+    }
+
+    @Test
+    public void testReplayAfterResumption() throws IOException {
+        final ByteArrayOutputStream firstOutput = new ByteArrayOutputStream();
+        final WebSocketPusher resumablePusher = new WebSocketPusher(mockSession(firstOutput), 1 << 16, 1 << 12, 1000);
+        resumablePusher.setReplayBufferSize(1 << 10);
+
+        resumablePusher.encode(ServerToClientModel.HEARTBEAT, null);
+        resumablePusher.flush();
+        assertEquals(1, firstOutput.size());
+
+        // The flushed data is only kept while detached
+        resumablePusher.detach();
+        resumablePusher.encode(ServerToClientModel.ROUNDTRIP_LATENCY, null);
+        resumablePusher.flush();
+        assertEquals(1, firstOutput.size());
+        assertEquals(2, resumablePusher.getReplayBuffer().getEndOffset());
+
+        final ByteArrayOutputStream secondOutput = new ByteArrayOutputStream();
+        assertTrue(resumablePusher.attach(mockSession(secondOutput), 1));
+        resumablePusher.encode(ServerToClientModel.END, null);
+        resumablePusher.flush();
+        assertArrayEquals(new byte[] { key(ServerToClientModel.ROUNDTRIP_LATENCY), key(ServerToClientModel.END) },
+            secondOutput.toByteArray());
+
+        // Already acknowledged
+        assertFalse(resumablePusher.attach(mockSession(secondOutput), 0));
+    }
+
+    private static Session mockSession(final ByteArrayOutputStream sessionOutput) {
+        final RemoteEndpoint remote = Mockito.mock(RemoteEndpoint.class);
+        Mockito.doAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            while (buffer.hasRemaining()) {
+                sessionOutput.write(buffer.get());
+            }
+            invocation.<WriteCallback> getArgument(1).writeSuccess();
+            return null;
+        }).when(remote).sendBytes(Mockito.any(ByteBuffer.class), Mockito.any(WriteCallback.class));
+        final Session session = Mockito.mock(Session.class);
+        Mockito.when(session.getRemote()).thenReturn(remote);
+        return session;
+    }
+
+    private static byte key(final ServerToClientModel model) {
+        return (byte) model.getValue();
+    }
+
+    private byte[] flush() throws IOException {
+        pusher.flush();
+        return output.toByteArray();
+    }
+
+}
@@ -24,12 +24,14 @@
 package com.ponysdk.core.server.websocket;
 
 import com.ponysdk.core.model.ClientToServerModel;
+import com.ponysdk.core.model.JsonValueTypeModel;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.server.application.ApplicationConfiguration;
 import com.ponysdk.core.server.application.ApplicationManager;
 import com.ponysdk.core.server.application.UIContext;
 import com.ponysdk.core.server.stm.TxnContext;
 import com.ponysdk.core.util.Pair;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.StatusCode;
 import org.eclipse.jetty.websocket.servlet.ServletUpgradeRequest;
@@ -69,6 +71,26 @@ public class WebSocketTest {
             public void encode(final ServerToClientModel model, final Object value) {
                 encodedValues.add(new Pair<>(model, value));
             }
+
+            @Override
+            public void encode(final ServerToClientModel model, final boolean value) {
+                encodedValues.add(new Pair<>(model, value));
+            }
+
+            @Override
+            public void encode(final ServerToClientModel model, final int value) {
+                encodedValues.add(new Pair<>(model, value));
+            }
+
+            @Override
+            public void encode(final ServerToClientModel model, final long value) {
+                encodedValues.add(new Pair<>(model, value));
+            }
+
+            @Override
+            public void encode(final ServerToClientModel model, final double value) {
+                encodedValues.add(new Pair<>(model, value));
+            }
         };
 
         encodedValues.clear();
@@ -140,6 +162,19 @@ public class WebSocketTest {
                 List.of(new Pair<>(ServerToClientModel.HEARTBEAT, null), new Pair<>(ServerToClientModel.END, null)));
     }
 
+    /**
+     * Test method for {@link com.ponysdk.core.server.websocket.WebSocket#onWebSocketBinary(byte[], int, int)}
+     */
+    @Test
+    public void testOnWebSocketBinaryRoundTripLatency() {
+        encodedValues.clear();
+        final byte[] message = { 0, JsonValueTypeModel.OBJECT.getValue(), 0, 0, 0, 1,
+                                 ClientToServerModel.HEARTBEAT_REQUEST.getValue(), JsonValueTypeModel.NULL.getValue() };
+        webSocket.onWebSocketBinary(message, 1, message.length - 1);
+        assertEquals(encodedValues,
+                List.of(new Pair<>(ServerToClientModel.HEARTBEAT, null), new Pair<>(ServerToClientModel.END, null)));
+    }
+
     /**
      * Test method for {@link com.ponysdk.core.server.websocket.WebSocket#onWebSocketConnect(Session)}
      */
@@ -227,12 +262,95 @@ public class WebSocketTest {
         assertFalse(uiContext.isAlive());
     }
 
+    /**
+     * Test method for {@link com.ponysdk.core.server.websocket.WebSocket#onWebSocketClose(int, java.lang.String)} and
+     * {@link com.ponysdk.core.server.websocket.WebSocket#onWebSocketConnect(Session)} with the session resumption.
+     */
+    @Test
+    public void testResumption() throws Exception {
+        final ResumableSessions resumableSessions = new ResumableSessions();
+        final WebSocket resumableWebSocket = new WebSocket();
+        resumableWebSocket.setRequest(Mockito.mock(ServletUpgradeRequest.class));
+        resumableWebSocket.setContext(Mockito.mock(TxnContext.class));
+        resumableWebSocket.setResumableSessions(resumableSessions);
+
+        final ApplicationManager applicationManager = Mockito.mock(ApplicationManager.class);
+        final ApplicationConfiguration applicationConfiguration = new ApplicationConfiguration();
+        applicationConfiguration.setHeartBeatPeriod(0, TimeUnit.SECONDS);
+        applicationConfiguration.setSessionResumptionTimeout(TimeUnit.MINUTES.toMillis(1));
+        Mockito.when(applicationManager.getConfiguration()).thenReturn(applicationConfiguration);
+        resumableWebSocket.setApplicationManager(applicationManager);
+
+        final Session firstSession = Mockito.mock(Session.class);
+        Mockito.when(firstSession.isOpen()).thenReturn(true);
+        Mockito.when(firstSession.getRemote()).thenReturn(Mockito.mock(RemoteEndpoint.class));
+        resumableWebSocket.onWebSocketConnect(firstSession);
+
+        final ArgumentCaptor<UIContext> uiContextCaptor = ArgumentCaptor.forClass(UIContext.class);
+        Mockito.verify(applicationManager, Mockito.times(1)).startApplication(uiContextCaptor.capture());
+        final UIContext resumableContext = uiContextCaptor.getValue();
+        assertTrue(resumableContext.isResumable());
+        assertEquals(1, resumableSessions.size());
+        assertNull(resumableSessions.get(resumableContext.getID(), "wrong token"));
+
+        Mockito.when(firstSession.isOpen()).thenReturn(false);
+        resumableWebSocket.onWebSocketClose(StatusCode.ABNORMAL, "Network failure");
+        assertTrue(resumableContext.isAlive());
+        assertTrue(resumableContext.isSuspended());
+
+        assertSame(resumableWebSocket, resumableSessions.get(resumableContext.getID(), resumableWebSocket.getResumeToken()));
+        final Session secondSession = Mockito.mock(Session.class);
+        Mockito.when(secondSession.isOpen()).thenReturn(true);
+        Mockito.when(secondSession.getRemote()).thenReturn(Mockito.mock(RemoteEndpoint.class));
+        final WebSocket resumingWebSocket = new WebSocket();
+        resumingWebSocket.setResumableSessions(resumableSessions);
+        resumingWebSocket.setResumedContextId(resumableContext.getID());
+        resumingWebSocket.onWebSocketConnect(secondSession);
+        // The token is only sent by the first message
+        assertTrue(resumableContext.isSuspended());
+        resumingWebSocket.onWebSocketText(newResumeRequest(resumableWebSocket.getResumeToken(), 0));
+        assertFalse(resumableContext.isSuspended());
+        Mockito.verify(applicationManager, Mockito.times(1)).startApplication(Mockito.any());
+
+        // Closure of the previous connection
+        resumableWebSocket.onWebSocketClose(StatusCode.NORMAL, "Close");
+        assertTrue(resumableContext.isAlive());
+        Mockito.when(secondSession.isOpen()).thenReturn(false);
+        resumingWebSocket.onWebSocketClose(StatusCode.NORMAL, "Close");
+        assertFalse(resumableContext.isAlive());
+        assertEquals(0, resumableSessions.size());
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.server.websocket.WebSocket#onWebSocketConnect(Session)} with an unknown
+     * session to resume.
+     */
+    @Test
+    public void testResumptionRejected() {
+        final WebSocket rejectedWebSocket = new WebSocket();
+        rejectedWebSocket.setResumableSessions(new ResumableSessions());
+        rejectedWebSocket.setResumedContextId(10);
+        final Session rejectedSession = Mockito.mock(Session.class);
+        Mockito.when(rejectedSession.isOpen()).thenReturn(true);
+        rejectedWebSocket.onWebSocketConnect(rejectedSession);
+        rejectedWebSocket.onWebSocketText(newResumeRequest("token", 10));
+        Mockito.verify(rejectedSession, Mockito.times(1)).close(Mockito.eq(WebSocket.RESUMPTION_REJECTED), Mockito.anyString());
+        rejectedWebSocket.onWebSocketClose(WebSocket.RESUMPTION_REJECTED, "Unknown session");
+    }
+
+    private static String newResumeRequest(final String token, final long offset) {
+        final JsonObjectBuilder job = JsonProvider.provider().createObjectBuilder();
+        job.add(ClientToServerModel.RESUME_TOKEN.toStringValue(), token);
+        job.add(ClientToServerModel.RESUME_OFFSET.toStringValue(), offset);
+        return job.build().toString();
+    }
+
     /**
      * Test method for {@link com.ponysdk.core.server.websocket.WebSocket#onWebSocketBinary(byte[], int, int)}.
      */
     @Test
     public void testOnWebSocketBinary() {
-        // Not implemented yet
+        // Malformed message, logged and dropped
         webSocket.onWebSocketBinary(null, 0, 0);
     }
 
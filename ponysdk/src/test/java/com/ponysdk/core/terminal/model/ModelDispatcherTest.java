@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ponysdk.core.model.ServerToClientModel;
+
+public class ModelDispatcherTest {
+
+    private static final ModelDispatcher<Target> PARENT = new ModelDispatcher<Target>()
+        .register(ServerToClientModel.WIDGET_TITLE, (target, buffer, binaryModel) -> target.calls.add("parent title"))
+        .register(ServerToClientModel.WIDGET_WIDTH, (target, buffer, binaryModel) -> target.calls.add("parent width"));
+
+    private static final ModelDispatcher<SubTarget> CHILD = new ModelDispatcher<SubTarget>(PARENT)
+        .register(ServerToClientModel.WIDGET_WIDTH, (target, buffer, binaryModel) -> target.calls.add("child width"))
+        .register(ServerToClientModel.TEXT, (target, buffer, binaryModel) -> target.calls.add("child " + binaryModel.getIntValue()));
+
+    /**
+     * Test method for {@link com.ponysdk.core.terminal.model.ModelDispatcher#dispatch(Object, ReaderBuffer, BinaryModel)}.
+     */
+    @Test
+    public void testDispatch() {
+        final SubTarget target = new SubTarget();
+
+        assertTrue(CHILD.dispatch(target, null, binaryModel(ServerToClientModel.WIDGET_TITLE, 0)));
+        assertTrue(CHILD.dispatch(target, null, binaryModel(ServerToClientModel.WIDGET_WIDTH, 0)));
+        assertTrue(CHILD.dispatch(target, null, binaryModel(ServerToClientModel.TEXT, 42)));
+        assertFalse(CHILD.dispatch(target, null, binaryModel(ServerToClientModel.WIDGET_HEIGHT, 0)));
+
+        assertEquals(3, target.calls.size());
+        assertEquals("parent title", target.calls.get(0));
+        assertEquals("child width", target.calls.get(1));
+        assertEquals("child 42", target.calls.get(2));
+    }
+
+    @Test
+    public void testParentIsNotModified() {
+        final Target target = new Target();
+
+        assertTrue(PARENT.dispatch(target, null, binaryModel(ServerToClientModel.WIDGET_WIDTH, 0)));
+        assertFalse(PARENT.isRegistered(ServerToClientModel.TEXT));
+        assertEquals("parent width", target.calls.get(0));
+    }
+
+    private static BinaryModel binaryModel(final ServerToClientModel model, final int value) {
+        final BinaryModel binaryModel = new BinaryModel();
+        binaryModel.init(model, value, 0);
+        return binaryModel;
+    }
+
+    private static class Target {
+
+        protected final List<String> calls = new ArrayList<>();
+    }
+
+    private static class SubTarget extends Target {
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.terminal.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ponysdk.core.model.ServerToClientModel;
+
+public class StaleUpdateIndexTest {
+
+    @Test
+    public void testSupersededUpdatesAreStale() {
+        final StaleUpdateIndex index = new StaleUpdateIndex();
+        index.clear();
+
+        index.startBlock(0, true);
+        index.addUpdate(1, ServerToClientModel.TEXT);
+        index.startBlock(10, true);
+        index.addUpdate(2, ServerToClientModel.TEXT);
+        index.startBlock(20, true);
+        index.addUpdate(1, ServerToClientModel.TEXT);
+        index.addUpdate(1, ServerToClientModel.WIDGET_VISIBLE);
+        index.build();
+
+        assertEquals(1, index.getStaleCount());
+        assertTrue(index.isStale(0));
+        assertFalse(index.isStale(10));
+        assertFalse(index.isStale(20));
+    }
+
+    @Test
+    public void testPartiallySupersededBlockIsApplied() {
+        final StaleUpdateIndex index = new StaleUpdateIndex();
+        index.clear();
+
+        index.startBlock(0, true);
+        index.addUpdate(1, ServerToClientModel.TEXT);
+        index.addUpdate(1, ServerToClientModel.WIDGET_TITLE);
+        index.startBlock(10, true);
+        index.addUpdate(1, ServerToClientModel.TEXT);
+        index.build();
+
+        assertEquals(0, index.getStaleCount());
+        assertFalse(index.isStale(0));
+    }
+
+    @Test
+    public void testOnlySettersAreSkipped() {
+        final StaleUpdateIndex index = new StaleUpdateIndex();
+        index.clear();
+
+        // ADD_STYLE_NAME has an effect beyond the last value
+        index.startBlock(0, true);
+        index.addUpdate(1, ServerToClientModel.TEXT);
+        index.addUpdate(1, ServerToClientModel.ADD_STYLE_NAME);
+        // A block changing the current window
+        index.startBlock(10, false);
+        index.addUpdate(1, ServerToClientModel.HTML);
+        index.startBlock(20, true);
+        index.addUpdate(1, ServerToClientModel.TEXT);
+        index.addUpdate(1, ServerToClientModel.HTML);
+        index.build();
+
+        assertFalse(StaleUpdateIndex.isCoalescable(ServerToClientModel.ADD_STYLE_NAME));
+        assertEquals(0, index.getStaleCount());
+        assertFalse(index.isStale(0));
+        assertFalse(index.isStale(10));
+    }
+
+    @Test
+    public void testIndexBuffer() {
+        final int mainWindowId = 0;
+        final BlockBuffer buffer = new BlockBuffer();
+        // 0 : superseded by 30, whose other model only prevents skipping 30 itself
+        buffer.addUpdate(1, ServerToClientModel.TEXT);
+        // 10 : switches to another window, then back to the main window
+        buffer.addWindowUpdate(5, 1, ServerToClientModel.TEXT);
+        buffer.addWindowUpdate(mainWindowId, 2, ServerToClientModel.TEXT);
+        // 30 : carries a model that is not a setter
+        buffer.addUpdate(1, ServerToClientModel.TEXT, ServerToClientModel.ADD_STYLE_NAME);
+        // 40 : superseded by 50
+        buffer.addUpdate(2, ServerToClientModel.TEXT);
+        buffer.addUpdate(2, ServerToClientModel.TEXT);
+        // 60 : not an update
+        buffer.addBlock(ServerToClientModel.TYPE_CREATE, 3);
+
+        buffer.setPosition(0);
+        final StaleUpdateIndex index = new StaleUpdateIndex();
+        index.index(buffer, mainWindowId, mainWindowId);
+
+        assertEquals(0, buffer.getPosition());
+        assertEquals(2, index.getStaleCount());
+        assertTrue(index.isStale(0));
+        assertFalse(index.isStale(10));
+        // A block switching window is never skipped, even when superseded
+        assertFalse(index.isStale(20));
+        assertFalse(index.isStale(30));
+        assertTrue(index.isStale(40));
+        assertFalse(index.isStale(50));
+        assertFalse(index.isStale(60));
+    }
+
+    /**
+     * A buffer of blocks starting every ten positions, each model taking one position
+     */
+    private static final class BlockBuffer extends ReaderBuffer {
+
+        private static final int BLOCK_SIZE = 10;
+
+        private final List<List<BinaryModel>> blocks = new ArrayList<>();
+        private int position;
+
+        void addUpdate(final int objectID, final ServerToClientModel... models) {
+            addBlock(ServerToClientModel.TYPE_UPDATE, objectID, models);
+        }
+
+        void addWindowUpdate(final int windowId, final int objectID, final ServerToClientModel model) {
+            addBlock(ServerToClientModel.TYPE_UPDATE, objectID, model);
+            blocks.get(blocks.size() - 1).add(0, model(ServerToClientModel.WINDOW_ID, windowId));
+        }
+
+        void addBlock(final ServerToClientModel type, final int objectID, final ServerToClientModel... models) {
+            final List<BinaryModel> block = new ArrayList<>();
+            block.add(model(type, objectID));
+            Arrays.stream(models).forEach(model -> block.add(model(model, 0)));
+            block.add(model(ServerToClientModel.END, 0));
+            blocks.add(block);
+        }
+
+        private static BinaryModel model(final ServerToClientModel key, final int value) {
+            final BinaryModel binaryModel = new BinaryModel();
+            binaryModel.init(key, value, 1);
+            return binaryModel;
+        }
+
+        @Override
+        public int getPosition() {
+            return position;
+        }
+
+        @Override
+        public void setPosition(final int position) {
+            this.position = position;
+        }
+
+        @Override
+        public boolean hasEnoughKeyBytes() {
+            return position / BLOCK_SIZE < blocks.size();
+        }
+
+        @Override
+        public int shiftNextBlock(final boolean dryRun) {
+            final int nextBlockPosition = (position / BLOCK_SIZE + 1) * BLOCK_SIZE;
+            if (!dryRun) position = nextBlockPosition;
+            return nextBlockPosition;
+        }
+
+        @Override
+        public BinaryModel readBinaryModel() {
+            return blocks.get(position / BLOCK_SIZE).get(position++ % BLOCK_SIZE);
+        }
+
+        @Override
+        public ServerToClientModel shiftModel() {
+            return readBinaryModel().getModel();
+        }
+
+    }
+
+}
@@ -23,6 +23,8 @@
 
 package com.ponysdk.core.ui.basic;
 
+import java.time.Duration;
+
 import com.ponysdk.test.PSuite;
 import org.junit.Assert;
 import org.junit.Test;
@@ -32,8 +34,10 @@ import com.ponysdk.core.model.PCheckBoxState;
 import com.ponysdk.core.ui.basic.event.PClickEvent;
 import com.ponysdk.core.ui.basic.event.PClickHandler;
 import com.ponysdk.core.ui.basic.event.PKeyUpEvent;
+import com.ponysdk.core.ui.basic.event.PMouseOverEvent;
 import com.ponysdk.core.ui.basic.event.PValueChangeEvent;
 import com.ponysdk.core.ui.basic.event.PValueChangeHandler;
+import com.ponysdk.core.ui.model.PDeliveryPolicy;
 import com.ponysdk.core.ui.model.PKeyCodes;
 
 public class BasicUITest extends PSuite {
@@ -82,6 +86,23 @@ public class BasicUITest extends PSuite {
         Mockito.verify(handler, Mockito.times(1)).onClick(event);
     }
 
+    @Test
+    public void testDomHandlerWithDeliveryPolicy() {
+        final PButton button = Element.newPButton("test");
+        button.window = Element.newPWindow(null, null);
+        button.initialized = true;
+
+        final PMouseOverEvent.Handler handler = Mockito.mock(PMouseOverEvent.Handler.class);
+        final PMouseOverEvent.Handler otherHandler = Mockito.mock(PMouseOverEvent.Handler.class);
+        Assert.assertNotNull(button.addDomHandler(handler, PMouseOverEvent.TYPE, PDeliveryPolicy.throttle(Duration.ofMillis(100))));
+        Assert.assertNotNull(button.addDomHandler(otherHandler, PMouseOverEvent.TYPE, PDeliveryPolicy.LATEST_ONLY));
+
+        final PMouseOverEvent event = new PMouseOverEvent(button);
+        button.fireEvent(event);
+        Mockito.verify(handler, Mockito.times(1)).onMouseOver(event);
+        Mockito.verify(otherHandler, Mockito.times(1)).onMouseOver(event);
+    }
+
     @Test
     public void testCheckBox() {
         final PCheckBox checkBox = Element.newPCheckBox();
@@ -0,0 +1,59 @@
+package com.ponysdk.core.ui.basic;
+
+import com.ponysdk.test.PSuite;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PFlexTableTest extends PSuite {
+
+    @Test
+    public void testInsertRow() {
+        final PFlexTable table = new PFlexTable();
+        final PWidget[][] widgets = new PWidget[3][2];
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 2; c++) {
+                widgets[r][c] = new PFlowPanel();
+                table.setWidget(r, c, widgets[r][c]);
+            }
+        }
+
+        table.insertRow(1);
+        assertEquals(4, table.getRowCount());
+        assertEquals(widgets[0][1], table.getWidget(0, 1));
+        assertNull(table.getWidget(1, 0));
+        assertEquals(widgets[1][0], table.getWidget(2, 0));
+        assertEquals(widgets[2][1], table.getWidget(3, 1));
+
+        // The shifted cells are still found by widget
+        assertTrue(table.remove(widgets[2][1]));
+        assertNull(table.getWidget(3, 1));
+        assertEquals(widgets[2][0], table.getWidget(3, 0));
+
+        final PWidget inserted = new PFlowPanel();
+        table.setWidget(1, 1, inserted);
+        assertEquals(inserted, table.getWidget(1, 1));
+        assertEquals(2, table.getCellCount(1));
+    }
+
+    @Test
+    public void testRemoveRow() {
+        final PFlexTable table = new PFlexTable();
+        final PWidget[] widgets = new PWidget[3];
+        for (int r = 0; r < 3; r++) {
+            widgets[r] = new PFlowPanel();
+            table.setWidget(r, 0, widgets[r]);
+        }
+
+        table.removeRow(0);
+        assertEquals(2, table.getRowCount());
+        assertNull(widgets[0].getParent());
+        assertEquals(widgets[1], table.getWidget(0, 0));
+        assertEquals(widgets[2], table.getWidget(1, 0));
+
+        table.clearCell(1, 0);
+        assertEquals(1, table.getRowCount());
+        assertNull(widgets[2].getParent());
+    }
+
+}
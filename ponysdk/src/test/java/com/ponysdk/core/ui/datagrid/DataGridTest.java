@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.datagrid;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ponysdk.core.ui.basic.PLabel;
+import com.ponysdk.core.ui.datagrid.impl.DefaultView;
+import com.ponysdk.test.PSuite;
+
+public class DataGridTest extends PSuite {
+
+    private DefaultView view;
+    private DataGrid<int[]> grid;
+
+    @Before
+    public void setUp() {
+        view = new DefaultView();
+        grid = new DataGrid<>(view, a -> a[0], Comparator.comparingInt(a -> a[1]));
+        grid.addColumnDescriptor(ColumnDescriptor.newDefault("Key", a -> String.valueOf(a[0])));
+        grid.addColumnDescriptor(ColumnDescriptor.newDefault("Value", a -> String.valueOf(a[1])));
+    }
+
+    @Test
+    public void testAddData() {
+        grid.addData(new int[] { 1, 30 });
+        grid.addData(new int[] { 2, 10 });
+        grid.addData(new int[] { 3, 20 });
+
+        assertRows();
+        assertEquals(3, view.getRowCount());
+    }
+
+    @Test
+    public void testMoveData() {
+        for (int i = 0; i < 10; i++) {
+            grid.addData(new int[] { i, i * 10 });
+        }
+
+        grid.addData(new int[] { 0, 55 });
+        assertRows();
+        grid.addData(new int[] { 9, 5 });
+        assertRows();
+        grid.addData(new int[] { 4, 42 });
+        assertRows();
+        grid.update(new int[] { 5, 1 }, Function.identity());
+        assertRows();
+        assertEquals(10, view.getRowCount());
+    }
+
+    @Test
+    public void testRemoveData() {
+        for (int i = 0; i < 10; i++) {
+            grid.addData(new int[] { i, i * 10 });
+        }
+
+        grid.removeData(new int[] { 3, 0 });
+        grid.removeData(new int[] { 0, 0 });
+        grid.removeData(new int[] { 9, 0 });
+        grid.removeData(new int[] { 42, 0 });
+
+        assertRows();
+        assertEquals(7, view.getRowCount());
+    }
+
+    @Test
+    public void testAddAfterClear() {
+        for (int i = 0; i < 5; i++) {
+            grid.addData(new int[] { i, i });
+        }
+        grid.clear();
+        grid.addData(new int[] { 7, 2 });
+        grid.addData(new int[] { 8, 1 });
+
+        assertRows();
+        assertEquals(5, view.getRowCount());
+        assertEquals("", ((PLabel) view.getCell(2, 0)).getText());
+    }
+
+    @Test
+    public void testRandomUpdates() {
+        final Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            final int key = random.nextInt(100);
+            if (random.nextInt(4) == 0) grid.removeData(new int[] { key, 0 });
+            else grid.addData(new int[] { key, random.nextInt(1_000) });
+        }
+        assertRows();
+        assertEquals(grid.getData().size(), view.getRowCount());
+    }
+
+    private void assertRows() {
+        final List<String> expected = new ArrayList<>();
+        final List<String> actual = new ArrayList<>();
+        int r = 0;
+        for (final int[] data : grid.getData()) {
+            expected.add(data[0] + "=" + data[1]);
+            actual.add(((PLabel) view.getCell(r, 0)).getText() + "=" + ((PLabel) view.getCell(r, 1)).getText());
+            r++;
+        }
+        assertEquals(expected, actual);
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.datagrid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+public class DataGridTreeSetTest {
+
+    @Test
+    public void testPositionAndGet() {
+        final DataGridTreeSet<Integer> set = new DataGridTreeSet<>(Comparator.<Integer> naturalOrder(), i -> i);
+        final TreeSet<Integer> expected = new TreeSet<>();
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            final Integer value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        int index = 0;
+        for (final Integer value : expected) {
+            assertEquals(index, set.getPosition(value));
+            assertEquals(value, set.get(index));
+            assertEquals(expected.higher(value), set.higher(value));
+            index++;
+        }
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+        assertEquals(-1, set.getPosition(-1));
+    }
+
+    @Test
+    public void testGetData() {
+        final DataGridTreeSet<int[]> set = new DataGridTreeSet<>(Comparator.comparingInt(a -> a[1]), a -> a[0]);
+        final int[] data = { 1, 10 };
+        set.add(data);
+        set.add(new int[] { 2, 20 });
+
+        assertTrue(set.containsData(new int[] { 1, 15 }));
+        assertEquals(data, set.getData(new int[] { 1, 15 }));
+        assertFalse(set.remove(new int[] { 1, 15 }));
+        assertTrue(set.containsData(data));
+
+        assertTrue(set.remove(data));
+        assertFalse(set.containsData(data));
+        assertNull(set.getData(data));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testIterator() {
+        final DataGridTreeSet<Integer> set = new DataGridTreeSet<>(Comparator.<Integer> naturalOrder(), i -> i);
+        for (int i = 0; i < 10; i++) {
+            set.add(i);
+        }
+
+        final List<Integer> tail = new ArrayList<>();
+        set.iterator(7).forEachRemaining(tail::add);
+        assertEquals(List.of(7, 8, 9), tail);
+
+        final Iterator<Integer> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) iterator.remove();
+        }
+        assertEquals(List.of(1, 3, 5, 7, 9), new ArrayList<>(set));
+    }
+
+}
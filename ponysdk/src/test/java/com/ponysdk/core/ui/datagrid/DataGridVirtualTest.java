@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.datagrid;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.IntConsumer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ponysdk.core.ui.basic.PLabel;
+import com.ponysdk.core.ui.basic.PWidget;
+import com.ponysdk.core.ui.datagrid.impl.DefaultVirtualView;
+import com.ponysdk.test.PSuite;
+
+public class DataGridVirtualTest extends PSuite {
+
+    private static final int VISIBLE_ROWS = 20;
+    private static final int OVERSCAN = 5;
+    private static final int WINDOW_SIZE = VISIBLE_ROWS + 2 * OVERSCAN;
+
+    private IntConsumer scrollListener;
+    private DefaultVirtualView view;
+    private DataGrid<Integer> grid;
+
+    @Before
+    public void setUp() {
+        view = new DefaultVirtualView(20, VISIBLE_ROWS, OVERSCAN) {
+
+            @Override
+            public void setScrollListener(final IntConsumer listener) {
+                super.setScrollListener(listener);
+                scrollListener = listener;
+            }
+        };
+        grid = new DataGrid<>(view, i -> i, Comparator.<Integer> naturalOrder());
+        grid.addColumnDescriptor(ColumnDescriptor.newDefault("Value", String::valueOf));
+    }
+
+    @Test
+    public void testOnlyWindowIsMaterialized() {
+        for (int i = 0; i < 1_000; i++) {
+            grid.addData(i * 2);
+        }
+
+        assertEquals(WINDOW_SIZE, view.getRowCount());
+        assertWindow(0);
+    }
+
+    @Test
+    public void testScroll() {
+        for (int i = 0; i < 1_000; i++) {
+            grid.addData(i * 2);
+        }
+        final PWidget recycled = view.getCell(0, 0);
+
+        scrollListener.accept(500);
+        assertWindow(500);
+        assertEquals(recycled, view.getCell(0, 0));
+
+        scrollListener.accept(5_000);
+        assertWindow(1_000 - WINDOW_SIZE);
+
+        scrollListener.accept(-OVERSCAN);
+        assertWindow(0);
+        assertEquals(WINDOW_SIZE, view.getRowCount());
+    }
+
+    @Test
+    public void testUpdatesAroundWindow() {
+        for (int i = 0; i < 1_000; i++) {
+            grid.addData(i * 2);
+        }
+        scrollListener.accept(100);
+
+        grid.addData(1);
+        assertWindow(100);
+        grid.addData(301);
+        assertWindow(100);
+        grid.removeData(0);
+        grid.removeData(220);
+        assertWindow(100);
+        grid.addData(10_001);
+        assertWindow(100);
+        assertEquals(WINDOW_SIZE, view.getRowCount());
+    }
+
+    @Test
+    public void testShrink() {
+        for (int i = 0; i < 100; i++) {
+            grid.addData(i);
+        }
+        scrollListener.accept(70);
+        assertWindow(70);
+
+        for (int i = 0; i < 90; i++) {
+            grid.removeData(i);
+        }
+        assertWindow(0);
+        assertEquals("", ((PLabel) view.getCell(WINDOW_SIZE - 1, 0)).getText());
+    }
+
+    private void assertWindow(final int windowStart) {
+        final Iterator<Integer> iterator = grid.getData().stream().skip(windowStart).iterator();
+        for (int r = 0; r < WINDOW_SIZE && iterator.hasNext(); r++) {
+            assertEquals(String.valueOf(iterator.next()), ((PLabel) view.getCell(r, 0)).getText());
+        }
+    }
+
+}
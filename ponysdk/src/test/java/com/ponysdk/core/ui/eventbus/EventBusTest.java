@@ -23,9 +23,12 @@
 
 package com.ponysdk.core.ui.eventbus;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Set;
+
 import org.junit.Test;
 
 import com.ponysdk.test.PSuite;
@@ -162,6 +165,48 @@ public class EventBusTest extends PSuite {
         assertTrue("Click handler 2 should have been invoked", clickEventHandler2.invoked);
     }
 
+    @Test
+    public void testTinyEventSourceHandlers() {
+        final EventBus eventBus = new EventBus();
+        final EventSource eventSource = new TinyEventSource();
+        final TestEventHandler clickEventHandler = new TestEventHandler();
+        final TestEventHandler hoverEventHandler = new TestEventHandler();
+        eventSource.addHandler(CLICK_EVENT_TYPE, clickEventHandler);
+        eventSource.addHandler(HOVER_EVENT_TYPE, hoverEventHandler);
+        eventSource.addHandler(HOVER_EVENT_TYPE, hoverEventHandler);
+        assertEquals(1, eventSource.getEventHandlers(HOVER_EVENT_TYPE).size());
+        assertTrue(eventSource.getEventHandlers(HOVER_EVENT_TYPE) instanceof Set);
+
+        assertTrue(eventSource.removeHandler(CLICK_EVENT_TYPE, clickEventHandler));
+        assertFalse(eventSource.removeHandler(CLICK_EVENT_TYPE, clickEventHandler));
+        eventBus.fireEventFromSource(new ClickTestEvent(eventSource), eventSource);
+        eventBus.fireEventFromSource(new HoverTestEvent(eventSource), eventSource);
+        assertFalse("Click handler should NOT have been invoked", clickEventHandler.invoked);
+        assertTrue("Hover handler should have been invoked", hoverEventHandler.invoked);
+    }
+
+    @Test
+    public void testRemoveBroadcastHandlerFromAnotherHandler() {
+        final EventBus eventBus = new EventBus();
+        final TestBroadcastHandler broadcastHandler2 = new TestBroadcastHandler();
+        final TestBroadcastHandler broadcastHandler = new TestBroadcastHandler() {
+
+            @Override
+            public void onEvent(final Event<?> event) {
+                super.onEvent(event);
+                eventBus.removeHandler(broadcastHandler2);
+            }
+        };
+        eventBus.addHandler(broadcastHandler);
+        eventBus.addHandler(broadcastHandler2);
+        eventBus.fireEvent(new ClickTestEvent(null));
+        assertTrue("Broadcast handler 1 should have been invoked", broadcastHandler.invoked);
+        assertTrue("Broadcast handler 2 should have been invoked", broadcastHandler2.invoked);
+        broadcastHandler2.invoked = false;
+        eventBus.fireEvent(new ClickTestEvent(null));
+        assertFalse("Broadcast handler 2 should NOT have been invoked", broadcastHandler2.invoked);
+    }
+
     private static class TestEventHandler implements EventHandler {
 
         private boolean invoked = false;
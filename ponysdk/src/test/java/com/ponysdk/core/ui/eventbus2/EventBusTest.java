@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.eventbus2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ponysdk.core.ui.eventbus2.EventBus.EventHandler;
+
+public class EventBusTest {
+
+    @Test
+    public void testPostToSubscribedType() {
+        final EventBus eventBus = new EventBus();
+        final List<Object> received = new ArrayList<>();
+        final EventHandler<String> handler = eventBus.subscribe(String.class, received::add);
+        eventBus.subscribe(Integer.class, received::add);
+
+        eventBus.post("event");
+        assertEquals(1, received.size());
+        assertEquals("event", received.get(0));
+
+        assertTrue(eventBus.unsubscribe(handler));
+        assertFalse(eventBus.unsubscribe(handler));
+        eventBus.post("event");
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testUnsubscribeFromAnotherHandler() {
+        final EventBus eventBus = new EventBus();
+        final List<String> received = new ArrayList<>();
+        final List<EventHandler<String>> handlers = new ArrayList<>();
+        handlers.add(eventBus.subscribe(String.class, event -> {
+            received.add("first");
+            eventBus.unsubscribe(handlers.get(1));
+        }));
+        handlers.add(eventBus.subscribe(String.class, event -> received.add("second")));
+
+        eventBus.post("event");
+        assertEquals(2, received.size());
+        eventBus.post("event");
+        assertEquals(3, received.size());
+        assertEquals("first", received.get(2));
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.ui.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import com.ponysdk.core.model.DeliveryMode;
+import com.ponysdk.core.model.ServerToClientModel;
+
+public class PDeliveryPolicyTest {
+
+    @Test
+    public void testPolicies() {
+        assertTrue(PDeliveryPolicy.IMMEDIATE.isImmediate());
+        assertEquals(DeliveryMode.LATEST, PDeliveryPolicy.LATEST_ONLY.getMode());
+        assertFalse(PDeliveryPolicy.LATEST_ONLY.isImmediate());
+
+        final PDeliveryPolicy throttle = PDeliveryPolicy.throttle(Duration.ofMillis(250));
+        assertEquals(DeliveryMode.THROTTLE, throttle.getMode());
+        assertEquals(250, throttle.getIntervalMillis());
+        assertEquals(throttle, PDeliveryPolicy.throttle(Duration.ofMillis(250)));
+
+        final PDeliveryPolicy debounce = PDeliveryPolicy.debounce(Duration.ofSeconds(1));
+        assertEquals(DeliveryMode.DEBOUNCE, debounce.getMode());
+        assertEquals(1000, debounce.getIntervalMillis());
+    }
+
+    @Test
+    public void testToBinaryModel() {
+        final ServerBinaryModel binaryModel = PDeliveryPolicy.debounce(Duration.ofMillis(300)).toBinaryModel();
+        assertEquals(ServerToClientModel.DOM_HANDLER_DELIVERY, binaryModel.getKey());
+        assertArrayEquals(new Object[] { DeliveryMode.DEBOUNCE.getValue(), 300 }, (Object[]) binaryModel.getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroInterval() {
+        PDeliveryPolicy.throttle(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeInterval() {
+        PDeliveryPolicy.debounce(Duration.ofMillis(-1));
+    }
+
+}
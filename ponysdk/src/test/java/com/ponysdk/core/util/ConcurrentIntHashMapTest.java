@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ConcurrentIntHashMapTest {
+
+    /**
+     * Test method for {@link ConcurrentIntHashMap#put(int, Object)} and {@link ConcurrentIntHashMap#get(int)}.
+     */
+    @Test
+    public void testPutGet() {
+        final ConcurrentIntHashMap<String> map = new ConcurrentIntHashMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+
+        assertNull(map.put(1, "a"));
+        assertNull(map.put(-7, "b"));
+        assertNull(map.put(0, "c"));
+        assertEquals("a", map.put(1, "d"));
+
+        assertEquals(3, map.size());
+        assertEquals("d", map.get(1));
+        assertEquals("b", map.get(-7));
+        assertEquals("c", map.get(0));
+        assertNull(map.get(2));
+    }
+
+    /**
+     * Test method for {@link ConcurrentIntHashMap#remove(int)}.
+     */
+    @Test
+    public void testRemove() {
+        final ConcurrentIntHashMap<String> map = new ConcurrentIntHashMap<>();
+        map.put(1, "a");
+        map.put(2, "b");
+
+        assertEquals("a", map.remove(1));
+        assertNull(map.remove(1));
+        assertNull(map.remove(3));
+        assertNull(map.get(1));
+        assertEquals("b", map.get(2));
+        assertEquals(1, map.size());
+
+        assertNull(map.put(1, "c"));
+        assertEquals("c", map.get(1));
+        assertEquals(2, map.size());
+    }
+
+    /**
+     * Test method for {@link ConcurrentIntHashMap#put(int, Object)}, with the table rebuilt many times.
+     */
+    @Test
+    public void testChurn() {
+        final ConcurrentIntHashMap<Integer> map = new ConcurrentIntHashMap<>();
+        for (int i = 1; i <= 10_000; i++) {
+            map.put(i, i);
+            if (i > 100) assertEquals(Integer.valueOf(i - 100), map.remove(i - 100));
+        }
+        assertEquals(100, map.size());
+        for (int i = 1; i <= 10_000; i++) {
+            if (i > 9_900) assertEquals(Integer.valueOf(i), map.get(i));
+            else assertNull(map.get(i));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testPutNull() {
+        new ConcurrentIntHashMap<>().put(1, null);
+    }
+
+}
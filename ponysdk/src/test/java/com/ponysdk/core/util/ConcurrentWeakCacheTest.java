@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ConcurrentWeakCacheTest {
+
+    /**
+     * Test method for {@link com.ponysdk.core.util.ConcurrentWeakCache#getOrCompute(Object, java.util.function.Function)}.
+     */
+    @Test
+    public void testGetOrComputeReturnsCachedInstance() {
+        final ConcurrentWeakCache<String> cache = new ConcurrentWeakCache<>();
+        final String first = cache.getOrCompute("pony", String::new);
+        final String second = cache.getOrCompute(new String("pony"), key -> {
+            throw new AssertionError("Value should have been cached");
+        });
+
+        assertSame(first, second);
+        assertNotSame(first, cache.getOrCompute("sdk", String::new));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testGetOrComputeWithDistinctKeyType() {
+        final ConcurrentWeakCache<String> cache = new ConcurrentWeakCache<>(4, 1);
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(cache.getOrCompute(new StringBuilderKey("value" + i), StringBuilderKey::toString));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertSame(values.get(i), cache.getOrCompute(new StringBuilderKey("value" + i), key -> null));
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void testStaleEntriesAreExpunged() throws InterruptedException {
+        final ConcurrentWeakCache<String> cache = new ConcurrentWeakCache<>(16, 2);
+        for (int i = 0; i < 1000; i++) {
+            cache.getOrCompute("value" + i, String::new);
+        }
+        final String retained = cache.getOrCompute("retained", String::new);
+
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (cache.size() > 1 && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+            cache.expungeStaleEntries();
+        }
+
+        assertEquals(1, cache.size());
+        assertSame(retained, cache.getOrCompute("retained", String::new));
+    }
+
+    @Test
+    public void testConcurrentGetOrComputeShareInstances() throws Exception {
+        final ConcurrentWeakCache<String> cache = new ConcurrentWeakCache<>();
+        final int threads = 8;
+        final int keys = 500;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<String[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final String[] values = new String[keys];
+                    for (int i = 0; i < keys; i++) {
+                        values[i] = cache.getOrCompute("key" + i, String::new);
+                    }
+                    return values;
+                }));
+            }
+            start.countDown();
+
+            final String[] expected = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (final Future<String[]> future : futures) {
+                final String[] values = future.get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < keys; i++) {
+                    assertSame(expected[i], values[i]);
+                }
+            }
+            assertTrue(cache.size() >= keys);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lookup key of another type than the cached values, only equal to them through its own equals()
+     */
+    private static final class StringBuilderKey {
+
+        private final String value;
+
+        private StringBuilderKey(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof String)) throw new IllegalArgumentException();
+            return value.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new String(value);
+        }
+
+    }
+
+}
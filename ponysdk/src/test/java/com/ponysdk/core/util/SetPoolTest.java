@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SetPoolTest {
+
+    private final SetPool<String> pool = new SetPool<>();
+
+    /**
+     * Test method for {@link com.ponysdk.core.util.SetPool#add(SetPool.ImmutableSet, Object)}.
+     */
+    @Test
+    public void testAddSharesEquivalentSets() {
+        final SetPool<String>.ImmutableSet ab = pool.emptyImmutableSet().getAdd("a").getAdd("b");
+        final SetPool<String>.ImmutableSet ba = pool.emptyImmutableSet().getAdd("b").getAdd("a");
+
+        assertSame(ab, ba);
+        assertEquals(2, ab.size());
+        assertTrue(ab.contains("a") && ab.contains("b"));
+        assertSame(ab, ab.getAdd("a"));
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.util.SetPool#remove(SetPool.ImmutableSet, Object)}.
+     */
+    @Test
+    public void testRemoveSharesEquivalentSets() {
+        final SetPool<String>.ImmutableSet a = pool.emptyImmutableSet().getAdd("a");
+        final SetPool<String>.ImmutableSet abc = a.getAdd("b").getAdd("c");
+
+        assertSame(a, abc.getRemove("c").getRemove("b"));
+        assertSame(pool.emptyImmutableSet(), a.getRemove("a"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutableSetIsUnmodifiable() {
+        pool.emptyImmutableSet().getAdd("a").add("b");
+    }
+
+}
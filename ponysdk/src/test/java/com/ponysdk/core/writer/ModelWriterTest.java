@@ -26,11 +26,13 @@ package com.ponysdk.core.writer;
 import com.ponysdk.core.model.ServerToClientModel;
 import com.ponysdk.core.server.websocket.WebsocketEncoder;
 import com.ponysdk.core.ui.basic.Element;
+import com.ponysdk.core.ui.basic.PLabel;
 import com.ponysdk.core.ui.basic.PWindow;
 import com.ponysdk.test.PSuite;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
@@ -62,7 +64,7 @@ public class ModelWriterTest extends PSuite {
         modelWriter.beginObject(window2);
 
         Mockito.verify(websocketEncoder, Mockito.times(3)).beginObject();
-        Mockito.verify(websocketEncoder, Mockito.times(2)).encode(ArgumentMatchers.eq(ServerToClientModel.WINDOW_ID), ArgumentMatchers.any());
+        Mockito.verify(websocketEncoder, Mockito.times(2)).encode(ArgumentMatchers.eq(ServerToClientModel.WINDOW_ID), ArgumentMatchers.anyInt());
         assertEquals(window2, modelWriter.getCurrentWindow());
     }
 
@@ -85,6 +87,69 @@ public class ModelWriterTest extends PSuite {
         Mockito.verify(websocketEncoder).encode(null, null);
     }
 
+    /**
+     * Test method for {@link com.ponysdk.core.writer.ModelWriter#write(ServerToClientModel, int)} and the other
+     * primitive variants.
+     */
+    @Test
+    public void testWritePrimitives() {
+        modelWriter.write(ServerToClientModel.WIDGET_VISIBLE, true);
+        modelWriter.write(ServerToClientModel.TYPE_UPDATE, 12);
+        modelWriter.write(ServerToClientModel.DATE, 12L);
+        modelWriter.write(ServerToClientModel.WIDTH, 1.5d);
+        Mockito.verify(websocketEncoder).encode(ServerToClientModel.WIDGET_VISIBLE, true);
+        Mockito.verify(websocketEncoder).encode(ServerToClientModel.TYPE_UPDATE, 12);
+        Mockito.verify(websocketEncoder).encode(ServerToClientModel.DATE, 12L);
+        Mockito.verify(websocketEncoder).encode(ServerToClientModel.WIDTH, 1.5d);
+        Mockito.verify(websocketEncoder, Mockito.never()).encode(ArgumentMatchers.any(), ArgumentMatchers.<Object> any());
+    }
+
+    /**
+     * Test method for {@link com.ponysdk.core.writer.ModelWriter#stackUpdate(com.ponysdk.core.ui.basic.PObject,
+     * ServerToClientModel, ModelWriterCallback)} and {@link com.ponysdk.core.writer.ModelWriter#flushStackedUpdates()}.
+     */
+    @Test
+    public void testStackUpdate() {
+        final PLabel label = Element.newPLabel();
+        PWindow.getMain().add(label);
+
+        modelWriter.stackUpdate(label, ServerToClientModel.TEXT, writer -> writer.write(ServerToClientModel.TEXT, "first"));
+        modelWriter.stackUpdate(label, ServerToClientModel.WIDGET_VISIBLE,
+            writer -> writer.write(ServerToClientModel.WIDGET_VISIBLE, false));
+        modelWriter.stackUpdate(label, ServerToClientModel.TEXT, writer -> writer.write(ServerToClientModel.TEXT, "last"));
+        Mockito.verifyZeroInteractions(websocketEncoder);
+
+        modelWriter.flushStackedUpdates();
+        modelWriter.flushStackedUpdates();
+
+        final InOrder inOrder = Mockito.inOrder(websocketEncoder);
+        inOrder.verify(websocketEncoder).encode(ServerToClientModel.TYPE_UPDATE, label.getID());
+        inOrder.verify(websocketEncoder).encode(ServerToClientModel.WIDGET_VISIBLE, false);
+        inOrder.verify(websocketEncoder).encode(ServerToClientModel.TEXT, (Object) "last");
+        inOrder.verify(websocketEncoder).endObject();
+        Mockito.verify(websocketEncoder).encode(ArgumentMatchers.eq(ServerToClientModel.TYPE_UPDATE), ArgumentMatchers.anyInt());
+        Mockito.verify(websocketEncoder, Mockito.never()).encode(ServerToClientModel.TEXT, (Object) "first");
+    }
+
+    /**
+     * Stacked updates are written before any other instruction, so the instructions are not reordered
+     */
+    @Test
+    public void testStackUpdateBeforeOtherInstruction() {
+        final PLabel label = Element.newPLabel();
+        PWindow.getMain().add(label);
+
+        modelWriter.stackUpdate(label, ServerToClientModel.TEXT, writer -> writer.write(ServerToClientModel.TEXT, "text"));
+        modelWriter.beginObject(label.getWindow());
+        modelWriter.write(ServerToClientModel.TYPE_REMOVE, label.getID());
+
+        final InOrder inOrder = Mockito.inOrder(websocketEncoder);
+        inOrder.verify(websocketEncoder).encode(ServerToClientModel.TYPE_UPDATE, label.getID());
+        inOrder.verify(websocketEncoder).encode(ServerToClientModel.TEXT, (Object) "text");
+        inOrder.verify(websocketEncoder).endObject();
+        inOrder.verify(websocketEncoder).encode(ServerToClientModel.TYPE_REMOVE, label.getID());
+    }
+
     /**
      * Test method for {@link com.ponysdk.core.writer.ModelWriter#endObject()}.
      */
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2019 PonySDK
+ *  Owners:
+ *  Luciano Broussal  <luciano.broussal AT gmail.com>
+ *  Mathieu Barbier   <mathieu.barbier AT gmail.com>
+ *  Nicolas Ciaravola <nicolas.ciaravola.pro AT gmail.com>
+ *
+ *  WebSite:
+ *  http://code.google.com/p/pony-sdk/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.ponysdk.driver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.JsonObject;
+
+import org.junit.Test;
+
+import com.ponysdk.core.model.ArrayValueModel;
+import com.ponysdk.core.model.ServerToClientModel;
+import com.ponysdk.core.model.ValueTypeModel;
+import com.ponysdk.core.model.WidgetType;
+
+public class PonySDKWebDriverTest {
+
+    private final List<List<PonyFrame>> messages = new ArrayList<>();
+    private final List<PonyFrame> firstFrames = new ArrayList<>();
+
+    private final PonyMessageListener listener = new PonyMessageListener() {
+
+        @Override
+        public void onSendMessage(final JsonObject message) {
+        }
+
+        @Override
+        public void onReceiveMessage(final List<PonyFrame> message) {
+            messages.add(new ArrayList<>(message));
+            firstFrames.add(message.get(0));
+        }
+    };
+
+    @Test
+    public void testEagerDecoding() {
+        final PonySDKWebDriver driver = new PonySDKWebDriver(listener, null, null, false);
+        driver.onMessage(ByteBuffer.wrap(createLabelMessage(5)));
+
+        final PonyWebElement element = driver.findElementByPonyId(5);
+        assertNotNull(element);
+        // Overridden by FUNCTION_ARGS
+        assertEquals("[arg, 1]", element.getText());
+        assertEquals("label", element.getAttribute("id"));
+        assertEquals(6, messages.get(0).size());
+    }
+
+    @Test
+    public void testLazyDecoding() {
+        final PonySDKWebDriver driver = new PonySDKWebDriver(listener, null, null, false, null, PonySDKWebDriver.ELEMENT_MODELS);
+        driver.onMessage(ByteBuffer.wrap(createLabelMessage(5)));
+
+        final PonyWebElement element = driver.findElementByPonyId(5);
+        assertNotNull(element);
+        assertEquals(WidgetType.LABEL, element.getWidgetType());
+        // TEXT and FUNCTION_ARGS are skipped
+        assertNull(element.getText());
+        assertEquals("label", element.getAttribute("id"));
+        assertEquals(4, messages.get(0).size());
+        assertEquals(ServerToClientModel.TYPE_CREATE, messages.get(0).get(0).getModel());
+    }
+
+    @Test
+    public void testLazyDecodingReusesFrames() {
+        final PonySDKWebDriver driver = new PonySDKWebDriver(listener, null, null, false, null, PonySDKWebDriver.ELEMENT_MODELS);
+        driver.onMessage(ByteBuffer.wrap(createLabelMessage(5)));
+        driver.onMessage(ByteBuffer.wrap(createLabelMessage(6)));
+
+        assertNotNull(driver.findElementByPonyId(5));
+        assertNotNull(driver.findElementByPonyId(6));
+        assertSame(firstFrames.get(0), firstFrames.get(1));
+        assertEquals(6, firstFrames.get(1).getValue());
+    }
+
+    @Test
+    public void testLazyDecodingSplitMessage() {
+        final PonySDKWebDriver driver = new PonySDKWebDriver(listener, null, null, false, null, PonySDKWebDriver.ELEMENT_MODELS);
+        final byte[] message = createLabelMessage(5);
+        // Split in the middle of the skipped text
+        final int split = 12;
+        driver.onMessage(ByteBuffer.wrap(message, 0, split));
+        assertEquals(0, messages.size());
+        driver.onMessage(ByteBuffer.wrap(message, split, message.length - split));
+
+        assertEquals(1, messages.size());
+        assertEquals("label", driver.findElementByPonyId(5).getAttribute("id"));
+    }
+
+    private static byte[] createLabelMessage(final int objectID) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeModel(out, ServerToClientModel.TYPE_CREATE);
+        writeShort(out, objectID);
+        writeModel(out, ServerToClientModel.WIDGET_TYPE);
+        out.write(WidgetType.LABEL.getValue());
+        writeModel(out, ServerToClientModel.TEXT);
+        writeString(out, "hello");
+        writeModel(out, ServerToClientModel.FUNCTION_ARGS);
+        out.write(2);
+        out.write(ArrayValueModel.STRING_ASCII_UINT8_LENGTH.getValue());
+        out.write(3);
+        out.write('a');
+        out.write('r');
+        out.write('g');
+        out.write(ArrayValueModel.INTEGER.getValue());
+        out.write(new byte[] { 0, 0, 0, 1 }, 0, 4);
+        writeModel(out, ServerToClientModel.PUT_ATTRIBUTE_KEY);
+        writeShort(out, ValueTypeModel.STRING_DICTIONARY_DEFINITION);
+        writeString(out, "id");
+        writeModel(out, ServerToClientModel.ATTRIBUTE_VALUE);
+        writeString(out, "label");
+        writeModel(out, ServerToClientModel.END);
+        return out.toByteArray();
+    }
+
+    private static void writeModel(final ByteArrayOutputStream out, final ServerToClientModel model) {
+        out.write(model.getValue());
+    }
+
+    private static void writeShort(final ByteArrayOutputStream out, final int value) {
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeString(final ByteArrayOutputStream out, final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        out.write(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+}